@@ -0,0 +1,63 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.benchmark;
+
+import java.util.Arrays;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar. Accept the usual JMH command line options.
+ *
+ * <p>Unless a thread count is provided with {@code -t}, the whole suite is run once on a single
+ * thread and once with one thread per available processor. Each run produces a JSON report named
+ * {@code jmh-result-<threads>-threads.json} including the allocation figures of the GC profiler.
+ */
+public final class BenchmarkRunner {
+
+  /** Constructor. Private to avoid instantiation */
+  private BenchmarkRunner() {
+    throw new AssertionError(
+        "No instance of com.github.vgalloy.autocatch.benchmark.BenchmarkRunner");
+  }
+
+  public static void main(final String[] args) throws Exception {
+    final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+    for (final int threads : threadCounts(commandLineOptions)) {
+      final Options options =
+          new OptionsBuilder()
+              .parent(commandLineOptions)
+              .threads(threads)
+              .addProfiler(GCProfiler.class)
+              .resultFormat(ResultFormatType.JSON)
+              .result("jmh-result-" + threads + "-threads.json")
+              .build();
+      new Runner(options).run();
+    }
+  }
+
+  private static int[] threadCounts(final CommandLineOptions commandLineOptions) {
+    if (commandLineOptions.getThreads().hasValue()) {
+      return new int[] {commandLineOptions.getThreads().get()};
+    }
+    final int processors = Runtime.getRuntime().availableProcessors();
+    return Arrays.stream(new int[] {1, processors}).distinct().toArray();
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.benchmark;
+
+import com.github.vgalloy.autocatch.handler.AutoCatcher;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure the contention on the permit counter of a bulkhead shared by every thread. With a single
+ * permit most invocations are rejected and return the fallback, with 64 permits none is rejected.
+ * The suite is run once by thread count, with {@code -t 1}, {@code -t 4}, {@code -t 16} and {@code
+ * -t 64}. The figures below come from a single processor machine, where the threads take turns
+ * instead of contending: they only show the cost of the permit round trip.
+ *
+ * <pre>
+ * -t 1
+ * Benchmark                                        (maxConcurrentCalls)   Mode  Cnt         Score          Error   Units
+ * BulkheadBenchmark.bulkhead                                          1  thrpt    5  56370022.675 +-  1009103.980   ops/s
+ * BulkheadBenchmark.bulkhead:gc.alloc.rate.norm                       1  thrpt    5        ~ 10^-5                   B/op
+ * BulkheadBenchmark.bulkhead                                         64  thrpt    5  55460757.794 +-  1462275.218   ops/s
+ * BulkheadBenchmark.bulkhead:gc.alloc.rate.norm                      64  thrpt    5        ~ 10^-5                   B/op
+ * BulkheadBenchmark.forwarder                                         1  thrpt    5 440678661.183 +- 12383033.038   ops/s
+ * BulkheadBenchmark.forwarder:gc.alloc.rate.norm                      1  thrpt    5        ~ 10^-6                   B/op
+ * BulkheadBenchmark.forwarder                                        64  thrpt    5 438572094.165 +- 12064127.877   ops/s
+ * BulkheadBenchmark.forwarder:gc.alloc.rate.norm                     64  thrpt    5        ~ 10^-6                   B/op
+ * -t 4
+ * Benchmark                                        (maxConcurrentCalls)   Mode  Cnt         Score          Error   Units
+ * BulkheadBenchmark.bulkhead                                          1  thrpt    5  73285818.750 +-  2137030.424   ops/s
+ * BulkheadBenchmark.bulkhead:gc.alloc.rate.norm                       1  thrpt    5        ~ 10^-4                   B/op
+ * BulkheadBenchmark.bulkhead                                         64  thrpt    5  56234988.238 +-   330469.641   ops/s
+ * BulkheadBenchmark.bulkhead:gc.alloc.rate.norm                      64  thrpt    5        ~ 10^-4                   B/op
+ * BulkheadBenchmark.forwarder                                         1  thrpt    5 437716644.200 +- 23611958.293   ops/s
+ * BulkheadBenchmark.forwarder:gc.alloc.rate.norm                      1  thrpt    5        ~ 10^-5                   B/op
+ * BulkheadBenchmark.forwarder                                        64  thrpt    5 438190285.955 +- 13053170.155   ops/s
+ * BulkheadBenchmark.forwarder:gc.alloc.rate.norm                     64  thrpt    5        ~ 10^-5                   B/op
+ * -t 16
+ * Benchmark                                        (maxConcurrentCalls)   Mode  Cnt         Score          Error   Units
+ * BulkheadBenchmark.bulkhead                                          1  thrpt    5  80067217.756 +-  2052586.741   ops/s
+ * BulkheadBenchmark.bulkhead:gc.alloc.rate.norm                       1  thrpt    5        ~ 10^-4                   B/op
+ * BulkheadBenchmark.bulkhead                                         64  thrpt    5  55710437.411 +-  3692330.893   ops/s
+ * BulkheadBenchmark.bulkhead:gc.alloc.rate.norm                      64  thrpt    5        ~ 10^-4                   B/op
+ * BulkheadBenchmark.forwarder                                         1  thrpt    5 435193708.938 +- 20655016.524   ops/s
+ * BulkheadBenchmark.forwarder:gc.alloc.rate.norm                      1  thrpt    5        ~ 10^-5                   B/op
+ * BulkheadBenchmark.forwarder                                        64  thrpt    5 434517636.098 +-  9694515.089   ops/s
+ * BulkheadBenchmark.forwarder:gc.alloc.rate.norm                     64  thrpt    5        ~ 10^-5                   B/op
+ * -t 64
+ * Benchmark                                        (maxConcurrentCalls)   Mode  Cnt         Score         Error   Units
+ * BulkheadBenchmark.bulkhead                                          1  thrpt    5  86758991.009 +- 3500937.020   ops/s
+ * BulkheadBenchmark.bulkhead:gc.alloc.rate.norm                       1  thrpt    5        ~ 10^-4                  B/op
+ * BulkheadBenchmark.bulkhead                                         64  thrpt    5  56022253.076 +- 1186353.275   ops/s
+ * BulkheadBenchmark.bulkhead:gc.alloc.rate.norm                      64  thrpt    5        ~ 10^-4                  B/op
+ * BulkheadBenchmark.forwarder                                         1  thrpt    5 440137396.299 +- 9583488.471   ops/s
+ * BulkheadBenchmark.forwarder:gc.alloc.rate.norm                      1  thrpt    5        ~ 10^-5                  B/op
+ * BulkheadBenchmark.forwarder                                        64  thrpt    5 440848370.771 +- 5404197.197   ops/s
+ * BulkheadBenchmark.forwarder:gc.alloc.rate.norm                     64  thrpt    5        ~ 10^-5                  B/op
+ * </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class BulkheadBenchmark {
+
+  @Param({"1", "64"})
+  public int maxConcurrentCalls;
+
+  private Supplier<Integer> forwarder;
+  private Supplier<Integer> bulkhead;
+
+  @Setup
+  public void setUp() {
+    final Integer value = 42;
+    final Callable<Integer> callable = () -> value;
+    final AutoCatcher forwarderCatcher = AutoCatcher.exceptionForwarder();
+    forwarder = forwarderCatcher.unDeclareOrElse(callable, 0);
+    bulkhead =
+        AutoCatcher.bulkhead(forwarderCatcher, maxConcurrentCalls).unDeclareOrElse(callable, 0);
+  }
+
+  @Benchmark
+  public Integer forwarder() {
+    return forwarder.get();
+  }
+
+  @Benchmark
+  public Integer bulkhead() {
+    return bulkhead.get();
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.benchmark;
+
+import com.github.vgalloy.autocatch.handler.AutoCatcher;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure the cost of the call site diagnostic. The call site is captured by each conversion, with
+ * the stack walker of the Java 9 layer: {@code stackTrace} is the cost of the Java 8 layer, which
+ * fills the whole stack trace. The invocations of a converted function only go through one more
+ * decorator. The capture costs a few microseconds: cheap enough to stay on where the functions are
+ * converted once, not where they are converted in a loop. The {@code autoCatch} methods convert and
+ * invoke at once, so they only capture the call site on failure: {@code autoCatchWithCallSite}
+ * stays within noise of {@code autoCatch}.
+ *
+ * <p>Measured on JDK 17, single core:
+ *
+ * <pre>
+ * Benchmark                                                     Mode  Cnt          Score           Error  Units
+ * CallSiteBenchmark.autoCatch                                  thrpt    5  313470052.252 +- 202254290.763  ops/s
+ * CallSiteBenchmark.autoCatch:gc.alloc.rate.norm               thrpt    5         ~ 0                      B/op
+ * CallSiteBenchmark.autoCatchWithCallSite                      thrpt    5  296269382.930 +-  31117563.986  ops/s
+ * CallSiteBenchmark.autoCatchWithCallSite:gc.alloc.rate.norm   thrpt    5         ~ 0                      B/op
+ * CallSiteBenchmark.convert                                    thrpt    5  109963599.642 +-  30029110.267  ops/s
+ * CallSiteBenchmark.convert:gc.alloc.rate.norm                 thrpt    5         16.014 +-         0.001   B/op
+ * CallSiteBenchmark.convertWithCallSite                        thrpt    5     346738.369 +-     12197.248  ops/s
+ * CallSiteBenchmark.convertWithCallSite:gc.alloc.rate.norm     thrpt    5        872.881 +-         0.128   B/op
+ * CallSiteBenchmark.invoke                                     thrpt    5  306727910.047 +- 105530476.570  ops/s
+ * CallSiteBenchmark.invoke:gc.alloc.rate.norm                  thrpt    5         ~ 0                      B/op
+ * CallSiteBenchmark.invokeWithCallSite                         thrpt    5  251070770.784 +- 103374906.493  ops/s
+ * CallSiteBenchmark.invokeWithCallSite:gc.alloc.rate.norm      thrpt    5         ~ 0                      B/op
+ * CallSiteBenchmark.stackTrace                                 thrpt    5     148655.675 +-     51773.379  ops/s
+ * CallSiteBenchmark.stackTrace:gc.alloc.rate.norm              thrpt    5       1601.644 +-         0.277   B/op
+ * </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class CallSiteBenchmark {
+
+  private AutoCatcher forwarderCatcher;
+  private AutoCatcher diagnosticCatcher;
+  private Callable<Integer> callable;
+  private Supplier<Integer> forwarder;
+  private Supplier<Integer> diagnostic;
+
+  @Setup
+  public void setUp() {
+    final Integer value = 42;
+    callable = () -> value;
+    forwarderCatcher = AutoCatcher.exceptionForwarder();
+    diagnosticCatcher = AutoCatcher.callSiteDiagnostic(forwarderCatcher);
+    forwarder = forwarderCatcher.unDeclare(callable);
+    diagnostic = diagnosticCatcher.unDeclare(callable);
+  }
+
+  @Benchmark
+  public Supplier<Integer> convert() {
+    return forwarderCatcher.unDeclare(callable);
+  }
+
+  @Benchmark
+  public Supplier<Integer> convertWithCallSite() {
+    return diagnosticCatcher.unDeclare(callable);
+  }
+
+  @Benchmark
+  public StackTraceElement[] stackTrace() {
+    return new Throwable().getStackTrace();
+  }
+
+  @Benchmark
+  public Integer invoke() {
+    return forwarder.get();
+  }
+
+  @Benchmark
+  public Integer invokeWithCallSite() {
+    return diagnostic.get();
+  }
+
+  @Benchmark
+  public Integer autoCatch() {
+    return forwarderCatcher.autoCatch(callable);
+  }
+
+  @Benchmark
+  public Integer autoCatchWithCallSite() {
+    return diagnosticCatcher.autoCatch(callable);
+  }
+}
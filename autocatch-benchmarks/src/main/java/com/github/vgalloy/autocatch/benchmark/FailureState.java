@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.benchmark;
+
+import com.github.vgalloy.autocatch.handler.AutoCatcher;
+import java.io.IOException;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Provide a deterministic sequence of successes and failures. Each thread owns its own sequence.
+ */
+@State(Scope.Thread)
+public class FailureState {
+
+  private static final int SCHEDULE_SIZE = 1_000;
+
+  /** The {@link AutoCatcher} used to wrap the functions. */
+  @Param({"undeclared", "stacklessUndeclared", "forwarder", "meteredForwarder"})
+  public String catcher;
+
+  /** The ratio of calls throwing a checked exception. */
+  @Param({"0", "0.001", "0.1", "1"})
+  public double failureRate;
+
+  /** The number of frames between the wrapper and the throw statement. */
+  @Param({"1", "32"})
+  public int exceptionDepth;
+
+  private AutoCatcher autoCatcher;
+  private boolean[] schedule;
+  private int index;
+
+  @Setup
+  public void setUp() {
+    autoCatcher = createAutoCatcher(catcher);
+    schedule = new boolean[SCHEDULE_SIZE];
+    final int failures = (int) Math.round(failureRate * SCHEDULE_SIZE);
+    for (int i = 0; i < failures; i++) {
+      schedule[i] = true;
+    }
+    final Random random = new Random(42);
+    for (int i = SCHEDULE_SIZE - 1; 0 < i; i--) {
+      final int j = random.nextInt(i + 1);
+      final boolean tmp = schedule[i];
+      schedule[i] = schedule[j];
+      schedule[j] = tmp;
+    }
+  }
+
+  /**
+   * Get the configured catcher.
+   *
+   * @return the catcher
+   */
+  public AutoCatcher autoCatcher() {
+    return autoCatcher;
+  }
+
+  /**
+   * Produce the next value of the sequence.
+   *
+   * @return the position in the sequence
+   * @throws IOException if the current position is scheduled to fail
+   */
+  public int next() throws IOException {
+    return next(exceptionDepth);
+  }
+
+  private int next(final int depth) throws IOException {
+    if (1 < depth) {
+      return next(depth - 1);
+    }
+    final int current = index;
+    index = current + 1 == SCHEDULE_SIZE ? 0 : current + 1;
+    if (schedule[current]) {
+      throw new IOException("FAKE");
+    }
+    return current;
+  }
+
+  private static AutoCatcher createAutoCatcher(final String name) {
+    switch (name) {
+      case "undeclared":
+        return AutoCatcher.wrapWithUndeclaredHandler();
+      case "stacklessUndeclared":
+        return AutoCatcher.wrapWithStacklessUndeclaredHandler();
+      case "forwarder":
+        return AutoCatcher.exceptionForwarder();
+      case "meteredForwarder":
+        return AutoCatcher.metered(AutoCatcher.exceptionForwarder());
+      default:
+        throw new IllegalArgumentException("Unknown catcher : " + name);
+    }
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.benchmark;
+
+import com.github.vgalloy.autocatch.function.IntSupplierWithException;
+import java.util.function.IntSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compare the fallback conversions with a default value chosen at the call site, either by catching
+ * the checked exception directly or by catching the exception propagated by the catcher.
+ *
+ * <pre>
+ * Benchmark                                                                   (catcher)  (exceptionDepth)  (failureRate)   Mode  Cnt         Score          Error   Units
+ * FallbackBenchmark.catchAtCallSite                                          undeclared                 1              0  thrpt    5 388510784.688 +- 67626726.538   ops/s
+ * FallbackBenchmark.catchAtCallSite:gc.alloc.rate.norm                       undeclared                 1              0  thrpt    5        ~ 10^-6                   B/op
+ * FallbackBenchmark.catchAtCallSite                                          undeclared                 1            0.1  thrpt    5   9866405.386 +-  1737548.578   ops/s
+ * FallbackBenchmark.catchAtCallSite:gc.alloc.rate.norm                       undeclared                 1            0.1  thrpt    5        72.068 +-        0.010    B/op
+ * FallbackBenchmark.catchAtCallSite                                          undeclared                 1              1  thrpt    5   1027670.159 +-   130723.008   ops/s
+ * FallbackBenchmark.catchAtCallSite:gc.alloc.rate.norm                       undeclared                 1              1  thrpt    5       720.667 +-        0.067    B/op
+ * FallbackBenchmark.catchPropagatedAtCallSite                                undeclared                 1              0  thrpt    5 327960796.810 +-  7700993.957   ops/s
+ * FallbackBenchmark.catchPropagatedAtCallSite:gc.alloc.rate.norm             undeclared                 1              0  thrpt    5        ~ 10^-6                   B/op
+ * FallbackBenchmark.catchPropagatedAtCallSite                                undeclared                 1            0.1  thrpt    5   4920603.812 +-  1265745.864   ops/s
+ * FallbackBenchmark.catchPropagatedAtCallSite:gc.alloc.rate.norm             undeclared                 1            0.1  thrpt    5       144.135 +-        0.023    B/op
+ * FallbackBenchmark.catchPropagatedAtCallSite                                undeclared                 1              1  thrpt    5    500881.828 +-    45185.586   ops/s
+ * FallbackBenchmark.catchPropagatedAtCallSite:gc.alloc.rate.norm             undeclared                 1              1  thrpt    5      1441.349 +-        0.214    B/op
+ * FallbackBenchmark.orElse                                                   undeclared                 1              0  thrpt    5 325441351.881 +- 14038774.938   ops/s
+ * FallbackBenchmark.orElse:gc.alloc.rate.norm                                undeclared                 1              0  thrpt    5        ~ 10^-6                   B/op
+ * FallbackBenchmark.orElse                                                   undeclared                 1            0.1  thrpt    5  10020318.983 +-   869276.157   ops/s
+ * FallbackBenchmark.orElse:gc.alloc.rate.norm                                undeclared                 1            0.1  thrpt    5        72.067 +-        0.010    B/op
+ * FallbackBenchmark.orElse                                                   undeclared                 1              1  thrpt    5   1042899.548 +-    93378.813   ops/s
+ * FallbackBenchmark.orElse:gc.alloc.rate.norm                                undeclared                 1              1  thrpt    5       720.666 +-        0.054    B/op
+ * FallbackBenchmark.orElseGet                                                undeclared                 1              0  thrpt    5 329233228.813 +- 14067171.226   ops/s
+ * FallbackBenchmark.orElseGet:gc.alloc.rate.norm                             undeclared                 1              0  thrpt    5        ~ 10^-6                   B/op
+ * FallbackBenchmark.orElseGet                                                undeclared                 1            0.1  thrpt    5  10052943.707 +-   877184.949   ops/s
+ * FallbackBenchmark.orElseGet:gc.alloc.rate.norm                             undeclared                 1            0.1  thrpt    5        72.067 +-        0.007    B/op
+ * FallbackBenchmark.orElseGet                                                undeclared                 1              1  thrpt    5    996315.222 +-    47444.245   ops/s
+ * FallbackBenchmark.orElseGet:gc.alloc.rate.norm                             undeclared                 1              1  thrpt    5       720.678 +-        0.079    B/op
+ * </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class FallbackBenchmark {
+
+  private static final int FALLBACK = -1;
+
+  private IntSupplierWithException supplierWithException;
+  private IntSupplier propagating;
+  private IntSupplier orElse;
+  private IntSupplier orElseGet;
+
+  @Setup
+  public void setUp(final FailureState state) {
+    supplierWithException = state::next;
+    propagating = state.autoCatcher().unDeclare(supplierWithException);
+    orElse = state.autoCatcher().unDeclareOrElse(supplierWithException, FALLBACK);
+    orElseGet = state.autoCatcher().unDeclareOrElseGet(supplierWithException, e -> FALLBACK);
+  }
+
+  @Benchmark
+  public int catchAtCallSite() {
+    try {
+      return supplierWithException.getAsIntWithException();
+    } catch (final Exception e) {
+      return FALLBACK;
+    }
+  }
+
+  @Benchmark
+  public int catchPropagatedAtCallSite() {
+    try {
+      return propagating.getAsInt();
+    } catch (final Exception e) {
+      return FALLBACK;
+    }
+  }
+
+  @Benchmark
+  public int orElse() {
+    return orElse.getAsInt();
+  }
+
+  @Benchmark
+  public int orElseGet() {
+    return orElseGet.getAsInt();
+  }
+}
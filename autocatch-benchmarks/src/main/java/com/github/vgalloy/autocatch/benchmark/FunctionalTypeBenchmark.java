@@ -0,0 +1,680 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.benchmark;
+
+import com.github.vgalloy.autocatch.function.BiConsumerWithException;
+import com.github.vgalloy.autocatch.function.BiFunctionWithError;
+import com.github.vgalloy.autocatch.function.BiPredicateWithError;
+import com.github.vgalloy.autocatch.function.BinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.BooleanSupplierWithException;
+import com.github.vgalloy.autocatch.function.ByteSupplier;
+import com.github.vgalloy.autocatch.function.ByteSupplierWithException;
+import com.github.vgalloy.autocatch.function.CharSupplier;
+import com.github.vgalloy.autocatch.function.CharSupplierWithException;
+import com.github.vgalloy.autocatch.function.ConsumerWithException;
+import com.github.vgalloy.autocatch.function.DoubleBinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.DoubleConsumerWithException;
+import com.github.vgalloy.autocatch.function.DoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.DoublePredicateWithException;
+import com.github.vgalloy.autocatch.function.DoubleSupplierWithException;
+import com.github.vgalloy.autocatch.function.DoubleToIntFunctionWithException;
+import com.github.vgalloy.autocatch.function.DoubleToLongFunctionWithException;
+import com.github.vgalloy.autocatch.function.DoubleUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.FunctionWithError;
+import com.github.vgalloy.autocatch.function.IntBinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.IntConsumerWithException;
+import com.github.vgalloy.autocatch.function.IntFunctionWithException;
+import com.github.vgalloy.autocatch.function.IntPredicateWithException;
+import com.github.vgalloy.autocatch.function.IntSupplierWithException;
+import com.github.vgalloy.autocatch.function.IntToDoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.IntToLongFunctionWithException;
+import com.github.vgalloy.autocatch.function.IntUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.LongBinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.LongConsumerWithException;
+import com.github.vgalloy.autocatch.function.LongFunctionWithException;
+import com.github.vgalloy.autocatch.function.LongPredicateWithException;
+import com.github.vgalloy.autocatch.function.LongSupplierWithException;
+import com.github.vgalloy.autocatch.function.LongToDoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.LongToIntFunctionWithException;
+import com.github.vgalloy.autocatch.function.LongUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.ObjDoubleConsumerWithException;
+import com.github.vgalloy.autocatch.function.ObjIntConsumerWithException;
+import com.github.vgalloy.autocatch.function.ObjLongConsumerWithException;
+import com.github.vgalloy.autocatch.function.PredicateWithError;
+import com.github.vgalloy.autocatch.function.RunnableWithException;
+import com.github.vgalloy.autocatch.function.ToDoubleBiFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToDoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToIntBiFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToIntFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToLongBiFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToLongFunctionWithException;
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleBiFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongBiFunction;
+import java.util.function.ToLongFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure every functional type of {@link com.github.vgalloy.autocatch.function} wrapped by each
+ * {@link com.github.vgalloy.autocatch.handler.AutoCatcher}. The failure rate and the exception
+ * depth come from {@link FailureState}.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class FunctionalTypeBenchmark {
+
+  private BooleanSupplier booleanSupplier;
+  private ByteSupplier byteSupplier;
+  private CharSupplier charSupplier;
+  private DoubleSupplier doubleSupplier;
+  private IntSupplier intSupplier;
+  private Runnable runnable;
+  private Supplier<Integer> supplier;
+  private Consumer<Integer> consumer;
+  private Predicate<Integer> predicate;
+  private Function<Integer, Integer> function;
+  private LongSupplier longSupplier;
+  private IntFunction<Integer> intFunction;
+  private IntToDoubleFunction intToDoubleFunction;
+  private IntToLongFunction intToLongFunction;
+  private IntUnaryOperator intUnaryOperator;
+  private IntPredicate intPredicate;
+  private IntConsumer intConsumer;
+  private LongFunction<Integer> longFunction;
+  private LongToDoubleFunction longToDoubleFunction;
+  private LongToIntFunction longToIntFunction;
+  private LongUnaryOperator longUnaryOperator;
+  private LongPredicate longPredicate;
+  private LongConsumer longConsumer;
+  private DoubleFunction<Integer> doubleFunction;
+  private DoubleToIntFunction doubleToIntFunction;
+  private DoubleToLongFunction doubleToLongFunction;
+  private DoubleUnaryOperator doubleUnaryOperator;
+  private DoublePredicate doublePredicate;
+  private DoubleConsumer doubleConsumer;
+  private ToIntFunction<Integer> toIntFunction;
+  private ToLongFunction<Integer> toLongFunction;
+  private ToDoubleFunction<Integer> toDoubleFunction;
+  private BiFunction<Integer, Integer, Integer> biFunction;
+  private BinaryOperator<Integer> binaryOperator;
+  private BiPredicate<Integer, Integer> biPredicate;
+  private BiConsumer<Integer, Integer> biConsumer;
+  private IntBinaryOperator intBinaryOperator;
+  private LongBinaryOperator longBinaryOperator;
+  private DoubleBinaryOperator doubleBinaryOperator;
+  private ToIntBiFunction<Integer, Integer> toIntBiFunction;
+  private ToLongBiFunction<Integer, Integer> toLongBiFunction;
+  private ToDoubleBiFunction<Integer, Integer> toDoubleBiFunction;
+  private ObjIntConsumer<Integer> objIntConsumer;
+  private ObjLongConsumer<Integer> objLongConsumer;
+  private ObjDoubleConsumer<Integer> objDoubleConsumer;
+
+  @Setup
+  public void setUp(final FailureState state) {
+    final BooleanSupplierWithException booleanSupplierWithException = () -> state.next() == 0;
+    final ByteSupplierWithException byteSupplierWithException = () -> (byte) state.next();
+    final CharSupplierWithException charSupplierWithException = () -> (char) state.next();
+    final DoubleSupplierWithException doubleSupplierWithException = state::next;
+    final IntSupplierWithException intSupplierWithException = state::next;
+    final RunnableWithException runnableWithException = state::next;
+    final Callable<Integer> callable = state::next;
+    final ConsumerWithException<Integer> consumerWithException = i -> state.next();
+    final PredicateWithError<Integer> predicateWithError = i -> state.next() == i;
+    final FunctionWithError<Integer, Integer> functionWithError = i -> state.next() + i;
+    final LongSupplierWithException longSupplierWithException = () -> state.next();
+    final IntFunctionWithException<Integer> intFunctionWithException = v -> state.next();
+    final IntToDoubleFunctionWithException intToDoubleFunctionWithException = v -> state.next();
+    final IntToLongFunctionWithException intToLongFunctionWithException = v -> state.next();
+    final IntUnaryOperatorWithException intUnaryOperatorWithException = v -> state.next();
+    final IntPredicateWithException intPredicateWithException = v -> state.next() == 0;
+    final IntConsumerWithException intConsumerWithException = v -> state.next();
+    final LongFunctionWithException<Integer> longFunctionWithException = v -> state.next();
+    final LongToDoubleFunctionWithException longToDoubleFunctionWithException = v -> state.next();
+    final LongToIntFunctionWithException longToIntFunctionWithException = v -> state.next();
+    final LongUnaryOperatorWithException longUnaryOperatorWithException = v -> state.next();
+    final LongPredicateWithException longPredicateWithException = v -> state.next() == 0;
+    final LongConsumerWithException longConsumerWithException = v -> state.next();
+    final DoubleFunctionWithException<Integer> doubleFunctionWithException = v -> state.next();
+    final DoubleToIntFunctionWithException doubleToIntFunctionWithException = v -> state.next();
+    final DoubleToLongFunctionWithException doubleToLongFunctionWithException = v -> state.next();
+    final DoubleUnaryOperatorWithException doubleUnaryOperatorWithException = v -> state.next();
+    final DoublePredicateWithException doublePredicateWithException = v -> state.next() == 0;
+    final DoubleConsumerWithException doubleConsumerWithException = v -> state.next();
+    final ToIntFunctionWithException<Integer> toIntFunctionWithException = t -> state.next();
+    final ToLongFunctionWithException<Integer> toLongFunctionWithException = t -> state.next();
+    final ToDoubleFunctionWithException<Integer> toDoubleFunctionWithException = t -> state.next();
+    final BiFunctionWithError<Integer, Integer, Integer> biFunctionWithError =
+        (t, u) -> state.next();
+    final BinaryOperatorWithException<Integer> binaryOperatorWithException = (l, r) -> state.next();
+    final BiPredicateWithError<Integer, Integer> biPredicateWithError = (t, u) -> state.next() == 0;
+    final BiConsumerWithException<Integer, Integer> biConsumerWithException =
+        (t, u) -> state.next();
+    final IntBinaryOperatorWithException intBinaryOperatorWithException = (l, r) -> state.next();
+    final LongBinaryOperatorWithException longBinaryOperatorWithException = (l, r) -> state.next();
+    final DoubleBinaryOperatorWithException doubleBinaryOperatorWithException =
+        (l, r) -> state.next();
+    final ToIntBiFunctionWithException<Integer, Integer> toIntBiFunctionWithException =
+        (t, u) -> state.next();
+    final ToLongBiFunctionWithException<Integer, Integer> toLongBiFunctionWithException =
+        (t, u) -> state.next();
+    final ToDoubleBiFunctionWithException<Integer, Integer> toDoubleBiFunctionWithException =
+        (t, u) -> state.next();
+    final ObjIntConsumerWithException<Integer> objIntConsumerWithException = (t, v) -> state.next();
+    final ObjLongConsumerWithException<Integer> objLongConsumerWithException =
+        (t, v) -> state.next();
+    final ObjDoubleConsumerWithException<Integer> objDoubleConsumerWithException =
+        (t, v) -> state.next();
+
+    booleanSupplier = state.autoCatcher().unDeclare(booleanSupplierWithException);
+    byteSupplier = state.autoCatcher().unDeclare(byteSupplierWithException);
+    charSupplier = state.autoCatcher().unDeclare(charSupplierWithException);
+    doubleSupplier = state.autoCatcher().unDeclare(doubleSupplierWithException);
+    intSupplier = state.autoCatcher().unDeclare(intSupplierWithException);
+    runnable = state.autoCatcher().unDeclare(runnableWithException);
+    supplier = state.autoCatcher().unDeclare(callable);
+    consumer = state.autoCatcher().unDeclare(consumerWithException);
+    predicate = state.autoCatcher().unDeclare(predicateWithError);
+    function = state.autoCatcher().unDeclare(functionWithError);
+    longSupplier = state.autoCatcher().unDeclare(longSupplierWithException);
+    intFunction = state.autoCatcher().unDeclareInt(intFunctionWithException);
+    intToDoubleFunction = state.autoCatcher().unDeclareInt(intToDoubleFunctionWithException);
+    intToLongFunction = state.autoCatcher().unDeclareInt(intToLongFunctionWithException);
+    intUnaryOperator = state.autoCatcher().unDeclareInt(intUnaryOperatorWithException);
+    intPredicate = state.autoCatcher().unDeclareInt(intPredicateWithException);
+    intConsumer = state.autoCatcher().unDeclareInt(intConsumerWithException);
+    longFunction = state.autoCatcher().unDeclareLong(longFunctionWithException);
+    longToDoubleFunction = state.autoCatcher().unDeclareLong(longToDoubleFunctionWithException);
+    longToIntFunction = state.autoCatcher().unDeclareLong(longToIntFunctionWithException);
+    longUnaryOperator = state.autoCatcher().unDeclareLong(longUnaryOperatorWithException);
+    longPredicate = state.autoCatcher().unDeclareLong(longPredicateWithException);
+    longConsumer = state.autoCatcher().unDeclareLong(longConsumerWithException);
+    doubleFunction = state.autoCatcher().unDeclareDouble(doubleFunctionWithException);
+    doubleToIntFunction = state.autoCatcher().unDeclareDouble(doubleToIntFunctionWithException);
+    doubleToLongFunction = state.autoCatcher().unDeclareDouble(doubleToLongFunctionWithException);
+    doubleUnaryOperator = state.autoCatcher().unDeclareDouble(doubleUnaryOperatorWithException);
+    doublePredicate = state.autoCatcher().unDeclareDouble(doublePredicateWithException);
+    doubleConsumer = state.autoCatcher().unDeclareDouble(doubleConsumerWithException);
+    toIntFunction = state.autoCatcher().unDeclareToInt(toIntFunctionWithException);
+    toLongFunction = state.autoCatcher().unDeclareToLong(toLongFunctionWithException);
+    toDoubleFunction = state.autoCatcher().unDeclareToDouble(toDoubleFunctionWithException);
+    biFunction = state.autoCatcher().unDeclare(biFunctionWithError);
+    binaryOperator = state.autoCatcher().unDeclare(binaryOperatorWithException);
+    biPredicate = state.autoCatcher().unDeclare(biPredicateWithError);
+    biConsumer = state.autoCatcher().unDeclare(biConsumerWithException);
+    intBinaryOperator = state.autoCatcher().unDeclareIntBinary(intBinaryOperatorWithException);
+    longBinaryOperator = state.autoCatcher().unDeclareLongBinary(longBinaryOperatorWithException);
+    doubleBinaryOperator =
+        state.autoCatcher().unDeclareDoubleBinary(doubleBinaryOperatorWithException);
+    toIntBiFunction = state.autoCatcher().unDeclareToIntBi(toIntBiFunctionWithException);
+    toLongBiFunction = state.autoCatcher().unDeclareToLongBi(toLongBiFunctionWithException);
+    toDoubleBiFunction = state.autoCatcher().unDeclareToDoubleBi(toDoubleBiFunctionWithException);
+    objIntConsumer = state.autoCatcher().unDeclareObjInt(objIntConsumerWithException);
+    objLongConsumer = state.autoCatcher().unDeclareObjLong(objLongConsumerWithException);
+    objDoubleConsumer = state.autoCatcher().unDeclareObjDouble(objDoubleConsumerWithException);
+  }
+
+  @Benchmark
+  public boolean booleanSupplier() {
+    try {
+      return booleanSupplier.getAsBoolean();
+    } catch (final Exception ignored) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  public byte byteSupplier() {
+    try {
+      return byteSupplier.getAsByte();
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public char charSupplier() {
+    try {
+      return charSupplier.getAsChar();
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public double doubleSupplier() {
+    try {
+      return doubleSupplier.getAsDouble();
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public int intSupplier() {
+    try {
+      return intSupplier.getAsInt();
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public void runnable() {
+    try {
+      runnable.run();
+    } catch (final Exception ignored) {
+      // failure expected according to the failure rate
+    }
+  }
+
+  @Benchmark
+  public Integer callable() {
+    try {
+      return supplier.get();
+    } catch (final Exception ignored) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public void consumer() {
+    try {
+      consumer.accept(1);
+    } catch (final Exception ignored) {
+      // failure expected according to the failure rate
+    }
+  }
+
+  @Benchmark
+  public boolean predicate() {
+    try {
+      return predicate.test(1);
+    } catch (final Exception ignored) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  public Integer function() {
+    try {
+      return function.apply(1);
+    } catch (final Exception ignored) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public long longSupplier() {
+    try {
+      return longSupplier.getAsLong();
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public Integer intFunction() {
+    try {
+      return intFunction.apply(1);
+    } catch (final Exception ignored) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public double intToDoubleFunction() {
+    try {
+      return intToDoubleFunction.applyAsDouble(1);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public long intToLongFunction() {
+    try {
+      return intToLongFunction.applyAsLong(1);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public int intUnaryOperator() {
+    try {
+      return intUnaryOperator.applyAsInt(1);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public boolean intPredicate() {
+    try {
+      return intPredicate.test(1);
+    } catch (final Exception ignored) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  public void intConsumer() {
+    try {
+      intConsumer.accept(1);
+    } catch (final Exception ignored) {
+      // failure expected according to the failure rate
+    }
+  }
+
+  @Benchmark
+  public Integer longFunction() {
+    try {
+      return longFunction.apply(1L);
+    } catch (final Exception ignored) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public double longToDoubleFunction() {
+    try {
+      return longToDoubleFunction.applyAsDouble(1L);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public int longToIntFunction() {
+    try {
+      return longToIntFunction.applyAsInt(1L);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public long longUnaryOperator() {
+    try {
+      return longUnaryOperator.applyAsLong(1L);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public boolean longPredicate() {
+    try {
+      return longPredicate.test(1L);
+    } catch (final Exception ignored) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  public void longConsumer() {
+    try {
+      longConsumer.accept(1L);
+    } catch (final Exception ignored) {
+      // failure expected according to the failure rate
+    }
+  }
+
+  @Benchmark
+  public Integer doubleFunction() {
+    try {
+      return doubleFunction.apply(1D);
+    } catch (final Exception ignored) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public int doubleToIntFunction() {
+    try {
+      return doubleToIntFunction.applyAsInt(1D);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public long doubleToLongFunction() {
+    try {
+      return doubleToLongFunction.applyAsLong(1D);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public double doubleUnaryOperator() {
+    try {
+      return doubleUnaryOperator.applyAsDouble(1D);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public boolean doublePredicate() {
+    try {
+      return doublePredicate.test(1D);
+    } catch (final Exception ignored) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  public void doubleConsumer() {
+    try {
+      doubleConsumer.accept(1D);
+    } catch (final Exception ignored) {
+      // failure expected according to the failure rate
+    }
+  }
+
+  @Benchmark
+  public int toIntFunction() {
+    try {
+      return toIntFunction.applyAsInt(1);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public long toLongFunction() {
+    try {
+      return toLongFunction.applyAsLong(1);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public double toDoubleFunction() {
+    try {
+      return toDoubleFunction.applyAsDouble(1);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public Integer biFunction() {
+    try {
+      return biFunction.apply(1, 1);
+    } catch (final Exception ignored) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public Integer binaryOperator() {
+    try {
+      return binaryOperator.apply(1, 1);
+    } catch (final Exception ignored) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public boolean biPredicate() {
+    try {
+      return biPredicate.test(1, 1);
+    } catch (final Exception ignored) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  public void biConsumer() {
+    try {
+      biConsumer.accept(1, 1);
+    } catch (final Exception ignored) {
+      // failure expected according to the failure rate
+    }
+  }
+
+  @Benchmark
+  public int intBinaryOperator() {
+    try {
+      return intBinaryOperator.applyAsInt(1, 1);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public long longBinaryOperator() {
+    try {
+      return longBinaryOperator.applyAsLong(1L, 1L);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public double doubleBinaryOperator() {
+    try {
+      return doubleBinaryOperator.applyAsDouble(1D, 1D);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public int toIntBiFunction() {
+    try {
+      return toIntBiFunction.applyAsInt(1, 1);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public long toLongBiFunction() {
+    try {
+      return toLongBiFunction.applyAsLong(1, 1);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public double toDoubleBiFunction() {
+    try {
+      return toDoubleBiFunction.applyAsDouble(1, 1);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public void objIntConsumer() {
+    try {
+      objIntConsumer.accept(1, 1);
+    } catch (final Exception ignored) {
+      // failure expected according to the failure rate
+    }
+  }
+
+  @Benchmark
+  public void objLongConsumer() {
+    try {
+      objLongConsumer.accept(1, 1L);
+    } catch (final Exception ignored) {
+      // failure expected according to the failure rate
+    }
+  }
+
+  @Benchmark
+  public void objDoubleConsumer() {
+    try {
+      objDoubleConsumer.accept(1, 1D);
+    } catch (final Exception ignored) {
+      // failure expected according to the failure rate
+    }
+  }
+}
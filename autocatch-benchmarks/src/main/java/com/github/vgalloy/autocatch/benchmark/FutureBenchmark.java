@@ -0,0 +1,119 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.benchmark;
+
+import com.github.vgalloy.autocatch.concurrent.AutoCatchFutures;
+import com.github.vgalloy.autocatch.function.FunctionWithError;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compare the future adapters with feeding an undeclared function to {@link CompletableFuture}. The
+ * futures are executed in the calling thread, so only the completion and the exception wrappers are
+ * measured. On the failure path {@code supplyAsyncUnDeclare} creates a {@link
+ * java.util.concurrent.CompletionException} and, for the undeclared catcher, an {@link
+ * java.lang.reflect.UndeclaredThrowableException}: up to two more stack traces than the adapters.
+ * On the success path {@code thenApply} pays for the intermediate {@code whenComplete} stage.
+ *
+ * <pre>
+ * Benchmark                                                            (catcher)  (exceptionDepth)  (failureRate)   Mode  Cnt        Score          Error   Units
+ * FutureBenchmark.supplyAsync                                         undeclared                 1              0  thrpt    5 71207643.540 +- 12774853.228   ops/s
+ * FutureBenchmark.supplyAsync:gc.alloc.rate.norm                      undeclared                 1              0  thrpt    5       37.986 +-        0.001    B/op
+ * FutureBenchmark.supplyAsync                                         undeclared                 1              1  thrpt    5  1021036.192 +-   255712.118   ops/s
+ * FutureBenchmark.supplyAsync:gc.alloc.rate.norm                      undeclared                 1              1  thrpt    5      760.710 +-        0.093    B/op
+ * FutureBenchmark.supplyAsync                                          forwarder                 1              0  thrpt    5 72332117.995 +- 12681791.254   ops/s
+ * FutureBenchmark.supplyAsync:gc.alloc.rate.norm                       forwarder                 1              0  thrpt    5       37.985 +-        0.001    B/op
+ * FutureBenchmark.supplyAsync                                          forwarder                 1              1  thrpt    5  1026456.979 +-    62271.583   ops/s
+ * FutureBenchmark.supplyAsync:gc.alloc.rate.norm                       forwarder                 1              1  thrpt    5      760.712 +-        0.087    B/op
+ * FutureBenchmark.supplyAsyncUnDeclare                                undeclared                 1              0  thrpt    5 64295477.773 +- 11223812.674   ops/s
+ * FutureBenchmark.supplyAsyncUnDeclare:gc.alloc.rate.norm             undeclared                 1              0  thrpt    5       37.986 +-        0.001    B/op
+ * FutureBenchmark.supplyAsyncUnDeclare                                undeclared                 1              1  thrpt    5   328483.837 +-    20916.132   ops/s
+ * FutureBenchmark.supplyAsyncUnDeclare:gc.alloc.rate.norm             undeclared                 1              1  thrpt    5     2202.046 +-        0.209    B/op
+ * FutureBenchmark.supplyAsyncUnDeclare                                 forwarder                 1              0  thrpt    5 69942811.093 +- 19769362.105   ops/s
+ * FutureBenchmark.supplyAsyncUnDeclare:gc.alloc.rate.norm              forwarder                 1              0  thrpt    5       37.986 +-        0.001    B/op
+ * FutureBenchmark.supplyAsyncUnDeclare                                 forwarder                 1              1  thrpt    5   495361.763 +-    28042.002   ops/s
+ * FutureBenchmark.supplyAsyncUnDeclare:gc.alloc.rate.norm              forwarder                 1              1  thrpt    5     1553.457 +-        0.148    B/op
+ * FutureBenchmark.thenApply                                           undeclared                 1              0  thrpt    5 46067614.062 +-  9206284.340   ops/s
+ * FutureBenchmark.thenApply:gc.alloc.rate.norm                        undeclared                 1              0  thrpt    5       62.007 +-        0.002    B/op
+ * FutureBenchmark.thenApply                                           undeclared                 1              1  thrpt    5   967707.133 +-    53211.540   ops/s
+ * FutureBenchmark.thenApply:gc.alloc.rate.norm                        undeclared                 1              1  thrpt    5      784.737 +-        0.082    B/op
+ * FutureBenchmark.thenApply                                            forwarder                 1              0  thrpt    5 46293801.165 +-  7523474.171   ops/s
+ * FutureBenchmark.thenApply:gc.alloc.rate.norm                         forwarder                 1              0  thrpt    5       62.007 +-        0.001    B/op
+ * FutureBenchmark.thenApply                                            forwarder                 1              1  thrpt    5   924384.000 +-   315214.268   ops/s
+ * FutureBenchmark.thenApply:gc.alloc.rate.norm                         forwarder                 1              1  thrpt    5      784.731 +-        0.103    B/op
+ * FutureBenchmark.thenApplyUnDeclare                                  undeclared                 1              0  thrpt    5 63566251.959 +- 16369649.979   ops/s
+ * FutureBenchmark.thenApplyUnDeclare:gc.alloc.rate.norm               undeclared                 1              0  thrpt    5       37.986 +-        0.001    B/op
+ * FutureBenchmark.thenApplyUnDeclare                                  undeclared                 1              1  thrpt    5   333048.563 +-    14371.803   ops/s
+ * FutureBenchmark.thenApplyUnDeclare:gc.alloc.rate.norm               undeclared                 1              1  thrpt    5     2202.057 +-        0.169    B/op
+ * FutureBenchmark.thenApplyUnDeclare                                   forwarder                 1              0  thrpt    5 64499243.523 +- 19506753.893   ops/s
+ * FutureBenchmark.thenApplyUnDeclare:gc.alloc.rate.norm                forwarder                 1              0  thrpt    5       37.986 +-        0.001    B/op
+ * FutureBenchmark.thenApplyUnDeclare                                   forwarder                 1              1  thrpt    5   494808.506 +-    21131.671   ops/s
+ * FutureBenchmark.thenApplyUnDeclare:gc.alloc.rate.norm                forwarder                 1              1  thrpt    5     1553.439 +-        0.149    B/op
+ * </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class FutureBenchmark {
+
+  private static final Executor CALLER_THREAD = Runnable::run;
+
+  private final CompletableFuture<Integer> completed = CompletableFuture.completedFuture(0);
+
+  private Callable<Integer> callable;
+  private Supplier<Integer> supplier;
+  private FunctionWithError<Integer, Integer> function;
+  private Function<Integer, Integer> unDeclaredFunction;
+
+  @Setup
+  public void setUp(final FailureState state) {
+    callable = state::next;
+    function = ignored -> state.next();
+    supplier = state.autoCatcher().unDeclare(callable);
+    unDeclaredFunction = state.autoCatcher().unDeclare(function);
+  }
+
+  @Benchmark
+  public CompletableFuture<Integer> supplyAsyncUnDeclare() {
+    return CompletableFuture.supplyAsync(supplier, CALLER_THREAD);
+  }
+
+  @Benchmark
+  public CompletableFuture<Integer> supplyAsync() {
+    return AutoCatchFutures.supplyAsync(callable, CALLER_THREAD);
+  }
+
+  @Benchmark
+  public CompletableFuture<Integer> thenApplyUnDeclare() {
+    return completed.thenApply(unDeclaredFunction);
+  }
+
+  @Benchmark
+  public CompletableFuture<Integer> thenApply() {
+    return AutoCatchFutures.thenApply(completed, function);
+  }
+}
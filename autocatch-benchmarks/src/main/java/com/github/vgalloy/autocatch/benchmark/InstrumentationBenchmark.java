@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.benchmark;
+
+import com.github.vgalloy.autocatch.handler.AutoCatcher;
+import com.github.vgalloy.autocatch.handler.CircuitBreakerPolicy;
+import com.github.vgalloy.autocatch.handler.RetryPolicy;
+import com.github.vgalloy.autocatch.handler.TimedAutoCatcher;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure the cost of the decorating catchers on the success path, compared to the plain {@link
+ * AutoCatcher#exceptionForwarder()}. The wrappers are built once, only the invocation and the
+ * recording are measured. {@code circuitBreakerOpen} measures a rejection returning the fallback
+ * value, the breaker being open.
+ *
+ * <pre>
+ * Benchmark                                                         Mode  Cnt         Score          Error   Units
+ * InstrumentationBenchmark.circuitBreaker                          thrpt    5  22091290.246 +-   446257.501   ops/s
+ * InstrumentationBenchmark.circuitBreaker:gc.alloc.rate.norm       thrpt    5        ~ 10^-5                   B/op
+ * InstrumentationBenchmark.circuitBreakerOpen                      thrpt    5  24650482.227 +-   426802.323   ops/s
+ * InstrumentationBenchmark.circuitBreakerOpen:gc.alloc.rate.norm   thrpt    5        ~ 10^-5                   B/op
+ * InstrumentationBenchmark.forwarder                               thrpt    5 390360039.372 +- 10371926.535   ops/s
+ * InstrumentationBenchmark.forwarder:gc.alloc.rate.norm            thrpt    5        ~ 10^-6                   B/op
+ * InstrumentationBenchmark.metered                                 thrpt    5  83151986.343 +-  2199250.542   ops/s
+ * InstrumentationBenchmark.metered:gc.alloc.rate.norm              thrpt    5        ~ 10^-5                   B/op
+ * InstrumentationBenchmark.retrying                                thrpt    5 338951190.756 +-  4838457.710   ops/s
+ * InstrumentationBenchmark.retrying:gc.alloc.rate.norm             thrpt    5        ~ 10^-6                   B/op
+ * InstrumentationBenchmark.timed                                   thrpt    5  14678899.342 +-    44018.637   ops/s
+ * InstrumentationBenchmark.timed:gc.alloc.rate.norm                thrpt    5        ~ 10^-5                   B/op
+ * InstrumentationBenchmark.timedCallSite                           thrpt    5  14560940.919 +-   445600.539   ops/s
+ * InstrumentationBenchmark.timedCallSite:gc.alloc.rate.norm        thrpt    5        ~ 10^-5                   B/op
+ * </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class InstrumentationBenchmark {
+
+  private Supplier<Integer> forwarder;
+  private Supplier<Integer> metered;
+  private Supplier<Integer> timed;
+  private Supplier<Integer> timedCallSite;
+  private Supplier<Integer> retrying;
+  private Supplier<Integer> circuitBreaker;
+  private Supplier<Integer> circuitBreakerOpen;
+
+  @Setup
+  public void setUp() {
+    final Integer value = 42;
+    final Callable<Integer> callable = () -> value;
+    final AutoCatcher forwarderCatcher = AutoCatcher.exceptionForwarder();
+    final TimedAutoCatcher timedCatcher = AutoCatcher.timed(forwarderCatcher);
+    forwarder = forwarderCatcher.unDeclare(callable);
+    metered = AutoCatcher.metered(forwarderCatcher).unDeclare(callable);
+    timed = timedCatcher.unDeclare(callable);
+    timedCallSite = timedCatcher.callSite("benchmark").unDeclare(callable);
+    retrying =
+        AutoCatcher.retrying(forwarderCatcher, RetryPolicy.maxAttempts(3)).unDeclare(callable);
+    circuitBreaker =
+        AutoCatcher.circuitBreaker(forwarderCatcher, CircuitBreakerPolicy.failureRateThreshold(0.5))
+            .unDeclare(callable);
+
+    final AutoCatcher openCatcher =
+        AutoCatcher.circuitBreaker(
+            forwarderCatcher,
+            CircuitBreakerPolicy.failureRateThreshold(1)
+                .withMinimumCalls(1)
+                .withOpenDuration(Duration.ofDays(1)));
+    final Callable<Integer> failing =
+        () -> {
+          throw new IOException("FAKE");
+        };
+    openCatcher.unDeclareOrElse(failing, 0).get();
+    circuitBreakerOpen = openCatcher.unDeclareOrElse(callable, 0);
+  }
+
+  @Benchmark
+  public Integer forwarder() {
+    return forwarder.get();
+  }
+
+  @Benchmark
+  public Integer metered() {
+    return metered.get();
+  }
+
+  @Benchmark
+  public Integer timed() {
+    return timed.get();
+  }
+
+  @Benchmark
+  public Integer timedCallSite() {
+    return timedCallSite.get();
+  }
+
+  @Benchmark
+  public Integer retrying() {
+    return retrying.get();
+  }
+
+  @Benchmark
+  public Integer circuitBreaker() {
+    return circuitBreaker.get();
+  }
+
+  @Benchmark
+  public Integer circuitBreakerOpen() {
+    return circuitBreakerOpen.get();
+  }
+}
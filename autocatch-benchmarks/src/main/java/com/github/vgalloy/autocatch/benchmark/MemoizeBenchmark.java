@@ -0,0 +1,121 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.benchmark;
+
+import com.github.vgalloy.autocatch.AutoCatch;
+import com.github.vgalloy.autocatch.cache.MemoizeSpec;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure the hit path of a memoized function shared by every thread, against the bare read of a
+ * {@link ConcurrentHashMap}. Every key is cached, so the function is never invoked. The suite is
+ * run once by thread count, with {@code -t 1} and {@code -t 4}. The figures below come from a
+ * single processor machine. A hit costs the read of the map plus the increment of the hit counter;
+ * with a time to live, the clock read of the expiration check dominates.
+ *
+ * <pre>
+ * -t 1
+ * Benchmark                                                Mode  Cnt         Score         Error   Units
+ * MemoizeBenchmark.concurrentHashMap                      thrpt    5 164322789.026 +- 2303101.863   ops/s
+ * MemoizeBenchmark.concurrentHashMap:gc.alloc.rate.norm   thrpt    5        ~ 10^-6                  B/op
+ * MemoizeBenchmark.memoized                               thrpt    5  65971130.713 +- 1076236.322   ops/s
+ * MemoizeBenchmark.memoized:gc.alloc.rate.norm            thrpt    5        ~ 10^-5                  B/op
+ * MemoizeBenchmark.memoizedWithTtl                        thrpt    5  19373237.814 +-  421091.548   ops/s
+ * MemoizeBenchmark.memoizedWithTtl:gc.alloc.rate.norm     thrpt    5        ~ 10^-5                  B/op
+ * -t 4
+ * Benchmark                                                Mode  Cnt         Score          Error   Units
+ * MemoizeBenchmark.concurrentHashMap                      thrpt    5 163942200.669 +- 11148987.449   ops/s
+ * MemoizeBenchmark.concurrentHashMap:gc.alloc.rate.norm   thrpt    5        ~ 10^-5                   B/op
+ * MemoizeBenchmark.memoized                               thrpt    5  63118048.944 +-  4371072.466   ops/s
+ * MemoizeBenchmark.memoized:gc.alloc.rate.norm            thrpt    5        ~ 10^-4                   B/op
+ * MemoizeBenchmark.memoizedWithTtl                        thrpt    5  18668605.412 +-  1299449.832   ops/s
+ * MemoizeBenchmark.memoizedWithTtl:gc.alloc.rate.norm     thrpt    5        ~ 10^-4                   B/op
+ * </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MemoizeBenchmark {
+
+  private static final int KEYS = 1024;
+
+  @State(Scope.Benchmark)
+  public static class Caches {
+
+    private Function<Integer, String> memoized;
+    private Function<Integer, String> memoizedWithTtl;
+    private Map<Integer, String> map;
+
+    @Setup
+    public void setUp() {
+      memoized = AutoCatch.unDeclareMemoized(String::valueOf, MemoizeSpec.maximumSize(KEYS));
+      memoizedWithTtl =
+          AutoCatch.unDeclareMemoized(
+              String::valueOf,
+              MemoizeSpec.maximumSize(KEYS).withExpireAfterWrite(Duration.ofHours(1)));
+      map = new ConcurrentHashMap<>();
+      for (int i = 0; i < KEYS; i++) {
+        memoized.apply(i);
+        memoizedWithTtl.apply(i);
+        map.put(i, String.valueOf(i));
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Keys {
+
+    private final Integer[] keys = new Integer[KEYS];
+    private int index;
+
+    @Setup
+    public void setUp() {
+      for (int i = 0; i < KEYS; i++) {
+        keys[i] = (i * 31) % KEYS;
+      }
+    }
+
+    private Integer next() {
+      index = (index + 1) & (KEYS - 1);
+      return keys[index];
+    }
+  }
+
+  @Benchmark
+  public String concurrentHashMap(final Caches caches, final Keys keys) {
+    return caches.map.get(keys.next());
+  }
+
+  @Benchmark
+  public String memoized(final Caches caches, final Keys keys) {
+    return caches.memoized.apply(keys.next());
+  }
+
+  @Benchmark
+  public String memoizedWithTtl(final Caches caches, final Keys keys) {
+    return caches.memoizedWithTtl.apply(keys.next());
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.benchmark;
+
+import com.github.vgalloy.autocatch.function.IntSupplierWithException;
+import com.github.vgalloy.autocatch.result.IntResult;
+import com.github.vgalloy.autocatch.result.Result;
+import java.util.concurrent.Callable;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compare the result conversions with catching the propagated exception, as a batch pipeline
+ * handling each record would. On the success path the results must not be allocated, the bytes left
+ * for {@code result} being the boxing of the {@link Integer} values outside of the cache.
+ *
+ * <pre>
+ * Benchmark                                                                (catcher)  (exceptionDepth)  (failureRate)   Mode  Cnt         Score          Error   Units
+ * ResultBenchmark.catchPropagated                                stacklessUndeclared                 1              0  thrpt    5 330017117.944 +-  8552853.440   ops/s
+ * ResultBenchmark.catchPropagated:gc.alloc.rate.norm             stacklessUndeclared                 1              0  thrpt    5        ~ 10^-6                   B/op
+ * ResultBenchmark.catchPropagated                                stacklessUndeclared                 1           0.05  thrpt    5  18802848.842 +-  5176498.352   ops/s
+ * ResultBenchmark.catchPropagated:gc.alloc.rate.norm             stacklessUndeclared                 1           0.05  thrpt    5        38.035 +-        0.004    B/op
+ * ResultBenchmark.catchPropagated                                stacklessUndeclared                 1            0.2  thrpt    5   4910160.187 +-   704941.579   ops/s
+ * ResultBenchmark.catchPropagated:gc.alloc.rate.norm             stacklessUndeclared                 1            0.2  thrpt    5       152.144 +-        0.016    B/op
+ * ResultBenchmark.intResult                                      stacklessUndeclared                 1              0  thrpt    5 342621997.829 +- 18043573.558   ops/s
+ * ResultBenchmark.intResult:gc.alloc.rate.norm                   stacklessUndeclared                 1              0  thrpt    5        ~ 10^-6                   B/op
+ * ResultBenchmark.intResult                                      stacklessUndeclared                 1           0.05  thrpt    5  19260633.535 +-   612921.260   ops/s
+ * ResultBenchmark.intResult:gc.alloc.rate.norm                   stacklessUndeclared                 1           0.05  thrpt    5        36.034 +-        0.004    B/op
+ * ResultBenchmark.intResult                                      stacklessUndeclared                 1            0.2  thrpt    5   5006197.132 +-   359588.698   ops/s
+ * ResultBenchmark.intResult:gc.alloc.rate.norm                   stacklessUndeclared                 1            0.2  thrpt    5       144.136 +-        0.017    B/op
+ * ResultBenchmark.result                                         stacklessUndeclared                 1              0  thrpt    5 242564126.777 +- 51636574.404   ops/s
+ * ResultBenchmark.result:gc.alloc.rate.norm                      stacklessUndeclared                 1              0  thrpt    5        13.964 +-        0.001    B/op
+ * ResultBenchmark.result                                         stacklessUndeclared                 1           0.05  thrpt    5  18836929.350 +-  2933137.595   ops/s
+ * ResultBenchmark.result:gc.alloc.rate.norm                      stacklessUndeclared                 1           0.05  thrpt    5        49.341 +-        0.006    B/op
+ * ResultBenchmark.result                                         stacklessUndeclared                 1            0.2  thrpt    5   5004142.566 +-   198492.573   ops/s
+ * ResultBenchmark.result:gc.alloc.rate.norm                      stacklessUndeclared                 1            0.2  thrpt    5       155.266 +-        0.014    B/op
+ * </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class ResultBenchmark {
+
+  private static final int FAILED = -1;
+
+  private IntSupplier propagating;
+  private Supplier<IntResult> intResult;
+  private Supplier<Result<Integer>> result;
+
+  @Setup
+  public void setUp(final FailureState state) {
+    final IntSupplierWithException intSupplier = state::next;
+    final Callable<Integer> callable = state::next;
+    propagating = state.autoCatcher().unDeclare(intSupplier);
+    intResult = state.autoCatcher().toResult(intSupplier);
+    result = state.autoCatcher().toResult(callable);
+  }
+
+  @Benchmark
+  public int catchPropagated() {
+    try {
+      return propagating.getAsInt();
+    } catch (final Exception e) {
+      return FAILED;
+    }
+  }
+
+  @Benchmark
+  public int intResult() {
+    final IntResult current = intResult.get();
+    return current.isSuccess() ? current.getAsInt() : FAILED;
+  }
+
+  @Benchmark
+  public int result() {
+    final Result<Integer> current = result.get();
+    return current.isSuccess() ? current.get() : FAILED;
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.flow;
+
+import com.github.vgalloy.autocatch.function.ConsumerWithException;
+import com.github.vgalloy.autocatch.function.FunctionWithError;
+import com.github.vgalloy.autocatch.function.PredicateWithError;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.BiConsumer;
+
+/**
+ * {@link Flow} operators accepting functions declaring an exception. Each processor connects one
+ * publisher to one subscriber and honours the demand of the subscriber.
+ *
+ * <p>Without error channel, the first failure cancels the publisher and is sent to {@code onError}
+ * as it was thrown. With an error channel, the failing element and its exception are given to the
+ * channel, the element is dropped and the stream goes on.
+ *
+ * <pre>{@code
+ * final Flow.Processor<String, Record> parse = AutoCatchFlow.map(this::parse, this::report);
+ * publisher.subscribe(parse);
+ * AutoCatchFlow.forEach(parse, this::store).join();
+ * }</pre>
+ */
+public final class AutoCatchFlow {
+
+  /** Constructor. Private to avoid instantiation */
+  private AutoCatchFlow() {
+    throw new AssertionError("No instance of com.github.vgalloy.autocatch.flow.AutoCatchFlow");
+  }
+
+  /**
+   * Map the elements. The first failure is sent to {@code onError}.
+   *
+   * @param mapper the function declaring an exception
+   * @param <T> the type of the received elements
+   * @param <R> the type of the mapped elements
+   * @return the processor
+   */
+  public static <T, R> Flow.Processor<T, R> map(
+      final FunctionWithError<? super T, ? extends R> mapper) {
+    return new MapProcessor<>(Objects.requireNonNull(mapper), null);
+  }
+
+  /**
+   * Map the elements. The failures are given to the error channel.
+   *
+   * @param mapper the function declaring an exception
+   * @param errors the error channel, receiving each failing element with its exception
+   * @param <T> the type of the received elements
+   * @param <R> the type of the mapped elements
+   * @return the processor
+   */
+  public static <T, R> Flow.Processor<T, R> map(
+      final FunctionWithError<? super T, ? extends R> mapper,
+      final BiConsumer<? super T, ? super Exception> errors) {
+    return new MapProcessor<>(Objects.requireNonNull(mapper), Objects.requireNonNull(errors));
+  }
+
+  /**
+   * Keep the elements matching the predicate. The first failure is sent to {@code onError}.
+   *
+   * @param predicate the predicate declaring an exception
+   * @param <T> the type of the elements
+   * @return the processor
+   */
+  public static <T> Flow.Processor<T, T> filter(final PredicateWithError<? super T> predicate) {
+    return new FilterProcessor<>(Objects.requireNonNull(predicate), null);
+  }
+
+  /**
+   * Keep the elements matching the predicate. The failures are given to the error channel.
+   *
+   * @param predicate the predicate declaring an exception
+   * @param errors the error channel, receiving each failing element with its exception
+   * @param <T> the type of the elements
+   * @return the processor
+   */
+  public static <T> Flow.Processor<T, T> filter(
+      final PredicateWithError<? super T> predicate,
+      final BiConsumer<? super T, ? super Exception> errors) {
+    return new FilterProcessor<>(Objects.requireNonNull(predicate), Objects.requireNonNull(errors));
+  }
+
+  /**
+   * Subscribe to the publisher and give every element to the consumer. The first failure cancels
+   * the publisher.
+   *
+   * @param publisher the publisher
+   * @param consumer the consumer declaring an exception
+   * @param <T> the type of the elements
+   * @return the future completed when the publisher completes, or exceptionally with the original
+   *     failure of the consumer or of the publisher
+   */
+  public static <T> CompletableFuture<Void> forEach(
+      final Flow.Publisher<T> publisher, final ConsumerWithException<? super T> consumer) {
+    final ForEachSubscriber<T> subscriber =
+        new ForEachSubscriber<>(Objects.requireNonNull(consumer), null);
+    publisher.subscribe(subscriber);
+    return subscriber.getCompletion();
+  }
+
+  /**
+   * Subscribe to the publisher and give every element to the consumer. The failures are given to
+   * the error channel.
+   *
+   * @param publisher the publisher
+   * @param consumer the consumer declaring an exception
+   * @param errors the error channel, receiving each failing element with its exception
+   * @param <T> the type of the elements
+   * @return the future completed when the publisher completes, or exceptionally with the failure of
+   *     the publisher
+   */
+  public static <T> CompletableFuture<Void> forEach(
+      final Flow.Publisher<T> publisher,
+      final ConsumerWithException<? super T> consumer,
+      final BiConsumer<? super T, ? super Exception> errors) {
+    final ForEachSubscriber<T> subscriber =
+        new ForEachSubscriber<>(Objects.requireNonNull(consumer), Objects.requireNonNull(errors));
+    publisher.subscribe(subscriber);
+    return subscriber.getCompletion();
+  }
+}
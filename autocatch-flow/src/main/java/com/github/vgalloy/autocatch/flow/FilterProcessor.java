@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.flow;
+
+import com.github.vgalloy.autocatch.function.PredicateWithError;
+import java.util.function.BiConsumer;
+
+/**
+ * Keep the elements matching a predicate declaring an exception.
+ *
+ * @param <T> the type of the elements
+ */
+final class FilterProcessor<T> extends OperatorProcessor<T, T> {
+
+  private final PredicateWithError<? super T> predicate;
+
+  /**
+   * Constructor.
+   *
+   * @param predicate the predicate declaring an exception
+   * @param errors the error channel, {@code null} to send the failures to {@code onError}
+   */
+  FilterProcessor(
+      final PredicateWithError<? super T> predicate,
+      final BiConsumer<? super T, ? super Exception> errors) {
+    super(errors);
+    this.predicate = predicate;
+  }
+
+  @Override
+  void process(final T item) {
+    final boolean accepted;
+    try {
+      accepted = predicate.test(item);
+    } catch (final Exception exception) {
+      failed(item, exception);
+      return;
+    }
+    if (accepted) {
+      emit(item);
+    } else {
+      skip();
+    }
+  }
+}
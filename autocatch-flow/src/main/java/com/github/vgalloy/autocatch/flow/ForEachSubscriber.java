@@ -0,0 +1,129 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.flow;
+
+import com.github.vgalloy.autocatch.function.ConsumerWithException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.BiConsumer;
+
+/**
+ * Give every element to a consumer declaring an exception. The elements are requested by batches of
+ * {@link Flow#defaultBufferSize()}, half a batch being requested again each time half a batch is
+ * consumed.
+ *
+ * @param <T> the type of the elements
+ */
+final class ForEachSubscriber<T> implements Flow.Subscriber<T> {
+
+  private static final int BATCH_SIZE = Flow.defaultBufferSize();
+  private static final int REPLENISH_SIZE = Math.max(1, BATCH_SIZE / 2);
+
+  private final ConsumerWithException<? super T> consumer;
+  private final BiConsumer<? super T, ? super Exception> errors;
+  private final CompletableFuture<Void> completion = new CompletableFuture<>();
+  private Flow.Subscription subscription;
+  private int consumedSinceRequest;
+
+  /**
+   * Constructor.
+   *
+   * @param consumer the consumer declaring an exception
+   * @param errors the error channel, {@code null} to complete exceptionally on the first failure
+   */
+  ForEachSubscriber(
+      final ConsumerWithException<? super T> consumer,
+      final BiConsumer<? super T, ? super Exception> errors) {
+    this.consumer = consumer;
+    this.errors = errors;
+  }
+
+  /**
+   * The completion of the consumption.
+   *
+   * @return the future completed when the publisher completes, or exceptionally with the original
+   *     failure
+   */
+  CompletableFuture<Void> getCompletion() {
+    return completion;
+  }
+
+  @Override
+  public void onSubscribe(final Flow.Subscription subscription) {
+    Objects.requireNonNull(subscription);
+    if (this.subscription != null) {
+      subscription.cancel();
+      return;
+    }
+    this.subscription = subscription;
+    subscription.request(BATCH_SIZE);
+  }
+
+  @Override
+  public void onNext(final T item) {
+    if (completion.isDone()) {
+      return;
+    }
+    try {
+      consumer.accept(item);
+    } catch (final Exception exception) {
+      if (!report(item, exception)) {
+        return;
+      }
+    }
+    consumedSinceRequest++;
+    if (consumedSinceRequest == REPLENISH_SIZE) {
+      consumedSinceRequest = 0;
+      subscription.request(REPLENISH_SIZE);
+    }
+  }
+
+  @Override
+  public void onError(final Throwable throwable) {
+    completion.completeExceptionally(throwable);
+  }
+
+  @Override
+  public void onComplete() {
+    completion.complete(null);
+  }
+
+  /**
+   * Report a failure of the consumer.
+   *
+   * @return {@code true} if the consumption goes on
+   */
+  private boolean report(final T item, final Exception exception) {
+    if (errors != null) {
+      try {
+        errors.accept(item, exception);
+        return true;
+      } catch (final Exception channelException) {
+        channelException.addSuppressed(exception);
+        stop(channelException);
+        return false;
+      }
+    }
+    stop(exception);
+    return false;
+  }
+
+  private void stop(final Exception exception) {
+    subscription.cancel();
+    completion.completeExceptionally(exception);
+  }
+}
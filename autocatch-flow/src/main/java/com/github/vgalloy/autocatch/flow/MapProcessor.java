@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.flow;
+
+import com.github.vgalloy.autocatch.function.FunctionWithError;
+import java.util.function.BiConsumer;
+
+/**
+ * Map the elements with a function declaring an exception.
+ *
+ * @param <T> the type of the received elements
+ * @param <R> the type of the mapped elements
+ */
+final class MapProcessor<T, R> extends OperatorProcessor<T, R> {
+
+  private final FunctionWithError<? super T, ? extends R> mapper;
+
+  /**
+   * Constructor.
+   *
+   * @param mapper the function declaring an exception
+   * @param errors the error channel, {@code null} to send the failures to {@code onError}
+   */
+  MapProcessor(
+      final FunctionWithError<? super T, ? extends R> mapper,
+      final BiConsumer<? super T, ? super Exception> errors) {
+    super(errors);
+    this.mapper = mapper;
+  }
+
+  @Override
+  void process(final T item) {
+    final R result;
+    try {
+      result = mapper.apply(item);
+    } catch (final Exception exception) {
+      failed(item, exception);
+      return;
+    }
+    if (result == null) {
+      failed(item, new NullPointerException("The mapper returned null for " + item));
+      return;
+    }
+    emit(result);
+  }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.flow;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+/**
+ * A processor between one publisher and one subscriber. The demand of the subscriber is forwarded
+ * to the publisher, and the elements which are not emitted are requested again so the subscriber
+ * receives what it asked for. A failure of the operator is either sent to {@link
+ * Flow.Subscriber#onError(Throwable)}, cancelling the publisher, or given to the error channel and
+ * the stream goes on.
+ *
+ * @param <T> the type of the received elements
+ * @param <R> the type of the emitted elements
+ */
+abstract class OperatorProcessor<T, R> implements Flow.Processor<T, R>, Flow.Subscription {
+
+  private static final Object COMPLETE = new Object();
+
+  private final BiConsumer<? super T, ? super Exception> errors;
+  private final AtomicReference<Flow.Subscriber<? super R>> downstream = new AtomicReference<>();
+  private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+  private final AtomicLong pendingRequests = new AtomicLong();
+  private final AtomicInteger requesting = new AtomicInteger();
+  /**
+   * Serialize the elements sent by the publisher with an error raised by the subscriber: the last
+   * one leaving delivers the error, and the elements arriving after it are dropped.
+   */
+  private final AtomicInteger signalling = new AtomicInteger();
+
+  private final AtomicBoolean terminated = new AtomicBoolean();
+  private volatile Object terminalSignal;
+  private volatile boolean cancelled;
+  /** Only accessed by the thread owning {@link #requesting}. */
+  private boolean upstreamCancelled;
+  /** Only accessed by the publisher signals, which are serialized. */
+  private boolean done;
+
+  /**
+   * Constructor.
+   *
+   * @param errors the error channel, {@code null} to send the failures to {@code onError}
+   */
+  OperatorProcessor(final BiConsumer<? super T, ? super Exception> errors) {
+    this.errors = errors;
+  }
+
+  /**
+   * Process an element received from the publisher. The implementation calls exactly one of {@link
+   * #emit(Object)}, {@link #skip()} or {@link #failed(Object, Exception)}.
+   *
+   * @param item the element
+   */
+  abstract void process(T item);
+
+  @Override
+  public final void subscribe(final Flow.Subscriber<? super R> subscriber) {
+    Objects.requireNonNull(subscriber);
+    if (!downstream.compareAndSet(null, subscriber)) {
+      subscriber.onSubscribe(CancelledSubscription.INSTANCE);
+      subscriber.onError(new IllegalStateException("Only one subscriber is supported"));
+      return;
+    }
+    subscriber.onSubscribe(this);
+    deliverTerminalSignal();
+  }
+
+  @Override
+  public final void onSubscribe(final Flow.Subscription subscription) {
+    Objects.requireNonNull(subscription);
+    if (!upstream.compareAndSet(null, subscription)) {
+      subscription.cancel();
+      return;
+    }
+    drainRequests();
+  }
+
+  @Override
+  public final void onNext(final T item) {
+    if (done || cancelled || signalling.getAndIncrement() != 0) {
+      return;
+    }
+    process(item);
+    if (signalling.decrementAndGet() != 0) {
+      deliverTerminalSignal();
+    }
+  }
+
+  @Override
+  public final void onError(final Throwable throwable) {
+    Objects.requireNonNull(throwable);
+    if (done) {
+      return;
+    }
+    done = true;
+    terminate(throwable);
+  }
+
+  @Override
+  public final void onComplete() {
+    if (done) {
+      return;
+    }
+    done = true;
+    terminate(COMPLETE);
+  }
+
+  @Override
+  public final void request(final long n) {
+    if (n <= 0) {
+      cancel();
+      terminalSignal = new IllegalArgumentException("The request must be positive : " + n);
+      if (signalling.getAndIncrement() == 0) {
+        deliverTerminalSignal();
+      }
+      return;
+    }
+    pendingRequests.accumulateAndGet(n, OperatorProcessor::addCapped);
+    drainRequests();
+  }
+
+  @Override
+  public final void cancel() {
+    cancelled = true;
+    drainRequests();
+  }
+
+  /**
+   * Send an element to the subscriber.
+   *
+   * @param value the element
+   */
+  final void emit(final R value) {
+    downstream.get().onNext(value);
+  }
+
+  /** Drop the current element, another one is requested in its place. */
+  final void skip() {
+    pendingRequests.accumulateAndGet(1, OperatorProcessor::addCapped);
+    drainRequests();
+  }
+
+  /**
+   * Report the failure of the operator on the current element.
+   *
+   * @param item the element
+   * @param exception the exception thrown by the operator
+   */
+  final void failed(final T item, final Exception exception) {
+    if (errors != null) {
+      try {
+        errors.accept(item, exception);
+        skip();
+        return;
+      } catch (final Exception channelException) {
+        channelException.addSuppressed(exception);
+        fail(channelException);
+        return;
+      }
+    }
+    fail(exception);
+  }
+
+  private void fail(final Exception exception) {
+    done = true;
+    cancel();
+    terminate(exception);
+  }
+
+  private void terminate(final Object signal) {
+    terminalSignal = signal;
+    deliverTerminalSignal();
+  }
+
+  /** The signal is delivered by the last of the terminal signal and the subscription. */
+  private void deliverTerminalSignal() {
+    final Object signal = terminalSignal;
+    final Flow.Subscriber<? super R> subscriber = downstream.get();
+    if (signal == null || subscriber == null || !terminated.compareAndSet(false, true)) {
+      return;
+    }
+    if (signal == COMPLETE) {
+      subscriber.onComplete();
+    } else {
+      subscriber.onError((Throwable) signal);
+    }
+  }
+
+  /**
+   * Forward the pending requests and the cancellation to the publisher. The calls to the upstream
+   * subscription are serialized: the thread entering first drains the work of the others.
+   */
+  private void drainRequests() {
+    if (requesting.getAndIncrement() != 0) {
+      return;
+    }
+    int missed = 1;
+    do {
+      final Flow.Subscription subscription = upstream.get();
+      if (subscription != null && !upstreamCancelled) {
+        if (cancelled) {
+          upstreamCancelled = true;
+          subscription.cancel();
+        } else {
+          final long requests = pendingRequests.getAndSet(0);
+          if (requests != 0) {
+            subscription.request(requests);
+          }
+        }
+      }
+      missed = requesting.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  private static long addCapped(final long current, final long n) {
+    final long sum = current + n;
+    return sum < 0 ? Long.MAX_VALUE : sum;
+  }
+
+  private enum CancelledSubscription implements Flow.Subscription {
+    INSTANCE;
+
+    @Override
+    public void request(final long n) {
+      // Nothing to request
+    }
+
+    @Override
+    public void cancel() {
+      // Nothing to cancel
+    }
+  }
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.flow;
+
+import com.github.vgalloy.autocatch.function.ConsumerWithException;
+import com.github.vgalloy.autocatch.function.FunctionWithError;
+import com.github.vgalloy.autocatch.function.PredicateWithError;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class AutoCatchFlowTest {
+
+  @Test
+  void mapHonoursDemand() {
+    // GIVEN
+    final RangePublisher publisher = new RangePublisher(10);
+    final FunctionWithError<Integer, String> mapper = String::valueOf;
+    final Flow.Processor<Integer, String> processor = AutoCatchFlow.map(mapper);
+    final RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+    publisher.subscribe(processor);
+    processor.subscribe(subscriber);
+
+    // WHEN
+    subscriber.request(3);
+
+    // THEN
+    Assertions.assertEquals(Arrays.asList("1", "2", "3"), subscriber.items);
+    Assertions.assertEquals(3, publisher.requested);
+    Assertions.assertFalse(subscriber.completed);
+  }
+
+  @Test
+  void filterRequestsTheDroppedElementsAgain() {
+    // GIVEN
+    final RangePublisher publisher = new RangePublisher(10);
+    final PredicateWithError<Integer> even = i -> i % 2 == 0;
+    final Flow.Processor<Integer, Integer> processor = AutoCatchFlow.filter(even);
+    final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+    publisher.subscribe(processor);
+    processor.subscribe(subscriber);
+
+    // WHEN
+    subscriber.request(3);
+
+    // THEN
+    Assertions.assertEquals(Arrays.asList(2, 4, 6), subscriber.items);
+    Assertions.assertEquals(6, publisher.requested);
+  }
+
+  @Test
+  void requestBeforeSubscription() {
+    // GIVEN
+    final FunctionWithError<Integer, Integer> mapper = i -> i * 10;
+    final Flow.Processor<Integer, Integer> processor = AutoCatchFlow.map(mapper);
+    final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+    processor.subscribe(subscriber);
+    subscriber.request(Long.MAX_VALUE);
+
+    // WHEN
+    new RangePublisher(3).subscribe(processor);
+
+    // THEN
+    Assertions.assertEquals(Arrays.asList(10, 20, 30), subscriber.items);
+    Assertions.assertTrue(subscriber.completed);
+  }
+
+  @Test
+  void failureSentToOnError() {
+    // GIVEN
+    final RangePublisher publisher = new RangePublisher(10);
+    final IOException ioException = new IOException("FAKE");
+    final FunctionWithError<Integer, Integer> mapper =
+        i -> {
+          if (i == 2) {
+            throw ioException;
+          }
+          return i;
+        };
+    final Flow.Processor<Integer, Integer> processor = AutoCatchFlow.map(mapper);
+    final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+    publisher.subscribe(processor);
+    processor.subscribe(subscriber);
+
+    // WHEN
+    subscriber.request(Long.MAX_VALUE);
+
+    // THEN
+    Assertions.assertEquals(Arrays.asList(1), subscriber.items);
+    Assertions.assertSame(ioException, subscriber.error);
+    Assertions.assertTrue(publisher.cancelled);
+  }
+
+  @Test
+  void failureSentToTheErrorChannel() {
+    // GIVEN
+    final RangePublisher publisher = new RangePublisher(5);
+    final List<Integer> failedItems = new ArrayList<>();
+    final FunctionWithError<Integer, Integer> mapper =
+        i -> {
+          if (i % 2 == 0) {
+            throw new IOException("FAKE " + i);
+          }
+          return i;
+        };
+    final Flow.Processor<Integer, Integer> processor =
+        AutoCatchFlow.map(mapper, (item, exception) -> failedItems.add(item));
+    final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+    publisher.subscribe(processor);
+    processor.subscribe(subscriber);
+
+    // WHEN
+    subscriber.request(3);
+
+    // THEN
+    Assertions.assertEquals(Arrays.asList(1, 3, 5), subscriber.items);
+    Assertions.assertEquals(Arrays.asList(2, 4), failedItems);
+    Assertions.assertTrue(subscriber.completed);
+    Assertions.assertFalse(publisher.cancelled);
+  }
+
+  @Test
+  void invalidRequestSignalledAfterOnNext() {
+    // GIVEN
+    final RangePublisher publisher = new RangePublisher(10);
+    final FunctionWithError<Integer, Integer> mapper = i -> i;
+    final Flow.Processor<Integer, Integer> processor = AutoCatchFlow.map(mapper);
+    final AtomicBoolean inOnNext = new AtomicBoolean();
+    final AtomicBoolean errorDuringOnNext = new AtomicBoolean();
+    final RecordingSubscriber<Integer> subscriber =
+        new RecordingSubscriber<Integer>() {
+          @Override
+          public void onNext(final Integer item) {
+            inOnNext.set(true);
+            super.onNext(item);
+            request(0);
+            inOnNext.set(false);
+          }
+
+          @Override
+          public void onError(final Throwable throwable) {
+            errorDuringOnNext.set(inOnNext.get());
+            super.onError(throwable);
+          }
+        };
+    publisher.subscribe(processor);
+    processor.subscribe(subscriber);
+
+    // WHEN
+    subscriber.request(1);
+
+    // THEN
+    Assertions.assertEquals(Arrays.asList(1), subscriber.items);
+    Assertions.assertEquals(IllegalArgumentException.class, subscriber.error.getClass());
+    Assertions.assertFalse(errorDuringOnNext.get());
+    Assertions.assertTrue(publisher.cancelled);
+  }
+
+  @Test
+  void invalidRequestWithoutElementInFlight() {
+    // GIVEN
+    final RangePublisher publisher = new RangePublisher(10);
+    final FunctionWithError<Integer, Integer> mapper = i -> i;
+    final Flow.Processor<Integer, Integer> processor = AutoCatchFlow.map(mapper);
+    final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+    publisher.subscribe(processor);
+    processor.subscribe(subscriber);
+
+    // WHEN
+    subscriber.request(-1);
+    subscriber.request(1);
+
+    // THEN
+    Assertions.assertTrue(subscriber.items.isEmpty());
+    Assertions.assertEquals(IllegalArgumentException.class, subscriber.error.getClass());
+    Assertions.assertTrue(publisher.cancelled);
+  }
+
+  @Test
+  void singleSubscriber() {
+    // GIVEN
+    final FunctionWithError<Integer, Integer> mapper = i -> i;
+    final Flow.Processor<Integer, Integer> processor = AutoCatchFlow.map(mapper);
+    processor.subscribe(new RecordingSubscriber<>());
+    final RecordingSubscriber<Integer> second = new RecordingSubscriber<>();
+
+    // WHEN
+    processor.subscribe(second);
+
+    // THEN
+    Assertions.assertEquals(IllegalStateException.class, second.error.getClass());
+  }
+
+  @Test
+  void forEach() throws Exception {
+    // GIVEN
+    final RangePublisher publisher = new RangePublisher(1_000);
+    final List<Integer> consumed = new ArrayList<>();
+    final ConsumerWithException<Integer> consumer = consumed::add;
+
+    // WHEN
+    final CompletableFuture<Void> completion = AutoCatchFlow.forEach(publisher, consumer);
+
+    // THEN
+    completion.get();
+    Assertions.assertEquals(1_000, consumed.size());
+    Assertions.assertTrue(publisher.maxOutstanding <= Flow.defaultBufferSize());
+  }
+
+  @Test
+  void forEachFailure() {
+    // GIVEN
+    final RangePublisher publisher = new RangePublisher(10);
+    final IOException ioException = new IOException("FAKE");
+    final ConsumerWithException<Integer> consumer =
+        i -> {
+          throw ioException;
+        };
+
+    // WHEN
+    final CompletableFuture<Void> completion = AutoCatchFlow.forEach(publisher, consumer);
+
+    // THEN
+    final ExecutionException exception =
+        Assertions.assertThrows(ExecutionException.class, completion::get);
+    Assertions.assertSame(ioException, exception.getCause());
+    Assertions.assertTrue(publisher.cancelled);
+  }
+
+  @Test
+  void forEachErrorChannel() {
+    // GIVEN
+    final RangePublisher publisher = new RangePublisher(10);
+    final List<Integer> failedItems = new ArrayList<>();
+    final ConsumerWithException<Integer> consumer =
+        i -> {
+          if (i == 5) {
+            throw new IOException("FAKE");
+          }
+        };
+
+    // WHEN
+    final CompletableFuture<Void> completion =
+        AutoCatchFlow.forEach(publisher, consumer, (item, exception) -> failedItems.add(item));
+
+    // THEN
+    Assertions.assertTrue(completion.isDone());
+    Assertions.assertFalse(completion.isCompletedExceptionally());
+    Assertions.assertEquals(Arrays.asList(5), failedItems);
+  }
+
+  @Test
+  void asynchronousPublisher() throws Exception {
+    // GIVEN
+    final FunctionWithError<Integer, Long> square = i -> (long) i * i;
+    final Flow.Processor<Integer, Long> processor = AutoCatchFlow.map(square);
+    final AtomicLong sum = new AtomicLong();
+    final ConsumerWithException<Long> consumer = sum::addAndGet;
+    final CompletableFuture<Void> completion;
+
+    // WHEN
+    try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>()) {
+      publisher.subscribe(processor);
+      completion = AutoCatchFlow.forEach(processor, consumer);
+      for (int i = 1; i <= 10_000; i++) {
+        publisher.submit(i);
+      }
+    }
+
+    // THEN
+    completion.get(10, TimeUnit.SECONDS);
+    Assertions.assertEquals(333_383_335_000L, sum.get());
+  }
+
+  /** Synchronous publisher of the integers from 1, emitting only what has been requested. */
+  private static final class RangePublisher implements Flow.Publisher<Integer> {
+
+    private final int count;
+    private long requested;
+    private long outstanding;
+    private long maxOutstanding;
+    private boolean cancelled;
+
+    private RangePublisher(final int count) {
+      this.count = count;
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super Integer> subscriber) {
+      subscriber.onSubscribe(
+          new Flow.Subscription() {
+            private int next = 1;
+            private boolean emitting;
+
+            @Override
+            public void request(final long n) {
+              requested += n;
+              outstanding += n;
+              maxOutstanding = Math.max(maxOutstanding, outstanding);
+              if (emitting) {
+                return;
+              }
+              emitting = true;
+              while (0 < outstanding && !cancelled && next <= count) {
+                outstanding--;
+                subscriber.onNext(next++);
+              }
+              emitting = false;
+              if (next == count + 1 && !cancelled) {
+                next++;
+                subscriber.onComplete();
+              }
+            }
+
+            @Override
+            public void cancel() {
+              cancelled = true;
+            }
+          });
+    }
+  }
+
+  private static class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+
+    private final List<T> items = new ArrayList<>();
+    private Flow.Subscription subscription;
+    private Throwable error;
+    private boolean completed;
+
+    void request(final long n) {
+      subscription.request(n);
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(final T item) {
+      items.add(item);
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+      error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+      completed = true;
+    }
+  }
+}
@@ -15,28 +15,125 @@
  */
 package com.github.vgalloy.autocatch;
 
+import com.github.vgalloy.autocatch.cache.CachedSupplier;
+import com.github.vgalloy.autocatch.cache.LazyFailurePolicy;
+import com.github.vgalloy.autocatch.cache.Memoization;
+import com.github.vgalloy.autocatch.cache.MemoizeSpec;
+import com.github.vgalloy.autocatch.cache.MemoizedFunction;
+import com.github.vgalloy.autocatch.concurrent.MultipleFailuresException;
+import com.github.vgalloy.autocatch.concurrent.VirtualThreadExecution;
+import com.github.vgalloy.autocatch.function.BiConsumerWithException;
+import com.github.vgalloy.autocatch.function.BiFunctionWithError;
+import com.github.vgalloy.autocatch.function.BiPredicateWithError;
+import com.github.vgalloy.autocatch.function.BinaryOperatorWithException;
 import com.github.vgalloy.autocatch.function.BooleanSupplierWithException;
 import com.github.vgalloy.autocatch.function.ByteSupplier;
 import com.github.vgalloy.autocatch.function.ByteSupplierWithException;
 import com.github.vgalloy.autocatch.function.CharSupplier;
 import com.github.vgalloy.autocatch.function.CharSupplierWithException;
+import com.github.vgalloy.autocatch.function.ConsumerWithException;
+import com.github.vgalloy.autocatch.function.DoubleBinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.DoubleConsumerWithException;
+import com.github.vgalloy.autocatch.function.DoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.DoublePredicateWithException;
 import com.github.vgalloy.autocatch.function.DoubleSupplierWithException;
+import com.github.vgalloy.autocatch.function.DoubleToIntFunctionWithException;
+import com.github.vgalloy.autocatch.function.DoubleToLongFunctionWithException;
+import com.github.vgalloy.autocatch.function.DoubleUnaryOperatorWithException;
 import com.github.vgalloy.autocatch.function.FunctionWithError;
+import com.github.vgalloy.autocatch.function.IntBinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.IntConsumerWithException;
+import com.github.vgalloy.autocatch.function.IntFunctionWithException;
+import com.github.vgalloy.autocatch.function.IntPredicateWithException;
 import com.github.vgalloy.autocatch.function.IntSupplierWithException;
+import com.github.vgalloy.autocatch.function.IntToDoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.IntToLongFunctionWithException;
+import com.github.vgalloy.autocatch.function.IntUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.LongBinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.LongConsumerWithException;
+import com.github.vgalloy.autocatch.function.LongFunctionWithException;
+import com.github.vgalloy.autocatch.function.LongPredicateWithException;
+import com.github.vgalloy.autocatch.function.LongSupplierWithException;
+import com.github.vgalloy.autocatch.function.LongToDoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.LongToIntFunctionWithException;
+import com.github.vgalloy.autocatch.function.LongUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.ObjDoubleConsumerWithException;
+import com.github.vgalloy.autocatch.function.ObjIntConsumerWithException;
+import com.github.vgalloy.autocatch.function.ObjLongConsumerWithException;
 import com.github.vgalloy.autocatch.function.PredicateWithError;
 import com.github.vgalloy.autocatch.function.RunnableWithException;
+import com.github.vgalloy.autocatch.function.ToDoubleBiFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToDoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToIntBiFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToIntFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToLongBiFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToLongFunctionWithException;
 import com.github.vgalloy.autocatch.handler.AutoCatcher;
+import com.github.vgalloy.autocatch.result.BooleanResult;
+import com.github.vgalloy.autocatch.result.DoubleResult;
+import com.github.vgalloy.autocatch.result.IntResult;
+import com.github.vgalloy.autocatch.result.Result;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
 import java.util.function.BooleanSupplier;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
 import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
 import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleBiFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongBiFunction;
+import java.util.function.ToLongFunction;
 
 public final class AutoCatch {
 
-  private static final AutoCatcher DEFAULT_CATCHER = AutoCatcher.wrapWithUndeclaredHandler();
+  /**
+   * Name of the system property enabling the call site diagnostic of the conversions of this class,
+   * see {@link AutoCatcher#callSiteDiagnostic(AutoCatcher)}.
+   */
+  public static final String CALL_SITE_DIAGNOSTIC_PROPERTY =
+      "com.github.vgalloy.autocatch.callSiteDiagnostic";
+
+  private static final AutoCatcher DEFAULT_CATCHER =
+      Boolean.getBoolean(CALL_SITE_DIAGNOSTIC_PROPERTY)
+          ? AutoCatcher.callSiteDiagnostic(AutoCatcher.wrapWithUndeclaredHandler())
+          : AutoCatcher.wrapWithUndeclaredHandler();
 
   /** Constructor. Private to avoid instantiation */
   private AutoCatch() {
@@ -93,6 +190,16 @@ public final class AutoCatch {
     return DEFAULT_CATCHER.autoCatch(intSupplierWithException);
   }
 
+  /**
+   * Execute the provided callable without declaring the exception.
+   *
+   * @param longSupplierWithException the long supplier
+   * @return the primitive long provided by the supplier
+   */
+  public static long autoCatch(final LongSupplierWithException longSupplierWithException) {
+    return DEFAULT_CATCHER.autoCatch(longSupplierWithException);
+  }
+
   /**
    * Execute the provided callable without declaring the exception.
    *
@@ -208,4 +315,873 @@ public final class AutoCatch {
   public static Runnable unDeclare(final RunnableWithException runnable) {
     return DEFAULT_CATCHER.unDeclare(runnable);
   }
+
+  /**
+   * Convert the provided supplier into another which is not declaring exception.
+   *
+   * @param supplier the supplier declaring an exception
+   * @return a supplier not declaring exception
+   */
+  public static LongSupplier unDeclare(final LongSupplierWithException supplier) {
+    return DEFAULT_CATCHER.unDeclare(supplier);
+  }
+
+  /**
+   * Convert the provided {@link IntFunctionWithException} declaring exception into a simple {@link
+   * IntFunction}.
+   *
+   * @param function the function declaring an exception
+   * @param <R> the result type of the function
+   * @return a function
+   */
+  public static <R> IntFunction<R> unDeclareInt(final IntFunctionWithException<R> function) {
+    return DEFAULT_CATCHER.unDeclareInt(function);
+  }
+
+  /**
+   * Convert the provided {@link IntToDoubleFunctionWithException} declaring exception into a simple
+   * {@link IntToDoubleFunction}.
+   *
+   * @param function the function declaring an exception
+   * @return a function
+   */
+  public static IntToDoubleFunction unDeclareInt(final IntToDoubleFunctionWithException function) {
+    return DEFAULT_CATCHER.unDeclareInt(function);
+  }
+
+  /**
+   * Convert the provided {@link IntToLongFunctionWithException} declaring exception into a simple
+   * {@link IntToLongFunction}.
+   *
+   * @param function the function declaring an exception
+   * @return a function
+   */
+  public static IntToLongFunction unDeclareInt(final IntToLongFunctionWithException function) {
+    return DEFAULT_CATCHER.unDeclareInt(function);
+  }
+
+  /**
+   * Convert the provided {@link IntUnaryOperatorWithException} declaring exception into a simple
+   * {@link IntUnaryOperator}.
+   *
+   * @param operator the operator declaring an exception
+   * @return a operator
+   */
+  public static IntUnaryOperator unDeclareInt(final IntUnaryOperatorWithException operator) {
+    return DEFAULT_CATCHER.unDeclareInt(operator);
+  }
+
+  /**
+   * Convert the provided {@link IntPredicateWithException} declaring exception into a simple {@link
+   * IntPredicate}.
+   *
+   * @param predicate the predicate declaring an exception
+   * @return a predicate
+   */
+  public static IntPredicate unDeclareInt(final IntPredicateWithException predicate) {
+    return DEFAULT_CATCHER.unDeclareInt(predicate);
+  }
+
+  /**
+   * Convert the provided {@link IntConsumerWithException} declaring exception into a simple {@link
+   * IntConsumer}.
+   *
+   * @param consumer the consumer declaring an exception
+   * @return a consumer
+   */
+  public static IntConsumer unDeclareInt(final IntConsumerWithException consumer) {
+    return DEFAULT_CATCHER.unDeclareInt(consumer);
+  }
+
+  /**
+   * Convert the provided {@link LongFunctionWithException} declaring exception into a simple {@link
+   * LongFunction}.
+   *
+   * @param function the function declaring an exception
+   * @param <R> the result type of the function
+   * @return a function
+   */
+  public static <R> LongFunction<R> unDeclareLong(final LongFunctionWithException<R> function) {
+    return DEFAULT_CATCHER.unDeclareLong(function);
+  }
+
+  /**
+   * Convert the provided {@link LongToDoubleFunctionWithException} declaring exception into a
+   * simple {@link LongToDoubleFunction}.
+   *
+   * @param function the function declaring an exception
+   * @return a function
+   */
+  public static LongToDoubleFunction unDeclareLong(
+      final LongToDoubleFunctionWithException function) {
+    return DEFAULT_CATCHER.unDeclareLong(function);
+  }
+
+  /**
+   * Convert the provided {@link LongToIntFunctionWithException} declaring exception into a simple
+   * {@link LongToIntFunction}.
+   *
+   * @param function the function declaring an exception
+   * @return a function
+   */
+  public static LongToIntFunction unDeclareLong(final LongToIntFunctionWithException function) {
+    return DEFAULT_CATCHER.unDeclareLong(function);
+  }
+
+  /**
+   * Convert the provided {@link LongUnaryOperatorWithException} declaring exception into a simple
+   * {@link LongUnaryOperator}.
+   *
+   * @param operator the operator declaring an exception
+   * @return a operator
+   */
+  public static LongUnaryOperator unDeclareLong(final LongUnaryOperatorWithException operator) {
+    return DEFAULT_CATCHER.unDeclareLong(operator);
+  }
+
+  /**
+   * Convert the provided {@link LongPredicateWithException} declaring exception into a simple
+   * {@link LongPredicate}.
+   *
+   * @param predicate the predicate declaring an exception
+   * @return a predicate
+   */
+  public static LongPredicate unDeclareLong(final LongPredicateWithException predicate) {
+    return DEFAULT_CATCHER.unDeclareLong(predicate);
+  }
+
+  /**
+   * Convert the provided {@link LongConsumerWithException} declaring exception into a simple {@link
+   * LongConsumer}.
+   *
+   * @param consumer the consumer declaring an exception
+   * @return a consumer
+   */
+  public static LongConsumer unDeclareLong(final LongConsumerWithException consumer) {
+    return DEFAULT_CATCHER.unDeclareLong(consumer);
+  }
+
+  /**
+   * Convert the provided {@link DoubleFunctionWithException} declaring exception into a simple
+   * {@link DoubleFunction}.
+   *
+   * @param function the function declaring an exception
+   * @param <R> the result type of the function
+   * @return a function
+   */
+  public static <R> DoubleFunction<R> unDeclareDouble(
+      final DoubleFunctionWithException<R> function) {
+    return DEFAULT_CATCHER.unDeclareDouble(function);
+  }
+
+  /**
+   * Convert the provided {@link DoubleToIntFunctionWithException} declaring exception into a simple
+   * {@link DoubleToIntFunction}.
+   *
+   * @param function the function declaring an exception
+   * @return a function
+   */
+  public static DoubleToIntFunction unDeclareDouble(
+      final DoubleToIntFunctionWithException function) {
+    return DEFAULT_CATCHER.unDeclareDouble(function);
+  }
+
+  /**
+   * Convert the provided {@link DoubleToLongFunctionWithException} declaring exception into a
+   * simple {@link DoubleToLongFunction}.
+   *
+   * @param function the function declaring an exception
+   * @return a function
+   */
+  public static DoubleToLongFunction unDeclareDouble(
+      final DoubleToLongFunctionWithException function) {
+    return DEFAULT_CATCHER.unDeclareDouble(function);
+  }
+
+  /**
+   * Convert the provided {@link DoubleUnaryOperatorWithException} declaring exception into a simple
+   * {@link DoubleUnaryOperator}.
+   *
+   * @param operator the operator declaring an exception
+   * @return a operator
+   */
+  public static DoubleUnaryOperator unDeclareDouble(
+      final DoubleUnaryOperatorWithException operator) {
+    return DEFAULT_CATCHER.unDeclareDouble(operator);
+  }
+
+  /**
+   * Convert the provided {@link DoublePredicateWithException} declaring exception into a simple
+   * {@link DoublePredicate}.
+   *
+   * @param predicate the predicate declaring an exception
+   * @return a predicate
+   */
+  public static DoublePredicate unDeclareDouble(final DoublePredicateWithException predicate) {
+    return DEFAULT_CATCHER.unDeclareDouble(predicate);
+  }
+
+  /**
+   * Convert the provided {@link DoubleConsumerWithException} declaring exception into a simple
+   * {@link DoubleConsumer}.
+   *
+   * @param consumer the consumer declaring an exception
+   * @return a consumer
+   */
+  public static DoubleConsumer unDeclareDouble(final DoubleConsumerWithException consumer) {
+    return DEFAULT_CATCHER.unDeclareDouble(consumer);
+  }
+
+  /**
+   * Convert the provided {@link ToIntFunctionWithException} declaring exception into a simple
+   * {@link ToIntFunction}.
+   *
+   * @param function the function declaring an exception
+   * @param <T> the input type of the function
+   * @return a function
+   */
+  public static <T> ToIntFunction<T> unDeclareToInt(final ToIntFunctionWithException<T> function) {
+    return DEFAULT_CATCHER.unDeclareToInt(function);
+  }
+
+  /**
+   * Convert the provided {@link ToLongFunctionWithException} declaring exception into a simple
+   * {@link ToLongFunction}.
+   *
+   * @param function the function declaring an exception
+   * @param <T> the input type of the function
+   * @return a function
+   */
+  public static <T> ToLongFunction<T> unDeclareToLong(
+      final ToLongFunctionWithException<T> function) {
+    return DEFAULT_CATCHER.unDeclareToLong(function);
+  }
+
+  /**
+   * Convert the provided {@link ToDoubleFunctionWithException} declaring exception into a simple
+   * {@link ToDoubleFunction}.
+   *
+   * @param function the function declaring an exception
+   * @param <T> the input type of the function
+   * @return a function
+   */
+  public static <T> ToDoubleFunction<T> unDeclareToDouble(
+      final ToDoubleFunctionWithException<T> function) {
+    return DEFAULT_CATCHER.unDeclareToDouble(function);
+  }
+
+  /**
+   * Convert the provided {@link BiFunctionWithError} declaring exception into a simple {@link
+   * BiFunction}.
+   *
+   * @param function the function declaring an exception
+   * @param <T> the type of the first argument of the function
+   * @param <U> the type of the second argument of the function
+   * @param <R> the result type of the function
+   * @return a function
+   */
+  public static <T, U, R> BiFunction<T, U, R> unDeclare(
+      final BiFunctionWithError<T, U, R> function) {
+    return DEFAULT_CATCHER.unDeclare(function);
+  }
+
+  /**
+   * Convert the provided {@link BinaryOperatorWithException} declaring exception into a simple
+   * {@link BinaryOperator}.
+   *
+   * @param operator the operator declaring an exception
+   * @param <T> the type of the operands and result of the operator
+   * @return a operator
+   */
+  public static <T> BinaryOperator<T> unDeclare(final BinaryOperatorWithException<T> operator) {
+    return DEFAULT_CATCHER.unDeclare(operator);
+  }
+
+  /**
+   * Convert the provided {@link BiPredicateWithError} declaring exception into a simple {@link
+   * BiPredicate}.
+   *
+   * @param predicate the predicate declaring an exception
+   * @param <T> the type of the first argument of the predicate
+   * @param <U> the type of the second argument of the predicate
+   * @return a predicate
+   */
+  public static <T, U> BiPredicate<T, U> unDeclare(final BiPredicateWithError<T, U> predicate) {
+    return DEFAULT_CATCHER.unDeclare(predicate);
+  }
+
+  /**
+   * Convert the provided {@link BiConsumerWithException} declaring exception into a simple {@link
+   * BiConsumer}.
+   *
+   * @param consumer the consumer declaring an exception
+   * @param <T> the type of the first argument of the consumer
+   * @param <U> the type of the second argument of the consumer
+   * @return a consumer
+   */
+  public static <T, U> BiConsumer<T, U> unDeclare(final BiConsumerWithException<T, U> consumer) {
+    return DEFAULT_CATCHER.unDeclare(consumer);
+  }
+
+  /**
+   * Convert the provided {@link IntBinaryOperatorWithException} declaring exception into a simple
+   * {@link IntBinaryOperator}.
+   *
+   * @param operator the operator declaring an exception
+   * @return a operator
+   */
+  public static IntBinaryOperator unDeclareIntBinary(
+      final IntBinaryOperatorWithException operator) {
+    return DEFAULT_CATCHER.unDeclareIntBinary(operator);
+  }
+
+  /**
+   * Convert the provided {@link LongBinaryOperatorWithException} declaring exception into a simple
+   * {@link LongBinaryOperator}.
+   *
+   * @param operator the operator declaring an exception
+   * @return a operator
+   */
+  public static LongBinaryOperator unDeclareLongBinary(
+      final LongBinaryOperatorWithException operator) {
+    return DEFAULT_CATCHER.unDeclareLongBinary(operator);
+  }
+
+  /**
+   * Convert the provided {@link DoubleBinaryOperatorWithException} declaring exception into a
+   * simple {@link DoubleBinaryOperator}.
+   *
+   * @param operator the operator declaring an exception
+   * @return a operator
+   */
+  public static DoubleBinaryOperator unDeclareDoubleBinary(
+      final DoubleBinaryOperatorWithException operator) {
+    return DEFAULT_CATCHER.unDeclareDoubleBinary(operator);
+  }
+
+  /**
+   * Convert the provided {@link ToIntBiFunctionWithException} declaring exception into a simple
+   * {@link ToIntBiFunction}.
+   *
+   * @param function the function declaring an exception
+   * @param <T> the type of the first argument of the function
+   * @param <U> the type of the second argument of the function
+   * @return a function
+   */
+  public static <T, U> ToIntBiFunction<T, U> unDeclareToIntBi(
+      final ToIntBiFunctionWithException<T, U> function) {
+    return DEFAULT_CATCHER.unDeclareToIntBi(function);
+  }
+
+  /**
+   * Convert the provided {@link ToLongBiFunctionWithException} declaring exception into a simple
+   * {@link ToLongBiFunction}.
+   *
+   * @param function the function declaring an exception
+   * @param <T> the type of the first argument of the function
+   * @param <U> the type of the second argument of the function
+   * @return a function
+   */
+  public static <T, U> ToLongBiFunction<T, U> unDeclareToLongBi(
+      final ToLongBiFunctionWithException<T, U> function) {
+    return DEFAULT_CATCHER.unDeclareToLongBi(function);
+  }
+
+  /**
+   * Convert the provided {@link ToDoubleBiFunctionWithException} declaring exception into a simple
+   * {@link ToDoubleBiFunction}.
+   *
+   * @param function the function declaring an exception
+   * @param <T> the type of the first argument of the function
+   * @param <U> the type of the second argument of the function
+   * @return a function
+   */
+  public static <T, U> ToDoubleBiFunction<T, U> unDeclareToDoubleBi(
+      final ToDoubleBiFunctionWithException<T, U> function) {
+    return DEFAULT_CATCHER.unDeclareToDoubleBi(function);
+  }
+
+  /**
+   * Convert the provided {@link ObjIntConsumerWithException} declaring exception into a simple
+   * {@link ObjIntConsumer}.
+   *
+   * @param consumer the consumer declaring an exception
+   * @param <T> the type of the object argument of the consumer
+   * @return a consumer
+   */
+  public static <T> ObjIntConsumer<T> unDeclareObjInt(
+      final ObjIntConsumerWithException<T> consumer) {
+    return DEFAULT_CATCHER.unDeclareObjInt(consumer);
+  }
+
+  /**
+   * Convert the provided {@link ObjLongConsumerWithException} declaring exception into a simple
+   * {@link ObjLongConsumer}.
+   *
+   * @param consumer the consumer declaring an exception
+   * @param <T> the type of the object argument of the consumer
+   * @return a consumer
+   */
+  public static <T> ObjLongConsumer<T> unDeclareObjLong(
+      final ObjLongConsumerWithException<T> consumer) {
+    return DEFAULT_CATCHER.unDeclareObjLong(consumer);
+  }
+
+  /**
+   * Convert the provided {@link ObjDoubleConsumerWithException} declaring exception into a simple
+   * {@link ObjDoubleConsumer}.
+   *
+   * @param consumer the consumer declaring an exception
+   * @param <T> the type of the object argument of the consumer
+   * @return a consumer
+   */
+  public static <T> ObjDoubleConsumer<T> unDeclareObjDouble(
+      final ObjDoubleConsumerWithException<T> consumer) {
+    return DEFAULT_CATCHER.unDeclareObjDouble(consumer);
+  }
+
+  /**
+   * Convert the provided callable into a supplier returning the fallback value instead of throwing
+   * an exception.
+   *
+   * @param callable the callable declaring an exception
+   * @param fallback the value returned when the callable throws an exception
+   * @param <T> the result type of the callable
+   * @return a supplier not throwing exception
+   */
+  public static <T> Supplier<T> unDeclareOrElse(final Callable<T> callable, final T fallback) {
+    return DEFAULT_CATCHER.unDeclareOrElse(callable, fallback);
+  }
+
+  /**
+   * Convert the provided callable into a supplier computing a fallback value from the exception
+   * instead of throwing it.
+   *
+   * @param callable the callable declaring an exception
+   * @param fallback the function computing the returned value from the exception thrown by the
+   *     callable
+   * @param <T> the result type of the callable
+   * @return a supplier not throwing exception
+   */
+  public static <T> Supplier<T> unDeclareOrElseGet(
+      final Callable<T> callable, final Function<? super Exception, ? extends T> fallback) {
+    return DEFAULT_CATCHER.unDeclareOrElseGet(callable, fallback);
+  }
+
+  /**
+   * Convert the provided function into a function returning the fallback value instead of throwing
+   * an exception.
+   *
+   * @param function the function declaring an exception
+   * @param fallback the value returned when the function throws an exception
+   * @param <T> the input type of the function
+   * @param <R> the result type of the function
+   * @return a function not throwing exception
+   */
+  public static <T, R> Function<T, R> unDeclareOrElse(
+      final FunctionWithError<T, R> function, final R fallback) {
+    return DEFAULT_CATCHER.unDeclareOrElse(function, fallback);
+  }
+
+  /**
+   * Convert the provided function into a function computing a fallback value from the exception
+   * instead of throwing it.
+   *
+   * @param function the function declaring an exception
+   * @param fallback the function computing the returned value from the exception thrown by the
+   *     function
+   * @param <T> the input type of the function
+   * @param <R> the result type of the function
+   * @return a function not throwing exception
+   */
+  public static <T, R> Function<T, R> unDeclareOrElseGet(
+      final FunctionWithError<T, R> function,
+      final Function<? super Exception, ? extends R> fallback) {
+    return DEFAULT_CATCHER.unDeclareOrElseGet(function, fallback);
+  }
+
+  /**
+   * Convert the provided supplier into a supplier returning the fallback value instead of throwing
+   * an exception.
+   *
+   * @param supplier the supplier declaring an exception
+   * @param fallback the value returned when the supplier throws an exception
+   * @return a supplier not throwing exception
+   */
+  public static BooleanSupplier unDeclareOrElse(
+      final BooleanSupplierWithException supplier, final boolean fallback) {
+    return DEFAULT_CATCHER.unDeclareOrElse(supplier, fallback);
+  }
+
+  /**
+   * Convert the provided supplier into a supplier computing a fallback value from the exception
+   * instead of throwing it.
+   *
+   * @param supplier the supplier declaring an exception
+   * @param fallback the function computing the returned value from the exception thrown by the
+   *     supplier
+   * @return a supplier not throwing exception
+   */
+  public static BooleanSupplier unDeclareOrElseGet(
+      final BooleanSupplierWithException supplier, final Predicate<? super Exception> fallback) {
+    return DEFAULT_CATCHER.unDeclareOrElseGet(supplier, fallback);
+  }
+
+  /**
+   * Convert the provided supplier into a supplier returning the fallback value instead of throwing
+   * an exception.
+   *
+   * @param supplier the supplier declaring an exception
+   * @param fallback the value returned when the supplier throws an exception
+   * @return a supplier not throwing exception
+   */
+  public static ByteSupplier unDeclareOrElse(
+      final ByteSupplierWithException supplier, final byte fallback) {
+    return DEFAULT_CATCHER.unDeclareOrElse(supplier, fallback);
+  }
+
+  /**
+   * Convert the provided supplier into a supplier returning the fallback value instead of throwing
+   * an exception.
+   *
+   * @param supplier the supplier declaring an exception
+   * @param fallback the value returned when the supplier throws an exception
+   * @return a supplier not throwing exception
+   */
+  public static CharSupplier unDeclareOrElse(
+      final CharSupplierWithException supplier, final char fallback) {
+    return DEFAULT_CATCHER.unDeclareOrElse(supplier, fallback);
+  }
+
+  /**
+   * Convert the provided supplier into a supplier returning the fallback value instead of throwing
+   * an exception.
+   *
+   * @param supplier the supplier declaring an exception
+   * @param fallback the value returned when the supplier throws an exception
+   * @return a supplier not throwing exception
+   */
+  public static DoubleSupplier unDeclareOrElse(
+      final DoubleSupplierWithException supplier, final double fallback) {
+    return DEFAULT_CATCHER.unDeclareOrElse(supplier, fallback);
+  }
+
+  /**
+   * Convert the provided supplier into a supplier computing a fallback value from the exception
+   * instead of throwing it.
+   *
+   * @param supplier the supplier declaring an exception
+   * @param fallback the function computing the returned value from the exception thrown by the
+   *     supplier
+   * @return a supplier not throwing exception
+   */
+  public static DoubleSupplier unDeclareOrElseGet(
+      final DoubleSupplierWithException supplier,
+      final ToDoubleFunction<? super Exception> fallback) {
+    return DEFAULT_CATCHER.unDeclareOrElseGet(supplier, fallback);
+  }
+
+  /**
+   * Convert the provided supplier into a supplier returning the fallback value instead of throwing
+   * an exception.
+   *
+   * @param supplier the supplier declaring an exception
+   * @param fallback the value returned when the supplier throws an exception
+   * @return a supplier not throwing exception
+   */
+  public static IntSupplier unDeclareOrElse(
+      final IntSupplierWithException supplier, final int fallback) {
+    return DEFAULT_CATCHER.unDeclareOrElse(supplier, fallback);
+  }
+
+  /**
+   * Convert the provided supplier into a supplier computing a fallback value from the exception
+   * instead of throwing it.
+   *
+   * @param supplier the supplier declaring an exception
+   * @param fallback the function computing the returned value from the exception thrown by the
+   *     supplier
+   * @return a supplier not throwing exception
+   */
+  public static IntSupplier unDeclareOrElseGet(
+      final IntSupplierWithException supplier, final ToIntFunction<? super Exception> fallback) {
+    return DEFAULT_CATCHER.unDeclareOrElseGet(supplier, fallback);
+  }
+
+  /**
+   * Convert the provided supplier into a supplier returning the fallback value instead of throwing
+   * an exception.
+   *
+   * @param supplier the supplier declaring an exception
+   * @param fallback the value returned when the supplier throws an exception
+   * @return a supplier not throwing exception
+   */
+  public static LongSupplier unDeclareOrElse(
+      final LongSupplierWithException supplier, final long fallback) {
+    return DEFAULT_CATCHER.unDeclareOrElse(supplier, fallback);
+  }
+
+  /**
+   * Convert the provided supplier into a supplier computing a fallback value from the exception
+   * instead of throwing it.
+   *
+   * @param supplier the supplier declaring an exception
+   * @param fallback the function computing the returned value from the exception thrown by the
+   *     supplier
+   * @return a supplier not throwing exception
+   */
+  public static LongSupplier unDeclareOrElseGet(
+      final LongSupplierWithException supplier, final ToLongFunction<? super Exception> fallback) {
+    return DEFAULT_CATCHER.unDeclareOrElseGet(supplier, fallback);
+  }
+
+  /**
+   * Convert the provided callable into a supplier returning the outcome of each invocation as a
+   * result.
+   *
+   * @param callable the callable declaring an exception
+   * @param <T> the result type of the callable
+   * @return a supplier not throwing exception
+   */
+  public static <T> Supplier<Result<T>> toResult(final Callable<T> callable) {
+    return DEFAULT_CATCHER.toResult(callable);
+  }
+
+  /**
+   * Convert the provided function into a function returning the outcome of each invocation as a
+   * result.
+   *
+   * @param function the function declaring an exception
+   * @param <T> the input type of the function
+   * @param <R> the result type of the function
+   * @return a function not throwing exception
+   */
+  public static <T, R> Function<T, Result<R>> toResult(final FunctionWithError<T, R> function) {
+    return DEFAULT_CATCHER.toResult(function);
+  }
+
+  /**
+   * Convert the provided supplier into a supplier returning the outcome of each invocation as a
+   * result.
+   *
+   * @param supplier the supplier declaring an exception
+   * @return a supplier not throwing exception
+   */
+  public static Supplier<BooleanResult> toResult(final BooleanSupplierWithException supplier) {
+    return DEFAULT_CATCHER.toResult(supplier);
+  }
+
+  /**
+   * Convert the provided supplier into a supplier returning the outcome of each invocation as a
+   * result.
+   *
+   * @param supplier the supplier declaring an exception
+   * @return a supplier not throwing exception
+   */
+  public static Supplier<DoubleResult> toResult(final DoubleSupplierWithException supplier) {
+    return DEFAULT_CATCHER.toResult(supplier);
+  }
+
+  /**
+   * Convert the provided supplier into a supplier returning the outcome of each invocation as a
+   * result.
+   *
+   * @param supplier the supplier declaring an exception
+   * @return a supplier not throwing exception
+   */
+  public static Supplier<IntResult> toResult(final IntSupplierWithException supplier) {
+    return DEFAULT_CATCHER.toResult(supplier);
+  }
+
+  /**
+   * Convert the provided {@link FunctionWithError} declaring exception into a simple {@link
+   * Function} remembering its results in a bounded cache. Meant for expensive and pure functions.
+   *
+   * @param function the function declaring an exception
+   * @param spec the description of the cache
+   * @param <T> the input type of the function
+   * @param <R> the result type of the function
+   * @return a memoized function
+   * @see Memoization#memoize(Function, MemoizeSpec)
+   */
+  public static <T, R> MemoizedFunction<T, R> unDeclareMemoized(
+      final FunctionWithError<T, R> function, final MemoizeSpec spec) {
+    return Memoization.memoize(DEFAULT_CATCHER.unDeclare(function), spec);
+  }
+
+  /**
+   * Convert the provided callable into a supplier computing its value once, at the first call,
+   * whatever the number of threads. A failure is propagated and the value is computed again at the
+   * next call.
+   *
+   * @param callable the callable declaring an exception
+   * @param <T> the type of the value
+   * @return a lazy supplier
+   */
+  public static <T> Supplier<T> lazy(final Callable<T> callable) {
+    return lazy(callable, LazyFailurePolicy.RETRY);
+  }
+
+  /**
+   * Convert the provided callable into a supplier computing its value once, at the first call,
+   * whatever the number of threads.
+   *
+   * @param callable the callable declaring an exception
+   * @param failurePolicy what to do when the callable fails
+   * @param <T> the type of the value
+   * @return a lazy supplier
+   * @see Memoization#lazy(Supplier, LazyFailurePolicy)
+   */
+  public static <T> Supplier<T> lazy(
+      final Callable<T> callable, final LazyFailurePolicy failurePolicy) {
+    return Memoization.lazy(DEFAULT_CATCHER.unDeclare(callable), failurePolicy);
+  }
+
+  /**
+   * Convert the provided callable into a supplier keeping its value for a time to live, then
+   * reloading it on daemon threads dedicated to the reloads. The readers never wait for a reload.
+   *
+   * @param callable the callable declaring an exception
+   * @param timeToLive the time to live of a value
+   * @param <T> the type of the value
+   * @return a cached supplier
+   * @see Memoization#cached(Supplier, Duration)
+   */
+  public static <T> CachedSupplier<T> cached(
+      final Callable<T> callable, final Duration timeToLive) {
+    return Memoization.cached(DEFAULT_CATCHER.unDeclare(callable), timeToLive);
+  }
+
+  /**
+   * Convert the provided callable into a supplier keeping its value for a time to live, then
+   * reloading it on the provided executor. The readers never wait for a reload.
+   *
+   * @param callable the callable declaring an exception
+   * @param timeToLive the time to live of a value
+   * @param executor the executor of the reloads
+   * @param <T> the type of the value
+   * @return a cached supplier
+   * @see Memoization#cached(Supplier, Duration, Executor)
+   */
+  public static <T> CachedSupplier<T> cached(
+      final Callable<T> callable, final Duration timeToLive, final Executor executor) {
+    return Memoization.cached(DEFAULT_CATCHER.unDeclare(callable), timeToLive, executor);
+  }
+
+  /**
+   * Execute the callables in parallel on the common {@link ForkJoinPool} and wait for all of them.
+   * Every callable is executed, even if some of them fail. Each failure is converted as {@link
+   * #unDeclare(Callable)} would.
+   *
+   * @param callables the callables
+   * @param <T> the result type of the callables
+   * @return the results, in the order of the callables
+   * @throws MultipleFailuresException carrying every converted failure as a suppressed exception
+   */
+  public static <T> List<T> autoCatchAll(
+      final Collection<? extends Callable<? extends T>> callables) {
+    return DEFAULT_CATCHER.invokeAll(callables);
+  }
+
+  /**
+   * Execute the callables in parallel on the provided pool and wait for all of them. Every callable
+   * is executed, even if some of them fail. Each failure is converted as {@link
+   * #unDeclare(Callable)} would.
+   *
+   * @param callables the callables
+   * @param pool the pool executing the callables
+   * @param <T> the result type of the callables
+   * @return the results, in the order of the callables
+   * @throws MultipleFailuresException carrying every converted failure as a suppressed exception
+   */
+  public static <T> List<T> autoCatchAll(
+      final Collection<? extends Callable<? extends T>> callables, final ForkJoinPool pool) {
+    return DEFAULT_CATCHER.invokeAll(callables, pool);
+  }
+
+  /**
+   * Execute the runnables in parallel on the common {@link ForkJoinPool} and wait for all of them.
+   * Every runnable is executed, even if some of them fail. Each failure is converted as {@link
+   * #unDeclare(RunnableWithException)} would.
+   *
+   * @param runnables the runnables
+   * @throws MultipleFailuresException carrying every converted failure as a suppressed exception
+   */
+  public static void autoCatchAllRunnables(
+      final Collection<? extends RunnableWithException> runnables) {
+    DEFAULT_CATCHER.runAll(runnables);
+  }
+
+  /**
+   * Execute the runnables in parallel on the provided pool and wait for all of them. Every runnable
+   * is executed, even if some of them fail. Each failure is converted as {@link
+   * #unDeclare(RunnableWithException)} would.
+   *
+   * @param runnables the runnables
+   * @param pool the pool executing the runnables
+   * @throws MultipleFailuresException carrying every converted failure as a suppressed exception
+   */
+  public static void autoCatchAllRunnables(
+      final Collection<? extends RunnableWithException> runnables, final ForkJoinPool pool) {
+    DEFAULT_CATCHER.runAll(runnables, pool);
+  }
+
+  /**
+   * Apply the consumer to every element in parallel on the common {@link ForkJoinPool}. The first
+   * failure cancels the remaining elements and is propagated.
+   *
+   * @param elements the elements
+   * @param consumer the consumer declaring an exception
+   * @param <T> the type of the elements
+   */
+  public static <T> void forEachFailFast(
+      final Collection<T> elements, final ConsumerWithException<T> consumer) {
+    DEFAULT_CATCHER.forEachFailFast(elements, consumer);
+  }
+
+  /**
+   * Apply the consumer to every element in parallel on the provided pool. The first failure cancels
+   * the remaining elements and is propagated.
+   *
+   * @param elements the elements
+   * @param consumer the consumer declaring an exception
+   * @param pool the pool applying the consumer
+   * @param <T> the type of the elements
+   */
+  public static <T> void forEachFailFast(
+      final Collection<T> elements,
+      final ConsumerWithException<T> consumer,
+      final ForkJoinPool pool) {
+    DEFAULT_CATCHER.forEachFailFast(elements, consumer, pool);
+  }
+
+  /**
+   * Execute the callables on virtual threads, one thread by callable, and wait for all of them.
+   * Every callable is executed, even if some of them fail. Without virtual threads, before Java 21,
+   * the tasks share a bounded pool of platform threads, see {@link
+   * VirtualThreadExecution#isAvailable()}.
+   *
+   * @param callables the callables
+   * @param <T> the result type of the callables
+   * @return the results, in the order of the callables
+   * @throws MultipleFailuresException carrying every converted failure as a suppressed exception
+   */
+  public static <T> List<T> autoCatchAllOnVirtualThreads(
+      final Collection<? extends Callable<? extends T>> callables) {
+    return DEFAULT_CATCHER.invokeAllOnVirtualThreads(callables);
+  }
+
+  /**
+   * Execute the runnables on virtual threads, one thread by runnable, and wait for all of them.
+   * Every runnable is executed, even if some of them fail. Without virtual threads, before Java 21,
+   * the tasks share a bounded pool of platform threads, see {@link
+   * VirtualThreadExecution#isAvailable()}.
+   *
+   * @param runnables the runnables
+   * @throws MultipleFailuresException carrying every converted failure as a suppressed exception
+   */
+  public static void autoCatchAllRunnablesOnVirtualThreads(
+      final Collection<? extends RunnableWithException> runnables) {
+    DEFAULT_CATCHER.runAllOnVirtualThreads(runnables);
+  }
 }
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.cache;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Memoized function backed by a bounded cache. A hit is a lock free read of a concurrent map: the
+ * only write is the reference bit of the entry, set once by turn of the hand. The misses are
+ * admitted under a lock, without holding it while the function is invoked, so the function may be
+ * invoked more than once for the same key by concurrent misses.
+ *
+ * <p>The eviction is a CLOCK, an approximation of LRU: the hand goes around the ring of entries,
+ * clearing the reference bits, and stops on the first entry not referenced since its previous turn.
+ * This victim is only replaced if the new key was requested more often, as estimated by a frequency
+ * sketch (the TinyLFU admission), so a scan of keys requested once does not flush the popular
+ * entries. The sketch records every miss but only a sample of the hits: the first one after the
+ * reference bit was cleared.
+ *
+ * <p>The ring and the sketch start small and grow with the number of entries, up to the maximum
+ * size: a large bound costs nothing until it is reached.
+ *
+ * @param <T> the input type of the function
+ * @param <R> the result type of the function
+ */
+final class BoundedMemoizedFunction<T, R> implements MemoizedFunction<T, R> {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final Function<T, R> function;
+  private final int maximumSize;
+  private final long timeToLiveNanos;
+  private final boolean failureCaching;
+  private final ConcurrentMap<T, Node<T, R>> entries;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final ReentrantLock lock = new ReentrantLock();
+  private Node<T, R>[] ring;
+  private final FrequencySketch sketch;
+  private int ringSize;
+  private int hand;
+
+  /**
+   * Constructor.
+   *
+   * @param function the memoized function
+   * @param spec the description of the cache
+   */
+  BoundedMemoizedFunction(final Function<T, R> function, final MemoizeSpec spec) {
+    this.function = function;
+    this.maximumSize = spec.getMaximumSize();
+    this.timeToLiveNanos =
+        spec.getExpireAfterWrite() == null ? 0 : spec.getExpireAfterWrite().toNanos();
+    this.failureCaching = spec.isFailureCaching();
+    this.entries = new ConcurrentHashMap<>(Math.min(maximumSize, 1 << 16));
+    this.ring = newRing(Math.min(maximumSize, INITIAL_CAPACITY));
+    this.sketch = new FrequencySketch(ring.length);
+  }
+
+  @Override
+  public R apply(final T input) {
+    if (input == null) {
+      misses.increment();
+      return function.apply(null);
+    }
+    final Node<T, R> node = entries.get(input);
+    if (node != null && !isExpired(node, timeToLiveNanos == 0 ? 0 : System.nanoTime())) {
+      if (!node.referenced) {
+        node.referenced = true;
+        recordHit(input);
+      }
+      hits.increment();
+      return node.get();
+    }
+    misses.increment();
+    final R result;
+    try {
+      result = function.apply(input);
+    } catch (final RuntimeException e) {
+      if (failureCaching) {
+        admit(new Node<>(input, null, e, expiresAt()));
+      }
+      throw e;
+    }
+    admit(new Node<>(input, result, null, expiresAt()));
+    return result;
+  }
+
+  @Override
+  public CacheStats getStats() {
+    return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+  }
+
+  @Override
+  public int size() {
+    return entries.size();
+  }
+
+  @Override
+  public void invalidateAll() {
+    lock.lock();
+    try {
+      entries.clear();
+      Arrays.fill(ring, null);
+      ringSize = 0;
+      hand = 0;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Record a hit in the frequency sketch. Only the first hit since the hand cleared the reference
+   * bit is recorded, and only if the lock is free: the hit path never waits.
+   *
+   * @param input the key
+   */
+  private void recordHit(final T input) {
+    if (lock.tryLock()) {
+      try {
+        sketch.increment(input.hashCode());
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  private long expiresAt() {
+    return timeToLiveNanos == 0 ? 0 : System.nanoTime() + timeToLiveNanos;
+  }
+
+  private boolean isExpired(final Node<T, R> node, final long now) {
+    return timeToLiveNanos != 0 && now - node.expiresAt >= 0;
+  }
+
+  private void admit(final Node<T, R> node) {
+    final int hashCode = node.key.hashCode();
+    lock.lock();
+    try {
+      sketch.increment(hashCode);
+      final Node<T, R> previous = entries.get(node.key);
+      if (previous != null) {
+        node.index = previous.index;
+      } else if (ringSize < maximumSize) {
+        if (ringSize == ring.length) {
+          grow();
+        }
+        node.index = ringSize++;
+      } else {
+        final long now = timeToLiveNanos == 0 ? 0 : System.nanoTime();
+        final Node<T, R> victim = victim(now);
+        final boolean expired = isExpired(victim, now);
+        if (!expired && sketch.frequency(hashCode) <= sketch.frequency(victim.key.hashCode())) {
+          return;
+        }
+        entries.remove(victim.key);
+        if (!expired) {
+          evictions.increment();
+        }
+        node.index = hand;
+        hand = (hand + 1) % maximumSize;
+      }
+      ring[node.index] = node;
+      entries.put(node.key, node);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Double the capacity of the ring, without exceeding the maximum size. */
+  private void grow() {
+    final int capacity = (int) Math.min(maximumSize, 2L * ring.length);
+    ring = Arrays.copyOf(ring, capacity);
+    sketch.ensureCapacity(capacity);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <K, V> Node<K, V>[] newRing(final int capacity) {
+    return (Node<K, V>[]) new Node<?, ?>[capacity];
+  }
+
+  /**
+   * Move the hand to the next expired entry or entry not referenced since the previous turn. Ends
+   * after at most one turn and a half, every reference bit being cleared during the first turn.
+   *
+   * @param now the current time, 0 without time to live
+   * @return the victim, under the hand
+   */
+  private Node<T, R> victim(final long now) {
+    while (true) {
+      final Node<T, R> node = ring[hand];
+      if (!node.referenced || isExpired(node, now)) {
+        return node;
+      }
+      node.referenced = false;
+      hand = (hand + 1) % maximumSize;
+    }
+  }
+
+  /**
+   * A cached outcome.
+   *
+   * @param <K> the type of the key
+   * @param <V> the type of the value
+   */
+  private static final class Node<K, V> {
+
+    private final K key;
+    private final V value;
+    private final RuntimeException failure;
+    private final long expiresAt;
+    private volatile boolean referenced;
+    /** Position in the ring, guarded by the lock. */
+    private int index;
+
+    private Node(final K key, final V value, final RuntimeException failure, final long expiresAt) {
+      this.key = key;
+      this.value = value;
+      this.failure = failure;
+      this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Get the cached value, or throw the cached failure. The failure is the shared instance thrown
+     * by the first invocation, see {@link MemoizeSpec#withFailureCaching()}.
+     *
+     * @return the cached value
+     */
+    private V get() {
+      if (failure != null) {
+        throw failure;
+      }
+      return value;
+    }
+  }
+}
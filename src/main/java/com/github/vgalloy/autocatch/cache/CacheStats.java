@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.cache;
+
+/** Immutable snapshot of the statistics of a cache. */
+public final class CacheStats {
+
+  private final long hits;
+  private final long misses;
+  private final long evictions;
+
+  /**
+   * Constructor.
+   *
+   * @param hits the number of invocations answered by the cache
+   * @param misses the number of invocations of the function
+   * @param evictions the number of entries evicted to respect the maximum size
+   */
+  CacheStats(final long hits, final long misses, final long evictions) {
+    this.hits = hits;
+    this.misses = misses;
+    this.evictions = evictions;
+  }
+
+  /**
+   * The number of invocations answered by the cache, cached failures included.
+   *
+   * @return the number of hits
+   */
+  public long getHits() {
+    return hits;
+  }
+
+  /**
+   * The number of invocations of the function, because the entry was absent or expired.
+   *
+   * @return the number of misses
+   */
+  public long getMisses() {
+    return misses;
+  }
+
+  /**
+   * The number of entries evicted to respect the maximum size.
+   *
+   * @return the number of evictions
+   */
+  public long getEvictions() {
+    return evictions;
+  }
+
+  /**
+   * The ratio of the invocations answered by the cache.
+   *
+   * @return the hit rate, 1 without invocation
+   */
+  public double getHitRate() {
+    final long requests = hits + misses;
+    return requests == 0 ? 1.0 : (double) hits / requests;
+  }
+
+  @Override
+  public String toString() {
+    return "CacheStats{" + "hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + '}';
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.cache;
+
+import java.util.function.Supplier;
+
+/**
+ * A {@link Supplier} keeping its value for a time to live, then reloading it in the background.
+ *
+ * @param <T> the type of the value
+ * @see Memoization#cached(Supplier, java.time.Duration, java.util.concurrent.Executor)
+ */
+public interface CachedSupplier<T> extends Supplier<T> {
+
+  /**
+   * The failure of the last reload, while the previous value is still served. Any failure is
+   * recorded, even an {@link Error}, which is also propagated to the thread of the reload.
+   *
+   * @return the failure, {@code null} if the last reload succeeded
+   */
+  Throwable getRefreshFailure();
+}
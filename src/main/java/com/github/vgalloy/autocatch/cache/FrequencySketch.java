@@ -0,0 +1,152 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.cache;
+
+/**
+ * Count-min sketch estimating how often a key was requested, with 4 rows of 4 bits counters packed
+ * two per byte. The counters are halved once the number of increments reaches 10 times the width,
+ * so the old popularity fades. Not thread safe: guarded by the lock of its cache.
+ */
+final class FrequencySketch {
+
+  private static final int[] SEEDS = {0x97cb3127, 0x9e3779b9, 0xc2b2ae35, 0x85ebca6b};
+  private static final int MAX_COUNT = 15;
+
+  /** The largest width, so the 4 rows of counters still fit in an array. */
+  static final int MAXIMUM_WIDTH = 1 << 28;
+
+  private byte[] counters;
+  private int mask;
+  private int sampleSize;
+  private int additions;
+
+  /**
+   * Constructor.
+   *
+   * @param capacity the current capacity of the cache
+   */
+  FrequencySketch(final int capacity) {
+    resize(width(capacity));
+  }
+
+  /**
+   * Widen the sketch for the new capacity of the cache. The counters are forgotten, as after a
+   * reset: the popularity is learned again.
+   *
+   * @param capacity the new capacity of the cache
+   */
+  void ensureCapacity(final int capacity) {
+    final int width = width(capacity);
+    if (width > mask + 1) {
+      resize(width);
+    }
+  }
+
+  /**
+   * Record a request of the key.
+   *
+   * @param hashCode the hash code of the key
+   */
+  void increment(final int hashCode) {
+    final int hash = spread(hashCode);
+    boolean added = false;
+    for (int row = 0; row < SEEDS.length; row++) {
+      final int index = index(hash, row);
+      if (count(index) < MAX_COUNT) {
+        counters[index >>> 1] += 1 << shift(index);
+        added = true;
+      }
+    }
+    if (added && ++additions == sampleSize) {
+      reset();
+    }
+  }
+
+  /**
+   * Estimate the number of requests of the key.
+   *
+   * @param hashCode the hash code of the key
+   * @return the estimated frequency, between 0 and 15
+   */
+  int frequency(final int hashCode) {
+    final int hash = spread(hashCode);
+    int frequency = MAX_COUNT;
+    for (int row = 0; row < SEEDS.length; row++) {
+      frequency = Math.min(frequency, count(index(hash, row)));
+    }
+    return frequency;
+  }
+
+  private int count(final int index) {
+    return (counters[index >>> 1] >>> shift(index)) & MAX_COUNT;
+  }
+
+  private static int shift(final int index) {
+    return (index & 1) << 2;
+  }
+
+  private void reset() {
+    for (int i = 0; i < counters.length; i++) {
+      // Halve both counters of the byte, without the low bit of the high one leaking into the other
+      counters[i] = (byte) (((counters[i] & 0xFF) >>> 1) & 0x77);
+    }
+    additions >>>= 1;
+  }
+
+  private void resize(final int width) {
+    this.counters = new byte[SEEDS.length * width / 2];
+    this.mask = width - 1;
+    this.sampleSize = sampleSize(width);
+    this.additions = 0;
+  }
+
+  /**
+   * The number of increments before the counters are halved: 10 times the width, capped so that it
+   * does not overflow for the widest sketches.
+   *
+   * @param width the width of a row
+   * @return the sample size
+   */
+  static int sampleSize(final int width) {
+    return (int) Math.min(10L * width, Integer.MAX_VALUE);
+  }
+
+  /**
+   * The power of two at least twice the capacity, between 16 and {@link #MAXIMUM_WIDTH}.
+   *
+   * @param capacity the capacity of the cache
+   * @return the width of a row
+   */
+  private static int width(final int capacity) {
+    if (capacity >= MAXIMUM_WIDTH >>> 1) {
+      return MAXIMUM_WIDTH;
+    }
+    return Integer.highestOneBit(Math.max(16, capacity - 1) << 1);
+  }
+
+  private int index(final int hash, final int row) {
+    int h = hash * SEEDS[row];
+    h ^= h >>> 15;
+    return (row * (mask + 1)) + (h & mask);
+  }
+
+  private static int spread(final int hashCode) {
+    int h = hashCode;
+    h ^= h >>> 16;
+    h *= 0x45d9f3b;
+    return h ^ (h >>> 16);
+  }
+}
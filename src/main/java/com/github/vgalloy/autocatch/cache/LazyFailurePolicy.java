@@ -1,5 +1,5 @@
 /*
- * Copyright 2019 Vincent Galloy
+ * Copyright 2018 Vincent Galloy
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -13,23 +13,21 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package com.github.vgalloy.autocatch.handler;
+package com.github.vgalloy.autocatch.cache;
 
-import com.github.vgalloy.autocatch.function.ByteSupplierWithException;
+/**
+ * What a lazy supplier does when the computation of its value fails.
+ *
+ * @see Memoization#lazy(java.util.function.Supplier, LazyFailurePolicy)
+ */
+public enum LazyFailurePolicy {
 
-@FunctionalInterface
-interface ByteSupplierWithExceptionHandler<E extends Exception> {
+  /** Propagate the exception and compute again at the next call. */
+  RETRY,
 
   /**
-   * Gets a result.
-   *
-   * @return a result
+   * Propagate the failure and throw it again at every next call, without computing again. Any
+   * failure is cached, even an {@link Error} such as an {@link ExceptionInInitializerError}.
    */
-  byte getAsByte() throws E;
-
-  @SuppressWarnings("unchecked")
-  static ByteSupplierWithExceptionHandler<RuntimeException> handle(
-      final ByteSupplierWithException supplier) {
-    return (ByteSupplierWithExceptionHandler) supplier::getAsByteWithException;
-  }
+  CACHE
 }
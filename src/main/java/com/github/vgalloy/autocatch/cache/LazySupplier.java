@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.cache;
+
+import java.util.function.Supplier;
+
+/**
+ * Supplier computing its value once, with a double checked lock. Once the value is known, the
+ * computation is released and a call is a single volatile read.
+ *
+ * @param <T> the type of the value
+ */
+final class LazySupplier<T> implements Supplier<T> {
+
+  private final LazyFailurePolicy failurePolicy;
+  /** The computation, {@code null} once done. Its write publishes the value and the failure. */
+  private volatile Supplier<T> computation;
+
+  private T value;
+  private Throwable failure;
+
+  /**
+   * Constructor.
+   *
+   * @param computation the computation of the value
+   * @param failurePolicy what to do when the computation fails
+   */
+  LazySupplier(final Supplier<T> computation, final LazyFailurePolicy failurePolicy) {
+    this.computation = computation;
+    this.failurePolicy = failurePolicy;
+  }
+
+  @Override
+  public T get() {
+    if (computation != null) {
+      compute();
+    }
+    if (failure != null) {
+      throw LazySupplier.<RuntimeException>rethrow(failure);
+    }
+    return value;
+  }
+
+  private synchronized void compute() {
+    final Supplier<T> pending = computation;
+    if (pending == null) {
+      return;
+    }
+    try {
+      value = pending.get();
+    } catch (final Throwable e) {
+      if (failurePolicy == LazyFailurePolicy.RETRY) {
+        throw e;
+      }
+      failure = e;
+    }
+    computation = null;
+  }
+
+  /**
+   * Throw the provided failure, even an error or a checked exception thrown by the exception
+   * forwarder, without wrapping it.
+   *
+   * @param throwable the failure
+   * @param <E> the type seen by the compiler
+   * @return never returns
+   * @throws E always
+   */
+  @SuppressWarnings("unchecked")
+  private static <E extends Throwable> E rethrow(final Throwable throwable) throws E {
+    throw (E) throwable;
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.cache;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/** Remember the results of the functions and suppliers which are expensive to invoke. */
+public final class Memoization {
+
+  /** Constructor. Private to avoid instantiation */
+  private Memoization() {
+    throw new AssertionError("No instance of com.github.vgalloy.autocatch.cache.Memoization");
+  }
+
+  /**
+   * Remember the results of the provided function in a bounded cache. The function is expected to
+   * be pure: concurrent misses on the same key may invoke it more than once. A {@code null} input
+   * is never cached. A cached failure is the same exception instance thrown again.
+   *
+   * @param function the function
+   * @param spec the description of the cache
+   * @param <T> the input type of the function
+   * @param <R> the result type of the function
+   * @return the memoized function
+   */
+  public static <T, R> MemoizedFunction<T, R> memoize(
+      final Function<T, R> function, final MemoizeSpec spec) {
+    return new BoundedMemoizedFunction<>(function, spec);
+  }
+
+  /**
+   * Compute the value of the provided supplier once, at the first call, whatever the number of
+   * threads. The next calls return the same value without synchronization.
+   *
+   * @param supplier the supplier
+   * @param failurePolicy what to do when the supplier fails
+   * @param <T> the type of the value
+   * @return the lazy supplier
+   */
+  public static <T> Supplier<T> lazy(
+      final Supplier<T> supplier, final LazyFailurePolicy failurePolicy) {
+    return new LazySupplier<>(supplier, failurePolicy);
+  }
+
+  /**
+   * Keep the value of the provided supplier for a time to live, then reload it on daemon threads
+   * dedicated to the reloads, see {@link #cached(Supplier, Duration, Executor)}. The loader may
+   * block, on I/O for instance, without starving the common {@link
+   * java.util.concurrent.ForkJoinPool}.
+   *
+   * @param supplier the supplier
+   * @param timeToLive the time to live of a value
+   * @param <T> the type of the value
+   * @return the cached supplier
+   */
+  public static <T> CachedSupplier<T> cached(
+      final Supplier<T> supplier, final Duration timeToLive) {
+    return cached(supplier, timeToLive, RefreshingSupplier.DefaultExecutor.INSTANCE);
+  }
+
+  /**
+   * Keep the value of the provided supplier for a time to live, then reload it on the executor. The
+   * reload starts before the value expires, and the current value is served until the reload
+   * succeeds: only the first call waits for the supplier. A failed reload keeps the current value,
+   * see {@link CachedSupplier#getRefreshFailure()}.
+   *
+   * @param supplier the supplier
+   * @param timeToLive the time to live of a value
+   * @param executor the executor of the reloads
+   * @param <T> the type of the value
+   * @return the cached supplier
+   */
+  public static <T> CachedSupplier<T> cached(
+      final Supplier<T> supplier, final Duration timeToLive, final Executor executor) {
+    return new RefreshingSupplier<>(supplier, timeToLive.toNanos(), executor);
+  }
+}
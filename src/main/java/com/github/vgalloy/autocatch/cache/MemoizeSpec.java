@@ -0,0 +1,108 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.cache;
+
+import java.time.Duration;
+
+/**
+ * Immutable description of the cache of a memoized function. By default the entries do not expire
+ * and the failures are not cached.
+ *
+ * <pre>{@code
+ * MemoizeSpec.maximumSize(10_000).withExpireAfterWrite(Duration.ofMinutes(5)).withFailureCaching();
+ * }</pre>
+ *
+ * @see Memoization#memoize(java.util.function.Function, MemoizeSpec)
+ */
+public final class MemoizeSpec {
+
+  private final int maximumSize;
+  private final Duration expireAfterWrite;
+  private final boolean failureCaching;
+
+  private MemoizeSpec(
+      final int maximumSize, final Duration expireAfterWrite, final boolean failureCaching) {
+    this.maximumSize = maximumSize;
+    this.expireAfterWrite = expireAfterWrite;
+    this.failureCaching = failureCaching;
+  }
+
+  /**
+   * Create a spec keeping at most the provided number of entries.
+   *
+   * @param maximumSize the maximum number of entries
+   * @return the spec
+   */
+  public static MemoizeSpec maximumSize(final int maximumSize) {
+    if (maximumSize < 1) {
+      throw new IllegalArgumentException("The maximum size must be positive : " + maximumSize);
+    }
+    return new MemoizeSpec(maximumSize, null, false);
+  }
+
+  /**
+   * Invoke the function again once an entry is older than the provided duration.
+   *
+   * @param expireAfterWrite the time to live of an entry
+   * @return a new spec
+   */
+  public MemoizeSpec withExpireAfterWrite(final Duration expireAfterWrite) {
+    if (expireAfterWrite.isNegative() || expireAfterWrite.isZero()) {
+      throw new IllegalArgumentException("The time to live must be positive : " + expireAfterWrite);
+    }
+    return new MemoizeSpec(maximumSize, expireAfterWrite, failureCaching);
+  }
+
+  /**
+   * Cache the failures too: the exception is thrown again without invoking the function, until the
+   * entry is evicted or expires. As for {@link LazyFailurePolicy#CACHE}, a cached failure is the
+   * same exception instance thrown again, to every caller and thread: its stack trace is the one of
+   * the first invocation, and a caller must not modify it, for instance by adding suppressed
+   * exceptions.
+   *
+   * @return a new spec
+   */
+  public MemoizeSpec withFailureCaching() {
+    return new MemoizeSpec(maximumSize, expireAfterWrite, true);
+  }
+
+  /**
+   * The maximum number of entries.
+   *
+   * @return the maximum number of entries
+   */
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  /**
+   * The time to live of an entry.
+   *
+   * @return the time to live, {@code null} if the entries do not expire
+   */
+  public Duration getExpireAfterWrite() {
+    return expireAfterWrite;
+  }
+
+  /**
+   * Check if the failures are cached.
+   *
+   * @return {@code true} if the failures are cached
+   */
+  public boolean isFailureCaching() {
+    return failureCaching;
+  }
+}
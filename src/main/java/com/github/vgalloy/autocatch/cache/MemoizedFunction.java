@@ -0,0 +1,45 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.cache;
+
+import java.util.function.Function;
+
+/**
+ * A {@link Function} remembering its results.
+ *
+ * @param <T> the input type of the function
+ * @param <R> the result type of the function
+ * @see Memoization#memoize(Function, MemoizeSpec)
+ */
+public interface MemoizedFunction<T, R> extends Function<T, R> {
+
+  /**
+   * The statistics of the cache since its creation.
+   *
+   * @return the statistics
+   */
+  CacheStats getStats();
+
+  /**
+   * The number of entries currently cached.
+   *
+   * @return the number of entries
+   */
+  int size();
+
+  /** Forget every cached entry. The statistics are kept. */
+  void invalidateAll();
+}
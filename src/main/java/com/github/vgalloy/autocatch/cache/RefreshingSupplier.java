@@ -0,0 +1,176 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.cache;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Supplier reloading its value in the background. The reload starts once three quarters of the time
+ * to live are elapsed (refresh ahead), so a value used regularly never expires. Meanwhile, and even
+ * past the time to live, the readers keep getting the current value (stale while revalidate): only
+ * the first load blocks. A failed reload keeps the current value and is tried again after a quarter
+ * of the time to live. Whatever the failure, even an {@link Error}, it is recorded and the next
+ * reload is allowed.
+ *
+ * @param <T> the type of the value
+ */
+final class RefreshingSupplier<T> implements CachedSupplier<T> {
+
+  private final Supplier<T> loader;
+  private final long refreshAheadNanos;
+  private final long retryNanos;
+  private final Executor executor;
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+  private volatile Entry<T> entry;
+  private volatile Throwable refreshFailure;
+
+  /**
+   * Constructor.
+   *
+   * @param loader the loader of the value
+   * @param timeToLiveNanos the time to live of a value
+   * @param executor the executor of the reloads
+   */
+  RefreshingSupplier(
+      final Supplier<T> loader, final long timeToLiveNanos, final Executor executor) {
+    if (timeToLiveNanos <= 0) {
+      throw new IllegalArgumentException("The time to live must be positive : " + timeToLiveNanos);
+    }
+    this.loader = loader;
+    this.retryNanos = Math.max(1, timeToLiveNanos / 4);
+    this.refreshAheadNanos = timeToLiveNanos - retryNanos;
+    this.executor = executor;
+  }
+
+  @Override
+  public T get() {
+    final Entry<T> current = entry;
+    if (current == null) {
+      return load();
+    }
+    if (System.nanoTime() - current.refreshAt >= 0 && refreshing.compareAndSet(false, true)) {
+      refresh(current);
+    }
+    return current.value;
+  }
+
+  @Override
+  public Throwable getRefreshFailure() {
+    return refreshFailure;
+  }
+
+  private synchronized T load() {
+    final Entry<T> current = entry;
+    if (current != null) {
+      return current.value;
+    }
+    final T value = loader.get();
+    entry = new Entry<>(value, System.nanoTime() + refreshAheadNanos);
+    return value;
+  }
+
+  private void refresh(final Entry<T> current) {
+    boolean submitted = false;
+    try {
+      executor.execute(() -> reload(current));
+      submitted = true;
+    } catch (final Throwable e) {
+      refreshFailure = e;
+      throwIfError(e);
+    } finally {
+      if (!submitted) {
+        retryLater(current);
+      }
+    }
+  }
+
+  private void reload(final Entry<T> current) {
+    try {
+      final T value = loader.get();
+      entry = new Entry<>(value, System.nanoTime() + refreshAheadNanos);
+      refreshFailure = null;
+    } catch (final Throwable e) {
+      refreshFailure = e;
+      throwIfError(e);
+    } finally {
+      if (entry == current) {
+        retryLater(current);
+      } else {
+        refreshing.set(false);
+      }
+    }
+  }
+
+  private void retryLater(final Entry<T> current) {
+    entry = new Entry<>(current.value, System.nanoTime() + retryNanos);
+    refreshing.set(false);
+  }
+
+  private static void throwIfError(final Throwable throwable) {
+    if (throwable instanceof Error) {
+      throw (Error) throwable;
+    }
+  }
+
+  /**
+   * The default executor of the reloads: daemon threads dedicated to them, so a slow loader neither
+   * blocks the common pool nor the shutdown of the JVM. A supplier reloads at most once at a time,
+   * so there are at most as many threads as cached suppliers, and the idle ones stop after a
+   * minute.
+   */
+  static final class DefaultExecutor {
+
+    /** The executor, created at the first use. */
+    static final Executor INSTANCE = Executors.newCachedThreadPool(threadFactory());
+
+    /** Constructor. Private to avoid instantiation */
+    private DefaultExecutor() {
+      throw new AssertionError(
+          "No instance of com.github.vgalloy.autocatch.cache.RefreshingSupplier.DefaultExecutor");
+    }
+
+    private static ThreadFactory threadFactory() {
+      final AtomicInteger threadNumber = new AtomicInteger();
+      return runnable -> {
+        final Thread thread =
+            new Thread(runnable, "autocatch-refresh-" + threadNumber.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      };
+    }
+  }
+
+  /**
+   * A loaded value.
+   *
+   * @param <T> the type of the value
+   */
+  private static final class Entry<T> {
+
+    private final T value;
+    private final long refreshAt;
+
+    private Entry(final T value, final long refreshAt) {
+      this.value = value;
+      this.refreshAt = refreshAt;
+    }
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.concurrent;
+
+import com.github.vgalloy.autocatch.function.ConsumerWithException;
+import com.github.vgalloy.autocatch.function.FunctionWithError;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Adapt functions declaring an exception to {@link CompletableFuture}. A failure completes the
+ * future exceptionally with the original exception: it is neither wrapped in an {@link
+ * java.lang.reflect.UndeclaredThrowableException} nor in a {@link CompletionException}, so {@code
+ * exceptionally}, {@code handle} and {@code whenComplete} receive it directly.
+ *
+ * <pre>{@code
+ * AutoCatchFutures.thenApply(AutoCatchFutures.supplyAsync(this::download), this::parse)
+ *     .exceptionally(exception -> exception instanceof IOException ? EMPTY : null);
+ * }</pre>
+ */
+public final class AutoCatchFutures {
+
+  /** Constructor. Private to avoid instantiation */
+  private AutoCatchFutures() {
+    throw new AssertionError(
+        "No instance of com.github.vgalloy.autocatch.concurrent.AutoCatchFutures");
+  }
+
+  /**
+   * Execute the callable asynchronously on the common {@link ForkJoinPool}.
+   *
+   * @param callable the callable declaring an exception
+   * @param <T> the result type of the callable
+   * @return the future completed with the result or with the exception thrown by the callable
+   */
+  public static <T> CompletableFuture<T> supplyAsync(final Callable<T> callable) {
+    return supplyAsync(callable, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Execute the callable asynchronously on the provided executor.
+   *
+   * @param callable the callable declaring an exception
+   * @param executor the executor calling the callable
+   * @param <T> the result type of the callable
+   * @return the future completed with the result or with the exception thrown by the callable
+   */
+  public static <T> CompletableFuture<T> supplyAsync(
+      final Callable<T> callable, final Executor executor) {
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    executor.execute(new AsyncCall<>(future, callable));
+    return future;
+  }
+
+  /**
+   * Apply the function to the result of the stage, in the thread completing the stage. The stage is
+   * observed through {@link CompletionStage#whenComplete}, which costs one more stage than {@link
+   * CompletableFuture#thenApply} on the success path.
+   *
+   * @param stage the stage providing the input
+   * @param function the function declaring an exception
+   * @param <T> the result type of the stage
+   * @param <R> the result type of the function
+   * @return the future completed with the result of the function, or with the exception thrown by
+   *     the function or by the stage
+   */
+  public static <T, R> CompletableFuture<R> thenApply(
+      final CompletionStage<? extends T> stage,
+      final FunctionWithError<? super T, ? extends R> function) {
+    final CompletableFuture<R> future = new CompletableFuture<>();
+    stage.whenComplete(
+        (value, failure) -> {
+          if (failure != null) {
+            future.completeExceptionally(unwrap(failure));
+            return;
+          }
+          final R result;
+          try {
+            result = function.apply(value);
+          } catch (final Throwable throwable) {
+            future.completeExceptionally(throwable);
+            return;
+          }
+          future.complete(result);
+        });
+    return future;
+  }
+
+  /**
+   * Give the result of the stage to the consumer, in the thread completing the stage.
+   *
+   * @param stage the stage providing the input
+   * @param consumer the consumer declaring an exception
+   * @param <T> the result type of the stage
+   * @return the future completed once the consumer returns, or with the exception thrown by the
+   *     consumer or by the stage
+   */
+  public static <T> CompletableFuture<Void> thenAccept(
+      final CompletionStage<? extends T> stage, final ConsumerWithException<? super T> consumer) {
+    final CompletableFuture<Void> future = new CompletableFuture<>();
+    stage.whenComplete(
+        (value, failure) -> {
+          if (failure != null) {
+            future.completeExceptionally(unwrap(failure));
+            return;
+          }
+          try {
+            consumer.accept(value);
+          } catch (final Throwable throwable) {
+            future.completeExceptionally(throwable);
+            return;
+          }
+          future.complete(null);
+        });
+    return future;
+  }
+
+  /**
+   * Remove the {@link CompletionException} added by the {@link CompletableFuture} between dependent
+   * stages.
+   */
+  private static Throwable unwrap(final Throwable failure) {
+    if (failure instanceof CompletionException && failure.getCause() != null) {
+      return failure.getCause();
+    }
+    return failure;
+  }
+
+  private static final class AsyncCall<T>
+      implements Runnable, CompletableFuture.AsynchronousCompletionTask {
+
+    private final CompletableFuture<T> future;
+    private final Callable<T> callable;
+
+    private AsyncCall(final CompletableFuture<T> future, final Callable<T> callable) {
+      this.future = future;
+      this.callable = callable;
+    }
+
+    @Override
+    public void run() {
+      final T result;
+      try {
+        result = callable.call();
+      } catch (final Throwable throwable) {
+        future.completeExceptionally(throwable);
+        return;
+      }
+      future.complete(result);
+    }
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.concurrent;
+
+import com.github.vgalloy.autocatch.result.Result;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Execute independent tasks in parallel on a {@link ForkJoinPool}. Every task is executed, even if
+ * some of them fail, then the failures are thrown together. The tasks are already converted by an
+ * {@link com.github.vgalloy.autocatch.handler.AutoCatcher}, which decides the failures collected.
+ */
+public final class BulkExecution {
+
+  /** Constructor. Private to avoid instantiation */
+  private BulkExecution() {
+    throw new AssertionError(
+        "No instance of com.github.vgalloy.autocatch.concurrent.BulkExecution");
+  }
+
+  /**
+   * Execute the suppliers in parallel and wait for all of them.
+   *
+   * @param pool the pool executing the suppliers
+   * @param suppliers the suppliers, usually converted by an {@link
+   *     com.github.vgalloy.autocatch.handler.AutoCatcher}
+   * @param <T> the result type of the suppliers
+   * @return the results, in the order of the suppliers
+   * @throws MultipleFailuresException if at least one supplier failed
+   */
+  public static <T> List<T> invokeAll(
+      final ForkJoinPool pool, final Collection<? extends Supplier<? extends T>> suppliers) {
+    if (suppliers.isEmpty()) {
+      return Collections.emptyList();
+    }
+    final List<Task<? extends T>> tasks = new ArrayList<>(suppliers.size());
+    for (final Supplier<? extends T> supplier : suppliers) {
+      tasks.add(new Task<>(supplier::get));
+    }
+    pool.invoke(new InvokeAll(tasks));
+
+    final List<T> results = new ArrayList<>(tasks.size());
+    List<Exception> failures = null;
+    for (final Task<? extends T> task : tasks) {
+      final Result<? extends T> result = task.result;
+      if (result.isSuccess()) {
+        results.add(result.get());
+      } else {
+        if (failures == null) {
+          failures = new ArrayList<>();
+        }
+        failures.add(result.getException());
+      }
+    }
+    if (failures != null) {
+      throw new MultipleFailuresException(tasks.size(), failures);
+    }
+    return results;
+  }
+
+  /**
+   * Execute the runnables in parallel and wait for all of them.
+   *
+   * @param pool the pool executing the runnables
+   * @param runnables the runnables, usually converted by an {@link
+   *     com.github.vgalloy.autocatch.handler.AutoCatcher}
+   * @throws MultipleFailuresException if at least one runnable failed
+   */
+  public static void runAll(
+      final ForkJoinPool pool, final Collection<? extends Runnable> runnables) {
+    final List<Supplier<Void>> suppliers = new ArrayList<>(runnables.size());
+    for (final Runnable runnable : runnables) {
+      suppliers.add(
+          () -> {
+            runnable.run();
+            return null;
+          });
+    }
+    invokeAll(pool, suppliers);
+  }
+
+  /**
+   * Apply the action to every element in parallel and wait for the end of the execution. The first
+   * failure stops the execution: the pending elements are not processed and the exception is
+   * propagated unchanged.
+   *
+   * @param pool the pool applying the action
+   * @param elements the elements
+   * @param action the action, usually converted by an {@link
+   *     com.github.vgalloy.autocatch.handler.AutoCatcher}
+   * @param <T> the type of the elements
+   */
+  public static <T> void forEachFailFast(
+      final ForkJoinPool pool, final Collection<T> elements, final Consumer<? super T> action) {
+    final Throwable failure = FailFastForEach.forEach(pool, elements.spliterator(), action);
+    if (failure != null) {
+      throw BulkExecution.<RuntimeException>rethrow(failure);
+    }
+  }
+
+  /**
+   * Throw the provided exception, even a checked one thrown by the exception forwarder, without
+   * wrapping it.
+   *
+   * @param throwable the exception
+   * @param <E> the type seen by the compiler
+   * @return never returns
+   * @throws E always
+   */
+  @SuppressWarnings("unchecked")
+  private static <E extends Throwable> E rethrow(final Throwable throwable) throws E {
+    throw (E) throwable;
+  }
+
+  /** Fork every task from a worker of the pool, so they are spread by work stealing. */
+  private static final class InvokeAll extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<? extends ForkJoinTask<?>> tasks;
+
+    InvokeAll(final List<? extends ForkJoinTask<?>> tasks) {
+      this.tasks = tasks;
+    }
+
+    @Override
+    protected void compute() {
+      ForkJoinTask.invokeAll(tasks);
+    }
+  }
+
+  /** Capture the outcome of a callable, a task never completes exceptionally. */
+  private static final class Task<T> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Callable<T> callable;
+    private transient Result<T> result;
+
+    Task(final Callable<T> callable) {
+      this.callable = callable;
+    }
+
+    @Override
+    protected void compute() {
+      result = Result.of(callable);
+    }
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.concurrent;
+
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Apply an action to every element in parallel, stopping at the first failure. Once an element
+ * failed, the pending splits are not processed and the running ones stop before their next element.
+ *
+ * @param <T> the type of the elements
+ */
+final class FailFastForEach<T> extends RecursiveAction {
+
+  private static final long serialVersionUID = 1L;
+
+  private final transient Spliterator<T> spliterator;
+  private final transient Consumer<? super T> action;
+  private final transient AtomicReference<Throwable> failure;
+  private final long threshold;
+
+  /** The previous task forked by the same parent, to join them without a collection. */
+  private transient FailFastForEach<T> next;
+
+  private FailFastForEach(
+      final Spliterator<T> spliterator,
+      final Consumer<? super T> action,
+      final AtomicReference<Throwable> failure,
+      final long threshold) {
+    this.spliterator = spliterator;
+    this.action = action;
+    this.failure = failure;
+    this.threshold = threshold;
+  }
+
+  /**
+   * Apply the action to every element and wait for the end of the execution.
+   *
+   * @param pool the pool executing the action
+   * @param spliterator the elements
+   * @param action the action
+   * @param <T> the type of the elements
+   * @return the first failure, or {@code null} if every element has been processed
+   */
+  static <T> Throwable forEach(
+      final ForkJoinPool pool, final Spliterator<T> spliterator, final Consumer<? super T> action) {
+    // same granularity as the parallel streams: four leaves by worker
+    final long threshold =
+        Math.max(1, spliterator.estimateSize() / ((long) pool.getParallelism() << 2));
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+    pool.invoke(new FailFastForEach<>(spliterator, action, failure, threshold));
+    return failure.get();
+  }
+
+  @Override
+  protected void compute() {
+    FailFastForEach<T> forked = null;
+    Spliterator<T> split;
+    while (failure.get() == null
+        && threshold < spliterator.estimateSize()
+        && (split = spliterator.trySplit()) != null) {
+      final FailFastForEach<T> task = new FailFastForEach<>(split, action, failure, threshold);
+      task.next = forked;
+      forked = task;
+      task.fork();
+    }
+    try {
+      while (failure.get() == null && spliterator.tryAdvance(action)) {
+        // the action is applied by tryAdvance
+      }
+    } catch (final Throwable throwable) {
+      failure.compareAndSet(null, throwable);
+    }
+    for (FailFastForEach<T> task = forked; task != null; task = task.next) {
+      task.join();
+    }
+  }
+}
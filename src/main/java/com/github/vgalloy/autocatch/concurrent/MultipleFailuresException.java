@@ -0,0 +1,48 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.concurrent;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Thrown when some tasks of a bulk execution failed. Every failure is attached as a suppressed
+ * exception, in the order of the tasks.
+ */
+public final class MultipleFailuresException extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Constructor.
+   *
+   * @param taskCount the number of executed tasks
+   * @param failures the exceptions thrown by the failed tasks, in the order of the tasks
+   */
+  MultipleFailuresException(final int taskCount, final List<? extends Throwable> failures) {
+    super(failures.size() + " of " + taskCount + " tasks failed");
+    failures.forEach(this::addSuppressed);
+  }
+
+  /**
+   * The exceptions thrown by the failed tasks.
+   *
+   * @return the failures, in the order of the tasks
+   */
+  public List<Throwable> getFailures() {
+    return Arrays.asList(getSuppressed());
+  }
+}
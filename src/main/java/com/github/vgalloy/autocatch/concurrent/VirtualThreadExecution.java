@@ -0,0 +1,167 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Execute blocking tasks on virtual threads, one thread by task. Virtual threads require Java 21:
+ * this implementation is replaced by the {@code META-INF/versions/21} layer of the multi-release
+ * jar. On older runtimes the tasks run on a bounded pool of platform threads created for the call,
+ * so at most {@link #MAX_PLATFORM_THREADS} of them block at the same time.
+ */
+public final class VirtualThreadExecution {
+
+  /** The maximum number of platform threads used by a call when virtual threads are missing. */
+  static final int MAX_PLATFORM_THREADS = 64;
+
+  private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+  private static final ThreadFactory THREAD_FACTORY =
+      runnable -> {
+        final Thread thread =
+            new Thread(runnable, "autocatch-bulk-" + THREAD_NUMBER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      };
+
+  /** Constructor. Private to avoid instantiation */
+  private VirtualThreadExecution() {
+    throw new AssertionError(
+        "No instance of com.github.vgalloy.autocatch.concurrent.VirtualThreadExecution");
+  }
+
+  /**
+   * Check if the runtime provides virtual threads. Only a hint: without them {@link
+   * #invokeAll(Collection)} still executes the tasks, on platform threads.
+   *
+   * @return {@code true} on Java 21 and later
+   */
+  public static boolean isAvailable() {
+    return false;
+  }
+
+  /**
+   * Execute every task on its own virtual thread and wait for all of them. Without virtual threads,
+   * the tasks share at most {@link #MAX_PLATFORM_THREADS} platform threads.
+   *
+   * @param tasks the tasks, usually converted by an {@link
+   *     com.github.vgalloy.autocatch.handler.AutoCatcher}
+   * @param <T> the result type of the tasks
+   * @return the results, in the order of the tasks
+   * @throws MultipleFailuresException carrying every failure as a suppressed exception
+   */
+  public static <T> List<T> invokeAll(final Collection<? extends Supplier<? extends T>> tasks) {
+    if (tasks.isEmpty()) {
+      return Collections.emptyList();
+    }
+    final List<Future<? extends T>> futures = new ArrayList<>(tasks.size());
+    final ExecutorService executor =
+        Executors.newFixedThreadPool(Math.min(tasks.size(), MAX_PLATFORM_THREADS), THREAD_FACTORY);
+    try {
+      for (final Supplier<? extends T> task : tasks) {
+        futures.add(executor.submit(task::get));
+      }
+    } finally {
+      executor.shutdown();
+      awaitTermination(executor);
+    }
+
+    final List<T> results = new ArrayList<>(futures.size());
+    List<Throwable> failures = null;
+    for (final Future<? extends T> future : futures) {
+      final Throwable failure;
+      try {
+        results.add(getDone(future));
+        continue;
+      } catch (final ExecutionException e) {
+        failure = e.getCause();
+      } catch (final CancellationException e) {
+        failure = new CancellationException("The task has been cancelled");
+      }
+      if (failures == null) {
+        failures = new ArrayList<>();
+      }
+      failures.add(failure);
+    }
+    if (failures != null) {
+      throw new MultipleFailuresException(futures.size(), failures);
+    }
+    return results;
+  }
+
+  /**
+   * Wait for every task, as {@code ExecutorService.close()} does on Java 21: an interrupted caller
+   * cancels the tasks, still waits for the running ones, then keeps its interrupt status.
+   *
+   * @param executor the shut down executor
+   */
+  private static void awaitTermination(final ExecutorService executor) {
+    boolean interrupted = false;
+    while (!executor.isTerminated()) {
+      try {
+        executor.awaitTermination(1, TimeUnit.DAYS);
+      } catch (final InterruptedException e) {
+        if (!interrupted) {
+          interrupted = true;
+          // The tasks never started are not completed by shutdownNow()
+          for (final Runnable pending : executor.shutdownNow()) {
+            ((Future<?>) pending).cancel(false);
+          }
+        }
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Get the result of a completed future, without waiting nor checking the interrupt status.
+   *
+   * @param future the completed future
+   * @param <T> the result type
+   * @return the result
+   * @throws ExecutionException if the task failed
+   */
+  private static <T> T getDone(final Future<T> future) throws ExecutionException {
+    boolean interrupted = false;
+    try {
+      while (true) {
+        try {
+          return future.get();
+        } catch (final InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
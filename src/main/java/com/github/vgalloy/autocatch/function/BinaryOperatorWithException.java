@@ -0,0 +1,30 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.function;
+
+@FunctionalInterface
+public interface BinaryOperatorWithException<T> {
+
+  /**
+   * Apply the current operator.
+   *
+   * @param left the first operand
+   * @param right the second operand
+   * @return the result of the operator
+   * @throws Exception the exception to wrap
+   */
+  T apply(T left, T right) throws Exception;
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2019 Vincent Galloy
+ * Copyright 2018 Vincent Galloy
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -13,23 +13,18 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package com.github.vgalloy.autocatch.handler;
-
-import com.github.vgalloy.autocatch.function.ConsumerWithException;
+package com.github.vgalloy.autocatch.function;
 
 @FunctionalInterface
-interface ConsumerWithExceptionHandler<T, E extends Exception> {
+public interface DoubleBinaryOperatorWithException {
 
   /**
-   * Consume the provided object.
+   * Apply the current operator.
    *
-   * @param t input
+   * @param left the first operand
+   * @param right the second operand
+   * @return the result of the operator
+   * @throws Exception the exception to wrap
    */
-  void accept(T t) throws E;
-
-  @SuppressWarnings("unchecked")
-  static <T> ConsumerWithExceptionHandler<T, RuntimeException> handle(
-      final ConsumerWithException<T> supplier) {
-    return (ConsumerWithExceptionHandler) a -> supplier.accept((T) a);
-  }
+  double applyAsDouble(double left, double right) throws Exception;
 }
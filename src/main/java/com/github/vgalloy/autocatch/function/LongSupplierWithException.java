@@ -1,5 +1,5 @@
 /*
- * Copyright 2019 Vincent Galloy
+ * Copyright 2018 Vincent Galloy
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -13,23 +13,16 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package com.github.vgalloy.autocatch.handler;
-
-import com.github.vgalloy.autocatch.function.IntSupplierWithException;
+package com.github.vgalloy.autocatch.function;
 
 @FunctionalInterface
-interface IntSupplierWithExceptionHandler<E extends Exception> {
+public interface LongSupplierWithException {
 
   /**
    * Gets a result.
    *
    * @return a result
+   * @throws Exception the exception to wrap
    */
-  int getAsInt() throws E;
-
-  @SuppressWarnings("unchecked")
-  static IntSupplierWithExceptionHandler<RuntimeException> handle(
-      final IntSupplierWithException supplier) {
-    return (IntSupplierWithExceptionHandler) supplier::getAsIntWithException;
-  }
+  long getAsLongWithException() throws Exception;
 }
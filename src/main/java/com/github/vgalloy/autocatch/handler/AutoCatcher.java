@@ -1,24 +1,106 @@
 package com.github.vgalloy.autocatch.handler;
 
+import com.github.vgalloy.autocatch.concurrent.BulkExecution;
+import com.github.vgalloy.autocatch.concurrent.MultipleFailuresException;
+import com.github.vgalloy.autocatch.concurrent.VirtualThreadExecution;
+import com.github.vgalloy.autocatch.function.BiConsumerWithException;
+import com.github.vgalloy.autocatch.function.BiFunctionWithError;
+import com.github.vgalloy.autocatch.function.BiPredicateWithError;
+import com.github.vgalloy.autocatch.function.BinaryOperatorWithException;
 import com.github.vgalloy.autocatch.function.BooleanSupplierWithException;
 import com.github.vgalloy.autocatch.function.ByteSupplier;
 import com.github.vgalloy.autocatch.function.ByteSupplierWithException;
 import com.github.vgalloy.autocatch.function.CharSupplier;
 import com.github.vgalloy.autocatch.function.CharSupplierWithException;
 import com.github.vgalloy.autocatch.function.ConsumerWithException;
+import com.github.vgalloy.autocatch.function.DoubleBinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.DoubleConsumerWithException;
+import com.github.vgalloy.autocatch.function.DoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.DoublePredicateWithException;
 import com.github.vgalloy.autocatch.function.DoubleSupplierWithException;
+import com.github.vgalloy.autocatch.function.DoubleToIntFunctionWithException;
+import com.github.vgalloy.autocatch.function.DoubleToLongFunctionWithException;
+import com.github.vgalloy.autocatch.function.DoubleUnaryOperatorWithException;
 import com.github.vgalloy.autocatch.function.FunctionWithError;
+import com.github.vgalloy.autocatch.function.IntBinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.IntConsumerWithException;
+import com.github.vgalloy.autocatch.function.IntFunctionWithException;
+import com.github.vgalloy.autocatch.function.IntPredicateWithException;
 import com.github.vgalloy.autocatch.function.IntSupplierWithException;
+import com.github.vgalloy.autocatch.function.IntToDoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.IntToLongFunctionWithException;
+import com.github.vgalloy.autocatch.function.IntUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.LongBinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.LongConsumerWithException;
+import com.github.vgalloy.autocatch.function.LongFunctionWithException;
+import com.github.vgalloy.autocatch.function.LongPredicateWithException;
+import com.github.vgalloy.autocatch.function.LongSupplierWithException;
+import com.github.vgalloy.autocatch.function.LongToDoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.LongToIntFunctionWithException;
+import com.github.vgalloy.autocatch.function.LongUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.ObjDoubleConsumerWithException;
+import com.github.vgalloy.autocatch.function.ObjIntConsumerWithException;
+import com.github.vgalloy.autocatch.function.ObjLongConsumerWithException;
 import com.github.vgalloy.autocatch.function.PredicateWithError;
 import com.github.vgalloy.autocatch.function.RunnableWithException;
+import com.github.vgalloy.autocatch.function.ToDoubleBiFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToDoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToIntBiFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToIntFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToLongBiFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToLongFunctionWithException;
+import com.github.vgalloy.autocatch.result.BooleanResult;
+import com.github.vgalloy.autocatch.result.DoubleResult;
+import com.github.vgalloy.autocatch.result.IntResult;
+import com.github.vgalloy.autocatch.result.Result;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
 import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
 import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleBiFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongBiFunction;
+import java.util.function.ToLongFunction;
 
 public interface AutoCatcher {
 
@@ -28,7 +110,21 @@ public interface AutoCatcher {
    * @return a instance of catcher
    */
   static AutoCatcher wrapWithUndeclaredHandler() {
-    return new UndeclaredExceptionHandler();
+    return new UndeclaredExceptionHandler(true);
+  }
+
+  /**
+   * The exception will be wrapped into an {@link java.lang.reflect.UndeclaredThrowableException}
+   * which does not fill in its own stack trace. The stack trace of the original exception is still
+   * available through {@link Throwable#getCause()}.
+   *
+   * <p>This catcher should be preferred when checked exceptions are used for expected failures, the
+   * creation of the wrapper being far cheaper.
+   *
+   * @return a instance of catcher
+   */
+  static AutoCatcher wrapWithStacklessUndeclaredHandler() {
+    return new UndeclaredExceptionHandler(false);
   }
 
   /**
@@ -49,6 +145,132 @@ public interface AutoCatcher {
     return new ExceptionForwarder();
   }
 
+  /**
+   * Count the invocations of the functions converted by the returned catcher. The successes and the
+   * failures by exception class are available through {@link MeteredAutoCatcher#snapshot()}. The
+   * exceptions are still propagated by the delegate.
+   *
+   * @param delegate the catcher converting the functions
+   * @return a metered catcher
+   */
+  static MeteredAutoCatcher metered(final AutoCatcher delegate) {
+    return new MeteredExceptionHandler(delegate);
+  }
+
+  /**
+   * Record the duration of the invocations of the functions converted by the returned catcher. The
+   * durations are kept by call site, see {@link TimedAutoCatcher#callSite(String)}, and by outcome.
+   * The exceptions are still propagated by the delegate.
+   *
+   * @param delegate the catcher converting the functions
+   * @return a timed catcher
+   */
+  static TimedAutoCatcher timed(final AutoCatcher delegate) {
+    return new TimedExceptionHandler(delegate);
+  }
+
+  /**
+   * Invoke again the functions converted by the returned catcher while they fail with an exception
+   * accepted by the policy. The last exception is propagated by the delegate.
+   *
+   * @param delegate the catcher converting the functions
+   * @param policy the retry policy
+   * @return a retrying catcher
+   */
+  static AutoCatcher retrying(final AutoCatcher delegate, final RetryPolicy policy) {
+    return new RetryingExceptionHandler(delegate, policy);
+  }
+
+  /**
+   * Stop invoking the functions converted by the returned catcher while the failure rate of the
+   * recent invocations is above the threshold of the policy. A rejected invocation throws a
+   * preallocated {@link CircuitBreakerOpenException}, or returns the fallback of the {@code
+   * unDeclareOrElse} conversions. The other exceptions are still propagated by the delegate.
+   *
+   * @param delegate the catcher converting the functions
+   * @param policy the circuit breaker policy
+   * @return a circuit breaker catcher
+   */
+  static CircuitBreakerAutoCatcher circuitBreaker(
+      final AutoCatcher delegate, final CircuitBreakerPolicy policy) {
+    return new CircuitBreakerExceptionHandler(delegate, policy);
+  }
+
+  /**
+   * Limit the number of concurrent invocations of the functions converted by the returned catcher.
+   * An invocation finding no free permit is rejected at once with a preallocated {@link
+   * BulkheadFullException}, or returns the fallback of the {@code unDeclareOrElse} conversions. The
+   * other exceptions are still propagated by the delegate.
+   *
+   * @param delegate the catcher converting the functions
+   * @param maxConcurrentCalls the maximum number of concurrent invocations
+   * @return a bulkhead catcher
+   */
+  static BulkheadAutoCatcher bulkhead(final AutoCatcher delegate, final int maxConcurrentCalls) {
+    return new BulkheadExceptionHandler(delegate, maxConcurrentCalls, 0);
+  }
+
+  /**
+   * Limit the number of concurrent invocations of the functions converted by the returned catcher.
+   * An invocation finding no free permit waits for one during at most the provided duration, then
+   * is rejected as {@link #bulkhead(AutoCatcher, int)} does. An interrupted thread stops waiting,
+   * its interrupt status being kept.
+   *
+   * @param delegate the catcher converting the functions
+   * @param maxConcurrentCalls the maximum number of concurrent invocations
+   * @param maxWait the maximum duration to wait for a permit
+   * @return a bulkhead catcher
+   */
+  static BulkheadAutoCatcher bulkhead(
+      final AutoCatcher delegate, final int maxConcurrentCalls, final Duration maxWait) {
+    return new BulkheadExceptionHandler(delegate, maxConcurrentCalls, maxWait.toNanos());
+  }
+
+  /**
+   * Record where each function is converted by the returned catcher, and add this call site to the
+   * exceptions of the function as a suppressed {@link CallSiteDiagnostic}. Meant to find which
+   * conversion created a function failing deep inside a stream. The call site is captured at
+   * conversion, with a stack walker on Java 9 or later: the invocations of a converted function are
+   * not slowed down. The {@code autoCatch} methods, which convert and invoke at once, only capture
+   * the call site when the invocation fails. A call site already added to an exception is not added
+   * again. The exceptions are still propagated by the delegate.
+   *
+   * @param delegate the catcher converting the functions
+   * @return a diagnostic catcher
+   */
+  static AutoCatcher callSiteDiagnostic(final AutoCatcher delegate) {
+    return new CallSiteExceptionHandler(delegate);
+  }
+
+  /**
+   * Report the failures of the functions converted by the returned catcher to the sink, each
+   * distinct failure at most once by minute. A failure is identified by its exception class and the
+   * call site converting the function. The exceptions are still propagated by the delegate.
+   *
+   * @param delegate the catcher converting the functions
+   * @param sink the sink receiving the reports
+   * @return a reporting catcher
+   */
+  static ReportingAutoCatcher reporting(final AutoCatcher delegate, final FailureSink sink) {
+    return reporting(delegate, sink, ReportingPolicy.interval(Duration.ofMinutes(1)));
+  }
+
+  /**
+   * Report the failures of the functions converted by the returned catcher to the sink, each
+   * distinct failure at most once by interval of the policy. The number of identical failures not
+   * reported is given with the next report, or by {@link ReportingAutoCatcher#flush()}. The
+   * exceptions are still propagated by the delegate.
+   *
+   * @param delegate the catcher converting the functions
+   * @param sink the sink receiving the reports
+   * @param policy the reporting policy
+   * @return a reporting catcher
+   */
+  static ReportingAutoCatcher reporting(
+      final AutoCatcher delegate, final FailureSink sink, final ReportingPolicy policy) {
+    return new ReportingExceptionHandler(delegate, sink, policy);
+  }
+
   /**
    * Convert the provided supplier into another which is not declaring exception.
    *
@@ -115,6 +337,450 @@ public interface AutoCatcher {
    */
   <T> Consumer<T> unDeclare(final ConsumerWithException<T> consumer);
 
+  /**
+   * Convert the provided supplier into another which is not declaring exception.
+   *
+   * @param supplier the supplier declaring an exception
+   * @return a supplier not declaring exception
+   */
+  default LongSupplier unDeclare(final LongSupplierWithException supplier) {
+    return () -> this.unDeclare((Callable<Long>) () -> supplier.getAsLongWithException()).get();
+  }
+
+  /**
+   * Convert the provided {@link IntFunctionWithException} declaring exception into a simple {@link
+   * IntFunction}.
+   *
+   * @param function the function declaring an exception
+   * @param <R> the result type of the function
+   * @return a function
+   */
+  default <R> IntFunction<R> unDeclareInt(final IntFunctionWithException<R> function) {
+    return value -> this.unDeclare((Callable<R>) () -> function.apply(value)).get();
+  }
+
+  /**
+   * Convert the provided {@link IntToDoubleFunctionWithException} declaring exception into a simple
+   * {@link IntToDoubleFunction}.
+   *
+   * @param function the function declaring an exception
+   * @return a function
+   */
+  default IntToDoubleFunction unDeclareInt(final IntToDoubleFunctionWithException function) {
+    return value ->
+        this.unDeclare((DoubleSupplierWithException) () -> function.applyAsDouble(value))
+            .getAsDouble();
+  }
+
+  /**
+   * Convert the provided {@link IntToLongFunctionWithException} declaring exception into a simple
+   * {@link IntToLongFunction}.
+   *
+   * @param function the function declaring an exception
+   * @return a function
+   */
+  default IntToLongFunction unDeclareInt(final IntToLongFunctionWithException function) {
+    return value ->
+        this.unDeclare((LongSupplierWithException) () -> function.applyAsLong(value)).getAsLong();
+  }
+
+  /**
+   * Convert the provided {@link IntUnaryOperatorWithException} declaring exception into a simple
+   * {@link IntUnaryOperator}.
+   *
+   * @param operator the operator declaring an exception
+   * @return a operator
+   */
+  default IntUnaryOperator unDeclareInt(final IntUnaryOperatorWithException operator) {
+    return value ->
+        this.unDeclare((IntSupplierWithException) () -> operator.applyAsInt(value)).getAsInt();
+  }
+
+  /**
+   * Convert the provided {@link IntPredicateWithException} declaring exception into a simple {@link
+   * IntPredicate}.
+   *
+   * @param predicate the predicate declaring an exception
+   * @return a predicate
+   */
+  default IntPredicate unDeclareInt(final IntPredicateWithException predicate) {
+    return value ->
+        this.unDeclare((BooleanSupplierWithException) () -> predicate.test(value)).getAsBoolean();
+  }
+
+  /**
+   * Convert the provided {@link IntConsumerWithException} declaring exception into a simple {@link
+   * IntConsumer}.
+   *
+   * @param consumer the consumer declaring an exception
+   * @return a consumer
+   */
+  default IntConsumer unDeclareInt(final IntConsumerWithException consumer) {
+    return value -> this.unDeclare((RunnableWithException) () -> consumer.accept(value)).run();
+  }
+
+  /**
+   * Convert the provided {@link LongFunctionWithException} declaring exception into a simple {@link
+   * LongFunction}.
+   *
+   * @param function the function declaring an exception
+   * @param <R> the result type of the function
+   * @return a function
+   */
+  default <R> LongFunction<R> unDeclareLong(final LongFunctionWithException<R> function) {
+    return value -> this.unDeclare((Callable<R>) () -> function.apply(value)).get();
+  }
+
+  /**
+   * Convert the provided {@link LongToDoubleFunctionWithException} declaring exception into a
+   * simple {@link LongToDoubleFunction}.
+   *
+   * @param function the function declaring an exception
+   * @return a function
+   */
+  default LongToDoubleFunction unDeclareLong(final LongToDoubleFunctionWithException function) {
+    return value ->
+        this.unDeclare((DoubleSupplierWithException) () -> function.applyAsDouble(value))
+            .getAsDouble();
+  }
+
+  /**
+   * Convert the provided {@link LongToIntFunctionWithException} declaring exception into a simple
+   * {@link LongToIntFunction}.
+   *
+   * @param function the function declaring an exception
+   * @return a function
+   */
+  default LongToIntFunction unDeclareLong(final LongToIntFunctionWithException function) {
+    return value ->
+        this.unDeclare((IntSupplierWithException) () -> function.applyAsInt(value)).getAsInt();
+  }
+
+  /**
+   * Convert the provided {@link LongUnaryOperatorWithException} declaring exception into a simple
+   * {@link LongUnaryOperator}.
+   *
+   * @param operator the operator declaring an exception
+   * @return a operator
+   */
+  default LongUnaryOperator unDeclareLong(final LongUnaryOperatorWithException operator) {
+    return value ->
+        this.unDeclare((LongSupplierWithException) () -> operator.applyAsLong(value)).getAsLong();
+  }
+
+  /**
+   * Convert the provided {@link LongPredicateWithException} declaring exception into a simple
+   * {@link LongPredicate}.
+   *
+   * @param predicate the predicate declaring an exception
+   * @return a predicate
+   */
+  default LongPredicate unDeclareLong(final LongPredicateWithException predicate) {
+    return value ->
+        this.unDeclare((BooleanSupplierWithException) () -> predicate.test(value)).getAsBoolean();
+  }
+
+  /**
+   * Convert the provided {@link LongConsumerWithException} declaring exception into a simple {@link
+   * LongConsumer}.
+   *
+   * @param consumer the consumer declaring an exception
+   * @return a consumer
+   */
+  default LongConsumer unDeclareLong(final LongConsumerWithException consumer) {
+    return value -> this.unDeclare((RunnableWithException) () -> consumer.accept(value)).run();
+  }
+
+  /**
+   * Convert the provided {@link DoubleFunctionWithException} declaring exception into a simple
+   * {@link DoubleFunction}.
+   *
+   * @param function the function declaring an exception
+   * @param <R> the result type of the function
+   * @return a function
+   */
+  default <R> DoubleFunction<R> unDeclareDouble(final DoubleFunctionWithException<R> function) {
+    return value -> this.unDeclare((Callable<R>) () -> function.apply(value)).get();
+  }
+
+  /**
+   * Convert the provided {@link DoubleToIntFunctionWithException} declaring exception into a simple
+   * {@link DoubleToIntFunction}.
+   *
+   * @param function the function declaring an exception
+   * @return a function
+   */
+  default DoubleToIntFunction unDeclareDouble(final DoubleToIntFunctionWithException function) {
+    return value ->
+        this.unDeclare((IntSupplierWithException) () -> function.applyAsInt(value)).getAsInt();
+  }
+
+  /**
+   * Convert the provided {@link DoubleToLongFunctionWithException} declaring exception into a
+   * simple {@link DoubleToLongFunction}.
+   *
+   * @param function the function declaring an exception
+   * @return a function
+   */
+  default DoubleToLongFunction unDeclareDouble(final DoubleToLongFunctionWithException function) {
+    return value ->
+        this.unDeclare((LongSupplierWithException) () -> function.applyAsLong(value)).getAsLong();
+  }
+
+  /**
+   * Convert the provided {@link DoubleUnaryOperatorWithException} declaring exception into a simple
+   * {@link DoubleUnaryOperator}.
+   *
+   * @param operator the operator declaring an exception
+   * @return a operator
+   */
+  default DoubleUnaryOperator unDeclareDouble(final DoubleUnaryOperatorWithException operator) {
+    return value ->
+        this.unDeclare((DoubleSupplierWithException) () -> operator.applyAsDouble(value))
+            .getAsDouble();
+  }
+
+  /**
+   * Convert the provided {@link DoublePredicateWithException} declaring exception into a simple
+   * {@link DoublePredicate}.
+   *
+   * @param predicate the predicate declaring an exception
+   * @return a predicate
+   */
+  default DoublePredicate unDeclareDouble(final DoublePredicateWithException predicate) {
+    return value ->
+        this.unDeclare((BooleanSupplierWithException) () -> predicate.test(value)).getAsBoolean();
+  }
+
+  /**
+   * Convert the provided {@link DoubleConsumerWithException} declaring exception into a simple
+   * {@link DoubleConsumer}.
+   *
+   * @param consumer the consumer declaring an exception
+   * @return a consumer
+   */
+  default DoubleConsumer unDeclareDouble(final DoubleConsumerWithException consumer) {
+    return value -> this.unDeclare((RunnableWithException) () -> consumer.accept(value)).run();
+  }
+
+  /**
+   * Convert the provided {@link ToIntFunctionWithException} declaring exception into a simple
+   * {@link ToIntFunction}.
+   *
+   * @param function the function declaring an exception
+   * @param <T> the input type of the function
+   * @return a function
+   */
+  default <T> ToIntFunction<T> unDeclareToInt(final ToIntFunctionWithException<T> function) {
+    return t -> this.unDeclare((IntSupplierWithException) () -> function.applyAsInt(t)).getAsInt();
+  }
+
+  /**
+   * Convert the provided {@link ToLongFunctionWithException} declaring exception into a simple
+   * {@link ToLongFunction}.
+   *
+   * @param function the function declaring an exception
+   * @param <T> the input type of the function
+   * @return a function
+   */
+  default <T> ToLongFunction<T> unDeclareToLong(final ToLongFunctionWithException<T> function) {
+    return t ->
+        this.unDeclare((LongSupplierWithException) () -> function.applyAsLong(t)).getAsLong();
+  }
+
+  /**
+   * Convert the provided {@link ToDoubleFunctionWithException} declaring exception into a simple
+   * {@link ToDoubleFunction}.
+   *
+   * @param function the function declaring an exception
+   * @param <T> the input type of the function
+   * @return a function
+   */
+  default <T> ToDoubleFunction<T> unDeclareToDouble(
+      final ToDoubleFunctionWithException<T> function) {
+    return t ->
+        this.unDeclare((DoubleSupplierWithException) () -> function.applyAsDouble(t)).getAsDouble();
+  }
+
+  /**
+   * Convert the provided {@link BiFunctionWithError} declaring exception into a simple {@link
+   * BiFunction}.
+   *
+   * @param function the function declaring an exception
+   * @param <T> the type of the first argument of the function
+   * @param <U> the type of the second argument of the function
+   * @param <R> the result type of the function
+   * @return a function
+   */
+  default <T, U, R> BiFunction<T, U, R> unDeclare(final BiFunctionWithError<T, U, R> function) {
+    return (t, u) -> this.unDeclare((Callable<R>) () -> function.apply(t, u)).get();
+  }
+
+  /**
+   * Convert the provided {@link BinaryOperatorWithException} declaring exception into a simple
+   * {@link BinaryOperator}.
+   *
+   * @param operator the operator declaring an exception
+   * @param <T> the type of the operands and result of the operator
+   * @return a operator
+   */
+  default <T> BinaryOperator<T> unDeclare(final BinaryOperatorWithException<T> operator) {
+    return (left, right) -> this.unDeclare((Callable<T>) () -> operator.apply(left, right)).get();
+  }
+
+  /**
+   * Convert the provided {@link BiPredicateWithError} declaring exception into a simple {@link
+   * BiPredicate}.
+   *
+   * @param predicate the predicate declaring an exception
+   * @param <T> the type of the first argument of the predicate
+   * @param <U> the type of the second argument of the predicate
+   * @return a predicate
+   */
+  default <T, U> BiPredicate<T, U> unDeclare(final BiPredicateWithError<T, U> predicate) {
+    return (t, u) ->
+        this.unDeclare((BooleanSupplierWithException) () -> predicate.test(t, u)).getAsBoolean();
+  }
+
+  /**
+   * Convert the provided {@link BiConsumerWithException} declaring exception into a simple {@link
+   * BiConsumer}.
+   *
+   * @param consumer the consumer declaring an exception
+   * @param <T> the type of the first argument of the consumer
+   * @param <U> the type of the second argument of the consumer
+   * @return a consumer
+   */
+  default <T, U> BiConsumer<T, U> unDeclare(final BiConsumerWithException<T, U> consumer) {
+    return (t, u) -> this.unDeclare((RunnableWithException) () -> consumer.accept(t, u)).run();
+  }
+
+  /**
+   * Convert the provided {@link IntBinaryOperatorWithException} declaring exception into a simple
+   * {@link IntBinaryOperator}.
+   *
+   * @param operator the operator declaring an exception
+   * @return a operator
+   */
+  default IntBinaryOperator unDeclareIntBinary(final IntBinaryOperatorWithException operator) {
+    return (left, right) ->
+        this.unDeclare((IntSupplierWithException) () -> operator.applyAsInt(left, right))
+            .getAsInt();
+  }
+
+  /**
+   * Convert the provided {@link LongBinaryOperatorWithException} declaring exception into a simple
+   * {@link LongBinaryOperator}.
+   *
+   * @param operator the operator declaring an exception
+   * @return a operator
+   */
+  default LongBinaryOperator unDeclareLongBinary(final LongBinaryOperatorWithException operator) {
+    return (left, right) ->
+        this.unDeclare((LongSupplierWithException) () -> operator.applyAsLong(left, right))
+            .getAsLong();
+  }
+
+  /**
+   * Convert the provided {@link DoubleBinaryOperatorWithException} declaring exception into a
+   * simple {@link DoubleBinaryOperator}.
+   *
+   * @param operator the operator declaring an exception
+   * @return a operator
+   */
+  default DoubleBinaryOperator unDeclareDoubleBinary(
+      final DoubleBinaryOperatorWithException operator) {
+    return (left, right) ->
+        this.unDeclare((DoubleSupplierWithException) () -> operator.applyAsDouble(left, right))
+            .getAsDouble();
+  }
+
+  /**
+   * Convert the provided {@link ToIntBiFunctionWithException} declaring exception into a simple
+   * {@link ToIntBiFunction}.
+   *
+   * @param function the function declaring an exception
+   * @param <T> the type of the first argument of the function
+   * @param <U> the type of the second argument of the function
+   * @return a function
+   */
+  default <T, U> ToIntBiFunction<T, U> unDeclareToIntBi(
+      final ToIntBiFunctionWithException<T, U> function) {
+    return (t, u) ->
+        this.unDeclare((IntSupplierWithException) () -> function.applyAsInt(t, u)).getAsInt();
+  }
+
+  /**
+   * Convert the provided {@link ToLongBiFunctionWithException} declaring exception into a simple
+   * {@link ToLongBiFunction}.
+   *
+   * @param function the function declaring an exception
+   * @param <T> the type of the first argument of the function
+   * @param <U> the type of the second argument of the function
+   * @return a function
+   */
+  default <T, U> ToLongBiFunction<T, U> unDeclareToLongBi(
+      final ToLongBiFunctionWithException<T, U> function) {
+    return (t, u) ->
+        this.unDeclare((LongSupplierWithException) () -> function.applyAsLong(t, u)).getAsLong();
+  }
+
+  /**
+   * Convert the provided {@link ToDoubleBiFunctionWithException} declaring exception into a simple
+   * {@link ToDoubleBiFunction}.
+   *
+   * @param function the function declaring an exception
+   * @param <T> the type of the first argument of the function
+   * @param <U> the type of the second argument of the function
+   * @return a function
+   */
+  default <T, U> ToDoubleBiFunction<T, U> unDeclareToDoubleBi(
+      final ToDoubleBiFunctionWithException<T, U> function) {
+    return (t, u) ->
+        this.unDeclare((DoubleSupplierWithException) () -> function.applyAsDouble(t, u))
+            .getAsDouble();
+  }
+
+  /**
+   * Convert the provided {@link ObjIntConsumerWithException} declaring exception into a simple
+   * {@link ObjIntConsumer}.
+   *
+   * @param consumer the consumer declaring an exception
+   * @param <T> the type of the object argument of the consumer
+   * @return a consumer
+   */
+  default <T> ObjIntConsumer<T> unDeclareObjInt(final ObjIntConsumerWithException<T> consumer) {
+    return (t, value) ->
+        this.unDeclare((RunnableWithException) () -> consumer.accept(t, value)).run();
+  }
+
+  /**
+   * Convert the provided {@link ObjLongConsumerWithException} declaring exception into a simple
+   * {@link ObjLongConsumer}.
+   *
+   * @param consumer the consumer declaring an exception
+   * @param <T> the type of the object argument of the consumer
+   * @return a consumer
+   */
+  default <T> ObjLongConsumer<T> unDeclareObjLong(final ObjLongConsumerWithException<T> consumer) {
+    return (t, value) ->
+        this.unDeclare((RunnableWithException) () -> consumer.accept(t, value)).run();
+  }
+
+  /**
+   * Convert the provided {@link ObjDoubleConsumerWithException} declaring exception into a simple
+   * {@link ObjDoubleConsumer}.
+   *
+   * @param consumer the consumer declaring an exception
+   * @param <T> the type of the object argument of the consumer
+   * @return a consumer
+   */
+  default <T> ObjDoubleConsumer<T> unDeclareObjDouble(
+      final ObjDoubleConsumerWithException<T> consumer) {
+    return (t, value) ->
+        this.unDeclare((RunnableWithException) () -> consumer.accept(t, value)).run();
+  }
+
   /**
    * Execute the provided callable without declaring the exception.
    *
@@ -165,6 +831,16 @@ public interface AutoCatcher {
     return this.unDeclare(intSupplierWithException).getAsInt();
   }
 
+  /**
+   * Execute the provided callable without declaring the exception.
+   *
+   * @param longSupplierWithException the long supplier
+   * @return the primitive long provided by the supplier
+   */
+  default long autoCatch(final LongSupplierWithException longSupplierWithException) {
+    return this.unDeclare(longSupplierWithException).getAsLong();
+  }
+
   /**
    * Execute the provided callable without declaring the exception.
    *
@@ -209,4 +885,490 @@ public interface AutoCatcher {
   default <T, R> Function<T, R> unDeclare(final FunctionWithError<T, R> function) {
     return t -> this.unDeclare(() -> function.apply(t)).get();
   }
+
+  /**
+   * Convert the provided callable into a supplier returning the fallback value instead of throwing
+   * an exception. No exception is propagated, so neither the wrapper exception nor the stack
+   * unwinding are paid.
+   *
+   * @param callable the callable declaring an exception
+   * @param fallback the value returned when the callable throws an exception
+   * @param <T> the result type of the callable
+   * @return a supplier not throwing exception
+   */
+  default <T> Supplier<T> unDeclareOrElse(final Callable<T> callable, final T fallback) {
+    return () -> {
+      try {
+        return callable.call();
+      } catch (final Exception exception) {
+        return fallback;
+      }
+    };
+  }
+
+  /**
+   * Convert the provided callable into a supplier computing a fallback value from the exception
+   * instead of throwing it. No exception is propagated, so neither the wrapper exception nor the
+   * stack unwinding are paid.
+   *
+   * @param callable the callable declaring an exception
+   * @param fallback the function computing the returned value from the exception thrown by the
+   *     callable
+   * @param <T> the result type of the callable
+   * @return a supplier not throwing exception
+   */
+  default <T> Supplier<T> unDeclareOrElseGet(
+      final Callable<T> callable, final Function<? super Exception, ? extends T> fallback) {
+    return () -> {
+      try {
+        return callable.call();
+      } catch (final Exception exception) {
+        return fallback.apply(exception);
+      }
+    };
+  }
+
+  /**
+   * Convert the provided function into a function returning the fallback value instead of throwing
+   * an exception. No exception is propagated, so neither the wrapper exception nor the stack
+   * unwinding are paid.
+   *
+   * @param function the function declaring an exception
+   * @param fallback the value returned when the function throws an exception
+   * @param <T> the input type of the function
+   * @param <R> the result type of the function
+   * @return a function not throwing exception
+   */
+  default <T, R> Function<T, R> unDeclareOrElse(
+      final FunctionWithError<T, R> function, final R fallback) {
+    return t -> {
+      try {
+        return function.apply(t);
+      } catch (final Exception exception) {
+        return fallback;
+      }
+    };
+  }
+
+  /**
+   * Convert the provided function into a function computing a fallback value from the exception
+   * instead of throwing it. No exception is propagated, so neither the wrapper exception nor the
+   * stack unwinding are paid.
+   *
+   * @param function the function declaring an exception
+   * @param fallback the function computing the returned value from the exception thrown by the
+   *     function
+   * @param <T> the input type of the function
+   * @param <R> the result type of the function
+   * @return a function not throwing exception
+   */
+  default <T, R> Function<T, R> unDeclareOrElseGet(
+      final FunctionWithError<T, R> function,
+      final Function<? super Exception, ? extends R> fallback) {
+    return t -> {
+      try {
+        return function.apply(t);
+      } catch (final Exception exception) {
+        return fallback.apply(exception);
+      }
+    };
+  }
+
+  /**
+   * Convert the provided supplier into a supplier returning the fallback value instead of throwing
+   * an exception. No exception is propagated, so neither the wrapper exception nor the stack
+   * unwinding are paid.
+   *
+   * @param supplier the supplier declaring an exception
+   * @param fallback the value returned when the supplier throws an exception
+   * @return a supplier not throwing exception
+   */
+  default BooleanSupplier unDeclareOrElse(
+      final BooleanSupplierWithException supplier, final boolean fallback) {
+    return () -> {
+      try {
+        return supplier.getAsBooleanWithException();
+      } catch (final Exception exception) {
+        return fallback;
+      }
+    };
+  }
+
+  /**
+   * Convert the provided supplier into a supplier computing a fallback value from the exception
+   * instead of throwing it. No exception is propagated, so neither the wrapper exception nor the
+   * stack unwinding are paid.
+   *
+   * @param supplier the supplier declaring an exception
+   * @param fallback the function computing the returned value from the exception thrown by the
+   *     supplier
+   * @return a supplier not throwing exception
+   */
+  default BooleanSupplier unDeclareOrElseGet(
+      final BooleanSupplierWithException supplier, final Predicate<? super Exception> fallback) {
+    return () -> {
+      try {
+        return supplier.getAsBooleanWithException();
+      } catch (final Exception exception) {
+        return fallback.test(exception);
+      }
+    };
+  }
+
+  /**
+   * Convert the provided supplier into a supplier returning the fallback value instead of throwing
+   * an exception. No exception is propagated, so neither the wrapper exception nor the stack
+   * unwinding are paid.
+   *
+   * @param supplier the supplier declaring an exception
+   * @param fallback the value returned when the supplier throws an exception
+   * @return a supplier not throwing exception
+   */
+  default ByteSupplier unDeclareOrElse(
+      final ByteSupplierWithException supplier, final byte fallback) {
+    return () -> {
+      try {
+        return supplier.getAsByteWithException();
+      } catch (final Exception exception) {
+        return fallback;
+      }
+    };
+  }
+
+  /**
+   * Convert the provided supplier into a supplier returning the fallback value instead of throwing
+   * an exception. No exception is propagated, so neither the wrapper exception nor the stack
+   * unwinding are paid.
+   *
+   * @param supplier the supplier declaring an exception
+   * @param fallback the value returned when the supplier throws an exception
+   * @return a supplier not throwing exception
+   */
+  default CharSupplier unDeclareOrElse(
+      final CharSupplierWithException supplier, final char fallback) {
+    return () -> {
+      try {
+        return supplier.getAsCharWithException();
+      } catch (final Exception exception) {
+        return fallback;
+      }
+    };
+  }
+
+  /**
+   * Convert the provided supplier into a supplier returning the fallback value instead of throwing
+   * an exception. No exception is propagated, so neither the wrapper exception nor the stack
+   * unwinding are paid.
+   *
+   * @param supplier the supplier declaring an exception
+   * @param fallback the value returned when the supplier throws an exception
+   * @return a supplier not throwing exception
+   */
+  default DoubleSupplier unDeclareOrElse(
+      final DoubleSupplierWithException supplier, final double fallback) {
+    return () -> {
+      try {
+        return supplier.getAsDoubleWithException();
+      } catch (final Exception exception) {
+        return fallback;
+      }
+    };
+  }
+
+  /**
+   * Convert the provided supplier into a supplier computing a fallback value from the exception
+   * instead of throwing it. No exception is propagated, so neither the wrapper exception nor the
+   * stack unwinding are paid.
+   *
+   * @param supplier the supplier declaring an exception
+   * @param fallback the function computing the returned value from the exception thrown by the
+   *     supplier
+   * @return a supplier not throwing exception
+   */
+  default DoubleSupplier unDeclareOrElseGet(
+      final DoubleSupplierWithException supplier,
+      final ToDoubleFunction<? super Exception> fallback) {
+    return () -> {
+      try {
+        return supplier.getAsDoubleWithException();
+      } catch (final Exception exception) {
+        return fallback.applyAsDouble(exception);
+      }
+    };
+  }
+
+  /**
+   * Convert the provided supplier into a supplier returning the fallback value instead of throwing
+   * an exception. No exception is propagated, so neither the wrapper exception nor the stack
+   * unwinding are paid.
+   *
+   * @param supplier the supplier declaring an exception
+   * @param fallback the value returned when the supplier throws an exception
+   * @return a supplier not throwing exception
+   */
+  default IntSupplier unDeclareOrElse(final IntSupplierWithException supplier, final int fallback) {
+    return () -> {
+      try {
+        return supplier.getAsIntWithException();
+      } catch (final Exception exception) {
+        return fallback;
+      }
+    };
+  }
+
+  /**
+   * Convert the provided supplier into a supplier computing a fallback value from the exception
+   * instead of throwing it. No exception is propagated, so neither the wrapper exception nor the
+   * stack unwinding are paid.
+   *
+   * @param supplier the supplier declaring an exception
+   * @param fallback the function computing the returned value from the exception thrown by the
+   *     supplier
+   * @return a supplier not throwing exception
+   */
+  default IntSupplier unDeclareOrElseGet(
+      final IntSupplierWithException supplier, final ToIntFunction<? super Exception> fallback) {
+    return () -> {
+      try {
+        return supplier.getAsIntWithException();
+      } catch (final Exception exception) {
+        return fallback.applyAsInt(exception);
+      }
+    };
+  }
+
+  /**
+   * Convert the provided supplier into a supplier returning the fallback value instead of throwing
+   * an exception. No exception is propagated, so neither the wrapper exception nor the stack
+   * unwinding are paid.
+   *
+   * @param supplier the supplier declaring an exception
+   * @param fallback the value returned when the supplier throws an exception
+   * @return a supplier not throwing exception
+   */
+  default LongSupplier unDeclareOrElse(
+      final LongSupplierWithException supplier, final long fallback) {
+    return () -> {
+      try {
+        return supplier.getAsLongWithException();
+      } catch (final Exception exception) {
+        return fallback;
+      }
+    };
+  }
+
+  /**
+   * Convert the provided supplier into a supplier computing a fallback value from the exception
+   * instead of throwing it. No exception is propagated, so neither the wrapper exception nor the
+   * stack unwinding are paid.
+   *
+   * @param supplier the supplier declaring an exception
+   * @param fallback the function computing the returned value from the exception thrown by the
+   *     supplier
+   * @return a supplier not throwing exception
+   */
+  default LongSupplier unDeclareOrElseGet(
+      final LongSupplierWithException supplier, final ToLongFunction<? super Exception> fallback) {
+    return () -> {
+      try {
+        return supplier.getAsLongWithException();
+      } catch (final Exception exception) {
+        return fallback.applyAsLong(exception);
+      }
+    };
+  }
+
+  /**
+   * Convert the provided callable into a supplier returning the outcome of each invocation as a
+   * result. The exceptions are returned instead of being propagated.
+   *
+   * @param callable the callable declaring an exception
+   * @param <T> the result type of the callable
+   * @return a supplier not throwing exception
+   */
+  default <T> Supplier<Result<T>> toResult(final Callable<T> callable) {
+    return () -> Result.of(callable);
+  }
+
+  /**
+   * Convert the provided function into a function returning the outcome of each invocation as a
+   * result. The exceptions are returned instead of being propagated.
+   *
+   * @param function the function declaring an exception
+   * @param <T> the input type of the function
+   * @param <R> the result type of the function
+   * @return a function not throwing exception
+   */
+  default <T, R> Function<T, Result<R>> toResult(final FunctionWithError<T, R> function) {
+    return t -> Result.of(function, t);
+  }
+
+  /**
+   * Convert the provided supplier into a supplier returning the outcome of each invocation as a
+   * result. The exceptions are returned instead of being propagated.
+   *
+   * @param supplier the supplier declaring an exception
+   * @return a supplier not throwing exception
+   */
+  default Supplier<BooleanResult> toResult(final BooleanSupplierWithException supplier) {
+    return () -> BooleanResult.of(supplier);
+  }
+
+  /**
+   * Convert the provided supplier into a supplier returning the outcome of each invocation as a
+   * result. The exceptions are returned instead of being propagated.
+   *
+   * @param supplier the supplier declaring an exception
+   * @return a supplier not throwing exception
+   */
+  default Supplier<DoubleResult> toResult(final DoubleSupplierWithException supplier) {
+    return () -> DoubleResult.of(supplier);
+  }
+
+  /**
+   * Convert the provided supplier into a supplier returning the outcome of each invocation as a
+   * result. The exceptions are returned instead of being propagated.
+   *
+   * @param supplier the supplier declaring an exception
+   * @return a supplier not throwing exception
+   */
+  default Supplier<IntResult> toResult(final IntSupplierWithException supplier) {
+    return () -> IntResult.of(supplier);
+  }
+
+  /**
+   * Execute the callables in parallel on the common {@link ForkJoinPool} and wait for all of them.
+   * Every callable is executed, even if some of them fail. Each failure is converted as {@link
+   * #unDeclare(Callable)} would.
+   *
+   * @param callables the callables
+   * @param <T> the result type of the callables
+   * @return the results, in the order of the callables
+   * @throws MultipleFailuresException carrying every converted failure as a suppressed exception
+   */
+  default <T> List<T> invokeAll(final Collection<? extends Callable<? extends T>> callables) {
+    return this.invokeAll(callables, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Execute the callables in parallel on the provided pool and wait for all of them. Every callable
+   * is executed, even if some of them fail. Each failure is converted as {@link
+   * #unDeclare(Callable)} would.
+   *
+   * @param callables the callables
+   * @param pool the pool executing the callables
+   * @param <T> the result type of the callables
+   * @return the results, in the order of the callables
+   * @throws MultipleFailuresException carrying every converted failure as a suppressed exception
+   */
+  default <T> List<T> invokeAll(
+      final Collection<? extends Callable<? extends T>> callables, final ForkJoinPool pool) {
+    final List<Supplier<? extends T>> tasks = new ArrayList<>(callables.size());
+    for (final Callable<? extends T> callable : callables) {
+      tasks.add(this.unDeclare(callable));
+    }
+    return BulkExecution.invokeAll(pool, tasks);
+  }
+
+  /**
+   * Execute the runnables in parallel on the common {@link ForkJoinPool} and wait for all of them.
+   * Every runnable is executed, even if some of them fail. Each failure is converted as {@link
+   * #unDeclare(RunnableWithException)} would.
+   *
+   * @param runnables the runnables
+   * @throws MultipleFailuresException carrying every converted failure as a suppressed exception
+   */
+  default void runAll(final Collection<? extends RunnableWithException> runnables) {
+    this.runAll(runnables, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Execute the runnables in parallel on the provided pool and wait for all of them. Every runnable
+   * is executed, even if some of them fail. Each failure is converted as {@link
+   * #unDeclare(RunnableWithException)} would.
+   *
+   * @param runnables the runnables
+   * @param pool the pool executing the runnables
+   * @throws MultipleFailuresException carrying every converted failure as a suppressed exception
+   */
+  default void runAll(
+      final Collection<? extends RunnableWithException> runnables, final ForkJoinPool pool) {
+    final List<Runnable> tasks = new ArrayList<>(runnables.size());
+    for (final RunnableWithException runnable : runnables) {
+      tasks.add(this.unDeclare(runnable));
+    }
+    BulkExecution.runAll(pool, tasks);
+  }
+
+  /**
+   * Apply the consumer to every element in parallel on the common {@link ForkJoinPool}. The first
+   * failure cancels the remaining elements and is propagated as {@link
+   * #unDeclare(ConsumerWithException)} would.
+   *
+   * @param elements the elements
+   * @param consumer the consumer declaring an exception
+   * @param <T> the type of the elements
+   */
+  default <T> void forEachFailFast(
+      final Collection<T> elements, final ConsumerWithException<T> consumer) {
+    this.forEachFailFast(elements, consumer, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Apply the consumer to every element in parallel on the provided pool. The first failure cancels
+   * the remaining elements and is propagated as {@link #unDeclare(ConsumerWithException)} would.
+   *
+   * @param elements the elements
+   * @param consumer the consumer declaring an exception
+   * @param pool the pool applying the consumer
+   * @param <T> the type of the elements
+   */
+  default <T> void forEachFailFast(
+      final Collection<T> elements,
+      final ConsumerWithException<T> consumer,
+      final ForkJoinPool pool) {
+    BulkExecution.forEachFailFast(pool, elements, this.unDeclare(consumer));
+  }
+
+  /**
+   * Execute the callables on virtual threads, one thread by callable, and wait for all of them.
+   * Every callable is executed, even if some of them fail. Each failure is converted as {@link
+   * #unDeclare(Callable)} would. Without virtual threads, before Java 21, the tasks share a bounded
+   * pool of platform threads, see {@link VirtualThreadExecution#isAvailable()}.
+   *
+   * @param callables the callables
+   * @param <T> the result type of the callables
+   * @return the results, in the order of the callables
+   * @throws MultipleFailuresException carrying every converted failure as a suppressed exception
+   */
+  default <T> List<T> invokeAllOnVirtualThreads(
+      final Collection<? extends Callable<? extends T>> callables) {
+    final List<Supplier<? extends T>> tasks = new ArrayList<>(callables.size());
+    for (final Callable<? extends T> callable : callables) {
+      tasks.add(this.unDeclare(callable));
+    }
+    return VirtualThreadExecution.invokeAll(tasks);
+  }
+
+  /**
+   * Execute the runnables on virtual threads, one thread by runnable, and wait for all of them.
+   * Every runnable is executed, even if some of them fail. Each failure is converted as {@link
+   * #unDeclare(RunnableWithException)} would. Without virtual threads, before Java 21, the tasks
+   * share a bounded pool of platform threads, see {@link VirtualThreadExecution#isAvailable()}.
+   *
+   * @param runnables the runnables
+   * @throws MultipleFailuresException carrying every converted failure as a suppressed exception
+   */
+  default void runAllOnVirtualThreads(final Collection<? extends RunnableWithException> runnables) {
+    final List<Supplier<Void>> tasks = new ArrayList<>(runnables.size());
+    for (final RunnableWithException runnableWithException : runnables) {
+      final Runnable runnable = this.unDeclare(runnableWithException);
+      tasks.add(
+          () -> {
+            runnable.run();
+            return null;
+          });
+    }
+    VirtualThreadExecution.invokeAll(tasks);
+  }
 }
@@ -0,0 +1,1460 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+import com.github.vgalloy.autocatch.function.BiConsumerWithException;
+import com.github.vgalloy.autocatch.function.BiFunctionWithError;
+import com.github.vgalloy.autocatch.function.BiPredicateWithError;
+import com.github.vgalloy.autocatch.function.BinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.BooleanSupplierWithException;
+import com.github.vgalloy.autocatch.function.ByteSupplier;
+import com.github.vgalloy.autocatch.function.ByteSupplierWithException;
+import com.github.vgalloy.autocatch.function.CharSupplier;
+import com.github.vgalloy.autocatch.function.CharSupplierWithException;
+import com.github.vgalloy.autocatch.function.ConsumerWithException;
+import com.github.vgalloy.autocatch.function.DoubleBinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.DoubleConsumerWithException;
+import com.github.vgalloy.autocatch.function.DoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.DoublePredicateWithException;
+import com.github.vgalloy.autocatch.function.DoubleSupplierWithException;
+import com.github.vgalloy.autocatch.function.DoubleToIntFunctionWithException;
+import com.github.vgalloy.autocatch.function.DoubleToLongFunctionWithException;
+import com.github.vgalloy.autocatch.function.DoubleUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.FunctionWithError;
+import com.github.vgalloy.autocatch.function.IntBinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.IntConsumerWithException;
+import com.github.vgalloy.autocatch.function.IntFunctionWithException;
+import com.github.vgalloy.autocatch.function.IntPredicateWithException;
+import com.github.vgalloy.autocatch.function.IntSupplierWithException;
+import com.github.vgalloy.autocatch.function.IntToDoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.IntToLongFunctionWithException;
+import com.github.vgalloy.autocatch.function.IntUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.LongBinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.LongConsumerWithException;
+import com.github.vgalloy.autocatch.function.LongFunctionWithException;
+import com.github.vgalloy.autocatch.function.LongPredicateWithException;
+import com.github.vgalloy.autocatch.function.LongSupplierWithException;
+import com.github.vgalloy.autocatch.function.LongToDoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.LongToIntFunctionWithException;
+import com.github.vgalloy.autocatch.function.LongUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.ObjDoubleConsumerWithException;
+import com.github.vgalloy.autocatch.function.ObjIntConsumerWithException;
+import com.github.vgalloy.autocatch.function.ObjLongConsumerWithException;
+import com.github.vgalloy.autocatch.function.PredicateWithError;
+import com.github.vgalloy.autocatch.function.RunnableWithException;
+import com.github.vgalloy.autocatch.function.ToDoubleBiFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToDoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToIntBiFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToIntFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToLongBiFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToLongFunctionWithException;
+import com.github.vgalloy.autocatch.result.BooleanResult;
+import com.github.vgalloy.autocatch.result.DoubleResult;
+import com.github.vgalloy.autocatch.result.IntResult;
+import com.github.vgalloy.autocatch.result.Result;
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleBiFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongBiFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Base class of the catchers adding a behaviour around each invocation. The functions are
+ * intercepted before being converted by the delegate, so the delegate still decides how the
+ * exceptions are propagated.
+ */
+abstract class AutoCatcherDecorator implements AutoCatcher {
+
+  private final AutoCatcher delegate;
+
+  /**
+   * Constructor.
+   *
+   * @param delegate the catcher converting the intercepted functions
+   */
+  AutoCatcherDecorator(final AutoCatcher delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * Called before each invocation. Once it has returned, exactly one of {@link #onSuccess(long)}
+   * and {@link #onFailure(long, Throwable)} is called for the invocation, even if the function
+   * throws an {@link Error}: a resource taken here can be given back there. If it throws, the
+   * function is not invoked and no other hook is called.
+   *
+   * @return a token given back to {@link #onSuccess(long)} or {@link #onFailure(long, Throwable)}
+   */
+  abstract long before();
+
+  /**
+   * Called after each invocation returning normally.
+   *
+   * @param token the token returned by {@link #before()}
+   */
+  abstract void onSuccess(long token);
+
+  /**
+   * Called after each invocation throwing an exception or an error. The throwable is propagated to
+   * the delegate afterwards.
+   *
+   * @param token the token returned by {@link #before()}
+   * @param failure the exception or the error thrown by the invocation
+   */
+  abstract void onFailure(long token, Throwable failure);
+
+  /**
+   * Called once by conversion, when the function is intercepted.
+   *
+   * @return a context given back to {@link #onFailure(Object, long, Throwable)}, {@code null} by
+   *     default
+   */
+  Object onConversion() {
+    return null;
+  }
+
+  /**
+   * Called by each invocation of an {@code autoCatch} method, where the function is intercepted and
+   * invoked at once. Calls {@link #onConversion()} by default.
+   *
+   * @return a context given back to {@link #onFailure(Object, long, Throwable)}
+   */
+  Object onInvocation() {
+    return this.onConversion();
+  }
+
+  /**
+   * Called after each invocation throwing an exception or an error, with the context of the
+   * conversion. Calls {@link #onFailure(long, Throwable)} by default.
+   *
+   * @param context the context returned by {@link #onConversion()}
+   * @param token the token returned by {@link #before()}
+   * @param failure the exception or the error thrown by the invocation
+   */
+  void onFailure(final Object context, final long token, final Throwable failure) {
+    this.onFailure(token, failure);
+  }
+
+  @Override
+  public BooleanSupplier unDeclare(final BooleanSupplierWithException supplier) {
+    return delegate.unDeclare(intercept(this.onConversion(), supplier));
+  }
+
+  @Override
+  public ByteSupplier unDeclare(final ByteSupplierWithException supplier) {
+    return delegate.unDeclare(intercept(this.onConversion(), supplier));
+  }
+
+  @Override
+  public CharSupplier unDeclare(final CharSupplierWithException supplier) {
+    return delegate.unDeclare(intercept(this.onConversion(), supplier));
+  }
+
+  @Override
+  public DoubleSupplier unDeclare(final DoubleSupplierWithException supplier) {
+    return delegate.unDeclare(intercept(this.onConversion(), supplier));
+  }
+
+  @Override
+  public IntSupplier unDeclare(final IntSupplierWithException supplier) {
+    return delegate.unDeclare(intercept(this.onConversion(), supplier));
+  }
+
+  @Override
+  public Runnable unDeclare(final RunnableWithException runnable) {
+    return delegate.unDeclare(intercept(this.onConversion(), runnable));
+  }
+
+  @Override
+  public <T> Supplier<T> unDeclare(final Callable<T> callable) {
+    return delegate.unDeclare(intercept(this.onConversion(), callable));
+  }
+
+  @Override
+  public <T> Consumer<T> unDeclare(final ConsumerWithException<T> consumer) {
+    final Object context = this.onConversion();
+    final ConsumerWithException<T> intercepted =
+        t -> {
+          final long token = this.before();
+          try {
+            consumer.accept(t);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+        };
+    return delegate.unDeclare(intercepted);
+  }
+
+  @Override
+  public <T> Predicate<T> unDeclare(final PredicateWithError<T> predicate) {
+    final Object context = this.onConversion();
+    final PredicateWithError<T> intercepted =
+        t -> {
+          final long token = this.before();
+          final boolean result;
+          try {
+            result = predicate.test(t);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclare(intercepted);
+  }
+
+  @Override
+  public <T, R> Function<T, R> unDeclare(final FunctionWithError<T, R> function) {
+    final Object context = this.onConversion();
+    final FunctionWithError<T, R> intercepted =
+        t -> {
+          final long token = this.before();
+          final R result;
+          try {
+            result = function.apply(t);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclare(intercepted);
+  }
+
+  @Override
+  public LongSupplier unDeclare(final LongSupplierWithException supplier) {
+    return delegate.unDeclare(intercept(this.onConversion(), supplier));
+  }
+
+  @Override
+  public <R> IntFunction<R> unDeclareInt(final IntFunctionWithException<R> function) {
+    final Object context = this.onConversion();
+    final IntFunctionWithException<R> intercepted =
+        value -> {
+          final long token = this.before();
+          final R result;
+          try {
+            result = function.apply(value);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareInt(intercepted);
+  }
+
+  @Override
+  public IntToDoubleFunction unDeclareInt(final IntToDoubleFunctionWithException function) {
+    final Object context = this.onConversion();
+    final IntToDoubleFunctionWithException intercepted =
+        value -> {
+          final long token = this.before();
+          final double result;
+          try {
+            result = function.applyAsDouble(value);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareInt(intercepted);
+  }
+
+  @Override
+  public IntToLongFunction unDeclareInt(final IntToLongFunctionWithException function) {
+    final Object context = this.onConversion();
+    final IntToLongFunctionWithException intercepted =
+        value -> {
+          final long token = this.before();
+          final long result;
+          try {
+            result = function.applyAsLong(value);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareInt(intercepted);
+  }
+
+  @Override
+  public IntUnaryOperator unDeclareInt(final IntUnaryOperatorWithException operator) {
+    final Object context = this.onConversion();
+    final IntUnaryOperatorWithException intercepted =
+        value -> {
+          final long token = this.before();
+          final int result;
+          try {
+            result = operator.applyAsInt(value);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareInt(intercepted);
+  }
+
+  @Override
+  public IntPredicate unDeclareInt(final IntPredicateWithException predicate) {
+    final Object context = this.onConversion();
+    final IntPredicateWithException intercepted =
+        value -> {
+          final long token = this.before();
+          final boolean result;
+          try {
+            result = predicate.test(value);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareInt(intercepted);
+  }
+
+  @Override
+  public IntConsumer unDeclareInt(final IntConsumerWithException consumer) {
+    final Object context = this.onConversion();
+    final IntConsumerWithException intercepted =
+        value -> {
+          final long token = this.before();
+          try {
+            consumer.accept(value);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+        };
+    return delegate.unDeclareInt(intercepted);
+  }
+
+  @Override
+  public <R> LongFunction<R> unDeclareLong(final LongFunctionWithException<R> function) {
+    final Object context = this.onConversion();
+    final LongFunctionWithException<R> intercepted =
+        value -> {
+          final long token = this.before();
+          final R result;
+          try {
+            result = function.apply(value);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareLong(intercepted);
+  }
+
+  @Override
+  public LongToDoubleFunction unDeclareLong(final LongToDoubleFunctionWithException function) {
+    final Object context = this.onConversion();
+    final LongToDoubleFunctionWithException intercepted =
+        value -> {
+          final long token = this.before();
+          final double result;
+          try {
+            result = function.applyAsDouble(value);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareLong(intercepted);
+  }
+
+  @Override
+  public LongToIntFunction unDeclareLong(final LongToIntFunctionWithException function) {
+    final Object context = this.onConversion();
+    final LongToIntFunctionWithException intercepted =
+        value -> {
+          final long token = this.before();
+          final int result;
+          try {
+            result = function.applyAsInt(value);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareLong(intercepted);
+  }
+
+  @Override
+  public LongUnaryOperator unDeclareLong(final LongUnaryOperatorWithException operator) {
+    final Object context = this.onConversion();
+    final LongUnaryOperatorWithException intercepted =
+        value -> {
+          final long token = this.before();
+          final long result;
+          try {
+            result = operator.applyAsLong(value);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareLong(intercepted);
+  }
+
+  @Override
+  public LongPredicate unDeclareLong(final LongPredicateWithException predicate) {
+    final Object context = this.onConversion();
+    final LongPredicateWithException intercepted =
+        value -> {
+          final long token = this.before();
+          final boolean result;
+          try {
+            result = predicate.test(value);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareLong(intercepted);
+  }
+
+  @Override
+  public LongConsumer unDeclareLong(final LongConsumerWithException consumer) {
+    final Object context = this.onConversion();
+    final LongConsumerWithException intercepted =
+        value -> {
+          final long token = this.before();
+          try {
+            consumer.accept(value);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+        };
+    return delegate.unDeclareLong(intercepted);
+  }
+
+  @Override
+  public <R> DoubleFunction<R> unDeclareDouble(final DoubleFunctionWithException<R> function) {
+    final Object context = this.onConversion();
+    final DoubleFunctionWithException<R> intercepted =
+        value -> {
+          final long token = this.before();
+          final R result;
+          try {
+            result = function.apply(value);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareDouble(intercepted);
+  }
+
+  @Override
+  public DoubleToIntFunction unDeclareDouble(final DoubleToIntFunctionWithException function) {
+    final Object context = this.onConversion();
+    final DoubleToIntFunctionWithException intercepted =
+        value -> {
+          final long token = this.before();
+          final int result;
+          try {
+            result = function.applyAsInt(value);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareDouble(intercepted);
+  }
+
+  @Override
+  public DoubleToLongFunction unDeclareDouble(final DoubleToLongFunctionWithException function) {
+    final Object context = this.onConversion();
+    final DoubleToLongFunctionWithException intercepted =
+        value -> {
+          final long token = this.before();
+          final long result;
+          try {
+            result = function.applyAsLong(value);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareDouble(intercepted);
+  }
+
+  @Override
+  public DoubleUnaryOperator unDeclareDouble(final DoubleUnaryOperatorWithException operator) {
+    final Object context = this.onConversion();
+    final DoubleUnaryOperatorWithException intercepted =
+        value -> {
+          final long token = this.before();
+          final double result;
+          try {
+            result = operator.applyAsDouble(value);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareDouble(intercepted);
+  }
+
+  @Override
+  public DoublePredicate unDeclareDouble(final DoublePredicateWithException predicate) {
+    final Object context = this.onConversion();
+    final DoublePredicateWithException intercepted =
+        value -> {
+          final long token = this.before();
+          final boolean result;
+          try {
+            result = predicate.test(value);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareDouble(intercepted);
+  }
+
+  @Override
+  public DoubleConsumer unDeclareDouble(final DoubleConsumerWithException consumer) {
+    final Object context = this.onConversion();
+    final DoubleConsumerWithException intercepted =
+        value -> {
+          final long token = this.before();
+          try {
+            consumer.accept(value);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+        };
+    return delegate.unDeclareDouble(intercepted);
+  }
+
+  @Override
+  public <T> ToIntFunction<T> unDeclareToInt(final ToIntFunctionWithException<T> function) {
+    final Object context = this.onConversion();
+    final ToIntFunctionWithException<T> intercepted =
+        t -> {
+          final long token = this.before();
+          final int result;
+          try {
+            result = function.applyAsInt(t);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareToInt(intercepted);
+  }
+
+  @Override
+  public <T> ToLongFunction<T> unDeclareToLong(final ToLongFunctionWithException<T> function) {
+    final Object context = this.onConversion();
+    final ToLongFunctionWithException<T> intercepted =
+        t -> {
+          final long token = this.before();
+          final long result;
+          try {
+            result = function.applyAsLong(t);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareToLong(intercepted);
+  }
+
+  @Override
+  public <T> ToDoubleFunction<T> unDeclareToDouble(
+      final ToDoubleFunctionWithException<T> function) {
+    final Object context = this.onConversion();
+    final ToDoubleFunctionWithException<T> intercepted =
+        t -> {
+          final long token = this.before();
+          final double result;
+          try {
+            result = function.applyAsDouble(t);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareToDouble(intercepted);
+  }
+
+  @Override
+  public <T, U, R> BiFunction<T, U, R> unDeclare(final BiFunctionWithError<T, U, R> function) {
+    final Object context = this.onConversion();
+    final BiFunctionWithError<T, U, R> intercepted =
+        (t, u) -> {
+          final long token = this.before();
+          final R result;
+          try {
+            result = function.apply(t, u);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclare(intercepted);
+  }
+
+  @Override
+  public <T> BinaryOperator<T> unDeclare(final BinaryOperatorWithException<T> operator) {
+    final Object context = this.onConversion();
+    final BinaryOperatorWithException<T> intercepted =
+        (left, right) -> {
+          final long token = this.before();
+          final T result;
+          try {
+            result = operator.apply(left, right);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclare(intercepted);
+  }
+
+  @Override
+  public <T, U> BiPredicate<T, U> unDeclare(final BiPredicateWithError<T, U> predicate) {
+    final Object context = this.onConversion();
+    final BiPredicateWithError<T, U> intercepted =
+        (t, u) -> {
+          final long token = this.before();
+          final boolean result;
+          try {
+            result = predicate.test(t, u);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclare(intercepted);
+  }
+
+  @Override
+  public <T, U> BiConsumer<T, U> unDeclare(final BiConsumerWithException<T, U> consumer) {
+    final Object context = this.onConversion();
+    final BiConsumerWithException<T, U> intercepted =
+        (t, u) -> {
+          final long token = this.before();
+          try {
+            consumer.accept(t, u);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+        };
+    return delegate.unDeclare(intercepted);
+  }
+
+  @Override
+  public IntBinaryOperator unDeclareIntBinary(final IntBinaryOperatorWithException operator) {
+    final Object context = this.onConversion();
+    final IntBinaryOperatorWithException intercepted =
+        (left, right) -> {
+          final long token = this.before();
+          final int result;
+          try {
+            result = operator.applyAsInt(left, right);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareIntBinary(intercepted);
+  }
+
+  @Override
+  public LongBinaryOperator unDeclareLongBinary(final LongBinaryOperatorWithException operator) {
+    final Object context = this.onConversion();
+    final LongBinaryOperatorWithException intercepted =
+        (left, right) -> {
+          final long token = this.before();
+          final long result;
+          try {
+            result = operator.applyAsLong(left, right);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareLongBinary(intercepted);
+  }
+
+  @Override
+  public DoubleBinaryOperator unDeclareDoubleBinary(
+      final DoubleBinaryOperatorWithException operator) {
+    final Object context = this.onConversion();
+    final DoubleBinaryOperatorWithException intercepted =
+        (left, right) -> {
+          final long token = this.before();
+          final double result;
+          try {
+            result = operator.applyAsDouble(left, right);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareDoubleBinary(intercepted);
+  }
+
+  @Override
+  public <T, U> ToIntBiFunction<T, U> unDeclareToIntBi(
+      final ToIntBiFunctionWithException<T, U> function) {
+    final Object context = this.onConversion();
+    final ToIntBiFunctionWithException<T, U> intercepted =
+        (t, u) -> {
+          final long token = this.before();
+          final int result;
+          try {
+            result = function.applyAsInt(t, u);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareToIntBi(intercepted);
+  }
+
+  @Override
+  public <T, U> ToLongBiFunction<T, U> unDeclareToLongBi(
+      final ToLongBiFunctionWithException<T, U> function) {
+    final Object context = this.onConversion();
+    final ToLongBiFunctionWithException<T, U> intercepted =
+        (t, u) -> {
+          final long token = this.before();
+          final long result;
+          try {
+            result = function.applyAsLong(t, u);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareToLongBi(intercepted);
+  }
+
+  @Override
+  public <T, U> ToDoubleBiFunction<T, U> unDeclareToDoubleBi(
+      final ToDoubleBiFunctionWithException<T, U> function) {
+    final Object context = this.onConversion();
+    final ToDoubleBiFunctionWithException<T, U> intercepted =
+        (t, u) -> {
+          final long token = this.before();
+          final double result;
+          try {
+            result = function.applyAsDouble(t, u);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareToDoubleBi(intercepted);
+  }
+
+  @Override
+  public <T> ObjIntConsumer<T> unDeclareObjInt(final ObjIntConsumerWithException<T> consumer) {
+    final Object context = this.onConversion();
+    final ObjIntConsumerWithException<T> intercepted =
+        (t, value) -> {
+          final long token = this.before();
+          try {
+            consumer.accept(t, value);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+        };
+    return delegate.unDeclareObjInt(intercepted);
+  }
+
+  @Override
+  public <T> ObjLongConsumer<T> unDeclareObjLong(final ObjLongConsumerWithException<T> consumer) {
+    final Object context = this.onConversion();
+    final ObjLongConsumerWithException<T> intercepted =
+        (t, value) -> {
+          final long token = this.before();
+          try {
+            consumer.accept(t, value);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+        };
+    return delegate.unDeclareObjLong(intercepted);
+  }
+
+  @Override
+  public <T> ObjDoubleConsumer<T> unDeclareObjDouble(
+      final ObjDoubleConsumerWithException<T> consumer) {
+    final Object context = this.onConversion();
+    final ObjDoubleConsumerWithException<T> intercepted =
+        (t, value) -> {
+          final long token = this.before();
+          try {
+            consumer.accept(t, value);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+        };
+    return delegate.unDeclareObjDouble(intercepted);
+  }
+
+  @Override
+  public <T> Supplier<T> unDeclareOrElse(final Callable<T> callable, final T fallback) {
+    final Object context = this.onConversion();
+    final Callable<T> intercepted =
+        () -> {
+          final long token = this.before();
+          final T result;
+          try {
+            result = callable.call();
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareOrElse(intercepted, fallback);
+  }
+
+  @Override
+  public <T> Supplier<T> unDeclareOrElseGet(
+      final Callable<T> callable, final Function<? super Exception, ? extends T> fallback) {
+    final Object context = this.onConversion();
+    final Callable<T> intercepted =
+        () -> {
+          final long token = this.before();
+          final T result;
+          try {
+            result = callable.call();
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareOrElseGet(intercepted, fallback);
+  }
+
+  @Override
+  public <T, R> Function<T, R> unDeclareOrElse(
+      final FunctionWithError<T, R> function, final R fallback) {
+    final Object context = this.onConversion();
+    final FunctionWithError<T, R> intercepted =
+        t -> {
+          final long token = this.before();
+          final R result;
+          try {
+            result = function.apply(t);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareOrElse(intercepted, fallback);
+  }
+
+  @Override
+  public <T, R> Function<T, R> unDeclareOrElseGet(
+      final FunctionWithError<T, R> function,
+      final Function<? super Exception, ? extends R> fallback) {
+    final Object context = this.onConversion();
+    final FunctionWithError<T, R> intercepted =
+        t -> {
+          final long token = this.before();
+          final R result;
+          try {
+            result = function.apply(t);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareOrElseGet(intercepted, fallback);
+  }
+
+  @Override
+  public BooleanSupplier unDeclareOrElse(
+      final BooleanSupplierWithException supplier, final boolean fallback) {
+    final Object context = this.onConversion();
+    final BooleanSupplierWithException intercepted =
+        () -> {
+          final long token = this.before();
+          final boolean result;
+          try {
+            result = supplier.getAsBooleanWithException();
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareOrElse(intercepted, fallback);
+  }
+
+  @Override
+  public BooleanSupplier unDeclareOrElseGet(
+      final BooleanSupplierWithException supplier, final Predicate<? super Exception> fallback) {
+    final Object context = this.onConversion();
+    final BooleanSupplierWithException intercepted =
+        () -> {
+          final long token = this.before();
+          final boolean result;
+          try {
+            result = supplier.getAsBooleanWithException();
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareOrElseGet(intercepted, fallback);
+  }
+
+  @Override
+  public ByteSupplier unDeclareOrElse(
+      final ByteSupplierWithException supplier, final byte fallback) {
+    final Object context = this.onConversion();
+    final ByteSupplierWithException intercepted =
+        () -> {
+          final long token = this.before();
+          final byte result;
+          try {
+            result = supplier.getAsByteWithException();
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareOrElse(intercepted, fallback);
+  }
+
+  @Override
+  public CharSupplier unDeclareOrElse(
+      final CharSupplierWithException supplier, final char fallback) {
+    final Object context = this.onConversion();
+    final CharSupplierWithException intercepted =
+        () -> {
+          final long token = this.before();
+          final char result;
+          try {
+            result = supplier.getAsCharWithException();
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareOrElse(intercepted, fallback);
+  }
+
+  @Override
+  public DoubleSupplier unDeclareOrElse(
+      final DoubleSupplierWithException supplier, final double fallback) {
+    final Object context = this.onConversion();
+    final DoubleSupplierWithException intercepted =
+        () -> {
+          final long token = this.before();
+          final double result;
+          try {
+            result = supplier.getAsDoubleWithException();
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareOrElse(intercepted, fallback);
+  }
+
+  @Override
+  public DoubleSupplier unDeclareOrElseGet(
+      final DoubleSupplierWithException supplier,
+      final ToDoubleFunction<? super Exception> fallback) {
+    final Object context = this.onConversion();
+    final DoubleSupplierWithException intercepted =
+        () -> {
+          final long token = this.before();
+          final double result;
+          try {
+            result = supplier.getAsDoubleWithException();
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareOrElseGet(intercepted, fallback);
+  }
+
+  @Override
+  public IntSupplier unDeclareOrElse(final IntSupplierWithException supplier, final int fallback) {
+    final Object context = this.onConversion();
+    final IntSupplierWithException intercepted =
+        () -> {
+          final long token = this.before();
+          final int result;
+          try {
+            result = supplier.getAsIntWithException();
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareOrElse(intercepted, fallback);
+  }
+
+  @Override
+  public IntSupplier unDeclareOrElseGet(
+      final IntSupplierWithException supplier, final ToIntFunction<? super Exception> fallback) {
+    final Object context = this.onConversion();
+    final IntSupplierWithException intercepted =
+        () -> {
+          final long token = this.before();
+          final int result;
+          try {
+            result = supplier.getAsIntWithException();
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareOrElseGet(intercepted, fallback);
+  }
+
+  @Override
+  public LongSupplier unDeclareOrElse(
+      final LongSupplierWithException supplier, final long fallback) {
+    final Object context = this.onConversion();
+    final LongSupplierWithException intercepted =
+        () -> {
+          final long token = this.before();
+          final long result;
+          try {
+            result = supplier.getAsLongWithException();
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareOrElse(intercepted, fallback);
+  }
+
+  @Override
+  public LongSupplier unDeclareOrElseGet(
+      final LongSupplierWithException supplier, final ToLongFunction<? super Exception> fallback) {
+    final Object context = this.onConversion();
+    final LongSupplierWithException intercepted =
+        () -> {
+          final long token = this.before();
+          final long result;
+          try {
+            result = supplier.getAsLongWithException();
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.unDeclareOrElseGet(intercepted, fallback);
+  }
+
+  @Override
+  public <T> Supplier<Result<T>> toResult(final Callable<T> callable) {
+    final Object context = this.onConversion();
+    final Callable<T> intercepted =
+        () -> {
+          final long token = this.before();
+          final T result;
+          try {
+            result = callable.call();
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.toResult(intercepted);
+  }
+
+  @Override
+  public <T, R> Function<T, Result<R>> toResult(final FunctionWithError<T, R> function) {
+    final Object context = this.onConversion();
+    final FunctionWithError<T, R> intercepted =
+        t -> {
+          final long token = this.before();
+          final R result;
+          try {
+            result = function.apply(t);
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.toResult(intercepted);
+  }
+
+  @Override
+  public Supplier<BooleanResult> toResult(final BooleanSupplierWithException supplier) {
+    final Object context = this.onConversion();
+    final BooleanSupplierWithException intercepted =
+        () -> {
+          final long token = this.before();
+          final boolean result;
+          try {
+            result = supplier.getAsBooleanWithException();
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.toResult(intercepted);
+  }
+
+  @Override
+  public Supplier<DoubleResult> toResult(final DoubleSupplierWithException supplier) {
+    final Object context = this.onConversion();
+    final DoubleSupplierWithException intercepted =
+        () -> {
+          final long token = this.before();
+          final double result;
+          try {
+            result = supplier.getAsDoubleWithException();
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.toResult(intercepted);
+  }
+
+  @Override
+  public Supplier<IntResult> toResult(final IntSupplierWithException supplier) {
+    final Object context = this.onConversion();
+    final IntSupplierWithException intercepted =
+        () -> {
+          final long token = this.before();
+          final int result;
+          try {
+            result = supplier.getAsIntWithException();
+          } catch (final Throwable failure) {
+            this.onFailure(context, token, failure);
+            throw failure;
+          }
+          this.onSuccess(token);
+          return result;
+        };
+    return delegate.toResult(intercepted);
+  }
+
+  @Override
+  public boolean autoCatch(final BooleanSupplierWithException supplier) {
+    return delegate.autoCatch(intercept(this.onInvocation(), supplier));
+  }
+
+  @Override
+  public byte autoCatch(final ByteSupplierWithException supplier) {
+    return delegate.autoCatch(intercept(this.onInvocation(), supplier));
+  }
+
+  @Override
+  public char autoCatch(final CharSupplierWithException supplier) {
+    return delegate.autoCatch(intercept(this.onInvocation(), supplier));
+  }
+
+  @Override
+  public double autoCatch(final DoubleSupplierWithException supplier) {
+    return delegate.autoCatch(intercept(this.onInvocation(), supplier));
+  }
+
+  @Override
+  public int autoCatch(final IntSupplierWithException supplier) {
+    return delegate.autoCatch(intercept(this.onInvocation(), supplier));
+  }
+
+  @Override
+  public long autoCatch(final LongSupplierWithException supplier) {
+    return delegate.autoCatch(intercept(this.onInvocation(), supplier));
+  }
+
+  @Override
+  public void autoCatch(final RunnableWithException runnable) {
+    delegate.autoCatch(intercept(this.onInvocation(), runnable));
+  }
+
+  @Override
+  public <T> T autoCatch(final Callable<T> callable) {
+    return delegate.autoCatch(intercept(this.onInvocation(), callable));
+  }
+
+  private BooleanSupplierWithException intercept(
+      final Object context, final BooleanSupplierWithException supplier) {
+    return () -> {
+      final long token = this.before();
+      final boolean result;
+      try {
+        result = supplier.getAsBooleanWithException();
+      } catch (final Throwable failure) {
+        this.onFailure(context, token, failure);
+        throw failure;
+      }
+      this.onSuccess(token);
+      return result;
+    };
+  }
+
+  private ByteSupplierWithException intercept(
+      final Object context, final ByteSupplierWithException supplier) {
+    return () -> {
+      final long token = this.before();
+      final byte result;
+      try {
+        result = supplier.getAsByteWithException();
+      } catch (final Throwable failure) {
+        this.onFailure(context, token, failure);
+        throw failure;
+      }
+      this.onSuccess(token);
+      return result;
+    };
+  }
+
+  private CharSupplierWithException intercept(
+      final Object context, final CharSupplierWithException supplier) {
+    return () -> {
+      final long token = this.before();
+      final char result;
+      try {
+        result = supplier.getAsCharWithException();
+      } catch (final Throwable failure) {
+        this.onFailure(context, token, failure);
+        throw failure;
+      }
+      this.onSuccess(token);
+      return result;
+    };
+  }
+
+  private DoubleSupplierWithException intercept(
+      final Object context, final DoubleSupplierWithException supplier) {
+    return () -> {
+      final long token = this.before();
+      final double result;
+      try {
+        result = supplier.getAsDoubleWithException();
+      } catch (final Throwable failure) {
+        this.onFailure(context, token, failure);
+        throw failure;
+      }
+      this.onSuccess(token);
+      return result;
+    };
+  }
+
+  private IntSupplierWithException intercept(
+      final Object context, final IntSupplierWithException supplier) {
+    return () -> {
+      final long token = this.before();
+      final int result;
+      try {
+        result = supplier.getAsIntWithException();
+      } catch (final Throwable failure) {
+        this.onFailure(context, token, failure);
+        throw failure;
+      }
+      this.onSuccess(token);
+      return result;
+    };
+  }
+
+  private LongSupplierWithException intercept(
+      final Object context, final LongSupplierWithException supplier) {
+    return () -> {
+      final long token = this.before();
+      final long result;
+      try {
+        result = supplier.getAsLongWithException();
+      } catch (final Throwable failure) {
+        this.onFailure(context, token, failure);
+        throw failure;
+      }
+      this.onSuccess(token);
+      return result;
+    };
+  }
+
+  private RunnableWithException intercept(
+      final Object context, final RunnableWithException runnable) {
+    return () -> {
+      final long token = this.before();
+      try {
+        runnable.runWithException();
+      } catch (final Throwable failure) {
+        this.onFailure(context, token, failure);
+        throw failure;
+      }
+      this.onSuccess(token);
+    };
+  }
+
+  private <T> Callable<T> intercept(final Object context, final Callable<T> callable) {
+    return () -> {
+      final long token = this.before();
+      final T result;
+      try {
+        result = callable.call();
+      } catch (final Throwable failure) {
+        this.onFailure(context, token, failure);
+        throw failure;
+      }
+      this.onSuccess(token);
+      return result;
+    };
+  }
+}
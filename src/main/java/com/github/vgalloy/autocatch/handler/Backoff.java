@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/** The delay to wait between two attempts of a {@link RetryPolicy}. */
+@FunctionalInterface
+public interface Backoff {
+
+  /**
+   * Compute the delay to wait after a failed attempt.
+   *
+   * @param attempt the number of the failed attempt, starting at 1
+   * @return the delay in nanoseconds, 0 to retry immediately
+   */
+  long delayNanos(final int attempt);
+
+  /**
+   * Retry immediately.
+   *
+   * @return a backoff without delay
+   */
+  static Backoff none() {
+    return attempt -> 0;
+  }
+
+  /**
+   * Always wait the same delay.
+   *
+   * @param delay the delay between two attempts
+   * @return a fixed backoff
+   */
+  static Backoff fixed(final Duration delay) {
+    final long nanos = delay.toNanos();
+    return attempt -> nanos;
+  }
+
+  /**
+   * Double the delay after each failed attempt, without exceeding the provided maximum.
+   *
+   * @param initial the delay after the first failed attempt
+   * @param max the maximum delay
+   * @return an exponential backoff
+   */
+  static Backoff exponential(final Duration initial, final Duration max) {
+    final long initialNanos = initial.toNanos();
+    final long maxNanos = max.toNanos();
+    return attempt -> {
+      final int shift = Math.min(attempt - 1, Long.numberOfLeadingZeros(initialNanos) - 1);
+      return Math.min(initialNanos << shift, maxNanos);
+    };
+  }
+
+  /**
+   * Wait a random delay between 0 and the delay of this backoff ("full jitter"), so the clients
+   * failing together do not retry together.
+   *
+   * @return a jittered backoff
+   */
+  default Backoff withJitter() {
+    return attempt -> {
+      final long delay = delayNanos(attempt);
+      return delay <= 0 ? 0 : ThreadLocalRandom.current().nextLong(delay + 1);
+    };
+  }
+}
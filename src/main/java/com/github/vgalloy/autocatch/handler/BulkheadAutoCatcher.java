@@ -0,0 +1,48 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+/**
+ * An {@link AutoCatcher} limiting the number of concurrent invocations. An invocation without
+ * permit throws a preallocated {@link BulkheadFullException}, or returns the fallback of the {@code
+ * unDeclareOrElse} conversions, without invoking the function.
+ *
+ * @see AutoCatcher#bulkhead(AutoCatcher, int)
+ * @see AutoCatcher#bulkhead(AutoCatcher, int, java.time.Duration)
+ */
+public interface BulkheadAutoCatcher extends AutoCatcher {
+
+  /**
+   * The maximum number of concurrent invocations.
+   *
+   * @return the number of permits
+   */
+  int getMaxConcurrentCalls();
+
+  /**
+   * The number of invocations which could start now.
+   *
+   * @return the number of free permits
+   */
+  int getAvailablePermits();
+
+  /**
+   * The number of invocations rejected since the creation of the catcher.
+   *
+   * @return the number of rejections
+   */
+  long getRejections();
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Limit the number of concurrent invocations with a counter of free permits taken and given back by
+ * compare and set. Without wait, an invocation finding no permit is rejected at once. With a wait,
+ * the thread parks until a permit is released or the wait is over. The waiting threads take the
+ * permits in their order of arrival, and a new invocation only takes a permit directly when no
+ * thread is waiting: otherwise the threads looping on the bulkhead would keep taking the permits
+ * released before the woken thread runs. The permit is given back whatever the outcome of the
+ * invocation, an {@link Error} included.
+ */
+final class BulkheadExceptionHandler extends AutoCatcherDecorator implements BulkheadAutoCatcher {
+
+  private final int maxConcurrentCalls;
+  private final long maxWaitNanos;
+  private final AtomicInteger permits;
+  private final Queue<Thread> waiters = new ConcurrentLinkedQueue<>();
+  private final LongAdder rejections = new LongAdder();
+  private final BulkheadFullException fullException = new BulkheadFullException();
+
+  /**
+   * Constructor.
+   *
+   * @param delegate the catcher converting the intercepted functions
+   * @param maxConcurrentCalls the maximum number of concurrent invocations
+   * @param maxWaitNanos the maximum duration to wait for a permit, 0 to reject at once
+   */
+  BulkheadExceptionHandler(
+      final AutoCatcher delegate, final int maxConcurrentCalls, final long maxWaitNanos) {
+    super(delegate);
+    if (maxConcurrentCalls < 1) {
+      throw new IllegalArgumentException(
+          "The max concurrent calls must be positive : " + maxConcurrentCalls);
+    }
+    if (maxWaitNanos < 0) {
+      throw new IllegalArgumentException("The max wait must not be negative : " + maxWaitNanos);
+    }
+    this.maxConcurrentCalls = maxConcurrentCalls;
+    this.maxWaitNanos = maxWaitNanos;
+    this.permits = new AtomicInteger(maxConcurrentCalls);
+  }
+
+  @Override
+  long before() {
+    if (maxWaitNanos == 0 ? tryAcquire() : (waiters.isEmpty() && tryAcquire()) || awaitPermit()) {
+      return 0;
+    }
+    rejections.increment();
+    throw fullException;
+  }
+
+  @Override
+  void onSuccess(final long token) {
+    release();
+  }
+
+  @Override
+  void onFailure(final long token, final Throwable failure) {
+    release();
+  }
+
+  @Override
+  public int getMaxConcurrentCalls() {
+    return maxConcurrentCalls;
+  }
+
+  @Override
+  public int getAvailablePermits() {
+    return permits.get();
+  }
+
+  @Override
+  public long getRejections() {
+    return rejections.sum();
+  }
+
+  private boolean tryAcquire() {
+    while (true) {
+      final int available = permits.get();
+      if (available == 0) {
+        return false;
+      }
+      if (permits.compareAndSet(available, available - 1)) {
+        return true;
+      }
+    }
+  }
+
+  private void release() {
+    permits.incrementAndGet();
+    if (maxWaitNanos != 0) {
+      signalWaiter();
+    }
+  }
+
+  private void signalWaiter() {
+    final Thread waiter = waiters.peek();
+    if (waiter != null) {
+      LockSupport.unpark(waiter);
+    }
+  }
+
+  /**
+   * Park until a permit is free and this thread is the first waiting one. A permit released between
+   * the failed attempt and the park is not lost: the unpark makes the next park return at once.
+   *
+   * @return {@code true} if a permit has been acquired
+   */
+  private boolean awaitPermit() {
+    final Thread current = Thread.currentThread();
+    final long deadline = System.nanoTime() + maxWaitNanos;
+    waiters.add(current);
+    try {
+      while (waiters.peek() != current || !tryAcquire()) {
+        final long remaining = deadline - System.nanoTime();
+        if (remaining <= 0 || current.isInterrupted()) {
+          return false;
+        }
+        LockSupport.parkNanos(this, remaining);
+      }
+      return true;
+    } finally {
+      waiters.remove(current);
+      // The next waiting thread is now the first one, and may have missed the release of a permit
+      if (permits.get() != 0) {
+        signalWaiter();
+      }
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2019 Vincent Galloy
+ * Copyright 2018 Vincent Galloy
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,17 +15,16 @@
  */
 package com.github.vgalloy.autocatch.handler;
 
-import com.github.vgalloy.autocatch.function.RunnableWithException;
-
-@FunctionalInterface
-interface RunnableWithExceptionHandler<E extends Exception> {
+/**
+ * Thrown instead of invoking a function when its bulkhead has no permit left. A single instance is
+ * created by bulkhead and it has no stack trace, so a rejection allocates nothing.
+ */
+public final class BulkheadFullException extends RuntimeException {
 
-  /** The action to run. */
-  void run() throws E;
+  private static final long serialVersionUID = 2915873216209863140L;
 
-  @SuppressWarnings("unchecked")
-  static RunnableWithExceptionHandler<RuntimeException> handle(
-      final RunnableWithException supplier) {
-    return (RunnableWithExceptionHandler) supplier::runWithException;
+  /** Constructor. */
+  BulkheadFullException() {
+    super("The bulkhead is full", null, false, false);
   }
 }
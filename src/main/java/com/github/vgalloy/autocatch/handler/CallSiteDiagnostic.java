@@ -0,0 +1,48 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+/**
+ * Suppressed exception added to a failure by a diagnostic catcher, naming the place where the
+ * failing function was converted. It has no stack trace of its own: the call site is its message.
+ *
+ * @see AutoCatcher#callSiteDiagnostic(AutoCatcher)
+ */
+public final class CallSiteDiagnostic extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final StackTraceElement callSite;
+
+  /**
+   * Constructor.
+   *
+   * @param callSite the frame which converted the failing function
+   */
+  CallSiteDiagnostic(final StackTraceElement callSite) {
+    super("Converted at " + callSite, null, false, false);
+    this.callSite = callSite;
+  }
+
+  /**
+   * The frame which converted the failing function, the first frame outside of this library.
+   *
+   * @return the call site
+   */
+  public StackTraceElement getCallSite() {
+    return callSite;
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+/**
+ * Record where each function is converted and add it to the exceptions of the function, as a
+ * suppressed {@link CallSiteDiagnostic}. The call site is captured once by conversion, see {@link
+ * CallSites#capture()}: the invocations of a converted function are not slowed down. The {@code
+ * autoCatch} methods convert and invoke at once, so they only capture the call site on failure,
+ * from the failing invocation.
+ */
+final class CallSiteExceptionHandler extends AutoCatcherDecorator {
+
+  /** Context of the direct invocations, whose call site is captured on failure. */
+  private static final Object CAPTURE_ON_FAILURE = new Object();
+
+  private static final String LIBRARY_PACKAGE = "com.github.vgalloy.autocatch.";
+  private static final String[] LIBRARY_PREFIXES = {
+    LIBRARY_PACKAGE + "AutoCatch",
+    LIBRARY_PACKAGE + "cache.",
+    LIBRARY_PACKAGE + "concurrent.",
+    LIBRARY_PACKAGE + "flow.",
+    LIBRARY_PACKAGE + "function.",
+    LIBRARY_PACKAGE + "handler.",
+    LIBRARY_PACKAGE + "result.",
+    LIBRARY_PACKAGE + "stream."
+  };
+
+  /**
+   * Constructor.
+   *
+   * @param delegate the catcher converting the intercepted functions
+   */
+  CallSiteExceptionHandler(final AutoCatcher delegate) {
+    super(delegate);
+  }
+
+  /**
+   * Check if the class belongs to this library, its frames being skipped to find the call site.
+   *
+   * @param className the name of the class of a frame
+   * @return {@code true} for a class of this library
+   */
+  static boolean isLibraryClass(final String className) {
+    if (!className.startsWith(LIBRARY_PACKAGE)) {
+      return false;
+    }
+    for (final String prefix : LIBRARY_PREFIXES) {
+      if (className.startsWith(prefix)
+          && (!prefix.endsWith("AutoCatch")
+              || className.length() == prefix.length()
+              || className.charAt(prefix.length()) == '$')) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  Object onConversion() {
+    return CallSites.capture();
+  }
+
+  @Override
+  Object onInvocation() {
+    return CAPTURE_ON_FAILURE;
+  }
+
+  @Override
+  long before() {
+    return 0;
+  }
+
+  @Override
+  void onSuccess(final long token) {
+    // Nothing to record
+  }
+
+  @Override
+  void onFailure(final long token, final Throwable failure) {
+    // The call site comes with the context
+  }
+
+  @Override
+  void onFailure(final Object context, final long token, final Throwable failure) {
+    // An error may be a shared instance preallocated by the JVM, it is left untouched
+    if (!(failure instanceof Exception)) {
+      return;
+    }
+    final StackTraceElement callSite =
+        context == CAPTURE_ON_FAILURE ? CallSites.capture() : (StackTraceElement) context;
+    if (callSite != null && !isAttached(failure, callSite)) {
+      failure.addSuppressed(new CallSiteDiagnostic(callSite));
+    }
+  }
+
+  /**
+   * Check if the call site is already attached to the failure. A cached or shared exception may be
+   * rethrown by many invocations: its suppressed exceptions must not grow with them.
+   *
+   * @param failure the failure
+   * @param callSite the call site
+   * @return {@code true} if a diagnostic of this call site is already suppressed by the failure
+   */
+  private static boolean isAttached(final Throwable failure, final StackTraceElement callSite) {
+    for (final Throwable suppressed : failure.getSuppressed()) {
+      if (suppressed instanceof CallSiteDiagnostic
+          && callSite.equals(((CallSiteDiagnostic) suppressed).getCallSite())) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+/** Immutable latencies of a call site, the successes and the failures being kept apart. */
+public final class CallSiteLatency {
+
+  private final LatencySnapshot successes;
+  private final LatencySnapshot failures;
+
+  /**
+   * Constructor.
+   *
+   * @param successes the durations of the invocations returning normally
+   * @param failures the durations of the invocations throwing an exception
+   */
+  CallSiteLatency(final LatencySnapshot successes, final LatencySnapshot failures) {
+    this.successes = successes;
+    this.failures = failures;
+  }
+
+  /**
+   * The durations of the invocations returning normally.
+   *
+   * @return the distribution of the successes
+   */
+  public LatencySnapshot getSuccesses() {
+    return successes;
+  }
+
+  /**
+   * The durations of the invocations throwing an exception.
+   *
+   * @return the distribution of the failures
+   */
+  public LatencySnapshot getFailures() {
+    return failures;
+  }
+
+  /**
+   * Combine two snapshots.
+   *
+   * @param other the other snapshot
+   * @return a new snapshot containing the durations of both
+   */
+  public CallSiteLatency merge(final CallSiteLatency other) {
+    return new CallSiteLatency(successes.merge(other.successes), failures.merge(other.failures));
+  }
+
+  @Override
+  public String toString() {
+    return "CallSiteLatency{" + "successes=" + successes + ", failures=" + failures + '}';
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+/** Record the durations of the invocations into a histogram by outcome. */
+final class CallSiteTimer extends AutoCatcherDecorator {
+
+  private final LatencyHistogram successes = new LatencyHistogram();
+  private final LatencyHistogram failures = new LatencyHistogram();
+
+  /**
+   * Constructor.
+   *
+   * @param delegate the catcher converting the intercepted functions
+   */
+  CallSiteTimer(final AutoCatcher delegate) {
+    super(delegate);
+  }
+
+  @Override
+  long before() {
+    return System.nanoTime();
+  }
+
+  @Override
+  void onSuccess(final long token) {
+    successes.record(System.nanoTime() - token);
+  }
+
+  @Override
+  void onFailure(final long token, final Throwable failure) {
+    failures.record(System.nanoTime() - token);
+  }
+
+  /**
+   * Take a snapshot of the histograms.
+   *
+   * @param reset {@code true} to reset the histograms
+   * @return the snapshot
+   */
+  CallSiteLatency snapshot(final boolean reset) {
+    return new CallSiteLatency(
+        new LatencySnapshot(successes.counts(reset)), new LatencySnapshot(failures.counts(reset)));
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+/**
+ * An {@link AutoCatcher} rejecting the invocations while the protected resource is failing. A
+ * rejected invocation throws a preallocated {@link CircuitBreakerOpenException}, or returns the
+ * fallback of the {@code unDeclareOrElse} conversions, without invoking the function.
+ *
+ * @see AutoCatcher#circuitBreaker(AutoCatcher, CircuitBreakerPolicy)
+ */
+public interface CircuitBreakerAutoCatcher extends AutoCatcher {
+
+  /**
+   * The current state of the circuit. An open circuit becomes half open on the first invocation
+   * after the open duration.
+   *
+   * @return the state
+   */
+  State getState();
+
+  /**
+   * The number of invocations rejected since the creation of the catcher.
+   *
+   * @return the number of rejections
+   */
+  long getRejections();
+
+  /** The states of a circuit breaker. */
+  enum State {
+    /** The invocations are allowed and their outcomes recorded. */
+    CLOSED,
+    /** The invocations are rejected. */
+    OPEN,
+    /** A limited number of trial invocations are allowed. */
+    HALF_OPEN
+  }
+}
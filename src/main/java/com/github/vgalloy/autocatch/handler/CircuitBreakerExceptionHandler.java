@@ -0,0 +1,172 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reject the invocations while the failure rate of the protected resource is too high. The circuit
+ * is an immutable snapshot replaced by compare and set, so no lock is taken. Each snapshot has a
+ * generation, given as token to the outcome of the invocation: an outcome only acts on the circuit
+ * which allowed the invocation. Every admitted invocation settles its outcome, an {@link Error}
+ * being a failure, so a half open trial always gives its permit back to the circuit.
+ */
+final class CircuitBreakerExceptionHandler extends AutoCatcherDecorator
+    implements CircuitBreakerAutoCatcher {
+
+  private final CircuitBreakerPolicy policy;
+  private final long openDurationNanos;
+  private final SlidingFailureWindow window;
+  private final AtomicReference<Circuit> circuit = new AtomicReference<>(Circuit.closed(0));
+  private final LongAdder rejections = new LongAdder();
+  private final CircuitBreakerOpenException openException = new CircuitBreakerOpenException();
+
+  /**
+   * Constructor.
+   *
+   * @param delegate the catcher converting the intercepted functions
+   * @param policy the circuit breaker policy
+   */
+  CircuitBreakerExceptionHandler(final AutoCatcher delegate, final CircuitBreakerPolicy policy) {
+    super(delegate);
+    this.policy = policy;
+    this.openDurationNanos = policy.getOpenDuration().toNanos();
+    this.window =
+        new SlidingFailureWindow(policy.getSlidingWindow().toNanos(), policy.getBuckets());
+  }
+
+  @Override
+  long before() {
+    while (true) {
+      final Circuit current = circuit.get();
+      if (current.state == State.CLOSED) {
+        return current.generation;
+      }
+      if (current.state == State.OPEN) {
+        if (System.nanoTime() - current.openedAt < openDurationNanos) {
+          throw reject();
+        }
+        circuit.compareAndSet(
+            current, Circuit.halfOpen(current.generation + 1, policy.getHalfOpenCalls()));
+      } else if (current.acquireTrial()) {
+        return current.generation;
+      } else {
+        throw reject();
+      }
+    }
+  }
+
+  @Override
+  void onSuccess(final long token) {
+    final Circuit current = circuit.get();
+    if (current.generation != token) {
+      return;
+    }
+    if (current.state == State.CLOSED) {
+      window.record(System.nanoTime(), false);
+    } else if (current.trialSucceeded() == policy.getHalfOpenCalls()) {
+      window.clear();
+      circuit.compareAndSet(current, Circuit.closed(current.generation + 1));
+    }
+  }
+
+  @Override
+  void onFailure(final long token, final Throwable failure) {
+    // An error is always recorded, the policy only filters the exceptions
+    if (failure instanceof Exception && !policy.isRecorded((Exception) failure)) {
+      onSuccess(token);
+      return;
+    }
+    final Circuit current = circuit.get();
+    if (current.generation != token) {
+      return;
+    }
+    final long now = System.nanoTime();
+    if (current.state == State.CLOSED) {
+      window.record(now, true);
+      if (window.isAboveThreshold(
+          now, policy.getMinimumCalls(), policy.getFailureRateThreshold())) {
+        circuit.compareAndSet(current, Circuit.open(current.generation + 1, now));
+      }
+    } else {
+      circuit.compareAndSet(current, Circuit.open(current.generation + 1, now));
+    }
+  }
+
+  @Override
+  public State getState() {
+    return circuit.get().state;
+  }
+
+  @Override
+  public long getRejections() {
+    return rejections.sum();
+  }
+
+  private CircuitBreakerOpenException reject() {
+    rejections.increment();
+    return openException;
+  }
+
+  /** An immutable state of the circuit, except for the trial counters of the half open state. */
+  private static final class Circuit {
+
+    private final State state;
+    private final long generation;
+    private final long openedAt;
+    private final AtomicInteger trialPermits;
+    private final AtomicInteger trialSuccesses;
+
+    private Circuit(
+        final State state, final long generation, final long openedAt, final int trialPermits) {
+      this.state = state;
+      this.generation = generation;
+      this.openedAt = openedAt;
+      this.trialPermits = state == State.HALF_OPEN ? new AtomicInteger(trialPermits) : null;
+      this.trialSuccesses = state == State.HALF_OPEN ? new AtomicInteger() : null;
+    }
+
+    private static Circuit closed(final long generation) {
+      return new Circuit(State.CLOSED, generation, 0, 0);
+    }
+
+    private static Circuit open(final long generation, final long openedAt) {
+      return new Circuit(State.OPEN, generation, openedAt, 0);
+    }
+
+    private static Circuit halfOpen(final long generation, final int trialPermits) {
+      return new Circuit(State.HALF_OPEN, generation, 0, trialPermits);
+    }
+
+    private boolean acquireTrial() {
+      while (true) {
+        final int permits = trialPermits.get();
+        if (permits == 0) {
+          return false;
+        }
+        if (trialPermits.compareAndSet(permits, permits - 1)) {
+          return true;
+        }
+      }
+    }
+
+    private int trialSucceeded() {
+      return trialSuccesses.incrementAndGet();
+    }
+  }
+}
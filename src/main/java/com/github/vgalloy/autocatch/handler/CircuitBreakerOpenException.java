@@ -0,0 +1,30 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+/**
+ * Thrown instead of invoking a function while its circuit breaker is open. A single instance is
+ * created by circuit breaker and it has no stack trace, so a rejection allocates nothing.
+ */
+public final class CircuitBreakerOpenException extends RuntimeException {
+
+  private static final long serialVersionUID = -6310564436016795254L;
+
+  /** Constructor. */
+  CircuitBreakerOpenException() {
+    super("The circuit breaker is open", null, false, false);
+  }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+/**
+ * Immutable description of when a circuit breaker opens and how it recovers. By default the circuit
+ * opens when half of at least 20 invocations failed during the last 10 seconds, stays open 30
+ * seconds, then closes again after 5 successful trial invocations. Every exception is recorded as a
+ * failure.
+ *
+ * <pre>{@code
+ * CircuitBreakerPolicy.failureRateThreshold(0.5)
+ *     .withSlidingWindow(Duration.ofSeconds(10), 10)
+ *     .withOpenDuration(Duration.ofSeconds(30))
+ *     .recordOn(IOException.class);
+ * }</pre>
+ *
+ * @see AutoCatcher#circuitBreaker(AutoCatcher, CircuitBreakerPolicy)
+ */
+public final class CircuitBreakerPolicy {
+
+  private final double failureRateThreshold;
+  private final Duration slidingWindow;
+  private final int buckets;
+  private final int minimumCalls;
+  private final Duration openDuration;
+  private final int halfOpenCalls;
+  private final Predicate<? super Exception> recordOn;
+
+  private CircuitBreakerPolicy(
+      final double failureRateThreshold,
+      final Duration slidingWindow,
+      final int buckets,
+      final int minimumCalls,
+      final Duration openDuration,
+      final int halfOpenCalls,
+      final Predicate<? super Exception> recordOn) {
+    this.failureRateThreshold = failureRateThreshold;
+    this.slidingWindow = slidingWindow;
+    this.buckets = buckets;
+    this.minimumCalls = minimumCalls;
+    this.openDuration = openDuration;
+    this.halfOpenCalls = halfOpenCalls;
+    this.recordOn = recordOn;
+  }
+
+  /**
+   * Create a policy opening the circuit when the provided ratio of the recent invocations failed.
+   *
+   * @param failureRateThreshold the ratio of failures, in ]0, 1]
+   * @return the policy
+   */
+  public static CircuitBreakerPolicy failureRateThreshold(final double failureRateThreshold) {
+    if (!(0 < failureRateThreshold && failureRateThreshold <= 1)) {
+      throw new IllegalArgumentException(
+          "The failure rate threshold must be in ]0, 1] : " + failureRateThreshold);
+    }
+    return new CircuitBreakerPolicy(
+        failureRateThreshold,
+        Duration.ofSeconds(10),
+        10,
+        20,
+        Duration.ofSeconds(30),
+        5,
+        exception -> true);
+  }
+
+  /**
+   * Compute the failure rate over the provided duration. The window slides by steps of {@code
+   * window / buckets}.
+   *
+   * @param window the duration of the window
+   * @param buckets the number of steps of the window
+   * @return a new policy
+   */
+  public CircuitBreakerPolicy withSlidingWindow(final Duration window, final int buckets) {
+    if (buckets < 1) {
+      throw new IllegalArgumentException("The number of buckets must be positive : " + buckets);
+    }
+    if (window.toNanos() < buckets) {
+      throw new IllegalArgumentException("The window is too short : " + window);
+    }
+    return new CircuitBreakerPolicy(
+        failureRateThreshold, window, buckets, minimumCalls, openDuration, halfOpenCalls, recordOn);
+  }
+
+  /**
+   * Do not open the circuit before the window contains the provided number of invocations.
+   *
+   * @param minimumCalls the minimum number of invocations
+   * @return a new policy
+   */
+  public CircuitBreakerPolicy withMinimumCalls(final int minimumCalls) {
+    if (minimumCalls < 1) {
+      throw new IllegalArgumentException("The minimum calls must be positive : " + minimumCalls);
+    }
+    return new CircuitBreakerPolicy(
+        failureRateThreshold,
+        slidingWindow,
+        buckets,
+        minimumCalls,
+        openDuration,
+        halfOpenCalls,
+        recordOn);
+  }
+
+  /**
+   * Reject the invocations during the provided duration once the circuit is open.
+   *
+   * @param openDuration the duration
+   * @return a new policy
+   */
+  public CircuitBreakerPolicy withOpenDuration(final Duration openDuration) {
+    if (openDuration.isNegative()) {
+      throw new IllegalArgumentException(
+          "The open duration must not be negative : " + openDuration);
+    }
+    return new CircuitBreakerPolicy(
+        failureRateThreshold,
+        slidingWindow,
+        buckets,
+        minimumCalls,
+        openDuration,
+        halfOpenCalls,
+        recordOn);
+  }
+
+  /**
+   * Allow the provided number of trial invocations once the open duration is elapsed. The circuit
+   * closes when all of them succeed and opens again on the first failure.
+   *
+   * @param halfOpenCalls the number of trial invocations
+   * @return a new policy
+   */
+  public CircuitBreakerPolicy withHalfOpenCalls(final int halfOpenCalls) {
+    if (halfOpenCalls < 1) {
+      throw new IllegalArgumentException("The half open calls must be positive : " + halfOpenCalls);
+    }
+    return new CircuitBreakerPolicy(
+        failureRateThreshold,
+        slidingWindow,
+        buckets,
+        minimumCalls,
+        openDuration,
+        halfOpenCalls,
+        recordOn);
+  }
+
+  /**
+   * Record as failures only the exceptions accepted by the provided predicate. The other exceptions
+   * are recorded as successes: the protected resource did answer. An {@link Error} is always
+   * recorded as a failure.
+   *
+   * @param predicate the predicate
+   * @return a new policy
+   */
+  public CircuitBreakerPolicy recordOn(final Predicate<? super Exception> predicate) {
+    return new CircuitBreakerPolicy(
+        failureRateThreshold,
+        slidingWindow,
+        buckets,
+        minimumCalls,
+        openDuration,
+        halfOpenCalls,
+        predicate);
+  }
+
+  /**
+   * Record as failures only the instances of the provided exception class.
+   *
+   * @param type the exception class, sub classes included
+   * @return a new policy
+   */
+  public CircuitBreakerPolicy recordOn(final Class<? extends Exception> type) {
+    return recordOn(type::isInstance);
+  }
+
+  /**
+   * The ratio of failures opening the circuit.
+   *
+   * @return the ratio, in ]0, 1]
+   */
+  public double getFailureRateThreshold() {
+    return failureRateThreshold;
+  }
+
+  /**
+   * The duration over which the failure rate is computed.
+   *
+   * @return the duration
+   */
+  public Duration getSlidingWindow() {
+    return slidingWindow;
+  }
+
+  /**
+   * The number of steps of the sliding window.
+   *
+   * @return the number of buckets
+   */
+  public int getBuckets() {
+    return buckets;
+  }
+
+  /**
+   * The minimum number of invocations in the window before the circuit can open.
+   *
+   * @return the minimum number of invocations
+   */
+  public int getMinimumCalls() {
+    return minimumCalls;
+  }
+
+  /**
+   * The duration during which the invocations are rejected.
+   *
+   * @return the duration
+   */
+  public Duration getOpenDuration() {
+    return openDuration;
+  }
+
+  /**
+   * The number of trial invocations allowed once the open duration is elapsed.
+   *
+   * @return the number of trial invocations
+   */
+  public int getHalfOpenCalls() {
+    return halfOpenCalls;
+  }
+
+  /**
+   * Decide if an exception is recorded as a failure.
+   *
+   * @param exception the exception thrown by the invocation
+   * @return {@code true} if the exception is a failure of the protected resource
+   */
+  public boolean isRecorded(final Exception exception) {
+    return recordOn.test(exception);
+  }
+}
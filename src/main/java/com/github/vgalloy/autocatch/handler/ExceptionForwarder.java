@@ -15,61 +15,691 @@
  */
 package com.github.vgalloy.autocatch.handler;
 
+import com.github.vgalloy.autocatch.function.BiConsumerWithException;
+import com.github.vgalloy.autocatch.function.BiFunctionWithError;
+import com.github.vgalloy.autocatch.function.BiPredicateWithError;
+import com.github.vgalloy.autocatch.function.BinaryOperatorWithException;
 import com.github.vgalloy.autocatch.function.BooleanSupplierWithException;
 import com.github.vgalloy.autocatch.function.ByteSupplier;
 import com.github.vgalloy.autocatch.function.ByteSupplierWithException;
 import com.github.vgalloy.autocatch.function.CharSupplier;
 import com.github.vgalloy.autocatch.function.CharSupplierWithException;
 import com.github.vgalloy.autocatch.function.ConsumerWithException;
+import com.github.vgalloy.autocatch.function.DoubleBinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.DoubleConsumerWithException;
+import com.github.vgalloy.autocatch.function.DoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.DoublePredicateWithException;
 import com.github.vgalloy.autocatch.function.DoubleSupplierWithException;
+import com.github.vgalloy.autocatch.function.DoubleToIntFunctionWithException;
+import com.github.vgalloy.autocatch.function.DoubleToLongFunctionWithException;
+import com.github.vgalloy.autocatch.function.DoubleUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.FunctionWithError;
+import com.github.vgalloy.autocatch.function.IntBinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.IntConsumerWithException;
+import com.github.vgalloy.autocatch.function.IntFunctionWithException;
+import com.github.vgalloy.autocatch.function.IntPredicateWithException;
 import com.github.vgalloy.autocatch.function.IntSupplierWithException;
+import com.github.vgalloy.autocatch.function.IntToDoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.IntToLongFunctionWithException;
+import com.github.vgalloy.autocatch.function.IntUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.LongBinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.LongConsumerWithException;
+import com.github.vgalloy.autocatch.function.LongFunctionWithException;
+import com.github.vgalloy.autocatch.function.LongPredicateWithException;
+import com.github.vgalloy.autocatch.function.LongSupplierWithException;
+import com.github.vgalloy.autocatch.function.LongToDoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.LongToIntFunctionWithException;
+import com.github.vgalloy.autocatch.function.LongUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.ObjDoubleConsumerWithException;
+import com.github.vgalloy.autocatch.function.ObjIntConsumerWithException;
+import com.github.vgalloy.autocatch.function.ObjLongConsumerWithException;
+import com.github.vgalloy.autocatch.function.PredicateWithError;
 import com.github.vgalloy.autocatch.function.RunnableWithException;
+import com.github.vgalloy.autocatch.function.ToDoubleBiFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToDoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToIntBiFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToIntFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToLongBiFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToLongFunctionWithException;
 import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
 import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
 import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleBiFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongBiFunction;
+import java.util.function.ToLongFunction;
 
+/**
+ * Throw the checked exceptions as they are, without declaring them. The {@code autoCatch} methods
+ * invoke the function directly instead of going through the default methods of {@link AutoCatcher}:
+ * those are shared by every catcher, so their call sites become megamorphic as soon as an
+ * application uses several catchers, and the JIT stops inlining them. The invocation of the
+ * function itself is still shared by every function given to the method. Each conversion is a
+ * single lambda invoking the function, the exception being thrown again unchecked by {@link
+ * #forward(Exception)}: once inlined, it costs as much as the function alone.
+ */
 final class ExceptionForwarder implements AutoCatcher {
 
+  @Override
+  public boolean autoCatch(final BooleanSupplierWithException booleanSupplierWithException) {
+    try {
+      return booleanSupplierWithException.getAsBooleanWithException();
+    } catch (final Exception exception) {
+      throw ExceptionForwarder.<RuntimeException>forward(exception);
+    }
+  }
+
+  @Override
+  public byte autoCatch(final ByteSupplierWithException byteSupplierWithException) {
+    try {
+      return byteSupplierWithException.getAsByteWithException();
+    } catch (final Exception exception) {
+      throw ExceptionForwarder.<RuntimeException>forward(exception);
+    }
+  }
+
+  @Override
+  public char autoCatch(final CharSupplierWithException charSupplierWithException) {
+    try {
+      return charSupplierWithException.getAsCharWithException();
+    } catch (final Exception exception) {
+      throw ExceptionForwarder.<RuntimeException>forward(exception);
+    }
+  }
+
+  @Override
+  public double autoCatch(final DoubleSupplierWithException doubleSupplierWithException) {
+    try {
+      return doubleSupplierWithException.getAsDoubleWithException();
+    } catch (final Exception exception) {
+      throw ExceptionForwarder.<RuntimeException>forward(exception);
+    }
+  }
+
+  @Override
+  public int autoCatch(final IntSupplierWithException intSupplierWithException) {
+    try {
+      return intSupplierWithException.getAsIntWithException();
+    } catch (final Exception exception) {
+      throw ExceptionForwarder.<RuntimeException>forward(exception);
+    }
+  }
+
+  @Override
+  public long autoCatch(final LongSupplierWithException longSupplierWithException) {
+    try {
+      return longSupplierWithException.getAsLongWithException();
+    } catch (final Exception exception) {
+      throw ExceptionForwarder.<RuntimeException>forward(exception);
+    }
+  }
+
+  @Override
+  public void autoCatch(final RunnableWithException runnableWithException) {
+    try {
+      runnableWithException.runWithException();
+    } catch (final Exception exception) {
+      throw ExceptionForwarder.<RuntimeException>forward(exception);
+    }
+  }
+
+  @Override
+  public <T> T autoCatch(final Callable<T> callable) {
+    try {
+      return callable.call();
+    } catch (final Exception exception) {
+      throw ExceptionForwarder.<RuntimeException>forward(exception);
+    }
+  }
+
   @Override
   public BooleanSupplier unDeclare(final BooleanSupplierWithException supplier) {
-    return BooleanSupplierWithExceptionHandler.handle(supplier)::getAsBoolean;
+    return () -> {
+      try {
+        return supplier.getAsBooleanWithException();
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
   }
 
   @Override
   public ByteSupplier unDeclare(final ByteSupplierWithException supplier) {
-    return ByteSupplierWithExceptionHandler.handle(supplier)::getAsByte;
+    return () -> {
+      try {
+        return supplier.getAsByteWithException();
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
   }
 
   @Override
   public CharSupplier unDeclare(final CharSupplierWithException supplier) {
-    return CharSupplierWithExceptionHandler.handle(supplier)::getAsChar;
+    return () -> {
+      try {
+        return supplier.getAsCharWithException();
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
   }
 
   @Override
   public DoubleSupplier unDeclare(final DoubleSupplierWithException supplier) {
-    return DoubleSupplierWithExceptionHandler.handle(supplier)::getAsDouble;
+    return () -> {
+      try {
+        return supplier.getAsDoubleWithException();
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
   }
 
   @Override
   public IntSupplier unDeclare(final IntSupplierWithException supplier) {
-    return IntSupplierWithExceptionHandler.handle(supplier)::getAsInt;
+    return () -> {
+      try {
+        return supplier.getAsIntWithException();
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
   }
 
   @Override
   public Runnable unDeclare(final RunnableWithException runnable) {
-    return RunnableWithExceptionHandler.handle(runnable)::run;
+    return () -> {
+      try {
+        runnable.runWithException();
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
   }
 
   @Override
   public <T> Supplier<T> unDeclare(final Callable<T> callable) {
-    return CallableWithExceptionHandler.handle(callable)::call;
+    return () -> {
+      try {
+        return callable.call();
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
   }
 
   @Override
   public <T> Consumer<T> unDeclare(final ConsumerWithException<T> consumer) {
-    return ConsumerWithExceptionHandler.handle(consumer)::accept;
+    return t -> {
+      try {
+        consumer.accept(t);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T> Predicate<T> unDeclare(final PredicateWithError<T> predicate) {
+    return t -> {
+      try {
+        return predicate.test(t);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T, R> Function<T, R> unDeclare(final FunctionWithError<T, R> function) {
+    return t -> {
+      try {
+        return function.apply(t);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public LongSupplier unDeclare(final LongSupplierWithException supplier) {
+    return () -> {
+      try {
+        return supplier.getAsLongWithException();
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public <R> IntFunction<R> unDeclareInt(final IntFunctionWithException<R> function) {
+    return value -> {
+      try {
+        return function.apply(value);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public IntToDoubleFunction unDeclareInt(final IntToDoubleFunctionWithException function) {
+    return value -> {
+      try {
+        return function.applyAsDouble(value);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public IntToLongFunction unDeclareInt(final IntToLongFunctionWithException function) {
+    return value -> {
+      try {
+        return function.applyAsLong(value);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public IntUnaryOperator unDeclareInt(final IntUnaryOperatorWithException operator) {
+    return value -> {
+      try {
+        return operator.applyAsInt(value);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public IntPredicate unDeclareInt(final IntPredicateWithException predicate) {
+    return value -> {
+      try {
+        return predicate.test(value);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public IntConsumer unDeclareInt(final IntConsumerWithException consumer) {
+    return value -> {
+      try {
+        consumer.accept(value);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public <R> LongFunction<R> unDeclareLong(final LongFunctionWithException<R> function) {
+    return value -> {
+      try {
+        return function.apply(value);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public LongToDoubleFunction unDeclareLong(final LongToDoubleFunctionWithException function) {
+    return value -> {
+      try {
+        return function.applyAsDouble(value);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public LongToIntFunction unDeclareLong(final LongToIntFunctionWithException function) {
+    return value -> {
+      try {
+        return function.applyAsInt(value);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public LongUnaryOperator unDeclareLong(final LongUnaryOperatorWithException operator) {
+    return value -> {
+      try {
+        return operator.applyAsLong(value);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public LongPredicate unDeclareLong(final LongPredicateWithException predicate) {
+    return value -> {
+      try {
+        return predicate.test(value);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public LongConsumer unDeclareLong(final LongConsumerWithException consumer) {
+    return value -> {
+      try {
+        consumer.accept(value);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public <R> DoubleFunction<R> unDeclareDouble(final DoubleFunctionWithException<R> function) {
+    return value -> {
+      try {
+        return function.apply(value);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public DoubleToIntFunction unDeclareDouble(final DoubleToIntFunctionWithException function) {
+    return value -> {
+      try {
+        return function.applyAsInt(value);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public DoubleToLongFunction unDeclareDouble(final DoubleToLongFunctionWithException function) {
+    return value -> {
+      try {
+        return function.applyAsLong(value);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public DoubleUnaryOperator unDeclareDouble(final DoubleUnaryOperatorWithException operator) {
+    return value -> {
+      try {
+        return operator.applyAsDouble(value);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public DoublePredicate unDeclareDouble(final DoublePredicateWithException predicate) {
+    return value -> {
+      try {
+        return predicate.test(value);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public DoubleConsumer unDeclareDouble(final DoubleConsumerWithException consumer) {
+    return value -> {
+      try {
+        consumer.accept(value);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T> ToIntFunction<T> unDeclareToInt(final ToIntFunctionWithException<T> function) {
+    return t -> {
+      try {
+        return function.applyAsInt(t);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T> ToLongFunction<T> unDeclareToLong(final ToLongFunctionWithException<T> function) {
+    return t -> {
+      try {
+        return function.applyAsLong(t);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T> ToDoubleFunction<T> unDeclareToDouble(
+      final ToDoubleFunctionWithException<T> function) {
+    return t -> {
+      try {
+        return function.applyAsDouble(t);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T, U, R> BiFunction<T, U, R> unDeclare(final BiFunctionWithError<T, U, R> function) {
+    return (t, u) -> {
+      try {
+        return function.apply(t, u);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T> BinaryOperator<T> unDeclare(final BinaryOperatorWithException<T> operator) {
+    return (left, right) -> {
+      try {
+        return operator.apply(left, right);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T, U> BiPredicate<T, U> unDeclare(final BiPredicateWithError<T, U> predicate) {
+    return (t, u) -> {
+      try {
+        return predicate.test(t, u);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T, U> BiConsumer<T, U> unDeclare(final BiConsumerWithException<T, U> consumer) {
+    return (t, u) -> {
+      try {
+        consumer.accept(t, u);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public IntBinaryOperator unDeclareIntBinary(final IntBinaryOperatorWithException operator) {
+    return (left, right) -> {
+      try {
+        return operator.applyAsInt(left, right);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public LongBinaryOperator unDeclareLongBinary(final LongBinaryOperatorWithException operator) {
+    return (left, right) -> {
+      try {
+        return operator.applyAsLong(left, right);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public DoubleBinaryOperator unDeclareDoubleBinary(
+      final DoubleBinaryOperatorWithException operator) {
+    return (left, right) -> {
+      try {
+        return operator.applyAsDouble(left, right);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T, U> ToIntBiFunction<T, U> unDeclareToIntBi(
+      final ToIntBiFunctionWithException<T, U> function) {
+    return (t, u) -> {
+      try {
+        return function.applyAsInt(t, u);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T, U> ToLongBiFunction<T, U> unDeclareToLongBi(
+      final ToLongBiFunctionWithException<T, U> function) {
+    return (t, u) -> {
+      try {
+        return function.applyAsLong(t, u);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T, U> ToDoubleBiFunction<T, U> unDeclareToDoubleBi(
+      final ToDoubleBiFunctionWithException<T, U> function) {
+    return (t, u) -> {
+      try {
+        return function.applyAsDouble(t, u);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T> ObjIntConsumer<T> unDeclareObjInt(final ObjIntConsumerWithException<T> consumer) {
+    return (t, value) -> {
+      try {
+        consumer.accept(t, value);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T> ObjLongConsumer<T> unDeclareObjLong(final ObjLongConsumerWithException<T> consumer) {
+    return (t, value) -> {
+      try {
+        consumer.accept(t, value);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T> ObjDoubleConsumer<T> unDeclareObjDouble(
+      final ObjDoubleConsumerWithException<T> consumer) {
+    return (t, value) -> {
+      try {
+        consumer.accept(t, value);
+      } catch (final Exception exception) {
+        throw ExceptionForwarder.<RuntimeException>forward(exception);
+      }
+    };
+  }
+
+  /**
+   * Throw the provided exception as it is. The compiler sees an unchecked exception, the JVM does
+   * not check the declared exceptions.
+   *
+   * @param exception the exception
+   * @param <E> the type seen by the compiler
+   * @return never returns
+   * @throws E always
+   */
+  @SuppressWarnings("unchecked")
+  private static <E extends Exception> E forward(final Exception exception) throws E {
+    throw (E) exception;
   }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/** Immutable snapshot of the counters of a {@link MeteredAutoCatcher}. */
+public final class ExceptionMetrics {
+
+  private final long successes;
+  private final long failures;
+  private final Map<Class<? extends Throwable>, Long> failuresByType;
+
+  /**
+   * Constructor.
+   *
+   * @param successes the number of invocations returning normally
+   * @param failuresByType the number of invocations throwing an exception or an error, by class
+   */
+  ExceptionMetrics(
+      final long successes, final Map<Class<? extends Throwable>, Long> failuresByType) {
+    long failures = 0;
+    for (final Long count : failuresByType.values()) {
+      failures += count;
+    }
+    this.successes = successes;
+    this.failures = failures;
+    this.failuresByType = Collections.unmodifiableMap(new HashMap<>(failuresByType));
+  }
+
+  /**
+   * The number of completed invocations.
+   *
+   * @return the sum of {@link #getSuccesses()} and {@link #getFailures()}
+   */
+  public long getInvocations() {
+    return successes + failures;
+  }
+
+  /**
+   * The number of invocations returning normally.
+   *
+   * @return the number of successes
+   */
+  public long getSuccesses() {
+    return successes;
+  }
+
+  /**
+   * The number of invocations throwing an exception or an error, whatever its class.
+   *
+   * @return the number of failures
+   */
+  public long getFailures() {
+    return failures;
+  }
+
+  /**
+   * The number of invocations throwing exactly the provided throwable class. Sub classes are not
+   * included.
+   *
+   * @param type the exception or error class
+   * @return the number of failures for this class
+   */
+  public long getFailures(final Class<? extends Throwable> type) {
+    final Long count = failuresByType.get(type);
+    return count == null ? 0 : count;
+  }
+
+  /**
+   * The number of failures by throwable class. Classes which have never been thrown are absent.
+   *
+   * @return an unmodifiable map
+   */
+  public Map<Class<? extends Throwable>, Long> getFailuresByType() {
+    return failuresByType;
+  }
+
+  @Override
+  public String toString() {
+    return "ExceptionMetrics{"
+        + "invocations="
+        + getInvocations()
+        + ", successes="
+        + successes
+        + ", failures="
+        + failuresByType
+        + '}';
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+/**
+ * A failure given to a {@link FailureSink}, with the number of identical failures it stands for.
+ */
+public final class FailureReport {
+
+  private final Exception exception;
+  private final long occurrences;
+  private final long suppressed;
+  private final boolean overflow;
+
+  /**
+   * Constructor.
+   *
+   * @param exception the latest exception of the fingerprint
+   * @param occurrences the number of failures since the fingerprint is kept
+   * @param suppressed the number of failures since the previous report
+   * @param overflow {@code true} if the report groups the fingerprints over the limit
+   */
+  FailureReport(
+      final Exception exception,
+      final long occurrences,
+      final long suppressed,
+      final boolean overflow) {
+    this.exception = exception;
+    this.occurrences = occurrences;
+    this.suppressed = suppressed;
+    this.overflow = overflow;
+  }
+
+  /**
+   * The latest exception with this fingerprint.
+   *
+   * @return the exception
+   */
+  public Exception getException() {
+    return exception;
+  }
+
+  /**
+   * The number of failures with this fingerprint since it is kept, reported or not.
+   *
+   * @return the number of failures
+   */
+  public long getOccurrences() {
+    return occurrences;
+  }
+
+  /**
+   * The number of failures with this fingerprint which were not reported since the previous report.
+   *
+   * @return the number of failures not reported
+   */
+  public long getSuppressed() {
+    return suppressed;
+  }
+
+  /**
+   * Check if this report groups the failures whose fingerprint could not be kept, the limit of
+   * fingerprints being reached. The exception is then only one of them.
+   *
+   * @return {@code true} for the report of the failures over the limit
+   */
+  public boolean isOverflow() {
+    return overflow;
+  }
+
+  @Override
+  public String toString() {
+    return "FailureReport{"
+        + "exception="
+        + exception
+        + ", occurrences="
+        + occurrences
+        + ", suppressed="
+        + suppressed
+        + ", overflow="
+        + overflow
+        + '}';
+  }
+}
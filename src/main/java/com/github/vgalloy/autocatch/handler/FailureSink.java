@@ -1,5 +1,5 @@
 /*
- * Copyright 2019 Vincent Galloy
+ * Copyright 2018 Vincent Galloy
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,20 +15,19 @@
  */
 package com.github.vgalloy.autocatch.handler;
 
-import java.util.concurrent.Callable;
-
+/**
+ * Receive the deduplicated failures of a reporting catcher, usually to log them. The sink is called
+ * by the failing thread, so it should not block.
+ *
+ * @see AutoCatcher#reporting(AutoCatcher, FailureSink, ReportingPolicy)
+ */
 @FunctionalInterface
-interface CallableWithExceptionHandler<T, E extends Exception> {
+public interface FailureSink {
 
   /**
-   * Computes a result.
+   * Report a failure.
    *
-   * @return a result
+   * @param report the failure and the number of identical failures not reported
    */
-  T call() throws E;
-
-  @SuppressWarnings("unchecked")
-  static <T> CallableWithExceptionHandler<T, RuntimeException> handle(final Callable<T> callable) {
-    return (CallableWithExceptionHandler) callable::call;
-  }
+  void report(FailureReport report);
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear histogram of positive {@code long} values. Each power of two is split into
+ * {@value #SUB_BUCKET_COUNT} linear buckets, so a recorded value is known with a relative error
+ * lower than {@code 1 / }{@value #SUB_BUCKET_COUNT}. Values lower than {@value #SUB_BUCKET_COUNT}
+ * are exact.
+ */
+final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 4;
+  static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+  /**
+   * Record a value. Negative values are recorded as zero.
+   *
+   * @param value the value
+   */
+  void record(final long value) {
+    counts.incrementAndGet(index(Math.max(0, value)));
+  }
+
+  /**
+   * Copy the counts.
+   *
+   * @param reset {@code true} to reset each bucket while it is read, no value being lost
+   * @return the counts by bucket
+   */
+  long[] counts(final boolean reset) {
+    final long[] result = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      result[i] = reset ? counts.getAndSet(i, 0) : counts.get(i);
+    }
+    return result;
+  }
+
+  /**
+   * Find the bucket of a value.
+   *
+   * @param value a positive value
+   * @return the index of the bucket
+   */
+  static int index(final long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  /**
+   * The lowest value of a bucket.
+   *
+   * @param index the index of the bucket
+   * @return the lowest value recorded into this bucket
+   */
+  static long lowestValue(final int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    final int shift = index / SUB_BUCKET_COUNT - 1;
+    return (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+  }
+
+  /**
+   * The highest value of a bucket.
+   *
+   * @param index the index of the bucket
+   * @return the highest value recorded into this bucket
+   */
+  static long highestValue(final int index) {
+    // the lowest value of the bucket after the last one overflows to Long.MIN_VALUE
+    return lowestValue(index + 1) - 1;
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+/**
+ * Immutable distribution of durations, in nanoseconds. A duration is known with a relative error
+ * lower than {@code 1/16}, the reported values being the highest value of their bucket.
+ */
+public final class LatencySnapshot {
+
+  private final long[] counts;
+  private final long count;
+
+  /**
+   * Constructor.
+   *
+   * @param counts the counts by bucket of a {@link LatencyHistogram}, not copied
+   */
+  LatencySnapshot(final long[] counts) {
+    long count = 0;
+    for (final long bucket : counts) {
+      count += bucket;
+    }
+    this.counts = counts;
+    this.count = count;
+  }
+
+  /**
+   * The number of recorded durations.
+   *
+   * @return the number of durations
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * The duration below which the provided percentage of the durations fall. For instance {@code
+   * getValueAtPercentile(99.9)} is the p99.9 latency.
+   *
+   * @param percentile the percentage, between 0 and 100
+   * @return the duration in nanoseconds, 0 if no duration has been recorded
+   */
+  public long getValueAtPercentile(final double percentile) {
+    if (percentile < 0 || 100 < percentile) {
+      throw new IllegalArgumentException(
+          "The percentile must be between 0 and 100 : " + percentile);
+    }
+    final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (rank <= seen) {
+        return LatencyHistogram.highestValue(i);
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * The longest recorded duration.
+   *
+   * @return the duration in nanoseconds, 0 if no duration has been recorded
+   */
+  public long getMax() {
+    return getValueAtPercentile(100);
+  }
+
+  /**
+   * Combine two distributions, for instance the snapshots of two intervals or of two call sites.
+   *
+   * @param other the other distribution
+   * @return a new distribution containing the durations of both
+   */
+  public LatencySnapshot merge(final LatencySnapshot other) {
+    final long[] merged = new long[counts.length];
+    for (int i = 0; i < merged.length; i++) {
+      merged[i] = counts[i] + other.counts[i];
+    }
+    return new LatencySnapshot(merged);
+  }
+
+  @Override
+  public String toString() {
+    return "LatencySnapshot{"
+        + "count="
+        + count
+        + ", p50="
+        + getValueAtPercentile(50)
+        + ", p99="
+        + getValueAtPercentile(99)
+        + ", p99.9="
+        + getValueAtPercentile(99.9)
+        + ", max="
+        + getMax()
+        + '}';
+  }
+}
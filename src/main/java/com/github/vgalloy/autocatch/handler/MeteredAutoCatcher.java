@@ -1,5 +1,5 @@
 /*
- * Copyright 2019 Vincent Galloy
+ * Copyright 2018 Vincent Galloy
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,21 +15,18 @@
  */
 package com.github.vgalloy.autocatch.handler;
 
-import com.github.vgalloy.autocatch.function.CharSupplierWithException;
-
-@FunctionalInterface
-interface CharSupplierWithExceptionHandler<E extends Exception> {
+/**
+ * A catcher counting the invocations of the functions it converted.
+ *
+ * @see AutoCatcher#metered(AutoCatcher)
+ */
+public interface MeteredAutoCatcher extends AutoCatcher {
 
   /**
-   * Gets a result.
+   * Take a snapshot of the counters. The returned value is immutable and always consistent: the
+   * number of invocations is the sum of the successes and of the failures.
    *
-   * @return a result
+   * @return the current metrics
    */
-  char getAsChar() throws E;
-
-  @SuppressWarnings("unchecked")
-  static CharSupplierWithExceptionHandler<RuntimeException> handle(
-      final CharSupplierWithException supplier) {
-    return (CharSupplierWithExceptionHandler) supplier::getAsCharWithException;
-  }
+  ExceptionMetrics snapshot();
 }
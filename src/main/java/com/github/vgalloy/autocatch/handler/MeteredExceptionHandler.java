@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Count the successes and the failures of the intercepted functions. Only one {@link LongAdder} is
+ * incremented by invocation, the number of invocations being derived from the outcomes. The adder
+ * of a failure is found through a {@link ClassValue}, so no map lookup is done on the hot path.
+ */
+final class MeteredExceptionHandler extends AutoCatcherDecorator implements MeteredAutoCatcher {
+
+  private final LongAdder successes = new LongAdder();
+  private final ConcurrentMap<Class<?>, LongAdder> failures = new ConcurrentHashMap<>();
+  private final ClassValue<LongAdder> failureCounters =
+      new ClassValue<LongAdder>() {
+        @Override
+        protected LongAdder computeValue(final Class<?> type) {
+          // ClassValue may compute the value more than once, the map keeps a single adder by class
+          return failures.computeIfAbsent(type, key -> new LongAdder());
+        }
+      };
+
+  /**
+   * Constructor.
+   *
+   * @param delegate the catcher converting the intercepted functions
+   */
+  MeteredExceptionHandler(final AutoCatcher delegate) {
+    super(delegate);
+  }
+
+  @Override
+  long before() {
+    return 0;
+  }
+
+  @Override
+  void onSuccess(final long token) {
+    successes.increment();
+  }
+
+  @Override
+  void onFailure(final long token, final Throwable failure) {
+    failureCounters.get(failure.getClass()).increment();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public ExceptionMetrics snapshot() {
+    final Map<Class<? extends Throwable>, Long> failuresByType = new HashMap<>();
+    failures.forEach(
+        (type, count) -> failuresByType.put((Class<? extends Throwable>) type, count.sum()));
+    return new ExceptionMetrics(successes.sum(), failuresByType);
+  }
+}
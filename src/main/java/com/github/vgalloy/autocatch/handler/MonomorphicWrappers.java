@@ -0,0 +1,106 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+import com.github.vgalloy.autocatch.function.ConsumerWithException;
+import com.github.vgalloy.autocatch.function.FunctionWithError;
+import com.github.vgalloy.autocatch.function.PredicateWithError;
+import com.github.vgalloy.autocatch.function.RunnableWithException;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Create the wrappers of the functional types used the most by streams. The invocation of the
+ * wrapped function is a call site shared by every wrapper of a class, so it becomes megamorphic
+ * once an application wraps many lambdas, and the JIT stops inlining them. On Java 8 to 20 the
+ * wrappers are instances of their template class, so nothing is specialised: the Java 21 layer of
+ * the jar spins a copy of the template by class of wrapped lambda, each copy having its own type
+ * profile. Only these five types of the undeclared handler are specialised.
+ */
+final class MonomorphicWrappers {
+
+  /** Constructor. Private to avoid instantiation */
+  private MonomorphicWrappers() {
+    throw new AssertionError(
+        "No instance of com.github.vgalloy.autocatch.handler.MonomorphicWrappers");
+  }
+
+  /**
+   * Wrap the checked exceptions of the provided callable.
+   *
+   * @param callable the callable declaring an exception
+   * @param writableStackTrace false if the wrapper exception should not fill in its stack trace
+   * @param <T> the result type of the callable
+   * @return the supplier not declaring exception
+   */
+  static <T> Supplier<T> supplier(final Callable<T> callable, final boolean writableStackTrace) {
+    return new UndeclaredSupplier<>(callable, writableStackTrace);
+  }
+
+  /**
+   * Wrap the checked exceptions of the provided function.
+   *
+   * @param function the function declaring an exception
+   * @param writableStackTrace false if the wrapper exception should not fill in its stack trace
+   * @param <T> the input type of the function
+   * @param <R> the result type of the function
+   * @return the function not declaring exception
+   */
+  static <T, R> Function<T, R> function(
+      final FunctionWithError<T, R> function, final boolean writableStackTrace) {
+    return new UndeclaredFunction<>(function, writableStackTrace);
+  }
+
+  /**
+   * Wrap the checked exceptions of the provided predicate.
+   *
+   * @param predicate the predicate declaring an exception
+   * @param writableStackTrace false if the wrapper exception should not fill in its stack trace
+   * @param <T> the input type of the predicate
+   * @return the predicate not declaring exception
+   */
+  static <T> Predicate<T> predicate(
+      final PredicateWithError<T> predicate, final boolean writableStackTrace) {
+    return new UndeclaredPredicate<>(predicate, writableStackTrace);
+  }
+
+  /**
+   * Wrap the checked exceptions of the provided consumer.
+   *
+   * @param consumer the consumer declaring an exception
+   * @param writableStackTrace false if the wrapper exception should not fill in its stack trace
+   * @param <T> the input type of the consumer
+   * @return the consumer not declaring exception
+   */
+  static <T> Consumer<T> consumer(
+      final ConsumerWithException<T> consumer, final boolean writableStackTrace) {
+    return new UndeclaredConsumer<>(consumer, writableStackTrace);
+  }
+
+  /**
+   * Wrap the checked exceptions of the provided runnable.
+   *
+   * @param runnable the runnable declaring an exception
+   * @param writableStackTrace false if the wrapper exception should not fill in its stack trace
+   * @return the runnable not declaring exception
+   */
+  static Runnable runnable(final RunnableWithException runnable, final boolean writableStackTrace) {
+    return new UndeclaredRunnable(runnable, writableStackTrace);
+  }
+}
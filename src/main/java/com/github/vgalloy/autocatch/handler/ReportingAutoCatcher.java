@@ -1,5 +1,5 @@
 /*
- * Copyright 2019 Vincent Galloy
+ * Copyright 2018 Vincent Galloy
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,21 +15,24 @@
  */
 package com.github.vgalloy.autocatch.handler;
 
-import com.github.vgalloy.autocatch.function.BooleanSupplierWithException;
+/**
+ * An {@link AutoCatcher} reporting each distinct failure at most once by interval to a {@link
+ * FailureSink}.
+ *
+ * @see AutoCatcher#reporting(AutoCatcher, FailureSink, ReportingPolicy)
+ */
+public interface ReportingAutoCatcher extends AutoCatcher {
 
-@FunctionalInterface
-interface BooleanSupplierWithExceptionHandler<E extends Exception> {
+  /**
+   * Report the failures not reported yet, whatever the interval, and forget the fingerprints which
+   * did not fail since the previous flush. Meant to be called periodically and before shutdown.
+   */
+  void flush();
 
   /**
-   * Gets a result.
+   * The number of fingerprints currently kept.
    *
-   * @return a result
+   * @return the number of fingerprints
    */
-  boolean getAsBoolean() throws E;
-
-  @SuppressWarnings("unchecked")
-  static BooleanSupplierWithExceptionHandler<RuntimeException> handle(
-      final BooleanSupplierWithException supplier) {
-    return (BooleanSupplierWithExceptionHandler) supplier::getAsBooleanWithException;
-  }
+  int getFingerprints();
 }
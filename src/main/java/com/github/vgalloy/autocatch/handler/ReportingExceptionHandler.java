@@ -0,0 +1,230 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Report the failures to a sink, each fingerprint at most once by interval. The entry of a known
+ * fingerprint is found without lock and the right to report is taken by compare and set of its next
+ * report time, so the other failures of the interval only increment counters. Once the limit of
+ * fingerprints is reached, the new fingerprints share a single overflow entry, so the memory stays
+ * bounded whatever the failures. Only the exceptions are reported, an {@link Error} propagates
+ * unchanged.
+ *
+ * <p>The fingerprint of a failure is its exception class and the call site converting the function,
+ * captured once by conversion, see {@link CallSites#capture()}. The {@code autoCatch} methods
+ * convert and invoke at once, so they only capture the call site on failure. The stack trace of the
+ * exception is only read if the policy asks for its top frames.
+ */
+final class ReportingExceptionHandler extends AutoCatcherDecorator implements ReportingAutoCatcher {
+
+  /** Context of the direct invocations, whose call site is captured on failure. */
+  private static final Object CAPTURE_ON_FAILURE = new Object();
+
+  private final FailureSink sink;
+  private final long intervalNanos;
+  private final int stackFrames;
+  private final int maxFingerprints;
+  private final ConcurrentMap<Fingerprint, Entry> entries = new ConcurrentHashMap<>();
+  private final Entry overflow = new Entry(true, System.nanoTime());
+
+  /**
+   * Constructor.
+   *
+   * @param delegate the catcher converting the intercepted functions
+   * @param sink the sink receiving the reports
+   * @param policy the reporting policy
+   */
+  ReportingExceptionHandler(
+      final AutoCatcher delegate, final FailureSink sink, final ReportingPolicy policy) {
+    super(delegate);
+    this.sink = sink;
+    this.intervalNanos = policy.getInterval().toNanos();
+    this.stackFrames = policy.getStackFrames();
+    this.maxFingerprints = policy.getMaxFingerprints();
+  }
+
+  @Override
+  long before() {
+    return 0;
+  }
+
+  @Override
+  void onSuccess(final long token) {
+    // Nothing to report
+  }
+
+  @Override
+  Object onConversion() {
+    return CallSites.capture();
+  }
+
+  @Override
+  Object onInvocation() {
+    return CAPTURE_ON_FAILURE;
+  }
+
+  @Override
+  void onFailure(final long token, final Throwable failure) {
+    // The call site comes with the context
+  }
+
+  @Override
+  void onFailure(final Object context, final long token, final Throwable failure) {
+    if (failure instanceof Exception) {
+      final StackTraceElement callSite =
+          context == CAPTURE_ON_FAILURE ? CallSites.capture() : (StackTraceElement) context;
+      report((Exception) failure, callSite);
+    }
+  }
+
+  private void report(final Exception exception, final StackTraceElement callSite) {
+    final Entry entry = entry(exception, callSite);
+    entry.occurrences.increment();
+    entry.latest = exception;
+    final long now = System.nanoTime();
+    final long next = entry.nextReport.get();
+    if (now - next < 0 || !entry.nextReport.compareAndSet(next, now + intervalNanos)) {
+      entry.suppressed.increment();
+      return;
+    }
+    try {
+      sink.report(entry.report(exception, entry.suppressed.sumThenReset()));
+    } catch (final RuntimeException e) {
+      exception.addSuppressed(e);
+    }
+  }
+
+  @Override
+  public void flush() {
+    final Iterator<Map.Entry<Fingerprint, Entry>> iterator = entries.entrySet().iterator();
+    while (iterator.hasNext()) {
+      final Entry entry = iterator.next().getValue();
+      if (!entry.flush()) {
+        iterator.remove();
+      }
+    }
+    overflow.flush();
+  }
+
+  @Override
+  public int getFingerprints() {
+    return entries.size();
+  }
+
+  private Entry entry(final Exception exception, final StackTraceElement callSite) {
+    final Fingerprint fingerprint = new Fingerprint(exception, callSite, stackFrames);
+    final Entry entry = entries.get(fingerprint);
+    if (entry != null) {
+      return entry;
+    }
+    if (entries.size() >= maxFingerprints) {
+      return overflow;
+    }
+    return entries.computeIfAbsent(fingerprint, key -> new Entry(false, System.nanoTime()));
+  }
+
+  /** The counters of a fingerprint. */
+  private final class Entry {
+
+    private final boolean overflow;
+    private final AtomicLong nextReport;
+    private final LongAdder occurrences = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+    private volatile Exception latest;
+    private long flushedOccurrences;
+
+    private Entry(final boolean overflow, final long nextReport) {
+      this.overflow = overflow;
+      this.nextReport = new AtomicLong(nextReport);
+    }
+
+    private FailureReport report(final Exception exception, final long suppressed) {
+      return new FailureReport(exception, occurrences.sum(), suppressed, overflow);
+    }
+
+    /**
+     * Report the suppressed failures. Only called by {@link #flush()}, which is not expected to be
+     * called concurrently.
+     *
+     * @return {@code false} if the fingerprint did not fail since the previous flush
+     */
+    private boolean flush() {
+      final long suppressedCount = suppressed.sumThenReset();
+      if (suppressedCount != 0) {
+        sink.report(report(latest, suppressedCount));
+      }
+      final long occurrencesCount = occurrences.sum();
+      final boolean failed = occurrencesCount != flushedOccurrences;
+      flushedOccurrences = occurrencesCount;
+      return failed;
+    }
+  }
+
+  /** The exception class, the call site and the top stack frames of a failure. */
+  private static final class Fingerprint {
+
+    private static final StackTraceElement[] NO_FRAME = new StackTraceElement[0];
+
+    private final Class<?> type;
+    private final StackTraceElement callSite;
+    private final StackTraceElement[] frames;
+    private final int hash;
+
+    private Fingerprint(
+        final Exception exception, final StackTraceElement callSite, final int stackFrames) {
+      this.type = exception.getClass();
+      this.callSite = callSite;
+      if (stackFrames == 0) {
+        this.frames = NO_FRAME;
+      } else {
+        final StackTraceElement[] stackTrace = exception.getStackTrace();
+        this.frames =
+            stackTrace.length <= stackFrames ? stackTrace : Arrays.copyOf(stackTrace, stackFrames);
+      }
+      this.hash =
+          31 * (31 * type.hashCode() + Objects.hashCode(callSite)) + Arrays.hashCode(frames);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Fingerprint)) {
+        return false;
+      }
+      final Fingerprint that = (Fingerprint) o;
+      return hash == that.hash
+          && type == that.type
+          && Objects.equals(callSite, that.callSite)
+          && Arrays.equals(frames, that.frames);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
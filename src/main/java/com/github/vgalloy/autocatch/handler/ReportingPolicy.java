@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+import java.time.Duration;
+
+/**
+ * Immutable description of how the failures are deduplicated before being reported. By default the
+ * fingerprint of a failure is its exception class and the call site converting the function, and at
+ * most 1024 fingerprints are kept.
+ *
+ * <pre>{@code
+ * ReportingPolicy.interval(Duration.ofMinutes(1)).withStackFrames(3).withMaxFingerprints(256);
+ * }</pre>
+ *
+ * @see AutoCatcher#reporting(AutoCatcher, FailureSink, ReportingPolicy)
+ */
+public final class ReportingPolicy {
+
+  private final Duration interval;
+  private final int stackFrames;
+  private final int maxFingerprints;
+
+  private ReportingPolicy(
+      final Duration interval, final int stackFrames, final int maxFingerprints) {
+    this.interval = interval;
+    this.stackFrames = stackFrames;
+    this.maxFingerprints = maxFingerprints;
+  }
+
+  /**
+   * Create a policy reporting each distinct failure at most once by interval.
+   *
+   * @param interval the minimum duration between two reports of the same failure
+   * @return the policy
+   */
+  public static ReportingPolicy interval(final Duration interval) {
+    if (interval.isNegative()) {
+      throw new IllegalArgumentException("The interval must not be negative : " + interval);
+    }
+    return new ReportingPolicy(interval, 0, 1024);
+  }
+
+  /**
+   * Also use the provided number of top stack frames of the exception in the fingerprint of a
+   * failure, to tell apart the failures of a function thrown from different places. Reading any
+   * frame materializes the whole stack trace of each exception, which dominates the cost of a
+   * failure under an error storm.
+   *
+   * @param stackFrames the number of frames, 0 (the default) to only use the exception class and
+   *     the call site
+   * @return a new policy
+   */
+  public ReportingPolicy withStackFrames(final int stackFrames) {
+    if (stackFrames < 0) {
+      throw new IllegalArgumentException("The stack frames must not be negative : " + stackFrames);
+    }
+    return new ReportingPolicy(interval, stackFrames, maxFingerprints);
+  }
+
+  /**
+   * Keep at most the provided number of fingerprints. The failures of the other fingerprints are
+   * reported together.
+   *
+   * @param maxFingerprints the maximum number of fingerprints
+   * @return a new policy
+   */
+  public ReportingPolicy withMaxFingerprints(final int maxFingerprints) {
+    if (maxFingerprints < 1) {
+      throw new IllegalArgumentException(
+          "The max fingerprints must be positive : " + maxFingerprints);
+    }
+    return new ReportingPolicy(interval, stackFrames, maxFingerprints);
+  }
+
+  /**
+   * The minimum duration between two reports of the same failure.
+   *
+   * @return the interval
+   */
+  public Duration getInterval() {
+    return interval;
+  }
+
+  /**
+   * The number of top stack frames in the fingerprint of a failure.
+   *
+   * @return the number of frames
+   */
+  public int getStackFrames() {
+    return stackFrames;
+  }
+
+  /**
+   * The maximum number of fingerprints kept.
+   *
+   * @return the maximum number of fingerprints
+   */
+  public int getMaxFingerprints() {
+    return maxFingerprints;
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+import java.util.function.Predicate;
+
+/**
+ * Immutable description of when and how a failed invocation is retried. By default every exception
+ * is retried, without delay.
+ *
+ * <pre>{@code
+ * RetryPolicy.maxAttempts(5)
+ *     .retryOn(IOException.class)
+ *     .withBackoff(Backoff.exponential(Duration.ofMillis(10), Duration.ofSeconds(1)).withJitter());
+ * }</pre>
+ *
+ * @see AutoCatcher#retrying(AutoCatcher, RetryPolicy)
+ */
+public final class RetryPolicy {
+
+  private final int maxAttempts;
+  private final Predicate<? super Exception> retryOn;
+  private final Backoff backoff;
+
+  private RetryPolicy(
+      final int maxAttempts, final Predicate<? super Exception> retryOn, final Backoff backoff) {
+    this.maxAttempts = maxAttempts;
+    this.retryOn = retryOn;
+    this.backoff = backoff;
+  }
+
+  /**
+   * Create a policy retrying every exception, without delay.
+   *
+   * @param maxAttempts the maximum number of invocations, including the first one
+   * @return the policy
+   */
+  public static RetryPolicy maxAttempts(final int maxAttempts) {
+    if (maxAttempts < 1) {
+      throw new IllegalArgumentException("The max attempts must be positive : " + maxAttempts);
+    }
+    return new RetryPolicy(maxAttempts, exception -> true, Backoff.none());
+  }
+
+  /**
+   * Retry only the exceptions accepted by the provided predicate.
+   *
+   * @param predicate the predicate
+   * @return a new policy
+   */
+  public RetryPolicy retryOn(final Predicate<? super Exception> predicate) {
+    return new RetryPolicy(maxAttempts, predicate, backoff);
+  }
+
+  /**
+   * Retry only the instances of the provided exception class.
+   *
+   * @param type the exception class, sub classes included
+   * @return a new policy
+   */
+  public RetryPolicy retryOn(final Class<? extends Exception> type) {
+    return retryOn(type::isInstance);
+  }
+
+  /**
+   * Wait between two attempts.
+   *
+   * @param backoff the backoff
+   * @return a new policy
+   */
+  public RetryPolicy withBackoff(final Backoff backoff) {
+    return new RetryPolicy(maxAttempts, retryOn, backoff);
+  }
+
+  /**
+   * The maximum number of invocations, including the first one.
+   *
+   * @return the maximum number of invocations
+   */
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  /**
+   * The delay between two attempts.
+   *
+   * @return the backoff
+   */
+  public Backoff getBackoff() {
+    return backoff;
+  }
+
+  /**
+   * Decide if a failed invocation must be invoked again.
+   *
+   * @param attempt the number of the failed attempt, starting at 1
+   * @param exception the exception thrown by the failed attempt
+   * @return {@code true} if another attempt is allowed
+   */
+  public boolean shouldRetry(final int attempt, final Exception exception) {
+    return attempt < maxAttempts && retryOn.test(exception);
+  }
+}
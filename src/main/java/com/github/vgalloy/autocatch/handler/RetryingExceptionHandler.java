@@ -0,0 +1,1145 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+import com.github.vgalloy.autocatch.function.BiConsumerWithException;
+import com.github.vgalloy.autocatch.function.BiFunctionWithError;
+import com.github.vgalloy.autocatch.function.BiPredicateWithError;
+import com.github.vgalloy.autocatch.function.BinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.BooleanSupplierWithException;
+import com.github.vgalloy.autocatch.function.ByteSupplier;
+import com.github.vgalloy.autocatch.function.ByteSupplierWithException;
+import com.github.vgalloy.autocatch.function.CharSupplier;
+import com.github.vgalloy.autocatch.function.CharSupplierWithException;
+import com.github.vgalloy.autocatch.function.ConsumerWithException;
+import com.github.vgalloy.autocatch.function.DoubleBinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.DoubleConsumerWithException;
+import com.github.vgalloy.autocatch.function.DoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.DoublePredicateWithException;
+import com.github.vgalloy.autocatch.function.DoubleSupplierWithException;
+import com.github.vgalloy.autocatch.function.DoubleToIntFunctionWithException;
+import com.github.vgalloy.autocatch.function.DoubleToLongFunctionWithException;
+import com.github.vgalloy.autocatch.function.DoubleUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.FunctionWithError;
+import com.github.vgalloy.autocatch.function.IntBinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.IntConsumerWithException;
+import com.github.vgalloy.autocatch.function.IntFunctionWithException;
+import com.github.vgalloy.autocatch.function.IntPredicateWithException;
+import com.github.vgalloy.autocatch.function.IntSupplierWithException;
+import com.github.vgalloy.autocatch.function.IntToDoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.IntToLongFunctionWithException;
+import com.github.vgalloy.autocatch.function.IntUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.LongBinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.LongConsumerWithException;
+import com.github.vgalloy.autocatch.function.LongFunctionWithException;
+import com.github.vgalloy.autocatch.function.LongPredicateWithException;
+import com.github.vgalloy.autocatch.function.LongSupplierWithException;
+import com.github.vgalloy.autocatch.function.LongToDoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.LongToIntFunctionWithException;
+import com.github.vgalloy.autocatch.function.LongUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.ObjDoubleConsumerWithException;
+import com.github.vgalloy.autocatch.function.ObjIntConsumerWithException;
+import com.github.vgalloy.autocatch.function.ObjLongConsumerWithException;
+import com.github.vgalloy.autocatch.function.PredicateWithError;
+import com.github.vgalloy.autocatch.function.RunnableWithException;
+import com.github.vgalloy.autocatch.function.ToDoubleBiFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToDoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToIntBiFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToIntFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToLongBiFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToLongFunctionWithException;
+import com.github.vgalloy.autocatch.result.BooleanResult;
+import com.github.vgalloy.autocatch.result.DoubleResult;
+import com.github.vgalloy.autocatch.result.IntResult;
+import com.github.vgalloy.autocatch.result.Result;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleBiFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongBiFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Invoke the functions again while they fail with an exception accepted by the {@link RetryPolicy}.
+ * The last exception is propagated by the delegate. Nothing is allocated when the first attempt
+ * succeeds.
+ */
+final class RetryingExceptionHandler implements AutoCatcher {
+
+  private final AutoCatcher delegate;
+  private final RetryPolicy policy;
+
+  /**
+   * Constructor.
+   *
+   * @param delegate the catcher converting the retried functions
+   * @param policy the retry policy
+   */
+  RetryingExceptionHandler(final AutoCatcher delegate, final RetryPolicy policy) {
+    this.delegate = delegate;
+    this.policy = policy;
+  }
+
+  /**
+   * Wait before the next attempt, or throw the exception if it must not be retried.
+   *
+   * @param attempt the number of the failed attempt, starting at 1
+   * @param exception the exception thrown by the failed attempt
+   * @throws Exception the provided exception if no other attempt is allowed
+   */
+  private void awaitRetry(final int attempt, final Exception exception) throws Exception {
+    if (!policy.shouldRetry(attempt, exception)) {
+      throw exception;
+    }
+    final long delay = policy.getBackoff().delayNanos(attempt);
+    if (0 < delay) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(delay);
+      } catch (final InterruptedException interrupted) {
+        Thread.currentThread().interrupt();
+        exception.addSuppressed(interrupted);
+        throw exception;
+      }
+    }
+  }
+
+  @Override
+  public BooleanSupplier unDeclare(final BooleanSupplierWithException supplier) {
+    final BooleanSupplierWithException retried =
+        () -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return supplier.getAsBooleanWithException();
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclare(retried);
+  }
+
+  @Override
+  public ByteSupplier unDeclare(final ByteSupplierWithException supplier) {
+    final ByteSupplierWithException retried =
+        () -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return supplier.getAsByteWithException();
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclare(retried);
+  }
+
+  @Override
+  public CharSupplier unDeclare(final CharSupplierWithException supplier) {
+    final CharSupplierWithException retried =
+        () -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return supplier.getAsCharWithException();
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclare(retried);
+  }
+
+  @Override
+  public DoubleSupplier unDeclare(final DoubleSupplierWithException supplier) {
+    final DoubleSupplierWithException retried =
+        () -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return supplier.getAsDoubleWithException();
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclare(retried);
+  }
+
+  @Override
+  public IntSupplier unDeclare(final IntSupplierWithException supplier) {
+    final IntSupplierWithException retried =
+        () -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return supplier.getAsIntWithException();
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclare(retried);
+  }
+
+  @Override
+  public Runnable unDeclare(final RunnableWithException runnable) {
+    final RunnableWithException retried =
+        () -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              runnable.runWithException();
+              return;
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclare(retried);
+  }
+
+  @Override
+  public <T> Supplier<T> unDeclare(final Callable<T> callable) {
+    final Callable<T> retried =
+        () -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return callable.call();
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclare(retried);
+  }
+
+  @Override
+  public <T> Consumer<T> unDeclare(final ConsumerWithException<T> consumer) {
+    final ConsumerWithException<T> retried =
+        t -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              consumer.accept(t);
+              return;
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclare(retried);
+  }
+
+  @Override
+  public <T> Predicate<T> unDeclare(final PredicateWithError<T> predicate) {
+    final PredicateWithError<T> retried =
+        t -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return predicate.test(t);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclare(retried);
+  }
+
+  @Override
+  public <T, R> Function<T, R> unDeclare(final FunctionWithError<T, R> function) {
+    final FunctionWithError<T, R> retried =
+        t -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return function.apply(t);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclare(retried);
+  }
+
+  @Override
+  public LongSupplier unDeclare(final LongSupplierWithException supplier) {
+    final LongSupplierWithException retried =
+        () -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return supplier.getAsLongWithException();
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclare(retried);
+  }
+
+  @Override
+  public <R> IntFunction<R> unDeclareInt(final IntFunctionWithException<R> function) {
+    final IntFunctionWithException<R> retried =
+        value -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return function.apply(value);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareInt(retried);
+  }
+
+  @Override
+  public IntToDoubleFunction unDeclareInt(final IntToDoubleFunctionWithException function) {
+    final IntToDoubleFunctionWithException retried =
+        value -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return function.applyAsDouble(value);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareInt(retried);
+  }
+
+  @Override
+  public IntToLongFunction unDeclareInt(final IntToLongFunctionWithException function) {
+    final IntToLongFunctionWithException retried =
+        value -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return function.applyAsLong(value);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareInt(retried);
+  }
+
+  @Override
+  public IntUnaryOperator unDeclareInt(final IntUnaryOperatorWithException operator) {
+    final IntUnaryOperatorWithException retried =
+        value -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return operator.applyAsInt(value);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareInt(retried);
+  }
+
+  @Override
+  public IntPredicate unDeclareInt(final IntPredicateWithException predicate) {
+    final IntPredicateWithException retried =
+        value -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return predicate.test(value);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareInt(retried);
+  }
+
+  @Override
+  public IntConsumer unDeclareInt(final IntConsumerWithException consumer) {
+    final IntConsumerWithException retried =
+        value -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              consumer.accept(value);
+              return;
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareInt(retried);
+  }
+
+  @Override
+  public <R> LongFunction<R> unDeclareLong(final LongFunctionWithException<R> function) {
+    final LongFunctionWithException<R> retried =
+        value -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return function.apply(value);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareLong(retried);
+  }
+
+  @Override
+  public LongToDoubleFunction unDeclareLong(final LongToDoubleFunctionWithException function) {
+    final LongToDoubleFunctionWithException retried =
+        value -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return function.applyAsDouble(value);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareLong(retried);
+  }
+
+  @Override
+  public LongToIntFunction unDeclareLong(final LongToIntFunctionWithException function) {
+    final LongToIntFunctionWithException retried =
+        value -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return function.applyAsInt(value);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareLong(retried);
+  }
+
+  @Override
+  public LongUnaryOperator unDeclareLong(final LongUnaryOperatorWithException operator) {
+    final LongUnaryOperatorWithException retried =
+        value -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return operator.applyAsLong(value);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareLong(retried);
+  }
+
+  @Override
+  public LongPredicate unDeclareLong(final LongPredicateWithException predicate) {
+    final LongPredicateWithException retried =
+        value -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return predicate.test(value);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareLong(retried);
+  }
+
+  @Override
+  public LongConsumer unDeclareLong(final LongConsumerWithException consumer) {
+    final LongConsumerWithException retried =
+        value -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              consumer.accept(value);
+              return;
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareLong(retried);
+  }
+
+  @Override
+  public <R> DoubleFunction<R> unDeclareDouble(final DoubleFunctionWithException<R> function) {
+    final DoubleFunctionWithException<R> retried =
+        value -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return function.apply(value);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareDouble(retried);
+  }
+
+  @Override
+  public DoubleToIntFunction unDeclareDouble(final DoubleToIntFunctionWithException function) {
+    final DoubleToIntFunctionWithException retried =
+        value -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return function.applyAsInt(value);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareDouble(retried);
+  }
+
+  @Override
+  public DoubleToLongFunction unDeclareDouble(final DoubleToLongFunctionWithException function) {
+    final DoubleToLongFunctionWithException retried =
+        value -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return function.applyAsLong(value);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareDouble(retried);
+  }
+
+  @Override
+  public DoubleUnaryOperator unDeclareDouble(final DoubleUnaryOperatorWithException operator) {
+    final DoubleUnaryOperatorWithException retried =
+        value -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return operator.applyAsDouble(value);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareDouble(retried);
+  }
+
+  @Override
+  public DoublePredicate unDeclareDouble(final DoublePredicateWithException predicate) {
+    final DoublePredicateWithException retried =
+        value -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return predicate.test(value);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareDouble(retried);
+  }
+
+  @Override
+  public DoubleConsumer unDeclareDouble(final DoubleConsumerWithException consumer) {
+    final DoubleConsumerWithException retried =
+        value -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              consumer.accept(value);
+              return;
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareDouble(retried);
+  }
+
+  @Override
+  public <T> ToIntFunction<T> unDeclareToInt(final ToIntFunctionWithException<T> function) {
+    final ToIntFunctionWithException<T> retried =
+        t -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return function.applyAsInt(t);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareToInt(retried);
+  }
+
+  @Override
+  public <T> ToLongFunction<T> unDeclareToLong(final ToLongFunctionWithException<T> function) {
+    final ToLongFunctionWithException<T> retried =
+        t -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return function.applyAsLong(t);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareToLong(retried);
+  }
+
+  @Override
+  public <T> ToDoubleFunction<T> unDeclareToDouble(
+      final ToDoubleFunctionWithException<T> function) {
+    final ToDoubleFunctionWithException<T> retried =
+        t -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return function.applyAsDouble(t);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareToDouble(retried);
+  }
+
+  @Override
+  public <T, U, R> BiFunction<T, U, R> unDeclare(final BiFunctionWithError<T, U, R> function) {
+    final BiFunctionWithError<T, U, R> retried =
+        (t, u) -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return function.apply(t, u);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclare(retried);
+  }
+
+  @Override
+  public <T> BinaryOperator<T> unDeclare(final BinaryOperatorWithException<T> operator) {
+    final BinaryOperatorWithException<T> retried =
+        (left, right) -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return operator.apply(left, right);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclare(retried);
+  }
+
+  @Override
+  public <T, U> BiPredicate<T, U> unDeclare(final BiPredicateWithError<T, U> predicate) {
+    final BiPredicateWithError<T, U> retried =
+        (t, u) -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return predicate.test(t, u);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclare(retried);
+  }
+
+  @Override
+  public <T, U> BiConsumer<T, U> unDeclare(final BiConsumerWithException<T, U> consumer) {
+    final BiConsumerWithException<T, U> retried =
+        (t, u) -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              consumer.accept(t, u);
+              return;
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclare(retried);
+  }
+
+  @Override
+  public IntBinaryOperator unDeclareIntBinary(final IntBinaryOperatorWithException operator) {
+    final IntBinaryOperatorWithException retried =
+        (left, right) -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return operator.applyAsInt(left, right);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareIntBinary(retried);
+  }
+
+  @Override
+  public LongBinaryOperator unDeclareLongBinary(final LongBinaryOperatorWithException operator) {
+    final LongBinaryOperatorWithException retried =
+        (left, right) -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return operator.applyAsLong(left, right);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareLongBinary(retried);
+  }
+
+  @Override
+  public DoubleBinaryOperator unDeclareDoubleBinary(
+      final DoubleBinaryOperatorWithException operator) {
+    final DoubleBinaryOperatorWithException retried =
+        (left, right) -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return operator.applyAsDouble(left, right);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareDoubleBinary(retried);
+  }
+
+  @Override
+  public <T, U> ToIntBiFunction<T, U> unDeclareToIntBi(
+      final ToIntBiFunctionWithException<T, U> function) {
+    final ToIntBiFunctionWithException<T, U> retried =
+        (t, u) -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return function.applyAsInt(t, u);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareToIntBi(retried);
+  }
+
+  @Override
+  public <T, U> ToLongBiFunction<T, U> unDeclareToLongBi(
+      final ToLongBiFunctionWithException<T, U> function) {
+    final ToLongBiFunctionWithException<T, U> retried =
+        (t, u) -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return function.applyAsLong(t, u);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareToLongBi(retried);
+  }
+
+  @Override
+  public <T, U> ToDoubleBiFunction<T, U> unDeclareToDoubleBi(
+      final ToDoubleBiFunctionWithException<T, U> function) {
+    final ToDoubleBiFunctionWithException<T, U> retried =
+        (t, u) -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return function.applyAsDouble(t, u);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareToDoubleBi(retried);
+  }
+
+  @Override
+  public <T> ObjIntConsumer<T> unDeclareObjInt(final ObjIntConsumerWithException<T> consumer) {
+    final ObjIntConsumerWithException<T> retried =
+        (t, value) -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              consumer.accept(t, value);
+              return;
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareObjInt(retried);
+  }
+
+  @Override
+  public <T> ObjLongConsumer<T> unDeclareObjLong(final ObjLongConsumerWithException<T> consumer) {
+    final ObjLongConsumerWithException<T> retried =
+        (t, value) -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              consumer.accept(t, value);
+              return;
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareObjLong(retried);
+  }
+
+  @Override
+  public <T> ObjDoubleConsumer<T> unDeclareObjDouble(
+      final ObjDoubleConsumerWithException<T> consumer) {
+    final ObjDoubleConsumerWithException<T> retried =
+        (t, value) -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              consumer.accept(t, value);
+              return;
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareObjDouble(retried);
+  }
+
+  @Override
+  public <T> Supplier<T> unDeclareOrElse(final Callable<T> callable, final T fallback) {
+    final Callable<T> retried =
+        () -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return callable.call();
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareOrElse(retried, fallback);
+  }
+
+  @Override
+  public <T> Supplier<T> unDeclareOrElseGet(
+      final Callable<T> callable, final Function<? super Exception, ? extends T> fallback) {
+    final Callable<T> retried =
+        () -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return callable.call();
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareOrElseGet(retried, fallback);
+  }
+
+  @Override
+  public <T, R> Function<T, R> unDeclareOrElse(
+      final FunctionWithError<T, R> function, final R fallback) {
+    final FunctionWithError<T, R> retried =
+        t -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return function.apply(t);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareOrElse(retried, fallback);
+  }
+
+  @Override
+  public <T, R> Function<T, R> unDeclareOrElseGet(
+      final FunctionWithError<T, R> function,
+      final Function<? super Exception, ? extends R> fallback) {
+    final FunctionWithError<T, R> retried =
+        t -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return function.apply(t);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareOrElseGet(retried, fallback);
+  }
+
+  @Override
+  public BooleanSupplier unDeclareOrElse(
+      final BooleanSupplierWithException supplier, final boolean fallback) {
+    final BooleanSupplierWithException retried =
+        () -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return supplier.getAsBooleanWithException();
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareOrElse(retried, fallback);
+  }
+
+  @Override
+  public BooleanSupplier unDeclareOrElseGet(
+      final BooleanSupplierWithException supplier, final Predicate<? super Exception> fallback) {
+    final BooleanSupplierWithException retried =
+        () -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return supplier.getAsBooleanWithException();
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareOrElseGet(retried, fallback);
+  }
+
+  @Override
+  public ByteSupplier unDeclareOrElse(
+      final ByteSupplierWithException supplier, final byte fallback) {
+    final ByteSupplierWithException retried =
+        () -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return supplier.getAsByteWithException();
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareOrElse(retried, fallback);
+  }
+
+  @Override
+  public CharSupplier unDeclareOrElse(
+      final CharSupplierWithException supplier, final char fallback) {
+    final CharSupplierWithException retried =
+        () -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return supplier.getAsCharWithException();
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareOrElse(retried, fallback);
+  }
+
+  @Override
+  public DoubleSupplier unDeclareOrElse(
+      final DoubleSupplierWithException supplier, final double fallback) {
+    final DoubleSupplierWithException retried =
+        () -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return supplier.getAsDoubleWithException();
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareOrElse(retried, fallback);
+  }
+
+  @Override
+  public DoubleSupplier unDeclareOrElseGet(
+      final DoubleSupplierWithException supplier,
+      final ToDoubleFunction<? super Exception> fallback) {
+    final DoubleSupplierWithException retried =
+        () -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return supplier.getAsDoubleWithException();
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareOrElseGet(retried, fallback);
+  }
+
+  @Override
+  public IntSupplier unDeclareOrElse(final IntSupplierWithException supplier, final int fallback) {
+    final IntSupplierWithException retried =
+        () -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return supplier.getAsIntWithException();
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareOrElse(retried, fallback);
+  }
+
+  @Override
+  public IntSupplier unDeclareOrElseGet(
+      final IntSupplierWithException supplier, final ToIntFunction<? super Exception> fallback) {
+    final IntSupplierWithException retried =
+        () -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return supplier.getAsIntWithException();
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareOrElseGet(retried, fallback);
+  }
+
+  @Override
+  public LongSupplier unDeclareOrElse(
+      final LongSupplierWithException supplier, final long fallback) {
+    final LongSupplierWithException retried =
+        () -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return supplier.getAsLongWithException();
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareOrElse(retried, fallback);
+  }
+
+  @Override
+  public LongSupplier unDeclareOrElseGet(
+      final LongSupplierWithException supplier, final ToLongFunction<? super Exception> fallback) {
+    final LongSupplierWithException retried =
+        () -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return supplier.getAsLongWithException();
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.unDeclareOrElseGet(retried, fallback);
+  }
+
+  @Override
+  public <T> Supplier<Result<T>> toResult(final Callable<T> callable) {
+    final Callable<T> retried =
+        () -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return callable.call();
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.toResult(retried);
+  }
+
+  @Override
+  public <T, R> Function<T, Result<R>> toResult(final FunctionWithError<T, R> function) {
+    final FunctionWithError<T, R> retried =
+        t -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return function.apply(t);
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.toResult(retried);
+  }
+
+  @Override
+  public Supplier<BooleanResult> toResult(final BooleanSupplierWithException supplier) {
+    final BooleanSupplierWithException retried =
+        () -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return supplier.getAsBooleanWithException();
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.toResult(retried);
+  }
+
+  @Override
+  public Supplier<DoubleResult> toResult(final DoubleSupplierWithException supplier) {
+    final DoubleSupplierWithException retried =
+        () -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return supplier.getAsDoubleWithException();
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.toResult(retried);
+  }
+
+  @Override
+  public Supplier<IntResult> toResult(final IntSupplierWithException supplier) {
+    final IntSupplierWithException retried =
+        () -> {
+          for (int attempt = 1; ; attempt++) {
+            try {
+              return supplier.getAsIntWithException();
+            } catch (final Exception exception) {
+              this.awaitRetry(attempt, exception);
+            }
+          }
+        };
+    return delegate.toResult(retried);
+  }
+}
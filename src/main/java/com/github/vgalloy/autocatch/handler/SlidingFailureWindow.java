@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count the successes and the failures of the last {@code buckets} time steps. Each bucket is a
+ * single {@code long} packing the step it belongs to with its two counters, so a bucket is moved to
+ * a new step and incremented by the same compare and set. The buckets are striped by thread, one
+ * cache line apart, so the threads do not update the same words.
+ *
+ * <p>A counter saturates at {@value #MAX_COUNT}: the bucket then keeps the failure rate observed so
+ * far.
+ */
+final class SlidingFailureWindow {
+
+  private static final int COUNT_BITS = 20;
+  private static final long MAX_COUNT = (1L << COUNT_BITS) - 1;
+  private static final int FAILURE_SHIFT = COUNT_BITS;
+  private static final int STEP_SHIFT = 2 * COUNT_BITS;
+  private static final long STEP_MASK = (1L << (Long.SIZE - STEP_SHIFT)) - 1;
+  private static final int PADDING = 8;
+  private static final int MAX_STRIPES = 64;
+
+  private final AtomicLongArray cells;
+  private final int buckets;
+  private final int stride;
+  private final int stripeMask;
+  private final long stepNanos;
+  private final long origin = System.nanoTime();
+
+  /**
+   * Constructor.
+   *
+   * @param windowNanos the duration of the window
+   * @param buckets the number of steps of the window
+   */
+  SlidingFailureWindow(final long windowNanos, final int buckets) {
+    final int processors = Runtime.getRuntime().availableProcessors();
+    final int stripes = Math.min(MAX_STRIPES, Integer.highestOneBit(processors * 2 - 1));
+    this.buckets = buckets;
+    this.stride = buckets + PADDING;
+    this.stripeMask = stripes - 1;
+    this.stepNanos = windowNanos / buckets;
+    this.cells = new AtomicLongArray(stripes * stride);
+  }
+
+  /**
+   * Record the outcome of an invocation.
+   *
+   * @param nanoTime the current {@link System#nanoTime()}
+   * @param failure {@code true} for a failure
+   */
+  void record(final long nanoTime, final boolean failure) {
+    final long step = step(nanoTime);
+    final int index = stripe() * stride + (int) (step % buckets);
+    final long tag = (step & STEP_MASK) << STEP_SHIFT;
+    final int shift = failure ? FAILURE_SHIFT : 0;
+    while (true) {
+      final long cell = cells.get(index);
+      final long next;
+      if ((cell & ~((1L << STEP_SHIFT) - 1)) == tag) {
+        if (((cell >>> shift) & MAX_COUNT) == MAX_COUNT) {
+          return;
+        }
+        next = cell + (1L << shift);
+      } else {
+        next = tag | (1L << shift);
+      }
+      if (cells.compareAndSet(index, cell, next)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Check if the failure rate of the window reaches the threshold.
+   *
+   * @param nanoTime the current {@link System#nanoTime()}
+   * @param minimumCalls the minimum number of invocations in the window
+   * @param threshold the failure rate threshold
+   * @return {@code true} if the circuit must open
+   */
+  boolean isAboveThreshold(final long nanoTime, final int minimumCalls, final double threshold) {
+    final long current = step(nanoTime);
+    long successes = 0;
+    long failures = 0;
+    for (int index = 0; index < cells.length(); index++) {
+      final long cell = cells.get(index);
+      final long age = (current - (cell >>> STEP_SHIFT)) & STEP_MASK;
+      if (cell != 0 && age < buckets) {
+        successes += cell & MAX_COUNT;
+        failures += (cell >>> FAILURE_SHIFT) & MAX_COUNT;
+      }
+    }
+    final long calls = successes + failures;
+    return minimumCalls <= calls && threshold * calls <= failures;
+  }
+
+  /** Forget every recorded invocation. */
+  void clear() {
+    for (int index = 0; index < cells.length(); index++) {
+      cells.set(index, 0);
+    }
+  }
+
+  private long step(final long nanoTime) {
+    return (nanoTime - origin) / stepNanos;
+  }
+
+  private int stripe() {
+    return (int) Thread.currentThread().getId() & stripeMask;
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+import java.lang.reflect.UndeclaredThrowableException;
+
+/** An {@link UndeclaredThrowableException} relying on the stack trace of its cause. */
+final class StacklessUndeclaredThrowableException extends UndeclaredThrowableException {
+
+  private static final long serialVersionUID = 3410956108455226207L;
+
+  /**
+   * Constructor.
+   *
+   * @param undeclaredThrowable the undeclared checked exception
+   */
+  StacklessUndeclaredThrowableException(final Throwable undeclaredThrowable) {
+    super(undeclaredThrowable);
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
+}
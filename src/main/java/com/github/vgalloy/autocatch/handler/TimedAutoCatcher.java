@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+import java.util.Map;
+
+/**
+ * A catcher recording the duration of the invocations of the functions it converted, by call site.
+ *
+ * @see AutoCatcher#timed(AutoCatcher)
+ */
+public interface TimedAutoCatcher extends AutoCatcher {
+
+  /** The call site of the functions converted directly by this catcher. */
+  String DEFAULT_CALL_SITE = "default";
+
+  /**
+   * Get the catcher of a call site. The functions it converts are recorded under the provided name.
+   * The same catcher is returned for the same name.
+   *
+   * @param name the name of the call site
+   * @return the catcher of the call site
+   */
+  AutoCatcher callSite(final String name);
+
+  /**
+   * Take a snapshot of every call site.
+   *
+   * @return the latencies by call site name
+   */
+  Map<String, CallSiteLatency> snapshot();
+
+  /**
+   * Take a snapshot of every call site and reset the histograms. No duration recorded concurrently
+   * is lost, it belongs either to the returned snapshot or to the next one.
+   *
+   * @return the latencies by call site name since the previous reset
+   */
+  Map<String, CallSiteLatency> snapshotAndReset();
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keep a {@link CallSiteTimer} by call site name. The functions converted directly are recorded
+ * into the {@link TimedAutoCatcher#DEFAULT_CALL_SITE}.
+ */
+final class TimedExceptionHandler extends AutoCatcherDecorator implements TimedAutoCatcher {
+
+  private final AutoCatcher delegate;
+  private final CallSiteTimer defaultCallSite;
+  private final ConcurrentMap<String, CallSiteTimer> callSites = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor.
+   *
+   * @param delegate the catcher converting the intercepted functions
+   */
+  TimedExceptionHandler(final AutoCatcher delegate) {
+    super(delegate);
+    this.delegate = delegate;
+    this.defaultCallSite = new CallSiteTimer(delegate);
+    this.callSites.put(DEFAULT_CALL_SITE, defaultCallSite);
+  }
+
+  @Override
+  long before() {
+    return defaultCallSite.before();
+  }
+
+  @Override
+  void onSuccess(final long token) {
+    defaultCallSite.onSuccess(token);
+  }
+
+  @Override
+  void onFailure(final long token, final Throwable failure) {
+    defaultCallSite.onFailure(token, failure);
+  }
+
+  @Override
+  public AutoCatcher callSite(final String name) {
+    if (DEFAULT_CALL_SITE.equals(name)) {
+      return this;
+    }
+    return callSites.computeIfAbsent(name, key -> new CallSiteTimer(delegate));
+  }
+
+  @Override
+  public Map<String, CallSiteLatency> snapshot() {
+    return snapshot(false);
+  }
+
+  @Override
+  public Map<String, CallSiteLatency> snapshotAndReset() {
+    return snapshot(true);
+  }
+
+  private Map<String, CallSiteLatency> snapshot(final boolean reset) {
+    final Map<String, CallSiteLatency> result = new HashMap<>();
+    callSites.forEach((name, callSite) -> result.put(name, callSite.snapshot(reset)));
+    return Collections.unmodifiableMap(result);
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+import com.github.vgalloy.autocatch.function.ConsumerWithException;
+import java.util.function.Consumer;
+
+/**
+ * Consumer wrapping the checked exceptions of a consumer into an {@link
+ * java.lang.reflect.UndeclaredThrowableException}. Also the template of the classes spun by {@link
+ * MonomorphicWrappers}: it must stay a top level class without lambda.
+ *
+ * @param <T> the input type of the consumer
+ */
+final class UndeclaredConsumer<T> implements Consumer<T> {
+
+  private final ConsumerWithException<T> consumer;
+  private final boolean writableStackTrace;
+
+  /**
+   * Constructor.
+   *
+   * @param consumer the wrapped consumer
+   * @param writableStackTrace false if the wrapper exception should not fill in its stack trace
+   */
+  UndeclaredConsumer(final ConsumerWithException<T> consumer, final boolean writableStackTrace) {
+    this.consumer = consumer;
+    this.writableStackTrace = writableStackTrace;
+  }
+
+  @Override
+  public void accept(final T t) {
+    try {
+      consumer.accept(t);
+    } catch (final RuntimeException runtime) {
+      throw runtime;
+    } catch (final Exception exception) {
+      throw UndeclaredExceptionHandler.wrap(exception, writableStackTrace);
+    }
+  }
+}
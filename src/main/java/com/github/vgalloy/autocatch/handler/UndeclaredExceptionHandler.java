@@ -15,25 +15,207 @@
  */
 package com.github.vgalloy.autocatch.handler;
 
+import com.github.vgalloy.autocatch.function.BiConsumerWithException;
+import com.github.vgalloy.autocatch.function.BiFunctionWithError;
+import com.github.vgalloy.autocatch.function.BiPredicateWithError;
+import com.github.vgalloy.autocatch.function.BinaryOperatorWithException;
 import com.github.vgalloy.autocatch.function.BooleanSupplierWithException;
 import com.github.vgalloy.autocatch.function.ByteSupplier;
 import com.github.vgalloy.autocatch.function.ByteSupplierWithException;
 import com.github.vgalloy.autocatch.function.CharSupplier;
 import com.github.vgalloy.autocatch.function.CharSupplierWithException;
 import com.github.vgalloy.autocatch.function.ConsumerWithException;
+import com.github.vgalloy.autocatch.function.DoubleBinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.DoubleConsumerWithException;
+import com.github.vgalloy.autocatch.function.DoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.DoublePredicateWithException;
 import com.github.vgalloy.autocatch.function.DoubleSupplierWithException;
+import com.github.vgalloy.autocatch.function.DoubleToIntFunctionWithException;
+import com.github.vgalloy.autocatch.function.DoubleToLongFunctionWithException;
+import com.github.vgalloy.autocatch.function.DoubleUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.FunctionWithError;
+import com.github.vgalloy.autocatch.function.IntBinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.IntConsumerWithException;
+import com.github.vgalloy.autocatch.function.IntFunctionWithException;
+import com.github.vgalloy.autocatch.function.IntPredicateWithException;
 import com.github.vgalloy.autocatch.function.IntSupplierWithException;
+import com.github.vgalloy.autocatch.function.IntToDoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.IntToLongFunctionWithException;
+import com.github.vgalloy.autocatch.function.IntUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.LongBinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.LongConsumerWithException;
+import com.github.vgalloy.autocatch.function.LongFunctionWithException;
+import com.github.vgalloy.autocatch.function.LongPredicateWithException;
+import com.github.vgalloy.autocatch.function.LongSupplierWithException;
+import com.github.vgalloy.autocatch.function.LongToDoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.LongToIntFunctionWithException;
+import com.github.vgalloy.autocatch.function.LongUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.ObjDoubleConsumerWithException;
+import com.github.vgalloy.autocatch.function.ObjIntConsumerWithException;
+import com.github.vgalloy.autocatch.function.ObjLongConsumerWithException;
+import com.github.vgalloy.autocatch.function.PredicateWithError;
 import com.github.vgalloy.autocatch.function.RunnableWithException;
+import com.github.vgalloy.autocatch.function.ToDoubleBiFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToDoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToIntBiFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToIntFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToLongBiFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToLongFunctionWithException;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
 import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
 import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleBiFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongBiFunction;
+import java.util.function.ToLongFunction;
 
+/**
+ * Wrap the checked exceptions into an {@link UndeclaredThrowableException}. The {@code autoCatch}
+ * methods invoke the function directly instead of going through the default methods of {@link
+ * AutoCatcher}: those are shared by every catcher, so their call sites become megamorphic as soon
+ * as an application uses several catchers, and the JIT stops inlining them. The invocation of the
+ * function itself is still shared by every function given to the method. The creation of the
+ * wrapper exception is left to {@link #wrap(Exception, boolean)}, so every method stays under the
+ * bytecode size the JIT inlines even from a cold call site.
+ */
 final class UndeclaredExceptionHandler implements AutoCatcher {
 
+  private final boolean writableStackTrace;
+
+  /**
+   * Constructor.
+   *
+   * @param writableStackTrace false if the wrapper exception should not fill in its stack trace
+   */
+  UndeclaredExceptionHandler(final boolean writableStackTrace) {
+    this.writableStackTrace = writableStackTrace;
+  }
+
+  @Override
+  public boolean autoCatch(final BooleanSupplierWithException booleanSupplierWithException) {
+    try {
+      return booleanSupplierWithException.getAsBooleanWithException();
+    } catch (final RuntimeException runtime) {
+      throw runtime;
+    } catch (final Exception exception) {
+      throw this.wrap(exception);
+    }
+  }
+
+  @Override
+  public byte autoCatch(final ByteSupplierWithException byteSupplierWithException) {
+    try {
+      return byteSupplierWithException.getAsByteWithException();
+    } catch (final RuntimeException runtime) {
+      throw runtime;
+    } catch (final Exception exception) {
+      throw this.wrap(exception);
+    }
+  }
+
+  @Override
+  public char autoCatch(final CharSupplierWithException charSupplierWithException) {
+    try {
+      return charSupplierWithException.getAsCharWithException();
+    } catch (final RuntimeException runtime) {
+      throw runtime;
+    } catch (final Exception exception) {
+      throw this.wrap(exception);
+    }
+  }
+
+  @Override
+  public double autoCatch(final DoubleSupplierWithException doubleSupplierWithException) {
+    try {
+      return doubleSupplierWithException.getAsDoubleWithException();
+    } catch (final RuntimeException runtime) {
+      throw runtime;
+    } catch (final Exception exception) {
+      throw this.wrap(exception);
+    }
+  }
+
+  @Override
+  public int autoCatch(final IntSupplierWithException intSupplierWithException) {
+    try {
+      return intSupplierWithException.getAsIntWithException();
+    } catch (final RuntimeException runtime) {
+      throw runtime;
+    } catch (final Exception exception) {
+      throw this.wrap(exception);
+    }
+  }
+
+  @Override
+  public long autoCatch(final LongSupplierWithException longSupplierWithException) {
+    try {
+      return longSupplierWithException.getAsLongWithException();
+    } catch (final RuntimeException runtime) {
+      throw runtime;
+    } catch (final Exception exception) {
+      throw this.wrap(exception);
+    }
+  }
+
+  @Override
+  public void autoCatch(final RunnableWithException runnableWithException) {
+    try {
+      runnableWithException.runWithException();
+    } catch (final RuntimeException runtime) {
+      throw runtime;
+    } catch (final Exception exception) {
+      throw this.wrap(exception);
+    }
+  }
+
+  @Override
+  public <T> T autoCatch(final Callable<T> callable) {
+    try {
+      return callable.call();
+    } catch (final RuntimeException runtime) {
+      throw runtime;
+    } catch (final Exception exception) {
+      throw this.wrap(exception);
+    }
+  }
+
   @Override
   public BooleanSupplier unDeclare(final BooleanSupplierWithException supplier) {
     return () -> {
@@ -42,7 +224,7 @@ final class UndeclaredExceptionHandler implements AutoCatcher {
       } catch (final RuntimeException runtime) {
         throw runtime;
       } catch (final Exception exception) {
-        throw new UndeclaredThrowableException(exception);
+        throw this.wrap(exception);
       }
     };
   }
@@ -55,7 +237,7 @@ final class UndeclaredExceptionHandler implements AutoCatcher {
       } catch (final RuntimeException runtime) {
         throw runtime;
       } catch (final Exception exception) {
-        throw new UndeclaredThrowableException(exception);
+        throw this.wrap(exception);
       }
     };
   }
@@ -68,7 +250,7 @@ final class UndeclaredExceptionHandler implements AutoCatcher {
       } catch (final RuntimeException runtime) {
         throw runtime;
       } catch (final Exception exception) {
-        throw new UndeclaredThrowableException(exception);
+        throw this.wrap(exception);
       }
     };
   }
@@ -81,7 +263,7 @@ final class UndeclaredExceptionHandler implements AutoCatcher {
       } catch (final RuntimeException runtime) {
         throw runtime;
       } catch (final Exception exception) {
-        throw new UndeclaredThrowableException(exception);
+        throw this.wrap(exception);
       }
     };
   }
@@ -94,47 +276,519 @@ final class UndeclaredExceptionHandler implements AutoCatcher {
       } catch (final RuntimeException runtime) {
         throw runtime;
       } catch (final Exception exception) {
-        throw new UndeclaredThrowableException(exception);
+        throw this.wrap(exception);
       }
     };
   }
 
   @Override
   public Runnable unDeclare(final RunnableWithException runnable) {
+    return MonomorphicWrappers.runnable(runnable, writableStackTrace);
+  }
+
+  @Override
+  public <T> Supplier<T> unDeclare(final Callable<T> callable) {
+    return MonomorphicWrappers.supplier(callable, writableStackTrace);
+  }
+
+  @Override
+  public <T> Consumer<T> unDeclare(final ConsumerWithException<T> consumer) {
+    return MonomorphicWrappers.consumer(consumer, writableStackTrace);
+  }
+
+  @Override
+  public <T> Predicate<T> unDeclare(final PredicateWithError<T> predicate) {
+    return MonomorphicWrappers.predicate(predicate, writableStackTrace);
+  }
+
+  @Override
+  public <T, R> Function<T, R> unDeclare(final FunctionWithError<T, R> function) {
+    return MonomorphicWrappers.function(function, writableStackTrace);
+  }
+
+  @Override
+  public LongSupplier unDeclare(final LongSupplierWithException supplier) {
     return () -> {
       try {
-        runnable.runWithException();
+        return supplier.getAsLongWithException();
       } catch (final RuntimeException runtime) {
         throw runtime;
       } catch (final Exception exception) {
-        throw new UndeclaredThrowableException(exception);
+        throw this.wrap(exception);
       }
     };
   }
 
   @Override
-  public <T> Supplier<T> unDeclare(final Callable<T> callable) {
-    return () -> {
+  public <R> IntFunction<R> unDeclareInt(final IntFunctionWithException<R> function) {
+    return value -> {
       try {
-        return callable.call();
+        return function.apply(value);
       } catch (final RuntimeException runtime) {
         throw runtime;
       } catch (final Exception exception) {
-        throw new UndeclaredThrowableException(exception);
+        throw this.wrap(exception);
       }
     };
   }
 
   @Override
-  public <T> Consumer<T> unDeclare(final ConsumerWithException<T> consumer) {
-    return (T t) -> {
+  public IntToDoubleFunction unDeclareInt(final IntToDoubleFunctionWithException function) {
+    return value -> {
+      try {
+        return function.applyAsDouble(value);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public IntToLongFunction unDeclareInt(final IntToLongFunctionWithException function) {
+    return value -> {
+      try {
+        return function.applyAsLong(value);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public IntUnaryOperator unDeclareInt(final IntUnaryOperatorWithException operator) {
+    return value -> {
+      try {
+        return operator.applyAsInt(value);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public IntPredicate unDeclareInt(final IntPredicateWithException predicate) {
+    return value -> {
+      try {
+        return predicate.test(value);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public IntConsumer unDeclareInt(final IntConsumerWithException consumer) {
+    return value -> {
+      try {
+        consumer.accept(value);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public <R> LongFunction<R> unDeclareLong(final LongFunctionWithException<R> function) {
+    return value -> {
+      try {
+        return function.apply(value);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public LongToDoubleFunction unDeclareLong(final LongToDoubleFunctionWithException function) {
+    return value -> {
+      try {
+        return function.applyAsDouble(value);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public LongToIntFunction unDeclareLong(final LongToIntFunctionWithException function) {
+    return value -> {
+      try {
+        return function.applyAsInt(value);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public LongUnaryOperator unDeclareLong(final LongUnaryOperatorWithException operator) {
+    return value -> {
+      try {
+        return operator.applyAsLong(value);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public LongPredicate unDeclareLong(final LongPredicateWithException predicate) {
+    return value -> {
+      try {
+        return predicate.test(value);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public LongConsumer unDeclareLong(final LongConsumerWithException consumer) {
+    return value -> {
+      try {
+        consumer.accept(value);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public <R> DoubleFunction<R> unDeclareDouble(final DoubleFunctionWithException<R> function) {
+    return value -> {
+      try {
+        return function.apply(value);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public DoubleToIntFunction unDeclareDouble(final DoubleToIntFunctionWithException function) {
+    return value -> {
+      try {
+        return function.applyAsInt(value);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public DoubleToLongFunction unDeclareDouble(final DoubleToLongFunctionWithException function) {
+    return value -> {
+      try {
+        return function.applyAsLong(value);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public DoubleUnaryOperator unDeclareDouble(final DoubleUnaryOperatorWithException operator) {
+    return value -> {
+      try {
+        return operator.applyAsDouble(value);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public DoublePredicate unDeclareDouble(final DoublePredicateWithException predicate) {
+    return value -> {
+      try {
+        return predicate.test(value);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public DoubleConsumer unDeclareDouble(final DoubleConsumerWithException consumer) {
+    return value -> {
+      try {
+        consumer.accept(value);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T> ToIntFunction<T> unDeclareToInt(final ToIntFunctionWithException<T> function) {
+    return t -> {
+      try {
+        return function.applyAsInt(t);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T> ToLongFunction<T> unDeclareToLong(final ToLongFunctionWithException<T> function) {
+    return t -> {
+      try {
+        return function.applyAsLong(t);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T> ToDoubleFunction<T> unDeclareToDouble(
+      final ToDoubleFunctionWithException<T> function) {
+    return t -> {
+      try {
+        return function.applyAsDouble(t);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T, U, R> BiFunction<T, U, R> unDeclare(final BiFunctionWithError<T, U, R> function) {
+    return (t, u) -> {
+      try {
+        return function.apply(t, u);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T> BinaryOperator<T> unDeclare(final BinaryOperatorWithException<T> operator) {
+    return (left, right) -> {
+      try {
+        return operator.apply(left, right);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T, U> BiPredicate<T, U> unDeclare(final BiPredicateWithError<T, U> predicate) {
+    return (t, u) -> {
+      try {
+        return predicate.test(t, u);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T, U> BiConsumer<T, U> unDeclare(final BiConsumerWithException<T, U> consumer) {
+    return (t, u) -> {
       try {
-        consumer.accept(t);
+        consumer.accept(t, u);
       } catch (final RuntimeException runtime) {
         throw runtime;
       } catch (final Exception exception) {
-        throw new UndeclaredThrowableException(exception);
+        throw this.wrap(exception);
       }
     };
   }
+
+  @Override
+  public IntBinaryOperator unDeclareIntBinary(final IntBinaryOperatorWithException operator) {
+    return (left, right) -> {
+      try {
+        return operator.applyAsInt(left, right);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public LongBinaryOperator unDeclareLongBinary(final LongBinaryOperatorWithException operator) {
+    return (left, right) -> {
+      try {
+        return operator.applyAsLong(left, right);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public DoubleBinaryOperator unDeclareDoubleBinary(
+      final DoubleBinaryOperatorWithException operator) {
+    return (left, right) -> {
+      try {
+        return operator.applyAsDouble(left, right);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T, U> ToIntBiFunction<T, U> unDeclareToIntBi(
+      final ToIntBiFunctionWithException<T, U> function) {
+    return (t, u) -> {
+      try {
+        return function.applyAsInt(t, u);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T, U> ToLongBiFunction<T, U> unDeclareToLongBi(
+      final ToLongBiFunctionWithException<T, U> function) {
+    return (t, u) -> {
+      try {
+        return function.applyAsLong(t, u);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T, U> ToDoubleBiFunction<T, U> unDeclareToDoubleBi(
+      final ToDoubleBiFunctionWithException<T, U> function) {
+    return (t, u) -> {
+      try {
+        return function.applyAsDouble(t, u);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T> ObjIntConsumer<T> unDeclareObjInt(final ObjIntConsumerWithException<T> consumer) {
+    return (t, value) -> {
+      try {
+        consumer.accept(t, value);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T> ObjLongConsumer<T> unDeclareObjLong(final ObjLongConsumerWithException<T> consumer) {
+    return (t, value) -> {
+      try {
+        consumer.accept(t, value);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  @Override
+  public <T> ObjDoubleConsumer<T> unDeclareObjDouble(
+      final ObjDoubleConsumerWithException<T> consumer) {
+    return (t, value) -> {
+      try {
+        consumer.accept(t, value);
+      } catch (final RuntimeException runtime) {
+        throw runtime;
+      } catch (final Exception exception) {
+        throw this.wrap(exception);
+      }
+    };
+  }
+
+  /**
+   * Wrap the provided checked exception.
+   *
+   * @param exception the checked exception
+   * @return the wrapper exception
+   */
+  private UndeclaredThrowableException wrap(final Exception exception) {
+    return wrap(exception, writableStackTrace);
+  }
+
+  /**
+   * Wrap the provided checked exception.
+   *
+   * @param exception the checked exception
+   * @param writableStackTrace false if the wrapper exception should not fill in its stack trace
+   * @return the wrapper exception
+   */
+  static UndeclaredThrowableException wrap(
+      final Exception exception, final boolean writableStackTrace) {
+    if (writableStackTrace) {
+      return new UndeclaredThrowableException(exception);
+    }
+    return new StacklessUndeclaredThrowableException(exception);
+  }
 }
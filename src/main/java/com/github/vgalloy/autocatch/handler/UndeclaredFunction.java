@@ -0,0 +1,55 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+import com.github.vgalloy.autocatch.function.FunctionWithError;
+import java.util.function.Function;
+
+/**
+ * Function wrapping the checked exceptions of a function into an {@link
+ * java.lang.reflect.UndeclaredThrowableException}. Also the template of the classes spun by {@link
+ * MonomorphicWrappers}: it must stay a top level class without lambda.
+ *
+ * @param <T> the input type of the function
+ * @param <R> the result type of the function
+ */
+final class UndeclaredFunction<T, R> implements Function<T, R> {
+
+  private final FunctionWithError<T, R> function;
+  private final boolean writableStackTrace;
+
+  /**
+   * Constructor.
+   *
+   * @param function the wrapped function
+   * @param writableStackTrace false if the wrapper exception should not fill in its stack trace
+   */
+  UndeclaredFunction(final FunctionWithError<T, R> function, final boolean writableStackTrace) {
+    this.function = function;
+    this.writableStackTrace = writableStackTrace;
+  }
+
+  @Override
+  public R apply(final T t) {
+    try {
+      return function.apply(t);
+    } catch (final RuntimeException runtime) {
+      throw runtime;
+    } catch (final Exception exception) {
+      throw UndeclaredExceptionHandler.wrap(exception, writableStackTrace);
+    }
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+import com.github.vgalloy.autocatch.function.RunnableWithException;
+
+/**
+ * Runnable wrapping the checked exceptions of a runnable into an {@link
+ * java.lang.reflect.UndeclaredThrowableException}. Also the template of the classes spun by {@link
+ * MonomorphicWrappers}: it must stay a top level class without lambda.
+ */
+final class UndeclaredRunnable implements Runnable {
+
+  private final RunnableWithException runnable;
+  private final boolean writableStackTrace;
+
+  /**
+   * Constructor.
+   *
+   * @param runnable the wrapped runnable
+   * @param writableStackTrace false if the wrapper exception should not fill in its stack trace
+   */
+  UndeclaredRunnable(final RunnableWithException runnable, final boolean writableStackTrace) {
+    this.runnable = runnable;
+    this.writableStackTrace = writableStackTrace;
+  }
+
+  @Override
+  public void run() {
+    try {
+      runnable.runWithException();
+    } catch (final RuntimeException runtime) {
+      throw runtime;
+    } catch (final Exception exception) {
+      throw UndeclaredExceptionHandler.wrap(exception, writableStackTrace);
+    }
+  }
+}
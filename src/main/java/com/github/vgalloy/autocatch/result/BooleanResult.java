@@ -0,0 +1,162 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.result;
+
+import com.github.vgalloy.autocatch.function.BooleanSupplierWithException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * The outcome of an invocation: either a boolean value or the exception thrown. A failure is
+ * returned instead of being propagated, so no stack is unwound. On the success path, a result
+ * consumed where it is created is removed by the escape analysis of the JIT.
+ */
+public final class BooleanResult {
+
+  private final boolean value;
+  private final Exception exception;
+
+  private BooleanResult(final boolean value, final Exception exception) {
+    this.value = value;
+    this.exception = exception;
+  }
+
+  /**
+   * Create a successful result.
+   *
+   * @param value the value
+   * @return the result
+   */
+  public static BooleanResult success(final boolean value) {
+    return new BooleanResult(value, null);
+  }
+
+  /**
+   * Create a failed result.
+   *
+   * @param exception the exception thrown
+   * @return the result
+   */
+  public static BooleanResult failure(final Exception exception) {
+    return new BooleanResult(false, Objects.requireNonNull(exception, "exception"));
+  }
+
+  /**
+   * Invoke the provided supplier and capture its outcome.
+   *
+   * @param supplier the supplier declaring an exception
+   * @return the result of the invocation
+   */
+  public static BooleanResult of(final BooleanSupplierWithException supplier) {
+    // a single allocation site after the catch lets the escape analysis remove the result
+    boolean value = false;
+    Exception exception = null;
+    try {
+      value = supplier.getAsBooleanWithException();
+    } catch (final Exception e) {
+      exception = e;
+    }
+    return new BooleanResult(value, exception);
+  }
+
+  /**
+   * Check if the invocation returned normally.
+   *
+   * @return {@code true} if this result holds a value
+   */
+  public boolean isSuccess() {
+    return exception == null;
+  }
+
+  /**
+   * Check if the invocation threw an exception.
+   *
+   * @return {@code true} if this result holds an exception
+   */
+  public boolean isFailure() {
+    return exception != null;
+  }
+
+  /**
+   * Get the value.
+   *
+   * @return the value
+   * @throws IllegalStateException if this result is a failure, caused by its exception
+   */
+  public boolean getAsBoolean() {
+    if (exception != null) {
+      throw new IllegalStateException("The result is a failure", exception);
+    }
+    return value;
+  }
+
+  /**
+   * Get the exception.
+   *
+   * @return the exception
+   * @throws IllegalStateException if this result is a success
+   */
+  public Exception getException() {
+    if (exception == null) {
+      throw new IllegalStateException("The result is a success");
+    }
+    return exception;
+  }
+
+  /**
+   * Get the value, or the provided one if this result is a failure.
+   *
+   * @param fallback the value returned if this result is a failure
+   * @return the value
+   */
+  public boolean orElse(final boolean fallback) {
+    return exception == null ? value : fallback;
+  }
+
+  /**
+   * Get the value, or compute one from the exception if this result is a failure.
+   *
+   * @param fallback the function computing a value from the exception
+   * @return the value
+   */
+  public boolean orElseGet(final Predicate<? super Exception> fallback) {
+    return exception == null ? value : fallback.test(exception);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final BooleanResult other = (BooleanResult) o;
+    return value == other.value && Objects.equals(exception, other.exception);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(Boolean.hashCode(value), exception);
+  }
+
+  @Override
+  public String toString() {
+    return exception == null
+        ? "BooleanResult.success(" + value + ")"
+        : "BooleanResult.failure(" + exception + ")";
+  }
+}
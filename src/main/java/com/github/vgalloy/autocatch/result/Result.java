@@ -0,0 +1,188 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.result;
+
+import com.github.vgalloy.autocatch.function.FunctionWithError;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+/**
+ * The outcome of an invocation: either a value or the exception thrown. A failure is returned
+ * instead of being propagated, so no stack is unwound. On the success path, a result consumed where
+ * it is created is removed by the escape analysis of the JIT.
+ *
+ * @param <T> the type of the value
+ */
+public final class Result<T> {
+
+  private final T value;
+  private final Exception exception;
+
+  private Result(final T value, final Exception exception) {
+    this.value = value;
+    this.exception = exception;
+  }
+
+  /**
+   * Create a successful result.
+   *
+   * @param value the value
+   * @param <T> the type of the value
+   * @return the result
+   */
+  public static <T> Result<T> success(final T value) {
+    return new Result<>(value, null);
+  }
+
+  /**
+   * Create a failed result.
+   *
+   * @param exception the exception thrown
+   * @param <T> the type of the value
+   * @return the result
+   */
+  public static <T> Result<T> failure(final Exception exception) {
+    return new Result<>(null, Objects.requireNonNull(exception, "exception"));
+  }
+
+  /**
+   * Invoke the provided callable and capture its outcome.
+   *
+   * @param callable the callable declaring an exception
+   * @param <T> the type of the value
+   * @return the result of the invocation
+   */
+  public static <T> Result<T> of(final Callable<T> callable) {
+    // a single allocation site after the catch lets the escape analysis remove the result
+    T value = null;
+    Exception exception = null;
+    try {
+      value = callable.call();
+    } catch (final Exception e) {
+      exception = e;
+    }
+    return new Result<>(value, exception);
+  }
+
+  /**
+   * Invoke the provided function and capture its outcome.
+   *
+   * @param function the function declaring an exception
+   * @param input the input of the function
+   * @param <I> the input type of the function
+   * @param <T> the type of the value
+   * @return the result of the invocation
+   */
+  public static <I, T> Result<T> of(final FunctionWithError<I, T> function, final I input) {
+    T value = null;
+    Exception exception = null;
+    try {
+      value = function.apply(input);
+    } catch (final Exception e) {
+      exception = e;
+    }
+    return new Result<>(value, exception);
+  }
+
+  /**
+   * Check if the invocation returned normally.
+   *
+   * @return {@code true} if this result holds a value
+   */
+  public boolean isSuccess() {
+    return exception == null;
+  }
+
+  /**
+   * Check if the invocation threw an exception.
+   *
+   * @return {@code true} if this result holds an exception
+   */
+  public boolean isFailure() {
+    return exception != null;
+  }
+
+  /**
+   * Get the value.
+   *
+   * @return the value
+   * @throws IllegalStateException if this result is a failure, caused by its exception
+   */
+  public T get() {
+    if (exception != null) {
+      throw new IllegalStateException("The result is a failure", exception);
+    }
+    return value;
+  }
+
+  /**
+   * Get the exception.
+   *
+   * @return the exception
+   * @throws IllegalStateException if this result is a success
+   */
+  public Exception getException() {
+    if (exception == null) {
+      throw new IllegalStateException("The result is a success");
+    }
+    return exception;
+  }
+
+  /**
+   * Get the value, or the provided one if this result is a failure.
+   *
+   * @param fallback the value returned if this result is a failure
+   * @return the value
+   */
+  public T orElse(final T fallback) {
+    return exception == null ? value : fallback;
+  }
+
+  /**
+   * Get the value, or compute one from the exception if this result is a failure.
+   *
+   * @param fallback the function computing a value from the exception
+   * @return the value
+   */
+  public T orElseGet(final Function<? super Exception, ? extends T> fallback) {
+    return exception == null ? value : fallback.apply(exception);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final Result<?> other = (Result<?>) o;
+    return Objects.equals(value, other.value) && Objects.equals(exception, other.exception);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(value, exception);
+  }
+
+  @Override
+  public String toString() {
+    return exception == null
+        ? "Result.success(" + value + ")"
+        : "Result.failure(" + exception + ")";
+  }
+}
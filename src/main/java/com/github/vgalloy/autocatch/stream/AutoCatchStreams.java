@@ -0,0 +1,131 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.stream;
+
+import com.github.vgalloy.autocatch.function.FunctionWithError;
+import com.github.vgalloy.autocatch.result.Result;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collector;
+
+/**
+ * Collectors mapping the elements of a stream with a function declaring an exception. A failure
+ * does not abort the stream: the element and its exception are collected with the others, so the
+ * failures can be reported once every element has been processed.
+ *
+ * <pre>{@code
+ * final Partition<String, Record> partition = lines.parallel()
+ *     .collect(AutoCatchStreams.toPartition(this::parse));
+ * partition.getFailures().forEach(this::report);
+ * }</pre>
+ */
+public final class AutoCatchStreams {
+
+  /** Constructor. Private to avoid instantiation */
+  private AutoCatchStreams() {
+    throw new AssertionError("No instance of com.github.vgalloy.autocatch.stream.AutoCatchStreams");
+  }
+
+  /**
+   * Map the elements and split them by outcome, keeping the encounter order. In a parallel stream
+   * each thread fills its own lists, which are concatenated in order.
+   *
+   * @param mapper the function declaring an exception
+   * @param <T> the type of the elements
+   * @param <R> the type of the mapped elements
+   * @return the collector
+   */
+  public static <T, R> Collector<T, ?, Partition<T, R>> toPartition(
+      final FunctionWithError<? super T, ? extends R> mapper) {
+    return Collector.of(
+        Accumulator<T, R>::new,
+        (accumulator, element) -> accumulator.accept(mapper, element),
+        Accumulator::combine,
+        Accumulator::toPartition);
+  }
+
+  /**
+   * Map the elements and split them by outcome, without keeping the encounter order. In a parallel
+   * stream every thread fills the same lock-free queues, so no partial result has to be merged.
+   *
+   * @param mapper the function declaring an exception
+   * @param <T> the type of the elements
+   * @param <R> the type of the mapped elements
+   * @return the collector
+   */
+  public static <T, R> Collector<T, ?, Partition<T, R>> toConcurrentPartition(
+      final FunctionWithError<? super T, ? extends R> mapper) {
+    return Collector.of(
+        ConcurrentAccumulator<T, R>::new,
+        (accumulator, element) -> accumulator.accept(mapper, element),
+        ConcurrentAccumulator::combine,
+        ConcurrentAccumulator::toPartition,
+        Collector.Characteristics.CONCURRENT,
+        Collector.Characteristics.UNORDERED);
+  }
+
+  private static final class Accumulator<T, R> {
+
+    private final List<R> successes = new ArrayList<>();
+    private final List<Failure<T>> failures = new ArrayList<>();
+
+    void accept(final FunctionWithError<? super T, ? extends R> mapper, final T element) {
+      final Result<? extends R> result = Result.of(mapper, element);
+      if (result.isSuccess()) {
+        successes.add(result.get());
+      } else {
+        failures.add(new Failure<>(element, result.getException()));
+      }
+    }
+
+    Accumulator<T, R> combine(final Accumulator<T, R> other) {
+      successes.addAll(other.successes);
+      failures.addAll(other.failures);
+      return this;
+    }
+
+    Partition<T, R> toPartition() {
+      return new Partition<>(successes, failures);
+    }
+  }
+
+  private static final class ConcurrentAccumulator<T, R> {
+
+    private final Queue<R> successes = new ConcurrentLinkedQueue<>();
+    private final Queue<Failure<T>> failures = new ConcurrentLinkedQueue<>();
+
+    void accept(final FunctionWithError<? super T, ? extends R> mapper, final T element) {
+      final Result<? extends R> result = Result.of(mapper, element);
+      if (result.isSuccess()) {
+        successes.add(result.get());
+      } else {
+        failures.add(new Failure<>(element, result.getException()));
+      }
+    }
+
+    ConcurrentAccumulator<T, R> combine(final ConcurrentAccumulator<T, R> other) {
+      successes.addAll(other.successes);
+      failures.addAll(other.failures);
+      return this;
+    }
+
+    Partition<T, R> toPartition() {
+      return new Partition<>(new ArrayList<>(successes), new ArrayList<>(failures));
+    }
+  }
+}
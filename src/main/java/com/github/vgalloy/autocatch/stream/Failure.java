@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.stream;
+
+import java.util.Objects;
+
+/**
+ * An element which could not be mapped, with the exception thrown by the mapper.
+ *
+ * @param <T> the type of the element
+ */
+public final class Failure<T> {
+
+  private final T input;
+  private final Exception exception;
+
+  /**
+   * Constructor.
+   *
+   * @param input the element
+   * @param exception the exception thrown by the mapper
+   */
+  Failure(final T input, final Exception exception) {
+    this.input = input;
+    this.exception = exception;
+  }
+
+  /**
+   * The element which could not be mapped.
+   *
+   * @return the element
+   */
+  public T getInput() {
+    return input;
+  }
+
+  /**
+   * The exception thrown by the mapper.
+   *
+   * @return the exception
+   */
+  public Exception getException() {
+    return exception;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final Failure<?> other = (Failure<?>) o;
+    return Objects.equals(input, other.input) && Objects.equals(exception, other.exception);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(input, exception);
+  }
+
+  @Override
+  public String toString() {
+    return "Failure{" + "input=" + input + ", exception=" + exception + '}';
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.stream;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The elements of a stream split by the outcome of their mapping.
+ *
+ * @param <T> the type of the elements
+ * @param <R> the type of the mapped elements
+ */
+public final class Partition<T, R> {
+
+  private final List<R> successes;
+  private final List<Failure<T>> failures;
+
+  /**
+   * Constructor.
+   *
+   * @param successes the mapped elements, not copied
+   * @param failures the elements which could not be mapped, not copied
+   */
+  Partition(final List<R> successes, final List<Failure<T>> failures) {
+    this.successes = Collections.unmodifiableList(successes);
+    this.failures = Collections.unmodifiableList(failures);
+  }
+
+  /**
+   * The result of the mapping of the elements which have been mapped.
+   *
+   * @return an unmodifiable list
+   */
+  public List<R> getSuccesses() {
+    return successes;
+  }
+
+  /**
+   * The elements which could not be mapped.
+   *
+   * @return an unmodifiable list
+   */
+  public List<Failure<T>> getFailures() {
+    return failures;
+  }
+
+  /**
+   * Check if every element has been mapped.
+   *
+   * @return {@code true} if there is no failure
+   */
+  public boolean isComplete() {
+    return failures.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    return "Partition{" + "successes=" + successes.size() + ", failures=" + failures + '}';
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Execute blocking tasks on virtual threads, one thread by task. A blocked task unmounts its virtual
+ * thread, so thousands of concurrent lookups share a few carrier threads.
+ */
+public final class VirtualThreadExecution {
+
+  /** Constructor. Private to avoid instantiation */
+  private VirtualThreadExecution() {
+    throw new AssertionError(
+        "No instance of com.github.vgalloy.autocatch.concurrent.VirtualThreadExecution");
+  }
+
+  /**
+   * Check if the runtime provides virtual threads.
+   *
+   * @return {@code true} on Java 21 and later
+   */
+  public static boolean isAvailable() {
+    return true;
+  }
+
+  /**
+   * Execute every task on its own virtual thread and wait for all of them.
+   *
+   * @param tasks the tasks, usually converted by an {@link
+   *     com.github.vgalloy.autocatch.handler.AutoCatcher}
+   * @param <T> the result type of the tasks
+   * @return the results, in the order of the tasks
+   * @throws MultipleFailuresException carrying every failure as a suppressed exception
+   */
+  public static <T> List<T> invokeAll(final Collection<? extends Supplier<? extends T>> tasks) {
+    final List<Future<? extends T>> futures = new ArrayList<>(tasks.size());
+    // close() waits for every task, and cancels them if the caller is interrupted
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (final Supplier<? extends T> task : tasks) {
+        futures.add(executor.submit(task::get));
+      }
+    }
+
+    final List<T> results = new ArrayList<>(futures.size());
+    List<Throwable> failures = null;
+    for (final Future<? extends T> future : futures) {
+      if (future.state() == Future.State.SUCCESS) {
+        results.add(future.resultNow());
+      } else {
+        if (failures == null) {
+          failures = new ArrayList<>();
+        }
+        failures.add(
+            future.state() == Future.State.FAILED
+                ? future.exceptionNow()
+                : new CancellationException("The task has been cancelled"));
+      }
+    }
+    if (failures != null) {
+      throw new MultipleFailuresException(futures.size(), failures);
+    }
+    return results;
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+import com.github.vgalloy.autocatch.function.ConsumerWithException;
+import com.github.vgalloy.autocatch.function.FunctionWithError;
+import com.github.vgalloy.autocatch.function.PredicateWithError;
+import com.github.vgalloy.autocatch.function.RunnableWithException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Create the wrappers of the functional types used the most by streams. The invocation of the
+ * wrapped function is a call site shared by every wrapper of a class, so it becomes megamorphic once
+ * an application wraps many lambdas, and the JIT stops inlining them. The bytes of each template
+ * class are defined again as a hidden class by class of wrapped lambda: every copy has its own type
+ * profile, which only sees one lambda class. The copies are kept with the class of the lambda, and
+ * can be unloaded with it. Only these five types of the undeclared handler are specialised: the
+ * other conversions and the {@code autoCatch} methods keep a call site shared by every function.
+ */
+final class MonomorphicWrappers {
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final Specializer SUPPLIERS =
+      new Specializer(UndeclaredSupplier.class, Callable.class);
+  private static final Specializer FUNCTIONS =
+      new Specializer(UndeclaredFunction.class, FunctionWithError.class);
+  private static final Specializer PREDICATES =
+      new Specializer(UndeclaredPredicate.class, PredicateWithError.class);
+  private static final Specializer CONSUMERS =
+      new Specializer(UndeclaredConsumer.class, ConsumerWithException.class);
+  private static final Specializer RUNNABLES =
+      new Specializer(UndeclaredRunnable.class, RunnableWithException.class);
+
+  /** Constructor. Private to avoid instantiation */
+  private MonomorphicWrappers() {
+    throw new AssertionError(
+        "No instance of com.github.vgalloy.autocatch.handler.MonomorphicWrappers");
+  }
+
+  /**
+   * Wrap the checked exceptions of the provided callable.
+   *
+   * @param callable the callable declaring an exception
+   * @param writableStackTrace false if the wrapper exception should not fill in its stack trace
+   * @param <T> the result type of the callable
+   * @return the supplier not declaring exception
+   */
+  @SuppressWarnings("unchecked")
+  static <T> Supplier<T> supplier(final Callable<T> callable, final boolean writableStackTrace) {
+    return (Supplier<T>) SUPPLIERS.create(callable, writableStackTrace);
+  }
+
+  /**
+   * Wrap the checked exceptions of the provided function.
+   *
+   * @param function the function declaring an exception
+   * @param writableStackTrace false if the wrapper exception should not fill in its stack trace
+   * @param <T> the input type of the function
+   * @param <R> the result type of the function
+   * @return the function not declaring exception
+   */
+  @SuppressWarnings("unchecked")
+  static <T, R> Function<T, R> function(
+      final FunctionWithError<T, R> function, final boolean writableStackTrace) {
+    return (Function<T, R>) FUNCTIONS.create(function, writableStackTrace);
+  }
+
+  /**
+   * Wrap the checked exceptions of the provided predicate.
+   *
+   * @param predicate the predicate declaring an exception
+   * @param writableStackTrace false if the wrapper exception should not fill in its stack trace
+   * @param <T> the input type of the predicate
+   * @return the predicate not declaring exception
+   */
+  @SuppressWarnings("unchecked")
+  static <T> Predicate<T> predicate(
+      final PredicateWithError<T> predicate, final boolean writableStackTrace) {
+    return (Predicate<T>) PREDICATES.create(predicate, writableStackTrace);
+  }
+
+  /**
+   * Wrap the checked exceptions of the provided consumer.
+   *
+   * @param consumer the consumer declaring an exception
+   * @param writableStackTrace false if the wrapper exception should not fill in its stack trace
+   * @param <T> the input type of the consumer
+   * @return the consumer not declaring exception
+   */
+  @SuppressWarnings("unchecked")
+  static <T> Consumer<T> consumer(
+      final ConsumerWithException<T> consumer, final boolean writableStackTrace) {
+    return (Consumer<T>) CONSUMERS.create(consumer, writableStackTrace);
+  }
+
+  /**
+   * Wrap the checked exceptions of the provided runnable.
+   *
+   * @param runnable the runnable declaring an exception
+   * @param writableStackTrace false if the wrapper exception should not fill in its stack trace
+   * @return the runnable not declaring exception
+   */
+  static Runnable runnable(final RunnableWithException runnable, final boolean writableStackTrace) {
+    return (Runnable) RUNNABLES.create(runnable, writableStackTrace);
+  }
+
+  /** Constructor of the copy of a template by class of wrapped lambda. */
+  private static final class Specializer extends ClassValue<MethodHandle> {
+
+    private static final MethodType FACTORY_TYPE =
+        MethodType.methodType(Object.class, Object.class, boolean.class);
+
+    private final MethodType constructorType;
+    private final MethodHandle templateConstructor;
+    private final byte[] bytes;
+
+    private Specializer(final Class<?> template, final Class<?> wrappedType) {
+      this.constructorType = MethodType.methodType(void.class, wrappedType, boolean.class);
+      this.templateConstructor = constructor(LOOKUP, template);
+      this.bytes = bytes(template);
+    }
+
+    private Object create(final Object wrapped, final boolean writableStackTrace) {
+      try {
+        return get(wrapped.getClass()).invokeExact(wrapped, writableStackTrace);
+      } catch (final RuntimeException | Error e) {
+        throw e;
+      } catch (final Throwable e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    @Override
+    protected MethodHandle computeValue(final Class<?> wrappedClass) {
+      if (bytes == null) {
+        return templateConstructor;
+      }
+      try {
+        final MethodHandles.Lookup copy = LOOKUP.defineHiddenClass(bytes, true);
+        return constructor(copy, copy.lookupClass());
+      } catch (final IllegalAccessException | LinkageError e) {
+        return templateConstructor;
+      }
+    }
+
+    private MethodHandle constructor(final MethodHandles.Lookup lookup, final Class<?> type) {
+      try {
+        return lookup.findConstructor(type, constructorType).asType(FACTORY_TYPE);
+      } catch (final ReflectiveOperationException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    private static byte[] bytes(final Class<?> template) {
+      try (InputStream input =
+          template.getResourceAsStream(template.getSimpleName() + ".class")) {
+        return input == null ? null : input.readAllBytes();
+      } catch (final IOException e) {
+        return null;
+      }
+    }
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.handler;
+
+/**
+ * Capture the first frame of the current thread outside of this library. The stack walker only
+ * materializes the frames it goes through, and only the found one is converted into a {@link
+ * StackTraceElement}.
+ */
+final class CallSites {
+
+  private static final StackWalker WALKER = StackWalker.getInstance();
+
+  /** Constructor. Private to avoid instantiation */
+  private CallSites() {
+    throw new AssertionError("No instance of com.github.vgalloy.autocatch.handler.CallSites");
+  }
+
+  /**
+   * Capture the call site of the library.
+   *
+   * @return the first frame outside of this library, {@code null} if there is none
+   */
+  static StackTraceElement capture() {
+    return WALKER.walk(
+        frames ->
+            frames
+                .filter(frame -> !CallSiteExceptionHandler.isLibraryClass(frame.getClassName()))
+                .findFirst()
+                .map(StackWalker.StackFrame::toStackTraceElement)
+                .orElse(null));
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch;
+
+import com.github.vgalloy.autocatch.concurrent.MultipleFailuresException;
+import com.github.vgalloy.autocatch.concurrent.VirtualThreadExecution;
+import com.github.vgalloy.autocatch.function.RunnableWithException;
+import com.github.vgalloy.autocatch.handler.AutoCatcher;
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+class AutoCatchAllTest {
+
+  @Test
+  void resultsInInputOrder() {
+    // GIVEN
+    final List<Callable<Integer>> callables = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      final int value = i;
+      callables.add(
+          () -> {
+            Thread.sleep(10 - value % 10);
+            return value;
+          });
+    }
+    final ForkJoinPool pool = new ForkJoinPool(8);
+
+    // WHEN
+    final List<Integer> results = AutoCatch.autoCatchAll(callables, pool);
+
+    // THEN
+    pool.shutdown();
+    for (int i = 0; i < 100; i++) {
+      Assertions.assertEquals(Integer.valueOf(i), results.get(i));
+    }
+  }
+
+  @Test
+  void aggregatedFailures() {
+    // GIVEN
+    final AtomicInteger executed = new AtomicInteger();
+    final List<Callable<String>> callables =
+        Arrays.asList(
+            () -> {
+              executed.incrementAndGet();
+              throw new IOException("first");
+            },
+            () -> {
+              executed.incrementAndGet();
+              return "ok";
+            },
+            () -> {
+              executed.incrementAndGet();
+              throw new IllegalStateException("second");
+            });
+
+    // WHEN
+    final MultipleFailuresException exception =
+        Assertions.assertThrows(
+            MultipleFailuresException.class, () -> AutoCatch.autoCatchAll(callables));
+
+    // THEN
+    Assertions.assertEquals(3, executed.get());
+    Assertions.assertEquals("2 of 3 tasks failed", exception.getMessage());
+    Assertions.assertEquals(2, exception.getSuppressed().length);
+    final UndeclaredThrowableException first =
+        (UndeclaredThrowableException) exception.getFailures().get(0);
+    Assertions.assertEquals(IOException.class, first.getUndeclaredThrowable().getClass());
+    Assertions.assertEquals("first", first.getUndeclaredThrowable().getMessage());
+    Assertions.assertEquals("second", exception.getFailures().get(1).getMessage());
+  }
+
+  @Test
+  void failuresConvertedByTheCatcher() {
+    // GIVEN
+    final List<Callable<String>> callables =
+        Collections.singletonList(
+            () -> {
+              throw new IOException("FAKE");
+            });
+
+    // WHEN
+    final MultipleFailuresException exception =
+        Assertions.assertThrows(
+            MultipleFailuresException.class,
+            () -> AutoCatcher.exceptionForwarder().invokeAll(callables));
+
+    // THEN
+    Assertions.assertEquals(IOException.class, exception.getFailures().get(0).getClass());
+  }
+
+  @Test
+  void runnables() {
+    // GIVEN
+    final AtomicInteger counter = new AtomicInteger();
+    final List<RunnableWithException> runnables = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      runnables.add(counter::incrementAndGet);
+    }
+
+    // WHEN
+    AutoCatch.autoCatchAllRunnables(runnables);
+
+    // THEN
+    Assertions.assertEquals(10, counter.get());
+  }
+
+  @Test
+  void failingRunnable() {
+    // GIVEN
+    final List<RunnableWithException> runnables =
+        Collections.singletonList(
+            () -> {
+              throw new IOException("FAKE");
+            });
+
+    // WHEN
+    final MultipleFailuresException exception =
+        Assertions.assertThrows(
+            MultipleFailuresException.class, () -> AutoCatch.autoCatchAllRunnables(runnables));
+
+    // THEN
+    Assertions.assertEquals(
+        UndeclaredThrowableException.class, exception.getFailures().get(0).getClass());
+  }
+
+  @Test
+  void empty() {
+    // WHEN
+    final List<Integer> results =
+        AutoCatch.autoCatchAll(Collections.<Callable<Integer>>emptyList());
+
+    // THEN
+    Assertions.assertTrue(results.isEmpty());
+  }
+
+  @Test
+  void platformThreadsWithoutVirtualThreads() {
+    // GIVEN
+    Assumptions.assumeFalse(VirtualThreadExecution.isAvailable());
+    final List<Callable<Integer>> callables = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      final int value = i;
+      callables.add(() -> value);
+    }
+
+    // WHEN
+    final List<Integer> results = AutoCatch.autoCatchAllOnVirtualThreads(callables);
+
+    // THEN
+    for (int i = 0; i < 100; i++) {
+      Assertions.assertEquals(Integer.valueOf(i), results.get(i));
+    }
+  }
+
+  @Test
+  void platformThreadsFailuresConverted() {
+    // GIVEN
+    Assumptions.assumeFalse(VirtualThreadExecution.isAvailable());
+    final List<RunnableWithException> runnables =
+        Arrays.asList(
+            () -> {
+              throw new IOException("FAKE");
+            },
+            () -> {});
+
+    // WHEN
+    final MultipleFailuresException exception =
+        Assertions.assertThrows(
+            MultipleFailuresException.class,
+            () -> AutoCatch.autoCatchAllRunnablesOnVirtualThreads(runnables));
+
+    // THEN
+    Assertions.assertEquals(1, exception.getSuppressed().length);
+    Assertions.assertEquals(
+        UndeclaredThrowableException.class, exception.getSuppressed()[0].getClass());
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch;
+
+import com.github.vgalloy.autocatch.concurrent.AutoCatchFutures;
+import com.github.vgalloy.autocatch.function.ConsumerWithException;
+import com.github.vgalloy.autocatch.function.FunctionWithError;
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class AutoCatchFuturesTest {
+
+  @Test
+  void supplyAsync() throws Exception {
+    // GIVEN
+    final Callable<String> callable = () -> "value";
+
+    // WHEN
+    final CompletableFuture<String> future = AutoCatchFutures.supplyAsync(callable);
+
+    // THEN
+    Assertions.assertEquals("value", future.get());
+  }
+
+  @Test
+  void supplyAsyncFailureIsNotWrapped() {
+    // GIVEN
+    final IOException ioException = new IOException("FAKE");
+    final Callable<String> callable =
+        () -> {
+          throw ioException;
+        };
+
+    // WHEN
+    final CompletableFuture<String> future = AutoCatchFutures.supplyAsync(callable, Runnable::run);
+
+    // THEN
+    final AtomicReference<Throwable> received = new AtomicReference<>();
+    future.whenComplete((value, failure) -> received.set(failure));
+    Assertions.assertSame(ioException, received.get());
+    final ExecutionException exception =
+        Assertions.assertThrows(ExecutionException.class, future::get);
+    Assertions.assertSame(ioException, exception.getCause());
+  }
+
+  @Test
+  void thenApply() {
+    // GIVEN
+    final FunctionWithError<String, Integer> function = String::length;
+
+    // WHEN
+    final CompletableFuture<Integer> future =
+        AutoCatchFutures.thenApply(CompletableFuture.completedFuture("four"), function);
+
+    // THEN
+    Assertions.assertEquals(Integer.valueOf(4), future.join());
+  }
+
+  @Test
+  void thenApplyFailureIsNotWrapped() {
+    // GIVEN
+    final IOException ioException = new IOException("FAKE");
+    final FunctionWithError<String, Integer> function =
+        value -> {
+          throw ioException;
+        };
+
+    // WHEN
+    final CompletableFuture<Integer> future =
+        AutoCatchFutures.thenApply(CompletableFuture.completedFuture("four"), function);
+
+    // THEN
+    Assertions.assertSame(ioException, future.handle((value, failure) -> failure).join());
+  }
+
+  @Test
+  void upstreamCompletionExceptionIsRemoved() {
+    // GIVEN
+    final IllegalStateException cause = new IllegalStateException("FAKE");
+    final CompletableFuture<String> upstream =
+        CompletableFuture.<String>completedFuture("value")
+            .thenApply(
+                value -> {
+                  throw cause;
+                });
+    final FunctionWithError<String, Integer> function = String::length;
+
+    // WHEN
+    final CompletableFuture<Integer> future = AutoCatchFutures.thenApply(upstream, function);
+
+    // THEN
+    Assertions.assertSame(cause, future.handle((value, failure) -> failure).join());
+    final CompletionException exception =
+        Assertions.assertThrows(CompletionException.class, future::join);
+    Assertions.assertSame(cause, exception.getCause());
+  }
+
+  @Test
+  void thenAccept() {
+    // GIVEN
+    final AtomicReference<String> accepted = new AtomicReference<>();
+    final IOException ioException = new IOException("FAKE");
+    final ConsumerWithException<String> consumer =
+        value -> {
+          accepted.set(value);
+          throw ioException;
+        };
+
+    // WHEN
+    final CompletableFuture<Void> future =
+        AutoCatchFutures.thenAccept(CompletableFuture.completedFuture("value"), consumer);
+
+    // THEN
+    Assertions.assertEquals("value", accepted.get());
+    Assertions.assertSame(ioException, future.handle((value, failure) -> failure).join());
+  }
+}
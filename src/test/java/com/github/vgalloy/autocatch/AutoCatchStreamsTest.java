@@ -0,0 +1,118 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch;
+
+import com.github.vgalloy.autocatch.function.FunctionWithError;
+import com.github.vgalloy.autocatch.stream.AutoCatchStreams;
+import com.github.vgalloy.autocatch.stream.Failure;
+import com.github.vgalloy.autocatch.stream.Partition;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class AutoCatchStreamsTest {
+
+  private static final FunctionWithError<Integer, Integer> FAIL_ON_MULTIPLE_OF_TEN =
+      i -> {
+        if (i % 10 == 0) {
+          throw new IOException("FAKE " + i);
+        }
+        return i * 2;
+      };
+
+  @Test
+  void partition() {
+    // GIVEN
+    final List<String> records = Arrays.asList("1", "two", "3");
+    final FunctionWithError<String, Integer> parse = Integer::parseInt;
+
+    // WHEN
+    final Partition<String, Integer> partition =
+        records.stream().collect(AutoCatchStreams.toPartition(parse));
+
+    // THEN
+    Assertions.assertEquals(Arrays.asList(1, 3), partition.getSuccesses());
+    Assertions.assertEquals(1, partition.getFailures().size());
+    final Failure<String> failure = partition.getFailures().get(0);
+    Assertions.assertEquals("two", failure.getInput());
+    Assertions.assertEquals(NumberFormatException.class, failure.getException().getClass());
+    Assertions.assertFalse(partition.isComplete());
+  }
+
+  @Test
+  void parallelKeepsEncounterOrder() {
+    // GIVEN
+    final List<Integer> expected =
+        IntStream.range(0, 100_000)
+            .filter(i -> i % 10 != 0)
+            .mapToObj(i -> i * 2)
+            .collect(Collectors.toList());
+
+    // WHEN
+    final Partition<Integer, Integer> partition =
+        IntStream.range(0, 100_000)
+            .boxed()
+            .parallel()
+            .collect(AutoCatchStreams.toPartition(FAIL_ON_MULTIPLE_OF_TEN));
+
+    // THEN
+    Assertions.assertEquals(expected, partition.getSuccesses());
+    Assertions.assertEquals(10_000, partition.getFailures().size());
+    Assertions.assertEquals(Integer.valueOf(0), partition.getFailures().get(0).getInput());
+    Assertions.assertEquals(Integer.valueOf(10), partition.getFailures().get(1).getInput());
+  }
+
+  @Test
+  void concurrentPartition() {
+    // GIVEN
+    final Set<Integer> expected =
+        IntStream.range(0, 100_000)
+            .filter(i -> i % 10 != 0)
+            .mapToObj(i -> i * 2)
+            .collect(Collectors.toSet());
+
+    // WHEN
+    final Partition<Integer, Integer> partition =
+        IntStream.range(0, 100_000)
+            .boxed()
+            .parallel()
+            .collect(AutoCatchStreams.toConcurrentPartition(FAIL_ON_MULTIPLE_OF_TEN));
+
+    // THEN
+    Assertions.assertEquals(90_000, partition.getSuccesses().size());
+    Assertions.assertEquals(expected, new HashSet<>(partition.getSuccesses()));
+    Assertions.assertEquals(10_000, partition.getFailures().size());
+  }
+
+  @Test
+  void emptyStream() {
+    // WHEN
+    final Partition<Integer, Integer> partition =
+        IntStream.range(0, 0)
+            .boxed()
+            .collect(AutoCatchStreams.toConcurrentPartition(FAIL_ON_MULTIPLE_OF_TEN));
+
+    // THEN
+    Assertions.assertTrue(partition.getSuccesses().isEmpty());
+    Assertions.assertTrue(partition.isComplete());
+  }
+}
@@ -20,6 +20,8 @@ import com.github.vgalloy.autocatch.function.CharSupplierWithException;
 import java.io.File;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -114,6 +116,41 @@ class AutoCatchTest {
     Assertions.assertTrue(result);
   }
 
+  @Test
+  void primitiveStream() {
+    // WHEN
+    final long result =
+        LongStream.range(0, 10)
+            .filter(AutoCatch.unDeclareLong(this::isEven))
+            .mapToObj(AutoCatch.unDeclareLong(this::toText))
+            .mapToInt(AutoCatch.unDeclareToInt(Integer::parseInt))
+            .sum();
+
+    // THEN
+    Assertions.assertEquals(20, result);
+  }
+
+  private boolean isEven(final long value) throws Exception {
+    return value % 2 == 0;
+  }
+
+  private String toText(final long value) throws Exception {
+    return String.valueOf(value);
+  }
+
+  @Test
+  void reduce() {
+    // WHEN
+    final int result = Stream.of(1, 2, 3).reduce(0, AutoCatch.unDeclare(this::add));
+
+    // THEN
+    Assertions.assertEquals(6, result);
+  }
+
+  private Integer add(final Integer left, final Integer right) throws Exception {
+    return left + right;
+  }
+
   private boolean isAbsolute(final File file) throws Exception {
     return file.getCanonicalFile().isAbsolute();
   }
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch;
+
+import com.github.vgalloy.autocatch.function.RunnableWithException;
+import com.github.vgalloy.autocatch.handler.AutoCatcher;
+import com.github.vgalloy.autocatch.handler.BulkheadAutoCatcher;
+import com.github.vgalloy.autocatch.handler.BulkheadFullException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class BulkheadAutoCatcherTest {
+
+  @Test
+  void rejectsBeyondTheLimit() {
+    // GIVEN
+    final BulkheadAutoCatcher autoCatcher =
+        AutoCatcher.bulkhead(AutoCatcher.exceptionForwarder(), 1);
+    final Callable<Integer> inner = () -> 1;
+    final Supplier<Integer> innerSupplier = autoCatcher.unDeclare(inner);
+    final Callable<Class<?>> outer =
+        () -> Assertions.assertThrows(BulkheadFullException.class, innerSupplier::get).getClass();
+
+    // WHEN
+    final Class<?> rejection = autoCatcher.autoCatch(outer);
+
+    // THEN
+    Assertions.assertEquals(BulkheadFullException.class, rejection);
+    Assertions.assertEquals(1, autoCatcher.getAvailablePermits());
+    Assertions.assertEquals(1, autoCatcher.getRejections());
+  }
+
+  @Test
+  void permitReleasedOnFailure() {
+    // GIVEN
+    final BulkheadAutoCatcher autoCatcher =
+        AutoCatcher.bulkhead(AutoCatcher.exceptionForwarder(), 2);
+    final RunnableWithException runnable =
+        () -> {
+          throw new IOException("FAKE");
+        };
+
+    // WHEN
+    Assertions.assertThrows(IOException.class, () -> autoCatcher.autoCatch(runnable));
+
+    // THEN
+    Assertions.assertEquals(2, autoCatcher.getAvailablePermits());
+  }
+
+  @Test
+  void permitReleasedOnError() {
+    // GIVEN
+    final BulkheadAutoCatcher autoCatcher =
+        AutoCatcher.bulkhead(AutoCatcher.exceptionForwarder(), 1);
+    final RunnableWithException runnable =
+        () -> {
+          throw new AssertionError("FAKE");
+        };
+    final Callable<Integer> callable = () -> 1;
+
+    // WHEN
+    Assertions.assertThrows(AssertionError.class, () -> autoCatcher.autoCatch(runnable));
+
+    // THEN
+    Assertions.assertEquals(1, autoCatcher.getAvailablePermits());
+    Assertions.assertEquals(Integer.valueOf(1), autoCatcher.autoCatch(callable));
+    Assertions.assertEquals(0, autoCatcher.getRejections());
+  }
+
+  @Test
+  void fallbackWhenFull() {
+    // GIVEN
+    final BulkheadAutoCatcher autoCatcher =
+        AutoCatcher.bulkhead(AutoCatcher.wrapWithUndeclaredHandler(), 1);
+    final Callable<Integer> inner = () -> 1;
+    final Supplier<Integer> innerSupplier = autoCatcher.unDeclareOrElse(inner, -1);
+    final Callable<Integer> outer = innerSupplier::get;
+
+    // WHEN
+    final Integer result = autoCatcher.autoCatch(outer);
+
+    // THEN
+    Assertions.assertEquals(Integer.valueOf(-1), result);
+  }
+
+  @Test
+  void waitForAReleasedPermit() throws Exception {
+    // GIVEN
+    final BulkheadAutoCatcher autoCatcher =
+        AutoCatcher.bulkhead(AutoCatcher.exceptionForwarder(), 1, Duration.ofSeconds(10));
+    final CountDownLatch acquired = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    final Callable<Boolean> holding =
+        () -> {
+          acquired.countDown();
+          return release.await(10, TimeUnit.SECONDS);
+        };
+    final Future<Boolean> holder = executor.submit(() -> autoCatcher.autoCatch(holding));
+    acquired.await();
+
+    // WHEN
+    final Callable<Integer> waiting = () -> 1;
+    executor.submit(
+        () -> {
+          TimeUnit.MILLISECONDS.sleep(50);
+          release.countDown();
+          return null;
+        });
+    final long start = System.nanoTime();
+    final Integer result = autoCatcher.autoCatch(waiting);
+
+    // THEN
+    Assertions.assertEquals(Integer.valueOf(1), result);
+    Assertions.assertTrue(holder.get());
+    Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10));
+    executor.shutdown();
+  }
+
+  @Test
+  void waitIsBounded() {
+    // GIVEN
+    final BulkheadAutoCatcher autoCatcher =
+        AutoCatcher.bulkhead(AutoCatcher.exceptionForwarder(), 1, Duration.ofMillis(20));
+    final Callable<Integer> inner = () -> 1;
+    final Supplier<Integer> innerSupplier = autoCatcher.unDeclare(inner);
+    final Callable<Long> outer =
+        () -> {
+          final long start = System.nanoTime();
+          Assertions.assertThrows(BulkheadFullException.class, innerSupplier::get);
+          return System.nanoTime() - start;
+        };
+
+    // WHEN
+    final long waited = autoCatcher.autoCatch(outer);
+
+    // THEN
+    Assertions.assertTrue(TimeUnit.MILLISECONDS.toNanos(20) <= waited);
+  }
+
+  @Test
+  void concurrentInvocationsNeverExceedTheLimit() throws Exception {
+    // GIVEN
+    final BulkheadAutoCatcher autoCatcher =
+        AutoCatcher.bulkhead(AutoCatcher.exceptionForwarder(), 3, Duration.ofSeconds(10));
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+    final RunnableWithException runnable =
+        () -> {
+          maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          Thread.yield();
+          running.decrementAndGet();
+        };
+    final Runnable unDeclared = autoCatcher.unDeclare(runnable);
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    final List<Future<?>> futures = new ArrayList<>();
+
+    // WHEN
+    for (int i = 0; i < 8; i++) {
+      futures.add(
+          executor.submit(
+              () -> {
+                for (int j = 0; j < 1_000; j++) {
+                  unDeclared.run();
+                }
+              }));
+    }
+    for (final Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+
+    // THEN
+    Assertions.assertTrue(maxRunning.get() <= 3);
+    Assertions.assertEquals(0, autoCatcher.getRejections());
+    Assertions.assertEquals(3, autoCatcher.getAvailablePermits());
+  }
+
+  @Test
+  void invalidArguments() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> AutoCatcher.bulkhead(AutoCatcher.exceptionForwarder(), 0));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> AutoCatcher.bulkhead(AutoCatcher.exceptionForwarder(), 1, Duration.ofMillis(-1)));
+  }
+}
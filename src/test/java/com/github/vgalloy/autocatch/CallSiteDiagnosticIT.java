@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch;
+
+import com.github.vgalloy.autocatch.function.RunnableWithException;
+import com.github.vgalloy.autocatch.handler.AutoCatcher;
+import com.github.vgalloy.autocatch.handler.CallSiteDiagnostic;
+import java.io.IOException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Run against the multi-release jar, the Java 9 layer is not visible from the class directory. */
+class CallSiteDiagnosticIT {
+
+  @Test
+  void stackWalkerLayerUsed() throws ReflectiveOperationException {
+    // WHEN
+    final Class<?> callSites = Class.forName("com.github.vgalloy.autocatch.handler.CallSites");
+
+    // THEN
+    Assertions.assertEquals(
+        "java.lang.StackWalker", callSites.getDeclaredField("WALKER").getType().getName());
+  }
+
+  @Test
+  void callSiteAddedToException() {
+    // GIVEN
+    final Runnable runnable =
+        AutoCatcher.callSiteDiagnostic(AutoCatcher.exceptionForwarder())
+            .unDeclare(
+                (RunnableWithException)
+                    () -> {
+                      throw new IOException("FAKE");
+                    });
+
+    // WHEN
+    final Exception exception = Assertions.assertThrows(Exception.class, runnable::run);
+
+    // THEN
+    final StackTraceElement callSite =
+        ((CallSiteDiagnostic) exception.getSuppressed()[0]).getCallSite();
+    Assertions.assertEquals(CallSiteDiagnosticIT.class.getName(), callSite.getClassName());
+    Assertions.assertEquals("callSiteAddedToException", callSite.getMethodName());
+  }
+}
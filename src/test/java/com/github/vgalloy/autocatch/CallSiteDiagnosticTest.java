@@ -0,0 +1,135 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch;
+
+import com.github.vgalloy.autocatch.function.FunctionWithError;
+import com.github.vgalloy.autocatch.function.RunnableWithException;
+import com.github.vgalloy.autocatch.handler.AutoCatcher;
+import com.github.vgalloy.autocatch.handler.CallSiteDiagnostic;
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class CallSiteDiagnosticTest {
+
+  private static final AutoCatcher AUTO_CATCHER =
+      AutoCatcher.callSiteDiagnostic(AutoCatcher.wrapWithUndeclaredHandler());
+
+  private static Function<String, Integer> parser() {
+    final FunctionWithError<String, Integer> function =
+        value -> {
+          if (value.isEmpty()) {
+            throw new IOException("FAKE");
+          }
+          return value.length();
+        };
+    return AUTO_CATCHER.unDeclare(function);
+  }
+
+  @Test
+  void callSiteAddedToException() {
+    // GIVEN
+    final Runnable runnable =
+        AUTO_CATCHER.unDeclare(
+            (RunnableWithException)
+                () -> {
+                  throw new IOException("FAKE");
+                });
+
+    // WHEN
+    final UndeclaredThrowableException exception =
+        Assertions.assertThrows(UndeclaredThrowableException.class, runnable::run);
+
+    // THEN
+    final Throwable[] suppressed = exception.getUndeclaredThrowable().getSuppressed();
+    Assertions.assertEquals(1, suppressed.length);
+    final StackTraceElement callSite = ((CallSiteDiagnostic) suppressed[0]).getCallSite();
+    Assertions.assertEquals(CallSiteDiagnosticTest.class.getName(), callSite.getClassName());
+    Assertions.assertEquals("callSiteAddedToException", callSite.getMethodName());
+    Assertions.assertEquals(0, suppressed[0].getStackTrace().length);
+  }
+
+  @Test
+  void callSiteOfConversionNotOfInvocation() {
+    // GIVEN
+    final Function<String, Integer> parser = parser();
+
+    // WHEN
+    final UndeclaredThrowableException exception =
+        Assertions.assertThrows(
+            UndeclaredThrowableException.class,
+            () -> Stream.of("a", "").map(parser).collect(Collectors.toList()));
+
+    // THEN
+    final CallSiteDiagnostic diagnostic =
+        (CallSiteDiagnostic) exception.getUndeclaredThrowable().getSuppressed()[0];
+    Assertions.assertEquals("parser", diagnostic.getCallSite().getMethodName());
+    Assertions.assertTrue(diagnostic.getMessage().startsWith("Converted at "));
+  }
+
+  @Test
+  void autoCatchCapturesOnFailure() {
+    // GIVEN
+    final RunnableWithException runnable =
+        () -> {
+          throw new IOException("FAKE");
+        };
+
+    // WHEN
+    final UndeclaredThrowableException exception =
+        Assertions.assertThrows(
+            UndeclaredThrowableException.class, () -> AUTO_CATCHER.autoCatch(runnable));
+
+    // THEN
+    final Throwable[] suppressed = exception.getUndeclaredThrowable().getSuppressed();
+    Assertions.assertEquals(1, suppressed.length);
+    final StackTraceElement callSite = ((CallSiteDiagnostic) suppressed[0]).getCallSite();
+    Assertions.assertEquals(CallSiteDiagnosticTest.class.getName(), callSite.getClassName());
+  }
+
+  @Test
+  void sharedExceptionNotGrowing() {
+    // GIVEN
+    final IOException shared = new IOException("FAKE");
+    final Runnable runnable =
+        AUTO_CATCHER.unDeclare(
+            (RunnableWithException)
+                () -> {
+                  throw shared;
+                });
+
+    // WHEN
+    for (int i = 0; i < 3; i++) {
+      Assertions.assertThrows(UndeclaredThrowableException.class, runnable::run);
+    }
+
+    // THEN
+    Assertions.assertEquals(1, shared.getSuppressed().length);
+  }
+
+  @Test
+  void successNotAffected() {
+    // WHEN
+    final Integer length = parser().apply("abc");
+
+    // THEN
+    Assertions.assertEquals(Integer.valueOf(3), length);
+  }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch;
+
+import com.github.vgalloy.autocatch.handler.AutoCatcher;
+import com.github.vgalloy.autocatch.handler.CircuitBreakerAutoCatcher;
+import com.github.vgalloy.autocatch.handler.CircuitBreakerOpenException;
+import com.github.vgalloy.autocatch.handler.CircuitBreakerPolicy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerAutoCatcherTest {
+
+  private static final CircuitBreakerPolicy POLICY =
+      CircuitBreakerPolicy.failureRateThreshold(0.5).withMinimumCalls(4);
+
+  private static Callable<Integer> counting(
+      final AtomicInteger calls, final AtomicBoolean failing) {
+    return () -> {
+      calls.incrementAndGet();
+      if (failing.get()) {
+        throw new IOException("FAKE");
+      }
+      return 1;
+    };
+  }
+
+  private static void invoke(final Supplier<Integer> supplier, final int times) {
+    for (int i = 0; i < times; i++) {
+      try {
+        supplier.get();
+      } catch (final Exception e) {
+        // Expected for the failures
+      }
+    }
+  }
+
+  @Test
+  void opensAboveTheFailureRate() {
+    // GIVEN
+    final CircuitBreakerAutoCatcher autoCatcher =
+        AutoCatcher.circuitBreaker(AutoCatcher.exceptionForwarder(), POLICY);
+    final AtomicInteger calls = new AtomicInteger();
+    final Supplier<Integer> supplier =
+        autoCatcher.unDeclare(counting(calls, new AtomicBoolean(true)));
+
+    // WHEN
+    invoke(supplier, 4);
+
+    // THEN
+    Assertions.assertEquals(CircuitBreakerAutoCatcher.State.OPEN, autoCatcher.getState());
+    final CircuitBreakerOpenException first =
+        Assertions.assertThrows(CircuitBreakerOpenException.class, supplier::get);
+    final CircuitBreakerOpenException second =
+        Assertions.assertThrows(CircuitBreakerOpenException.class, supplier::get);
+    Assertions.assertSame(first, second);
+    Assertions.assertEquals(0, first.getStackTrace().length);
+    Assertions.assertEquals(4, calls.get());
+    Assertions.assertEquals(2, autoCatcher.getRejections());
+  }
+
+  @Test
+  void staysClosedBelowTheThreshold() {
+    // GIVEN
+    final CircuitBreakerAutoCatcher autoCatcher =
+        AutoCatcher.circuitBreaker(AutoCatcher.exceptionForwarder(), POLICY);
+    final AtomicBoolean failing = new AtomicBoolean();
+    final Supplier<Integer> supplier =
+        autoCatcher.unDeclare(counting(new AtomicInteger(), failing));
+
+    // WHEN
+    invoke(supplier, 3);
+    failing.set(true);
+    invoke(supplier, 2);
+
+    // THEN
+    Assertions.assertEquals(CircuitBreakerAutoCatcher.State.CLOSED, autoCatcher.getState());
+  }
+
+  @Test
+  void fallbackWhenOpen() {
+    // GIVEN
+    final CircuitBreakerAutoCatcher autoCatcher =
+        AutoCatcher.circuitBreaker(AutoCatcher.wrapWithUndeclaredHandler(), POLICY);
+    final AtomicInteger calls = new AtomicInteger();
+    final Supplier<Integer> supplier =
+        autoCatcher.unDeclareOrElse(counting(calls, new AtomicBoolean(true)), -1);
+    invoke(supplier, 4);
+
+    // WHEN
+    final Integer result = supplier.get();
+
+    // THEN
+    Assertions.assertEquals(Integer.valueOf(-1), result);
+    Assertions.assertEquals(4, calls.get());
+  }
+
+  @Test
+  void closesAfterSuccessfulTrials() throws InterruptedException {
+    // GIVEN
+    final CircuitBreakerAutoCatcher autoCatcher =
+        AutoCatcher.circuitBreaker(
+            AutoCatcher.exceptionForwarder(),
+            POLICY.withOpenDuration(Duration.ofMillis(20)).withHalfOpenCalls(2));
+    final AtomicBoolean failing = new AtomicBoolean(true);
+    final Supplier<Integer> supplier =
+        autoCatcher.unDeclare(counting(new AtomicInteger(), failing));
+    invoke(supplier, 4);
+    failing.set(false);
+    TimeUnit.MILLISECONDS.sleep(40);
+
+    // WHEN
+    supplier.get();
+
+    // THEN
+    Assertions.assertEquals(CircuitBreakerAutoCatcher.State.HALF_OPEN, autoCatcher.getState());
+    supplier.get();
+    Assertions.assertEquals(CircuitBreakerAutoCatcher.State.CLOSED, autoCatcher.getState());
+  }
+
+  @Test
+  void opensAgainOnFailedTrial() throws InterruptedException {
+    // GIVEN
+    final CircuitBreakerAutoCatcher autoCatcher =
+        AutoCatcher.circuitBreaker(
+            AutoCatcher.exceptionForwarder(), POLICY.withOpenDuration(Duration.ofMillis(20)));
+    final AtomicInteger calls = new AtomicInteger();
+    final Supplier<Integer> supplier =
+        autoCatcher.unDeclare(counting(calls, new AtomicBoolean(true)));
+    invoke(supplier, 4);
+    TimeUnit.MILLISECONDS.sleep(40);
+
+    // WHEN
+    Assertions.assertThrows(IOException.class, supplier::get);
+
+    // THEN
+    Assertions.assertEquals(CircuitBreakerAutoCatcher.State.OPEN, autoCatcher.getState());
+    Assertions.assertThrows(CircuitBreakerOpenException.class, supplier::get);
+    Assertions.assertEquals(5, calls.get());
+  }
+
+  @Test
+  void errorSettlesTheTrial() throws InterruptedException {
+    // GIVEN
+    final CircuitBreakerAutoCatcher autoCatcher =
+        AutoCatcher.circuitBreaker(
+            AutoCatcher.exceptionForwarder(),
+            POLICY
+                .withOpenDuration(Duration.ofMillis(20))
+                .withHalfOpenCalls(1)
+                .recordOn(IOException.class));
+    final AtomicBoolean failing = new AtomicBoolean(true);
+    final Supplier<Integer> supplier =
+        autoCatcher.unDeclare(counting(new AtomicInteger(), failing));
+    final Callable<Integer> throwingError =
+        () -> {
+          throw new AssertionError("FAKE");
+        };
+    final Supplier<Integer> error = autoCatcher.unDeclare(throwingError);
+    invoke(supplier, 4);
+    TimeUnit.MILLISECONDS.sleep(40);
+
+    // WHEN
+    Assertions.assertThrows(AssertionError.class, error::get);
+
+    // THEN
+    Assertions.assertEquals(CircuitBreakerAutoCatcher.State.OPEN, autoCatcher.getState());
+    failing.set(false);
+    TimeUnit.MILLISECONDS.sleep(40);
+    supplier.get();
+    Assertions.assertEquals(CircuitBreakerAutoCatcher.State.CLOSED, autoCatcher.getState());
+  }
+
+  @Test
+  void notRecordedExceptions() {
+    // GIVEN
+    final CircuitBreakerAutoCatcher autoCatcher =
+        AutoCatcher.circuitBreaker(
+            AutoCatcher.exceptionForwarder(), POLICY.recordOn(IllegalStateException.class));
+    final Supplier<Integer> supplier =
+        autoCatcher.unDeclare(counting(new AtomicInteger(), new AtomicBoolean(true)));
+
+    // WHEN
+    invoke(supplier, 10);
+
+    // THEN
+    Assertions.assertEquals(CircuitBreakerAutoCatcher.State.CLOSED, autoCatcher.getState());
+  }
+
+  @Test
+  void failuresLeaveTheWindow() throws InterruptedException {
+    // GIVEN
+    final CircuitBreakerAutoCatcher autoCatcher =
+        AutoCatcher.circuitBreaker(
+            AutoCatcher.exceptionForwarder(), POLICY.withSlidingWindow(Duration.ofMillis(50), 5));
+    final Supplier<Integer> supplier =
+        autoCatcher.unDeclare(counting(new AtomicInteger(), new AtomicBoolean(true)));
+    invoke(supplier, 3);
+    TimeUnit.MILLISECONDS.sleep(100);
+
+    // WHEN
+    invoke(supplier, 1);
+
+    // THEN
+    Assertions.assertEquals(CircuitBreakerAutoCatcher.State.CLOSED, autoCatcher.getState());
+  }
+
+  @Test
+  void invalidPolicy() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> CircuitBreakerPolicy.failureRateThreshold(0));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> CircuitBreakerPolicy.failureRateThreshold(1.5));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> POLICY.withMinimumCalls(0));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> POLICY.withHalfOpenCalls(0));
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch;
+
+import com.github.vgalloy.autocatch.function.BooleanSupplierWithException;
+import com.github.vgalloy.autocatch.function.ByteSupplier;
+import com.github.vgalloy.autocatch.function.ByteSupplierWithException;
+import com.github.vgalloy.autocatch.function.CharSupplier;
+import com.github.vgalloy.autocatch.function.CharSupplierWithException;
+import com.github.vgalloy.autocatch.function.ConsumerWithException;
+import com.github.vgalloy.autocatch.function.DoubleSupplierWithException;
+import com.github.vgalloy.autocatch.function.IntSupplierWithException;
+import com.github.vgalloy.autocatch.function.IntUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.LongSupplierWithException;
+import com.github.vgalloy.autocatch.function.RunnableWithException;
+import com.github.vgalloy.autocatch.function.ToDoubleFunctionWithException;
+import com.github.vgalloy.autocatch.handler.AutoCatcher;
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** An {@link AutoCatcher} written against the original interface still gets every conversion. */
+class CustomAutoCatcherTest {
+
+  private static final AutoCatcher AUTO_CATCHER = new IllegalStateAutoCatcher();
+
+  @Test
+  void primitiveConversionsByDefault() {
+    // GIVEN
+    final IntUnaryOperatorWithException operator = value -> value + 1;
+    final LongSupplierWithException supplier = () -> 2L;
+    final ToDoubleFunctionWithException<String> function = String::length;
+
+    // WHEN
+    final IntUnaryOperator unDeclared = AUTO_CATCHER.unDeclareInt(operator);
+
+    // THEN
+    Assertions.assertEquals(2, unDeclared.applyAsInt(1));
+    Assertions.assertEquals(2L, AUTO_CATCHER.unDeclare(supplier).getAsLong());
+    Assertions.assertEquals(3D, AUTO_CATCHER.unDeclareToDouble(function).applyAsDouble("abc"));
+  }
+
+  @Test
+  void primitiveFailureConvertedByTheCatcher() {
+    // GIVEN
+    final IntUnaryOperatorWithException operator =
+        value -> {
+          throw new IOException("FAKE");
+        };
+
+    // WHEN
+    final IllegalStateException exception =
+        Assertions.assertThrows(
+            IllegalStateException.class, () -> AUTO_CATCHER.unDeclareInt(operator).applyAsInt(1));
+
+    // THEN
+    Assertions.assertEquals(IOException.class, exception.getCause().getClass());
+  }
+
+  /** Only implements the conversions of the first version of the interface. */
+  private static final class IllegalStateAutoCatcher implements AutoCatcher {
+
+    private static IllegalStateException convert(final Exception exception) {
+      return new IllegalStateException(exception);
+    }
+
+    @Override
+    public BooleanSupplier unDeclare(final BooleanSupplierWithException supplier) {
+      return () -> {
+        try {
+          return supplier.getAsBooleanWithException();
+        } catch (final Exception e) {
+          throw convert(e);
+        }
+      };
+    }
+
+    @Override
+    public ByteSupplier unDeclare(final ByteSupplierWithException supplier) {
+      return () -> {
+        try {
+          return supplier.getAsByteWithException();
+        } catch (final Exception e) {
+          throw convert(e);
+        }
+      };
+    }
+
+    @Override
+    public CharSupplier unDeclare(final CharSupplierWithException supplier) {
+      return () -> {
+        try {
+          return supplier.getAsCharWithException();
+        } catch (final Exception e) {
+          throw convert(e);
+        }
+      };
+    }
+
+    @Override
+    public DoubleSupplier unDeclare(final DoubleSupplierWithException supplier) {
+      return () -> {
+        try {
+          return supplier.getAsDoubleWithException();
+        } catch (final Exception e) {
+          throw convert(e);
+        }
+      };
+    }
+
+    @Override
+    public IntSupplier unDeclare(final IntSupplierWithException supplier) {
+      return () -> {
+        try {
+          return supplier.getAsIntWithException();
+        } catch (final Exception e) {
+          throw convert(e);
+        }
+      };
+    }
+
+    @Override
+    public Runnable unDeclare(final RunnableWithException runnable) {
+      return () -> {
+        try {
+          runnable.runWithException();
+        } catch (final Exception e) {
+          throw convert(e);
+        }
+      };
+    }
+
+    @Override
+    public <T> Supplier<T> unDeclare(final Callable<T> callable) {
+      return () -> {
+        try {
+          return callable.call();
+        } catch (final Exception e) {
+          throw convert(e);
+        }
+      };
+    }
+
+    @Override
+    public <T> Consumer<T> unDeclare(final ConsumerWithException<T> consumer) {
+      return t -> {
+        try {
+          consumer.accept(t);
+        } catch (final Exception e) {
+          throw convert(e);
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch;
+
+import com.github.vgalloy.autocatch.function.BooleanSupplierWithException;
+import com.github.vgalloy.autocatch.function.ByteSupplier;
+import com.github.vgalloy.autocatch.function.CharSupplierWithException;
+import com.github.vgalloy.autocatch.function.FunctionWithError;
+import com.github.vgalloy.autocatch.function.IntSupplierWithException;
+import com.github.vgalloy.autocatch.handler.AutoCatcher;
+import com.github.vgalloy.autocatch.handler.MeteredAutoCatcher;
+import com.github.vgalloy.autocatch.handler.RetryPolicy;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class FallbackAutoCatcherTest {
+
+  private static final IntSupplierWithException FAILING_INT_SUPPLIER =
+      () -> {
+        throw new IOException("FAKE");
+      };
+
+  @Test
+  void noFailure() {
+    // GIVEN
+    final Callable<String> callable = () -> "value";
+
+    // WHEN
+    final Supplier<String> supplier = AutoCatch.unDeclareOrElse(callable, "fallback");
+
+    // THEN
+    Assertions.assertEquals("value", supplier.get());
+  }
+
+  @Test
+  void fallbackValue() {
+    // GIVEN
+    final Callable<String> callable =
+        () -> {
+          throw new IOException("FAKE");
+        };
+
+    // WHEN
+    final Supplier<String> supplier = AutoCatch.unDeclareOrElse(callable, "fallback");
+
+    // THEN
+    Assertions.assertEquals("fallback", supplier.get());
+  }
+
+  @Test
+  void fallbackComputedFromException() {
+    // GIVEN
+    final FunctionWithError<String, String> function =
+        s -> {
+          throw new FileNotFoundException(s);
+        };
+
+    // WHEN
+    final Function<String, String> unDeclared =
+        AutoCatch.unDeclareOrElseGet(function, exception -> "missing " + exception.getMessage());
+
+    // THEN
+    Assertions.assertEquals("missing file.txt", unDeclared.apply("file.txt"));
+  }
+
+  @Test
+  void runtimeExceptionFallback() {
+    // GIVEN
+    final FunctionWithError<String, Integer> parse = Integer::parseInt;
+
+    // WHEN
+    final Function<String, Integer> unDeclared = AutoCatch.unDeclareOrElse(parse, -1);
+
+    // THEN
+    Assertions.assertEquals(Integer.valueOf(12), unDeclared.apply("12"));
+    Assertions.assertEquals(Integer.valueOf(-1), unDeclared.apply("twelve"));
+  }
+
+  @Test
+  void primitiveFallback() {
+    // GIVEN
+    final BooleanSupplierWithException booleanSupplier =
+        () -> {
+          throw new IOException("FAKE");
+        };
+    final CharSupplierWithException charSupplier =
+        () -> {
+          throw new IOException("FAKE");
+        };
+
+    // WHEN
+    final IntSupplier intSupplier = AutoCatch.unDeclareOrElse(FAILING_INT_SUPPLIER, -1);
+    final ByteSupplier byteSupplier = AutoCatch.unDeclareOrElse(this::readByte, (byte) 2);
+
+    // THEN
+    Assertions.assertEquals(-1, intSupplier.getAsInt());
+    Assertions.assertEquals(2, byteSupplier.getAsByte());
+    Assertions.assertTrue(AutoCatch.unDeclareOrElse(booleanSupplier, true).getAsBoolean());
+    Assertions.assertEquals('?', AutoCatch.unDeclareOrElse(charSupplier, '?').getAsChar());
+    Assertions.assertEquals(
+        5, AutoCatch.unDeclareOrElseGet(FAILING_INT_SUPPLIER, e -> 5).getAsInt());
+  }
+
+  @Test
+  void meteredFallback() {
+    // GIVEN
+    final MeteredAutoCatcher autoCatcher = AutoCatcher.metered(AutoCatcher.exceptionForwarder());
+
+    // WHEN
+    final int result = autoCatcher.unDeclareOrElse(FAILING_INT_SUPPLIER, -1).getAsInt();
+
+    // THEN
+    Assertions.assertEquals(-1, result);
+    Assertions.assertEquals(1, autoCatcher.snapshot().getFailures(IOException.class));
+  }
+
+  @Test
+  void retryBeforeFallback() {
+    // GIVEN
+    final AutoCatcher autoCatcher =
+        AutoCatcher.retrying(AutoCatcher.exceptionForwarder(), RetryPolicy.maxAttempts(3));
+    final AtomicInteger calls = new AtomicInteger();
+    final IntSupplierWithException supplier =
+        () -> {
+          calls.incrementAndGet();
+          throw new IOException("FAKE");
+        };
+
+    // WHEN
+    final int result = autoCatcher.unDeclareOrElse(supplier, -1).getAsInt();
+
+    // THEN
+    Assertions.assertEquals(-1, result);
+    Assertions.assertEquals(3, calls.get());
+  }
+
+  private byte readByte() throws IOException {
+    throw new IOException("FAKE");
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch;
+
+import com.github.vgalloy.autocatch.function.ConsumerWithException;
+import com.github.vgalloy.autocatch.handler.AutoCatcher;
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ForEachFailFastTest {
+
+  private static final List<Integer> ELEMENTS =
+      IntStream.range(0, 1_000).boxed().collect(Collectors.toList());
+
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  void everyElementProcessed() {
+    // GIVEN
+    final AtomicInteger sum = new AtomicInteger();
+    final ConsumerWithException<Integer> consumer = sum::addAndGet;
+
+    // WHEN
+    AutoCatch.forEachFailFast(ELEMENTS, consumer, pool);
+
+    // THEN
+    Assertions.assertEquals(499_500, sum.get());
+  }
+
+  @Test
+  void firstFailureStopsTheOthers() {
+    // GIVEN
+    final AtomicInteger processed = new AtomicInteger();
+    final IOException ioException = new IOException("FAKE");
+    final ConsumerWithException<Integer> consumer =
+        i -> {
+          if (processed.incrementAndGet() == 20) {
+            throw ioException;
+          }
+          Thread.sleep(1);
+        };
+
+    // WHEN
+    final UndeclaredThrowableException exception =
+        Assertions.assertThrows(
+            UndeclaredThrowableException.class,
+            () -> AutoCatch.forEachFailFast(ELEMENTS, consumer, pool));
+
+    // THEN
+    Assertions.assertSame(ioException, exception.getUndeclaredThrowable());
+    Assertions.assertTrue(processed.get() < ELEMENTS.size() / 2, "processed " + processed);
+  }
+
+  @Test
+  void forwarderPropagatesTheOriginalException() {
+    // GIVEN
+    final AutoCatcher autoCatcher = AutoCatcher.exceptionForwarder();
+    final IOException ioException = new IOException("FAKE");
+    final ConsumerWithException<Integer> consumer =
+        i -> {
+          if (i == 500) {
+            throw ioException;
+          }
+        };
+
+    // WHEN
+    final IOException exception =
+        Assertions.assertThrows(
+            IOException.class, () -> autoCatcher.forEachFailFast(ELEMENTS, consumer, pool));
+
+    // THEN
+    Assertions.assertSame(ioException, exception);
+  }
+
+  @Test
+  void commonPool() {
+    // GIVEN
+    final AtomicInteger count = new AtomicInteger();
+    final ConsumerWithException<Integer> consumer = i -> count.incrementAndGet();
+
+    // WHEN
+    AutoCatch.forEachFailFast(ELEMENTS, consumer);
+
+    // THEN
+    Assertions.assertEquals(ELEMENTS.size(), count.get());
+  }
+}
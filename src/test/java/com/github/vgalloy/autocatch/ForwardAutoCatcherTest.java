@@ -15,16 +15,33 @@
  */
 package com.github.vgalloy.autocatch;
 
+import com.github.vgalloy.autocatch.function.BiConsumerWithException;
+import com.github.vgalloy.autocatch.function.BinaryOperatorWithException;
 import com.github.vgalloy.autocatch.function.BooleanSupplierWithException;
 import com.github.vgalloy.autocatch.function.ByteSupplierWithException;
 import com.github.vgalloy.autocatch.function.CharSupplierWithException;
+import com.github.vgalloy.autocatch.function.FunctionWithError;
 import com.github.vgalloy.autocatch.function.IntSupplierWithException;
+import com.github.vgalloy.autocatch.function.IntUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.LongSupplierWithException;
+import com.github.vgalloy.autocatch.function.ObjIntConsumerWithException;
+import com.github.vgalloy.autocatch.function.PredicateWithError;
 import com.github.vgalloy.autocatch.function.RunnableWithException;
+import com.github.vgalloy.autocatch.function.ToLongFunctionWithException;
 import com.github.vgalloy.autocatch.handler.AutoCatcher;
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -188,6 +205,140 @@ class ForwardAutoCatcherTest {
     Assertions.assertEquals(IOException.class, exception.getClass());
   }
 
+  @Test
+  void predicateThrowException() {
+    // GIVEN
+    final PredicateWithError<Integer> predicateWithError =
+        a -> {
+          throw new IOException("FAKE");
+        };
+    final Predicate<Integer> predicate = AUTO_CATCHER.unDeclare(predicateWithError);
+
+    // WHEN
+    final IOException exception =
+        Assertions.assertThrows(IOException.class, () -> predicate.test(1));
+
+    // THEN
+    Assertions.assertEquals("FAKE", exception.getMessage());
+    Assertions.assertEquals(IOException.class, exception.getClass());
+  }
+
+  @Test
+  void functionThrowException() {
+    // GIVEN
+    final FunctionWithError<Integer, String> functionWithError =
+        a -> {
+          throw new IOException("FAKE");
+        };
+    final Function<Integer, String> function = AUTO_CATCHER.unDeclare(functionWithError);
+
+    // WHEN
+    final IOException exception =
+        Assertions.assertThrows(IOException.class, () -> function.apply(1));
+
+    // THEN
+    Assertions.assertEquals("FAKE", exception.getMessage());
+    Assertions.assertEquals(IOException.class, exception.getClass());
+  }
+
+  @Test
+  void longSupplier() {
+    // GIVEN
+    final LongSupplierWithException callable =
+        () -> {
+          throw new IOException("FAKE");
+        };
+
+    // WHEN
+    final IOException exception =
+        Assertions.assertThrows(IOException.class, () -> AUTO_CATCHER.autoCatch(callable));
+
+    // THEN
+    Assertions.assertEquals("FAKE", exception.getMessage());
+    Assertions.assertEquals(IOException.class, exception.getClass());
+  }
+
+  @Test
+  void intUnaryOperator() {
+    // GIVEN
+    final IntUnaryOperatorWithException operator = i -> i * 2;
+
+    // WHEN
+    final int result = IntStream.range(0, 4).map(AUTO_CATCHER.unDeclareInt(operator)).sum();
+
+    // THEN
+    Assertions.assertEquals(12, result);
+  }
+
+  @Test
+  void toLongFunctionThrowException() {
+    // GIVEN
+    final ToLongFunctionWithException<String> function =
+        s -> {
+          throw new IOException("FAKE");
+        };
+    final ToLongFunction<String> toLongFunction = AUTO_CATCHER.unDeclareToLong(function);
+
+    // WHEN
+    final IOException exception =
+        Assertions.assertThrows(IOException.class, () -> toLongFunction.applyAsLong("1"));
+
+    // THEN
+    Assertions.assertEquals("FAKE", exception.getMessage());
+    Assertions.assertEquals(IOException.class, exception.getClass());
+  }
+
+  @Test
+  void binaryOperator() {
+    // GIVEN
+    final Map<String, Integer> map = new HashMap<>();
+    map.put("a", 1);
+    final BinaryOperatorWithException<Integer> operator = Integer::sum;
+
+    // WHEN
+    map.merge("a", 2, AUTO_CATCHER.unDeclare(operator));
+
+    // THEN
+    Assertions.assertEquals(Integer.valueOf(3), map.get("a"));
+  }
+
+  @Test
+  void biConsumerThrowException() {
+    // GIVEN
+    final Map<String, Integer> map = Collections.singletonMap("a", 1);
+    final BiConsumerWithException<String, Integer> consumerWithException =
+        (key, value) -> {
+          throw new IOException("FAKE");
+        };
+    final BiConsumer<String, Integer> consumer = AUTO_CATCHER.unDeclare(consumerWithException);
+
+    // WHEN
+    final IOException exception =
+        Assertions.assertThrows(IOException.class, () -> map.forEach(consumer));
+
+    // THEN
+    Assertions.assertEquals("FAKE", exception.getMessage());
+    Assertions.assertEquals(IOException.class, exception.getClass());
+  }
+
+  @Test
+  void objIntConsumerThrowException() {
+    // GIVEN
+    final ObjIntConsumerWithException<String> consumerWithException =
+        (key, value) -> {
+          throw new IOException("FAKE");
+        };
+    final ObjIntConsumer<String> consumer = AUTO_CATCHER.unDeclareObjInt(consumerWithException);
+
+    // WHEN
+    final IOException exception =
+        Assertions.assertThrows(IOException.class, () -> consumer.accept("a", 1));
+
+    // THEN
+    Assertions.assertEquals("FAKE", exception.getMessage());
+    Assertions.assertEquals(IOException.class, exception.getClass());
+  }
+
   private boolean isAbsolute(final File file) throws Exception {
     return file.getCanonicalFile().isAbsolute();
   }
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch;
+
+import com.github.vgalloy.autocatch.function.FunctionWithError;
+import com.github.vgalloy.autocatch.function.IntUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.handler.AutoCatcher;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Run the hot call sites of the library in a forked JVM printing its inlining decisions, and fail
+ * when a frame of the library is not inlined. Run against the packaged jar, so the Java 21 wrappers
+ * are checked on a Java 21 JDK.
+ */
+class InliningIT {
+
+  private static final String LIBRARY_PACKAGE = "com.github.vgalloy.autocatch.";
+  private static final Pattern DECISION =
+      Pattern.compile("@ \\d+\\s+(\\S+)::(\\S+) \\(\\d+ bytes\\)\\s+(.*)");
+  /** Every other decision is a rejection, "no static binding", "call site not reached", etc. */
+  private static final Pattern INLINED =
+      Pattern.compile("^(inline|\\(?intrinsic|force inline|late inline succeeded|accessor)\\b");
+  /** The failure path is compiled but never taken : its callees have never been executed. */
+  private static final String NEVER_EXECUTED = "never executed";
+
+  @Test
+  void hotCallSitesAreInlined() throws IOException, InterruptedException {
+    // GIVEN
+    final List<String> command =
+        Arrays.asList(
+            Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+            "-XX:+UnlockDiagnosticVMOptions",
+            "-XX:+PrintCompilation",
+            "-XX:+PrintInlining",
+            // C2 only, compiling in the foreground : every call site is compiled before the exit
+            "-XX:-TieredCompilation",
+            "-Xbatch",
+            "-cp",
+            System.getProperty("java.class.path"),
+            CallSites.class.getName());
+
+    // WHEN
+    final List<String> output = run(command);
+
+    // THEN
+    final List<String> inlined = new ArrayList<>();
+    final List<String> rejected = new ArrayList<>();
+    for (final String line : output) {
+      final Matcher matcher = DECISION.matcher(line);
+      if (matcher.find() && isLibraryFrame(matcher.group(1))) {
+        final String frame = matcher.group(1) + "::" + matcher.group(2);
+        final String decision = matcher.group(3).trim();
+        if (INLINED.matcher(decision).find()) {
+          inlined.add(frame);
+        } else if (!decision.equals(NEVER_EXECUTED)) {
+          rejected.add(frame + " " + decision);
+        }
+      }
+    }
+    Assertions.assertEquals(Collections.emptyList(), rejected);
+    assertInlined(inlined, "AutoCatch::autoCatch");
+    assertInlined(inlined, "AutoCatch::unDeclare");
+    assertInlined(inlined, "AutoCatch::unDeclareOrElse");
+    assertInlined(inlined, "AutoCatch::toResult");
+    assertInlined(inlined, "UndeclaredExceptionHandler::autoCatch");
+    assertInlined(inlined, "UndeclaredExceptionHandler::unDeclare");
+    assertInlined(inlined, "ExceptionForwarder::autoCatch");
+    assertInlined(inlined, "ExceptionForwarder::unDeclare");
+  }
+
+  private static boolean isLibraryFrame(final String className) {
+    return className.startsWith(LIBRARY_PACKAGE)
+        && !className.startsWith(InliningIT.class.getName());
+  }
+
+  private static void assertInlined(final List<String> inlined, final String method) {
+    Assertions.assertTrue(
+        inlined.stream().anyMatch(frame -> frame.endsWith("." + method)),
+        () -> method + " not found in the inlined frames " + inlined);
+  }
+
+  private static List<String> run(final List<String> command)
+      throws IOException, InterruptedException {
+    final Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+    final List<String> output = new ArrayList<>();
+    try (BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        output.add(line);
+      }
+    }
+    Assertions.assertTrue(process.waitFor(1, TimeUnit.MINUTES));
+    Assertions.assertEquals(0, process.exitValue(), () -> String.join("\n", output));
+    return output;
+  }
+
+  /** Each call site sees a single catcher and a single lambda, as in an application. */
+  static final class CallSites {
+
+    private static final AutoCatcher UNDECLARED = AutoCatcher.wrapWithUndeclaredHandler();
+    private static final AutoCatcher STACKLESS = AutoCatcher.wrapWithStacklessUndeclaredHandler();
+    private static final AutoCatcher FORWARDER = AutoCatcher.exceptionForwarder();
+    private static final Callable<Integer> CALLABLE = () -> 1;
+    private static final FunctionWithError<Integer, Integer> FUNCTION = value -> value + 1;
+    private static final IntUnaryOperatorWithException INT_OPERATOR = value -> value + 1;
+
+    private static int facadeAutoCatch(final int value) {
+      return AutoCatch.autoCatch(CALLABLE) + value;
+    }
+
+    private static int facadeFunction(final int value) {
+      return AutoCatch.unDeclare(FUNCTION).apply(value);
+    }
+
+    private static int facadeIntOperator(final int value) {
+      return AutoCatch.unDeclareInt(INT_OPERATOR).applyAsInt(value);
+    }
+
+    private static int facadeOrElse(final int value) {
+      return AutoCatch.unDeclareOrElse(FUNCTION, 0).apply(value);
+    }
+
+    private static int facadeOrElseGet(final int value) {
+      return AutoCatch.unDeclareOrElseGet(FUNCTION, exception -> 0).apply(value);
+    }
+
+    private static int facadeResult(final int value) {
+      return AutoCatch.toResult(FUNCTION).apply(value).orElse(0);
+    }
+
+    private static int undeclaredAutoCatch(final int value) {
+      return UNDECLARED.autoCatch(CALLABLE) + value;
+    }
+
+    private static int undeclaredFunction(final int value) {
+      return UNDECLARED.unDeclare(FUNCTION).apply(value);
+    }
+
+    private static int undeclaredIntOperator(final int value) {
+      return UNDECLARED.unDeclareInt(INT_OPERATOR).applyAsInt(value);
+    }
+
+    private static int stacklessFunction(final int value) {
+      return STACKLESS.unDeclare(FUNCTION).apply(value);
+    }
+
+    private static int forwarderAutoCatch(final int value) {
+      return FORWARDER.autoCatch(CALLABLE) + value;
+    }
+
+    private static int forwarderFunction(final int value) {
+      return FORWARDER.unDeclare(FUNCTION).apply(value);
+    }
+
+    private static int forwarderIntOperator(final int value) {
+      return FORWARDER.unDeclareInt(INT_OPERATOR).applyAsInt(value);
+    }
+
+    public static void main(final String[] args) {
+      long sink = 0;
+      for (int i = 0; i < 100_000; i++) {
+        sink += facadeAutoCatch(i);
+        sink += facadeFunction(i);
+        sink += facadeIntOperator(i);
+        sink += facadeOrElse(i);
+        sink += facadeOrElseGet(i);
+        sink += facadeResult(i);
+        sink += undeclaredAutoCatch(i);
+        sink += undeclaredFunction(i);
+        sink += undeclaredIntOperator(i);
+        sink += stacklessFunction(i);
+        sink += forwarderAutoCatch(i);
+        sink += forwarderFunction(i);
+        sink += forwarderIntOperator(i);
+      }
+      System.out.println(sink);
+    }
+  }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch;
+
+import com.github.vgalloy.autocatch.cache.CachedSupplier;
+import com.github.vgalloy.autocatch.cache.LazyFailurePolicy;
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LazySupplierTest {
+
+  private static Callable<Integer> failingTimes(final AtomicInteger calls, final int failures) {
+    return () -> {
+      if (calls.incrementAndGet() <= failures) {
+        throw new IOException("FAKE");
+      }
+      return calls.get();
+    };
+  }
+
+  @Test
+  void lazyComputedOnce() throws Exception {
+    // GIVEN
+    final AtomicInteger calls = new AtomicInteger();
+    final CountDownLatch start = new CountDownLatch(1);
+    final Supplier<Integer> supplier = AutoCatch.lazy(failingTimes(calls, 0));
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    final List<Future<Integer>> futures = new ArrayList<>();
+
+    // WHEN
+    for (int i = 0; i < 8; i++) {
+      futures.add(
+          executor.submit(
+              () -> {
+                start.await();
+                return supplier.get();
+              }));
+    }
+    start.countDown();
+
+    // THEN
+    for (final Future<Integer> future : futures) {
+      Assertions.assertEquals(Integer.valueOf(1), future.get());
+    }
+    Assertions.assertEquals(1, calls.get());
+    executor.shutdown();
+  }
+
+  @Test
+  void lazyNotComputedBeforeFirstCall() {
+    // GIVEN
+    final AtomicInteger calls = new AtomicInteger();
+
+    // WHEN
+    AutoCatch.lazy(failingTimes(calls, 0));
+
+    // THEN
+    Assertions.assertEquals(0, calls.get());
+  }
+
+  @Test
+  void lazyRetriedAfterFailure() {
+    // GIVEN
+    final AtomicInteger calls = new AtomicInteger();
+    final Supplier<Integer> supplier = AutoCatch.lazy(failingTimes(calls, 1));
+
+    // WHEN
+    Assertions.assertThrows(UndeclaredThrowableException.class, supplier::get);
+    final Integer value = supplier.get();
+
+    // THEN
+    Assertions.assertEquals(Integer.valueOf(2), value);
+    Assertions.assertEquals(Integer.valueOf(2), supplier.get());
+  }
+
+  @Test
+  void lazyCachedFailure() {
+    // GIVEN
+    final AtomicInteger calls = new AtomicInteger();
+    final Supplier<Integer> supplier =
+        AutoCatch.lazy(failingTimes(calls, 1), LazyFailurePolicy.CACHE);
+
+    // WHEN
+    final UndeclaredThrowableException first =
+        Assertions.assertThrows(UndeclaredThrowableException.class, supplier::get);
+    final UndeclaredThrowableException second =
+        Assertions.assertThrows(UndeclaredThrowableException.class, supplier::get);
+
+    // THEN
+    Assertions.assertSame(first, second);
+    Assertions.assertEquals(1, calls.get());
+  }
+
+  @Test
+  void lazyCachedError() {
+    // GIVEN
+    final AtomicInteger calls = new AtomicInteger();
+    final Supplier<Integer> supplier =
+        AutoCatch.lazy(
+            () -> {
+              calls.incrementAndGet();
+              throw new ExceptionInInitializerError("FAKE");
+            },
+            LazyFailurePolicy.CACHE);
+
+    // WHEN
+    final ExceptionInInitializerError first =
+        Assertions.assertThrows(ExceptionInInitializerError.class, supplier::get);
+    final ExceptionInInitializerError second =
+        Assertions.assertThrows(ExceptionInInitializerError.class, supplier::get);
+
+    // THEN
+    Assertions.assertSame(first, second);
+    Assertions.assertEquals(1, calls.get());
+  }
+
+  @Test
+  void cachedServesValueDuringTimeToLive() {
+    // GIVEN
+    final AtomicInteger calls = new AtomicInteger();
+    final CachedSupplier<Integer> supplier =
+        AutoCatch.cached(failingTimes(calls, 0), Duration.ofMinutes(1), Runnable::run);
+
+    // WHEN
+    supplier.get();
+    final Integer value = supplier.get();
+
+    // THEN
+    Assertions.assertEquals(Integer.valueOf(1), value);
+    Assertions.assertEquals(1, calls.get());
+  }
+
+  @Test
+  void cachedServesStaleValueWhileReloading() throws InterruptedException {
+    // GIVEN
+    final AtomicInteger calls = new AtomicInteger();
+    final List<Runnable> reloads = new ArrayList<>();
+    final CachedSupplier<Integer> supplier =
+        AutoCatch.cached(failingTimes(calls, 0), Duration.ofMillis(10), reloads::add);
+    supplier.get();
+    TimeUnit.MILLISECONDS.sleep(20);
+
+    // WHEN
+    final Integer stale = supplier.get();
+    supplier.get();
+    reloads.get(0).run();
+
+    // THEN
+    Assertions.assertEquals(Integer.valueOf(1), stale);
+    Assertions.assertEquals(1, reloads.size());
+    Assertions.assertEquals(Integer.valueOf(2), supplier.get());
+  }
+
+  @Test
+  void cachedKeepsValueWhenReloadFails() throws InterruptedException {
+    // GIVEN
+    final AtomicInteger calls = new AtomicInteger(-1);
+    final CachedSupplier<Integer> supplier =
+        AutoCatch.cached(
+            () -> {
+              if (calls.incrementAndGet() > 0) {
+                throw new IOException("FAKE");
+              }
+              return 42;
+            },
+            Duration.ofMillis(10),
+            Runnable::run);
+    supplier.get();
+    TimeUnit.MILLISECONDS.sleep(20);
+
+    // WHEN
+    final Integer value = supplier.get();
+
+    // THEN
+    Assertions.assertEquals(Integer.valueOf(42), value);
+    Assertions.assertEquals(Integer.valueOf(42), supplier.get());
+    Assertions.assertEquals(1, calls.get());
+    Assertions.assertEquals(
+        IOException.class,
+        ((UndeclaredThrowableException) supplier.getRefreshFailure())
+            .getUndeclaredThrowable()
+            .getClass());
+  }
+
+  @Test
+  void cachedReloadedAgainAfterError() throws InterruptedException {
+    // GIVEN
+    final AtomicInteger calls = new AtomicInteger();
+    final List<Runnable> reloads = new ArrayList<>();
+    final CachedSupplier<Integer> supplier =
+        AutoCatch.cached(
+            () -> {
+              if (calls.incrementAndGet() == 2) {
+                throw new AssertionError("FAKE");
+              }
+              return calls.get();
+            },
+            Duration.ofMillis(10),
+            reloads::add);
+    supplier.get();
+    TimeUnit.MILLISECONDS.sleep(20);
+    supplier.get();
+    final AssertionError error = Assertions.assertThrows(AssertionError.class, reloads.get(0)::run);
+    Assertions.assertSame(error, supplier.getRefreshFailure());
+    TimeUnit.MILLISECONDS.sleep(20);
+
+    // WHEN
+    final Integer stale = supplier.get();
+    reloads.get(1).run();
+
+    // THEN
+    Assertions.assertEquals(Integer.valueOf(1), stale);
+    Assertions.assertEquals(2, reloads.size());
+    Assertions.assertEquals(Integer.valueOf(3), supplier.get());
+    Assertions.assertNull(supplier.getRefreshFailure());
+  }
+
+  @Test
+  void cachedReloadedOnDaemonThread() throws InterruptedException {
+    // GIVEN
+    final CountDownLatch reloaded = new CountDownLatch(1);
+    final List<Thread> threads = new ArrayList<>();
+    final CachedSupplier<Integer> supplier =
+        AutoCatch.cached(
+            () -> {
+              threads.add(Thread.currentThread());
+              if (threads.size() > 1) {
+                reloaded.countDown();
+              }
+              return threads.size();
+            },
+            Duration.ofMillis(10));
+    supplier.get();
+    TimeUnit.MILLISECONDS.sleep(20);
+
+    // WHEN
+    supplier.get();
+
+    // THEN
+    Assertions.assertTrue(reloaded.await(10, TimeUnit.SECONDS));
+    Assertions.assertTrue(threads.get(1).isDaemon());
+    Assertions.assertTrue(threads.get(1).getName().startsWith("autocatch-refresh-"));
+  }
+
+  @Test
+  void cachedFirstLoadFailurePropagated() {
+    // GIVEN
+    final AtomicInteger calls = new AtomicInteger();
+    final CachedSupplier<Integer> supplier =
+        AutoCatch.cached(failingTimes(calls, 1), Duration.ofMinutes(1), Runnable::run);
+
+    // WHEN
+    Assertions.assertThrows(UndeclaredThrowableException.class, supplier::get);
+
+    // THEN
+    Assertions.assertEquals(Integer.valueOf(2), supplier.get());
+  }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch;
+
+import com.github.vgalloy.autocatch.cache.CacheStats;
+import com.github.vgalloy.autocatch.cache.MemoizeSpec;
+import com.github.vgalloy.autocatch.cache.MemoizedFunction;
+import com.github.vgalloy.autocatch.function.FunctionWithError;
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class MemoizedFunctionTest {
+
+  private static FunctionWithError<Integer, String> counting(final AtomicInteger calls) {
+    return input -> {
+      calls.incrementAndGet();
+      if (input < 0) {
+        throw new IOException("FAKE");
+      }
+      return "value-" + input;
+    };
+  }
+
+  @Test
+  void resultIsRemembered() {
+    // GIVEN
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoizedFunction<Integer, String> function =
+        AutoCatch.unDeclareMemoized(counting(calls), MemoizeSpec.maximumSize(10));
+
+    // WHEN
+    final String first = function.apply(1);
+    final String second = function.apply(1);
+
+    // THEN
+    Assertions.assertEquals("value-1", first);
+    Assertions.assertSame(first, second);
+    Assertions.assertEquals(1, calls.get());
+    final CacheStats stats = function.getStats();
+    Assertions.assertEquals(1, stats.getHits());
+    Assertions.assertEquals(1, stats.getMisses());
+    Assertions.assertEquals(0.5, stats.getHitRate());
+  }
+
+  @Test
+  void sizeIsBounded() {
+    // GIVEN
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoizedFunction<Integer, String> function =
+        AutoCatch.unDeclareMemoized(counting(calls), MemoizeSpec.maximumSize(8));
+
+    // WHEN
+    for (int round = 0; round < 3; round++) {
+      for (int i = 0; i < 100; i++) {
+        function.apply(i);
+      }
+    }
+
+    // THEN
+    Assertions.assertTrue(function.size() <= 8);
+    Assertions.assertEquals(300, function.getStats().getHits() + function.getStats().getMisses());
+    Assertions.assertTrue(function.getStats().getEvictions() > 0);
+  }
+
+  @Test
+  void ringGrowsUpToTheMaximumSize() {
+    // GIVEN
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoizedFunction<Integer, String> function =
+        AutoCatch.unDeclareMemoized(counting(calls), MemoizeSpec.maximumSize(100));
+
+    // WHEN
+    for (int i = 0; i < 150; i++) {
+      function.apply(i);
+    }
+
+    // THEN
+    Assertions.assertEquals(100, function.size());
+    Assertions.assertEquals(150, calls.get());
+  }
+
+  @Test
+  void largeMaximumSize() {
+    // GIVEN
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoizedFunction<Integer, String> function =
+        AutoCatch.unDeclareMemoized(counting(calls), MemoizeSpec.maximumSize(Integer.MAX_VALUE));
+
+    // WHEN
+    for (int i = 0; i < 1_000; i++) {
+      function.apply(i % 100);
+    }
+
+    // THEN
+    Assertions.assertEquals(100, function.size());
+    Assertions.assertEquals(100, calls.get());
+  }
+
+  @Test
+  void popularEntriesSurviveScan() {
+    // GIVEN
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoizedFunction<Integer, String> function =
+        AutoCatch.unDeclareMemoized(counting(calls), MemoizeSpec.maximumSize(4));
+    for (int i = 0; i < 4; i++) {
+      function.apply(i);
+    }
+
+    calls.set(0);
+
+    // WHEN
+    for (int i = 1_000; i < 2_000; i++) {
+      function.apply(i);
+      function.apply(i % 4);
+    }
+
+    // THEN
+    Assertions.assertEquals(1_000, calls.get());
+  }
+
+  @Test
+  void entriesExpire() throws InterruptedException {
+    // GIVEN
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoizedFunction<Integer, String> function =
+        AutoCatch.unDeclareMemoized(
+            counting(calls),
+            MemoizeSpec.maximumSize(10).withExpireAfterWrite(Duration.ofMillis(20)));
+    function.apply(1);
+
+    // WHEN
+    Thread.sleep(50);
+    function.apply(1);
+
+    // THEN
+    Assertions.assertEquals(2, calls.get());
+    Assertions.assertEquals(1, function.size());
+  }
+
+  @Test
+  void failuresNotCachedByDefault() {
+    // GIVEN
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoizedFunction<Integer, String> function =
+        AutoCatch.unDeclareMemoized(counting(calls), MemoizeSpec.maximumSize(10));
+
+    // WHEN
+    Assertions.assertThrows(UndeclaredThrowableException.class, () -> function.apply(-1));
+    Assertions.assertThrows(UndeclaredThrowableException.class, () -> function.apply(-1));
+
+    // THEN
+    Assertions.assertEquals(2, calls.get());
+    Assertions.assertEquals(0, function.size());
+  }
+
+  @Test
+  void failuresCached() {
+    // GIVEN
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoizedFunction<Integer, String> function =
+        AutoCatch.unDeclareMemoized(
+            counting(calls), MemoizeSpec.maximumSize(10).withFailureCaching());
+
+    // WHEN
+    final UndeclaredThrowableException first =
+        Assertions.assertThrows(UndeclaredThrowableException.class, () -> function.apply(-1));
+    final UndeclaredThrowableException second =
+        Assertions.assertThrows(UndeclaredThrowableException.class, () -> function.apply(-1));
+
+    // THEN
+    Assertions.assertEquals(1, calls.get());
+    Assertions.assertSame(first, second);
+    Assertions.assertEquals(IOException.class, first.getUndeclaredThrowable().getClass());
+  }
+
+  @Test
+  void invalidateAll() {
+    // GIVEN
+    final AtomicInteger calls = new AtomicInteger();
+    final MemoizedFunction<Integer, String> function =
+        AutoCatch.unDeclareMemoized(counting(calls), MemoizeSpec.maximumSize(10));
+    function.apply(1);
+
+    // WHEN
+    function.invalidateAll();
+    function.apply(1);
+
+    // THEN
+    Assertions.assertEquals(2, calls.get());
+  }
+
+  @Test
+  void invalidMaximumSize() {
+    // WHEN / THEN
+    Assertions.assertThrows(IllegalArgumentException.class, () -> MemoizeSpec.maximumSize(0));
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch;
+
+import com.github.vgalloy.autocatch.function.IntPredicateWithException;
+import com.github.vgalloy.autocatch.function.IntUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.handler.AutoCatcher;
+import com.github.vgalloy.autocatch.handler.ExceptionMetrics;
+import com.github.vgalloy.autocatch.handler.MeteredAutoCatcher;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.Callable;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class MeteredAutoCatcherTest {
+
+  @Test
+  void noInvocation() {
+    // GIVEN
+    final MeteredAutoCatcher autoCatcher = AutoCatcher.metered(AutoCatcher.exceptionForwarder());
+
+    // WHEN
+    final ExceptionMetrics metrics = autoCatcher.snapshot();
+
+    // THEN
+    Assertions.assertEquals(0, metrics.getInvocations());
+    Assertions.assertEquals(0, metrics.getSuccesses());
+    Assertions.assertEquals(0, metrics.getFailures());
+    Assertions.assertTrue(metrics.getFailuresByType().isEmpty());
+  }
+
+  @Test
+  void countSuccess() {
+    // GIVEN
+    final MeteredAutoCatcher autoCatcher = AutoCatcher.metered(AutoCatcher.exceptionForwarder());
+    final Callable<Integer> callable = () -> 4;
+
+    // WHEN
+    final Integer result = autoCatcher.autoCatch(callable);
+
+    // THEN
+    Assertions.assertEquals(Integer.valueOf(4), result);
+    final ExceptionMetrics metrics = autoCatcher.snapshot();
+    Assertions.assertEquals(1, metrics.getInvocations());
+    Assertions.assertEquals(1, metrics.getSuccesses());
+    Assertions.assertEquals(0, metrics.getFailures());
+  }
+
+  @Test
+  void countFailureByType() {
+    // GIVEN
+    final MeteredAutoCatcher autoCatcher =
+        AutoCatcher.metered(AutoCatcher.wrapWithUndeclaredHandler());
+    final IntUnaryOperatorWithException operator =
+        i -> {
+          if (i % 3 == 0) {
+            throw new FileNotFoundException("FAKE");
+          }
+          if (i % 3 == 1) {
+            throw new IOException("FAKE");
+          }
+          return i;
+        };
+    final IntUnaryOperator unDeclared = autoCatcher.unDeclareInt(operator);
+
+    // WHEN
+    for (int i = 0; i < 10; i++) {
+      try {
+        unDeclared.applyAsInt(i);
+      } catch (final UndeclaredThrowableException ignored) {
+        // expected
+      }
+    }
+
+    // THEN
+    final ExceptionMetrics metrics = autoCatcher.snapshot();
+    Assertions.assertEquals(10, metrics.getInvocations());
+    Assertions.assertEquals(3, metrics.getSuccesses());
+    Assertions.assertEquals(7, metrics.getFailures());
+    Assertions.assertEquals(4, metrics.getFailures(FileNotFoundException.class));
+    Assertions.assertEquals(3, metrics.getFailures(IOException.class));
+    Assertions.assertEquals(0, metrics.getFailures(IllegalStateException.class));
+  }
+
+  @Test
+  void runtimeExceptionIsCounted() {
+    // GIVEN
+    final MeteredAutoCatcher autoCatcher = AutoCatcher.metered(AutoCatcher.exceptionForwarder());
+    final Callable<Integer> callable =
+        () -> {
+          throw new IllegalStateException("FAKE");
+        };
+
+    // WHEN
+    Assertions.assertThrows(IllegalStateException.class, () -> autoCatcher.autoCatch(callable));
+
+    // THEN
+    Assertions.assertEquals(1, autoCatcher.snapshot().getFailures(IllegalStateException.class));
+  }
+
+  @Test
+  void errorIsCounted() {
+    // GIVEN
+    final MeteredAutoCatcher autoCatcher = AutoCatcher.metered(AutoCatcher.exceptionForwarder());
+    final Callable<Integer> callable =
+        () -> {
+          throw new AssertionError("FAKE");
+        };
+
+    // WHEN
+    Assertions.assertThrows(AssertionError.class, () -> autoCatcher.autoCatch(callable));
+
+    // THEN
+    final ExceptionMetrics metrics = autoCatcher.snapshot();
+    Assertions.assertEquals(1, metrics.getInvocations());
+    Assertions.assertEquals(0, metrics.getSuccesses());
+    Assertions.assertEquals(1, metrics.getFailures(AssertionError.class));
+  }
+
+  @Test
+  void snapshotIsImmutable() {
+    // GIVEN
+    final MeteredAutoCatcher autoCatcher = AutoCatcher.metered(AutoCatcher.exceptionForwarder());
+    final ExceptionMetrics before = autoCatcher.snapshot();
+    final Callable<Integer> callable = () -> 1;
+
+    // WHEN
+    autoCatcher.autoCatch(callable);
+
+    // THEN
+    Assertions.assertEquals(0, before.getInvocations());
+    Assertions.assertEquals(1, autoCatcher.snapshot().getInvocations());
+    Assertions.assertThrows(
+        UnsupportedOperationException.class,
+        () -> before.getFailuresByType().put(IOException.class, 1L));
+  }
+
+  @Test
+  void parallelStream() {
+    // GIVEN
+    final MeteredAutoCatcher autoCatcher = AutoCatcher.metered(AutoCatcher.exceptionForwarder());
+    final IntPredicateWithException isEven = i -> i % 2 == 0;
+
+    // WHEN
+    final long count =
+        IntStream.range(0, 10_000).parallel().filter(autoCatcher.unDeclareInt(isEven)).count();
+
+    // THEN
+    Assertions.assertEquals(5_000, count);
+    Assertions.assertEquals(10_000, autoCatcher.snapshot().getSuccesses());
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch;
+
+import com.github.vgalloy.autocatch.function.FunctionWithError;
+import com.github.vgalloy.autocatch.handler.AutoCatcher;
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Run against the multi-release jar, the Java 21 layer is not visible from the class directory. */
+class MonomorphicWrappersIT {
+
+  private static Supplier<Integer> wrap(final int value) {
+    return AutoCatch.unDeclare((Callable<Integer>) () -> value);
+  }
+
+  @BeforeEach
+  void java21() {
+    final String version = System.getProperty("java.specification.version");
+    Assumptions.assumeTrue(!version.startsWith("1.") && Integer.parseInt(version) >= 21);
+  }
+
+  @Test
+  void oneClassByWrappedLambdaClass() {
+    // GIVEN
+    final Supplier<Integer> first = wrap(1);
+    final Supplier<Integer> second = wrap(2);
+
+    // WHEN
+    final Supplier<Integer> other = AutoCatch.unDeclare((Callable<Integer>) () -> 3);
+
+    // THEN
+    Assertions.assertSame(first.getClass(), second.getClass());
+    Assertions.assertNotSame(first.getClass(), other.getClass());
+    Assertions.assertEquals(Integer.valueOf(1), first.get());
+    Assertions.assertEquals(Integer.valueOf(3), other.get());
+  }
+
+  @Test
+  void exceptionsStillWrapped() {
+    // GIVEN
+    final FunctionWithError<String, String> failing =
+        value -> {
+          throw new IOException(value);
+        };
+    final Function<String, String> stackless =
+        AutoCatcher.wrapWithStacklessUndeclaredHandler().unDeclare(failing);
+
+    // WHEN
+    final UndeclaredThrowableException exception =
+        Assertions.assertThrows(UndeclaredThrowableException.class, () -> stackless.apply("FAKE"));
+
+    // THEN
+    Assertions.assertEquals("FAKE", exception.getUndeclaredThrowable().getMessage());
+    Assertions.assertEquals(0, exception.getStackTrace().length);
+  }
+}
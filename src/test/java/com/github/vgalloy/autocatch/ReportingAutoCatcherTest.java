@@ -0,0 +1,285 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch;
+
+import com.github.vgalloy.autocatch.function.RunnableWithException;
+import com.github.vgalloy.autocatch.handler.AutoCatcher;
+import com.github.vgalloy.autocatch.handler.FailureReport;
+import com.github.vgalloy.autocatch.handler.ReportingAutoCatcher;
+import com.github.vgalloy.autocatch.handler.ReportingPolicy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ReportingAutoCatcherTest {
+
+  private static void failSilently(final Runnable runnable) {
+    try {
+      runnable.run();
+    } catch (final Exception e) {
+      // Failure expected
+    }
+  }
+
+  @Test
+  void sameFailureReportedOnce() {
+    // GIVEN
+    final List<FailureReport> reports = new CopyOnWriteArrayList<>();
+    final ReportingAutoCatcher autoCatcher =
+        AutoCatcher.reporting(AutoCatcher.exceptionForwarder(), reports::add);
+    final Runnable runnable =
+        autoCatcher.unDeclare(
+            (RunnableWithException)
+                () -> {
+                  throw new IOException("FAKE");
+                });
+
+    // WHEN
+    for (int i = 0; i < 1_000; i++) {
+      failSilently(runnable);
+    }
+
+    // THEN
+    Assertions.assertEquals(1, reports.size());
+    Assertions.assertEquals(IOException.class, reports.get(0).getException().getClass());
+    Assertions.assertEquals(1, reports.get(0).getOccurrences());
+    Assertions.assertEquals(0, reports.get(0).getSuppressed());
+    Assertions.assertEquals(1, autoCatcher.getFingerprints());
+  }
+
+  @Test
+  void flushReportsSuppressedFailures() {
+    // GIVEN
+    final List<FailureReport> reports = new CopyOnWriteArrayList<>();
+    final ReportingAutoCatcher autoCatcher =
+        AutoCatcher.reporting(AutoCatcher.exceptionForwarder(), reports::add);
+    final Runnable runnable =
+        autoCatcher.unDeclare(
+            (RunnableWithException)
+                () -> {
+                  throw new IOException("FAKE");
+                });
+    for (int i = 0; i < 10; i++) {
+      failSilently(runnable);
+    }
+
+    // WHEN
+    autoCatcher.flush();
+
+    // THEN
+    Assertions.assertEquals(2, reports.size());
+    Assertions.assertEquals(10, reports.get(1).getOccurrences());
+    Assertions.assertEquals(9, reports.get(1).getSuppressed());
+  }
+
+  @Test
+  void flushForgetsIdleFingerprints() {
+    // GIVEN
+    final ReportingAutoCatcher autoCatcher =
+        AutoCatcher.reporting(AutoCatcher.exceptionForwarder(), report -> {});
+    failSilently(
+        autoCatcher.unDeclare(
+            (RunnableWithException)
+                () -> {
+                  throw new IOException("FAKE");
+                }));
+    autoCatcher.flush();
+
+    // WHEN
+    autoCatcher.flush();
+
+    // THEN
+    Assertions.assertEquals(0, autoCatcher.getFingerprints());
+  }
+
+  @Test
+  void distinctFailuresReportedSeparately() {
+    // GIVEN
+    final List<FailureReport> reports = new CopyOnWriteArrayList<>();
+    final ReportingAutoCatcher autoCatcher =
+        AutoCatcher.reporting(AutoCatcher.exceptionForwarder(), reports::add);
+
+    // WHEN
+    failSilently(
+        autoCatcher.unDeclare(
+            (RunnableWithException)
+                () -> {
+                  throw new IOException("FAKE");
+                }));
+    failSilently(
+        autoCatcher.unDeclare(
+            (RunnableWithException)
+                () -> {
+                  throw new IllegalStateException("FAKE");
+                }));
+
+    // THEN
+    Assertions.assertEquals(2, reports.size());
+    Assertions.assertEquals(2, autoCatcher.getFingerprints());
+  }
+
+  @Test
+  void sameExceptionFromDistinctCallSites() {
+    // GIVEN
+    final List<FailureReport> reports = new CopyOnWriteArrayList<>();
+    final ReportingAutoCatcher autoCatcher =
+        AutoCatcher.reporting(AutoCatcher.exceptionForwarder(), reports::add);
+    final RunnableWithException runnable =
+        () -> {
+          throw new IOException("FAKE");
+        };
+
+    // WHEN
+    Assertions.assertThrows(IOException.class, autoCatcher.unDeclare(runnable)::run);
+    Assertions.assertThrows(IOException.class, autoCatcher.unDeclare(runnable)::run);
+
+    // THEN
+    Assertions.assertEquals(2, reports.size());
+    Assertions.assertEquals(2, autoCatcher.getFingerprints());
+  }
+
+  @Test
+  void stackTraceNotReadByDefault() {
+    // GIVEN
+    final AtomicInteger reads = new AtomicInteger();
+    final ReportingAutoCatcher autoCatcher =
+        AutoCatcher.reporting(AutoCatcher.exceptionForwarder(), report -> {});
+    final Runnable runnable =
+        autoCatcher.unDeclare(
+            (RunnableWithException)
+                () -> {
+                  throw new IOException("FAKE") {
+                    @Override
+                    public StackTraceElement[] getStackTrace() {
+                      reads.incrementAndGet();
+                      return super.getStackTrace();
+                    }
+                  };
+                });
+
+    // WHEN
+    for (int i = 0; i < 10; i++) {
+      failSilently(runnable);
+    }
+
+    // THEN
+    Assertions.assertEquals(0, reads.get());
+    Assertions.assertEquals(1, autoCatcher.getFingerprints());
+  }
+
+  @Test
+  void reportedAgainAfterInterval() throws InterruptedException {
+    // GIVEN
+    final List<FailureReport> reports = new CopyOnWriteArrayList<>();
+    final ReportingAutoCatcher autoCatcher =
+        AutoCatcher.reporting(
+            AutoCatcher.exceptionForwarder(),
+            reports::add,
+            ReportingPolicy.interval(Duration.ofMillis(500)).withStackFrames(1));
+    final Runnable runnable =
+        autoCatcher.unDeclare(
+            (RunnableWithException)
+                () -> {
+                  throw new IOException("FAKE");
+                });
+    failSilently(runnable);
+    failSilently(runnable);
+
+    // WHEN
+    Thread.sleep(600);
+    failSilently(runnable);
+
+    // THEN
+    Assertions.assertEquals(2, reports.size());
+    Assertions.assertEquals(3, reports.get(1).getOccurrences());
+    Assertions.assertEquals(1, reports.get(1).getSuppressed());
+  }
+
+  @Test
+  void fingerprintsAreBounded() {
+    // GIVEN
+    final List<FailureReport> reports = new CopyOnWriteArrayList<>();
+    final ReportingAutoCatcher autoCatcher =
+        AutoCatcher.reporting(
+            AutoCatcher.exceptionForwarder(),
+            reports::add,
+            ReportingPolicy.interval(Duration.ofMinutes(1)).withMaxFingerprints(1));
+
+    // WHEN
+    failSilently(
+        autoCatcher.unDeclare(
+            (RunnableWithException)
+                () -> {
+                  throw new IOException("FAKE");
+                }));
+    failSilently(
+        autoCatcher.unDeclare(
+            (RunnableWithException)
+                () -> {
+                  throw new IllegalStateException("FAKE");
+                }));
+    failSilently(
+        autoCatcher.unDeclare(
+            (RunnableWithException)
+                () -> {
+                  throw new UnsupportedOperationException("FAKE");
+                }));
+
+    // THEN
+    Assertions.assertEquals(1, autoCatcher.getFingerprints());
+    Assertions.assertEquals(2, reports.size());
+    Assertions.assertFalse(reports.get(0).isOverflow());
+    Assertions.assertTrue(reports.get(1).isOverflow());
+  }
+
+  @Test
+  void exceptionStillPropagated() {
+    // GIVEN
+    final ReportingAutoCatcher autoCatcher =
+        AutoCatcher.reporting(
+            AutoCatcher.wrapWithUndeclaredHandler(),
+            report -> {
+              throw new IllegalStateException("SINK");
+            });
+    final Runnable runnable =
+        autoCatcher.unDeclare(
+            (RunnableWithException)
+                () -> {
+                  throw new IOException("FAKE");
+                });
+
+    // WHEN
+    final RuntimeException exception =
+        Assertions.assertThrows(RuntimeException.class, runnable::run);
+
+    // THEN
+    final Throwable cause = exception.getCause();
+    Assertions.assertEquals(IOException.class, cause.getClass());
+    Assertions.assertEquals(IllegalStateException.class, cause.getSuppressed()[0].getClass());
+  }
+
+  @Test
+  void invalidStackFrames() {
+    // WHEN / THEN
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> ReportingPolicy.interval(Duration.ofMinutes(1)).withStackFrames(-1));
+  }
+}
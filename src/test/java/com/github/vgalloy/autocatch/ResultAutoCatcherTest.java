@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch;
+
+import com.github.vgalloy.autocatch.function.BooleanSupplierWithException;
+import com.github.vgalloy.autocatch.function.DoubleSupplierWithException;
+import com.github.vgalloy.autocatch.function.FunctionWithError;
+import com.github.vgalloy.autocatch.function.IntSupplierWithException;
+import com.github.vgalloy.autocatch.handler.AutoCatcher;
+import com.github.vgalloy.autocatch.handler.MeteredAutoCatcher;
+import com.github.vgalloy.autocatch.result.BooleanResult;
+import com.github.vgalloy.autocatch.result.DoubleResult;
+import com.github.vgalloy.autocatch.result.IntResult;
+import com.github.vgalloy.autocatch.result.Result;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ResultAutoCatcherTest {
+
+  @Test
+  void success() {
+    // GIVEN
+    final Callable<String> callable = () -> "value";
+
+    // WHEN
+    final Result<String> result = AutoCatch.toResult(callable).get();
+
+    // THEN
+    Assertions.assertTrue(result.isSuccess());
+    Assertions.assertFalse(result.isFailure());
+    Assertions.assertEquals("value", result.get());
+    Assertions.assertEquals("value", result.orElse("fallback"));
+    Assertions.assertThrows(IllegalStateException.class, result::getException);
+  }
+
+  @Test
+  void failure() {
+    // GIVEN
+    final IOException ioException = new IOException("FAKE");
+    final Callable<String> callable =
+        () -> {
+          throw ioException;
+        };
+
+    // WHEN
+    final Result<String> result = AutoCatch.toResult(callable).get();
+
+    // THEN
+    Assertions.assertTrue(result.isFailure());
+    Assertions.assertSame(ioException, result.getException());
+    Assertions.assertEquals("fallback", result.orElse("fallback"));
+    Assertions.assertEquals("FAKE", result.orElseGet(Throwable::getMessage));
+    final IllegalStateException exception =
+        Assertions.assertThrows(IllegalStateException.class, result::get);
+    Assertions.assertSame(ioException, exception.getCause());
+  }
+
+  @Test
+  void partitionRecords() {
+    // GIVEN
+    final List<String> records = Arrays.asList("1", "2", "three", "4");
+    final FunctionWithError<String, Integer> parse = Integer::parseInt;
+
+    // WHEN
+    final Map<Boolean, List<Result<Integer>>> results =
+        records.stream()
+            .map(AutoCatch.toResult(parse))
+            .collect(Collectors.partitioningBy(Result::isSuccess));
+
+    // THEN
+    Assertions.assertEquals(3, results.get(true).size());
+    Assertions.assertEquals(
+        NumberFormatException.class, results.get(false).get(0).getException().getClass());
+  }
+
+  @Test
+  void primitiveResults() {
+    // GIVEN
+    final IntSupplierWithException intSupplier = () -> 4;
+    final DoubleSupplierWithException doubleSupplier =
+        () -> {
+          throw new IOException("FAKE");
+        };
+    final BooleanSupplierWithException booleanSupplier = () -> true;
+
+    // WHEN
+    final IntResult intResult = AutoCatch.toResult(intSupplier).get();
+    final DoubleResult doubleResult = AutoCatch.toResult(doubleSupplier).get();
+    final BooleanResult booleanResult = AutoCatch.toResult(booleanSupplier).get();
+
+    // THEN
+    Assertions.assertEquals(4, intResult.getAsInt());
+    Assertions.assertEquals(IntResult.success(4), intResult);
+    Assertions.assertEquals(1.5, doubleResult.orElse(1.5));
+    Assertions.assertEquals(2.5, doubleResult.orElseGet(e -> 2.5));
+    Assertions.assertTrue(booleanResult.getAsBoolean());
+  }
+
+  @Test
+  void meteredResult() {
+    // GIVEN
+    final MeteredAutoCatcher autoCatcher = AutoCatcher.metered(AutoCatcher.exceptionForwarder());
+    final FunctionWithError<String, Integer> parse = Integer::parseInt;
+    final Function<String, Result<Integer>> function = autoCatcher.toResult(parse);
+
+    // WHEN
+    function.apply("1");
+    function.apply("one");
+
+    // THEN
+    Assertions.assertEquals(1, autoCatcher.snapshot().getSuccesses());
+    Assertions.assertEquals(1, autoCatcher.snapshot().getFailures(NumberFormatException.class));
+  }
+
+  @Test
+  void failureRequiresException() {
+    // WHEN / THEN
+    Assertions.assertThrows(NullPointerException.class, () -> Result.failure(null));
+  }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch;
+
+import com.github.vgalloy.autocatch.function.ByteSupplierWithException;
+import com.github.vgalloy.autocatch.function.RunnableWithException;
+import com.github.vgalloy.autocatch.handler.AutoCatcher;
+import com.github.vgalloy.autocatch.handler.Backoff;
+import com.github.vgalloy.autocatch.handler.RetryPolicy;
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class RetryingAutoCatcherTest {
+
+  private static Callable<Integer> failingTimes(final AtomicInteger calls, final int failures) {
+    return () -> {
+      if (calls.incrementAndGet() <= failures) {
+        throw new IOException("FAKE");
+      }
+      return calls.get();
+    };
+  }
+
+  @Test
+  void firstAttemptSucceeds() {
+    // GIVEN
+    final AutoCatcher autoCatcher =
+        AutoCatcher.retrying(AutoCatcher.exceptionForwarder(), RetryPolicy.maxAttempts(3));
+    final AtomicInteger calls = new AtomicInteger();
+
+    // WHEN
+    final Integer result = autoCatcher.autoCatch(failingTimes(calls, 0));
+
+    // THEN
+    Assertions.assertEquals(Integer.valueOf(1), result);
+    Assertions.assertEquals(1, calls.get());
+  }
+
+  @Test
+  void retryUntilSuccess() {
+    // GIVEN
+    final AutoCatcher autoCatcher =
+        AutoCatcher.retrying(AutoCatcher.exceptionForwarder(), RetryPolicy.maxAttempts(3));
+    final AtomicInteger calls = new AtomicInteger();
+
+    // WHEN
+    final Integer result = autoCatcher.autoCatch(failingTimes(calls, 2));
+
+    // THEN
+    Assertions.assertEquals(Integer.valueOf(3), result);
+  }
+
+  @Test
+  void giveUpAfterMaxAttempts() {
+    // GIVEN
+    final AutoCatcher autoCatcher =
+        AutoCatcher.retrying(AutoCatcher.wrapWithUndeclaredHandler(), RetryPolicy.maxAttempts(3));
+    final AtomicInteger calls = new AtomicInteger();
+    final Callable<Integer> callable = failingTimes(calls, 5);
+
+    // WHEN
+    final UndeclaredThrowableException exception =
+        Assertions.assertThrows(
+            UndeclaredThrowableException.class, () -> autoCatcher.autoCatch(callable));
+
+    // THEN
+    Assertions.assertEquals(IOException.class, exception.getUndeclaredThrowable().getClass());
+    Assertions.assertEquals(3, calls.get());
+  }
+
+  @Test
+  void notRetriedException() {
+    // GIVEN
+    final AutoCatcher autoCatcher =
+        AutoCatcher.retrying(
+            AutoCatcher.exceptionForwarder(),
+            RetryPolicy.maxAttempts(3).retryOn(IllegalStateException.class));
+    final AtomicInteger calls = new AtomicInteger();
+    final Callable<Integer> callable = failingTimes(calls, 5);
+
+    // WHEN
+    Assertions.assertThrows(IOException.class, () -> autoCatcher.autoCatch(callable));
+
+    // THEN
+    Assertions.assertEquals(1, calls.get());
+  }
+
+  @Test
+  void primitiveSupplier() {
+    // GIVEN
+    final AutoCatcher autoCatcher =
+        AutoCatcher.retrying(AutoCatcher.exceptionForwarder(), RetryPolicy.maxAttempts(2));
+    final AtomicInteger calls = new AtomicInteger();
+    final ByteSupplierWithException supplier =
+        () -> {
+          if (calls.incrementAndGet() == 1) {
+            throw new IOException("FAKE");
+          }
+          return 7;
+        };
+
+    // WHEN
+    final byte result = autoCatcher.autoCatch(supplier);
+
+    // THEN
+    Assertions.assertEquals(7, result);
+    Assertions.assertEquals(2, calls.get());
+  }
+
+  @Test
+  void runnable() {
+    // GIVEN
+    final AutoCatcher autoCatcher =
+        AutoCatcher.retrying(
+            AutoCatcher.exceptionForwarder(),
+            RetryPolicy.maxAttempts(4).withBackoff(Backoff.fixed(Duration.ofMillis(1))));
+    final AtomicInteger calls = new AtomicInteger();
+    final RunnableWithException runnable =
+        () -> {
+          if (calls.incrementAndGet() < 4) {
+            throw new IOException("FAKE");
+          }
+        };
+
+    // WHEN
+    autoCatcher.autoCatch(runnable);
+
+    // THEN
+    Assertions.assertEquals(4, calls.get());
+  }
+
+  @Test
+  void interruptedDuringBackoff() {
+    // GIVEN
+    final AutoCatcher autoCatcher =
+        AutoCatcher.retrying(
+            AutoCatcher.exceptionForwarder(),
+            RetryPolicy.maxAttempts(2).withBackoff(Backoff.fixed(Duration.ofMinutes(1))));
+    final AtomicInteger calls = new AtomicInteger();
+    final Callable<Integer> callable = failingTimes(calls, 5);
+    Thread.currentThread().interrupt();
+
+    // WHEN
+    final IOException exception =
+        Assertions.assertThrows(IOException.class, () -> autoCatcher.autoCatch(callable));
+
+    // THEN
+    Assertions.assertTrue(Thread.interrupted());
+    Assertions.assertEquals(1, calls.get());
+    Assertions.assertEquals(InterruptedException.class, exception.getSuppressed()[0].getClass());
+  }
+
+  @Test
+  void exponentialBackoff() {
+    // GIVEN
+    final Backoff backoff = Backoff.exponential(Duration.ofMillis(10), Duration.ofMillis(50));
+
+    // WHEN
+    final long[] delays = {
+      backoff.delayNanos(1), backoff.delayNanos(2), backoff.delayNanos(3), backoff.delayNanos(100)
+    };
+
+    // THEN
+    Assertions.assertArrayEquals(
+        new long[] {
+          TimeUnit.MILLISECONDS.toNanos(10),
+          TimeUnit.MILLISECONDS.toNanos(20),
+          TimeUnit.MILLISECONDS.toNanos(40),
+          TimeUnit.MILLISECONDS.toNanos(50)
+        },
+        delays);
+  }
+
+  @Test
+  void jitteredBackoff() {
+    // GIVEN
+    final Backoff backoff = Backoff.fixed(Duration.ofMillis(10)).withJitter();
+
+    // WHEN
+    for (int i = 0; i < 1_000; i++) {
+      final long delay = backoff.delayNanos(1);
+
+      // THEN
+      Assertions.assertTrue(0 <= delay && delay <= TimeUnit.MILLISECONDS.toNanos(10));
+    }
+  }
+
+  @Test
+  void invalidMaxAttempts() {
+    // WHEN / THEN
+    Assertions.assertThrows(IllegalArgumentException.class, () -> RetryPolicy.maxAttempts(0));
+  }
+}
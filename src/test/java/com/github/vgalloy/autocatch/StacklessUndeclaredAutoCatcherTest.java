@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch;
+
+import com.github.vgalloy.autocatch.function.IntSupplierWithException;
+import com.github.vgalloy.autocatch.handler.AutoCatcher;
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.Callable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class StacklessUndeclaredAutoCatcherTest {
+
+  private static final AutoCatcher AUTO_CATCHER = AutoCatcher.wrapWithStacklessUndeclaredHandler();
+
+  @Test
+  void correctCase() {
+    // GIVEN
+    final Integer value = 4;
+    final Callable<Integer> callable = () -> value;
+
+    // WHEN
+    final Integer result = AUTO_CATCHER.autoCatch(callable);
+
+    // THEN
+    Assertions.assertEquals(value, result);
+  }
+
+  @Test
+  void throwRuntime() {
+    // GIVEN
+    final String message = "FAKE";
+    final Callable<Integer> callable =
+        () -> {
+          throw new IllegalStateException(message);
+        };
+
+    // WHEN
+    final IllegalStateException exception =
+        Assertions.assertThrows(
+            IllegalStateException.class, () -> AUTO_CATCHER.autoCatch(callable));
+
+    // THEN
+    Assertions.assertEquals(message, exception.getMessage());
+    Assertions.assertNotEquals(0, exception.getStackTrace().length);
+  }
+
+  @Test
+  void throwException() {
+    // GIVEN
+    final String message = "FAKE";
+    final Callable<Integer> callable =
+        () -> {
+          throw new IOException(message);
+        };
+
+    // WHEN
+    final UndeclaredThrowableException exception =
+        Assertions.assertThrows(
+            UndeclaredThrowableException.class, () -> AUTO_CATCHER.autoCatch(callable));
+
+    // THEN
+    Assertions.assertEquals("FAKE", exception.getUndeclaredThrowable().getMessage());
+    Assertions.assertEquals(IOException.class, exception.getUndeclaredThrowable().getClass());
+    Assertions.assertEquals(0, exception.getStackTrace().length);
+    Assertions.assertNotEquals(0, exception.getCause().getStackTrace().length);
+  }
+
+  @Test
+  void intSupplier() {
+    // GIVEN
+    final IntSupplierWithException callable =
+        () -> {
+          throw new IOException("FAKE");
+        };
+
+    // WHEN
+    final UndeclaredThrowableException exception =
+        Assertions.assertThrows(
+            UndeclaredThrowableException.class, () -> AUTO_CATCHER.autoCatch(callable));
+
+    // THEN
+    Assertions.assertEquals(IOException.class, exception.getUndeclaredThrowable().getClass());
+    Assertions.assertEquals(0, exception.getStackTrace().length);
+  }
+}
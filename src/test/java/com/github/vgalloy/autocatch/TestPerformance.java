@@ -15,10 +15,56 @@
  */
 package com.github.vgalloy.autocatch;
 
+import com.github.vgalloy.autocatch.function.BiConsumerWithException;
+import com.github.vgalloy.autocatch.function.BiFunctionWithError;
+import com.github.vgalloy.autocatch.function.BiPredicateWithError;
+import com.github.vgalloy.autocatch.function.BinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.BooleanSupplierWithException;
+import com.github.vgalloy.autocatch.function.ByteSupplierWithException;
+import com.github.vgalloy.autocatch.function.CharSupplierWithException;
+import com.github.vgalloy.autocatch.function.ConsumerWithException;
+import com.github.vgalloy.autocatch.function.DoubleBinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.DoubleConsumerWithException;
+import com.github.vgalloy.autocatch.function.DoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.DoublePredicateWithException;
+import com.github.vgalloy.autocatch.function.DoubleSupplierWithException;
+import com.github.vgalloy.autocatch.function.DoubleToIntFunctionWithException;
+import com.github.vgalloy.autocatch.function.DoubleToLongFunctionWithException;
+import com.github.vgalloy.autocatch.function.DoubleUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.FunctionWithError;
+import com.github.vgalloy.autocatch.function.IntBinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.IntConsumerWithException;
+import com.github.vgalloy.autocatch.function.IntFunctionWithException;
+import com.github.vgalloy.autocatch.function.IntPredicateWithException;
+import com.github.vgalloy.autocatch.function.IntSupplierWithException;
+import com.github.vgalloy.autocatch.function.IntToDoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.IntToLongFunctionWithException;
+import com.github.vgalloy.autocatch.function.IntUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.LongBinaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.LongConsumerWithException;
+import com.github.vgalloy.autocatch.function.LongFunctionWithException;
+import com.github.vgalloy.autocatch.function.LongPredicateWithException;
+import com.github.vgalloy.autocatch.function.LongSupplierWithException;
+import com.github.vgalloy.autocatch.function.LongToDoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.LongToIntFunctionWithException;
+import com.github.vgalloy.autocatch.function.LongUnaryOperatorWithException;
+import com.github.vgalloy.autocatch.function.ObjDoubleConsumerWithException;
+import com.github.vgalloy.autocatch.function.ObjIntConsumerWithException;
+import com.github.vgalloy.autocatch.function.ObjLongConsumerWithException;
+import com.github.vgalloy.autocatch.function.PredicateWithError;
+import com.github.vgalloy.autocatch.function.RunnableWithException;
+import com.github.vgalloy.autocatch.function.ToDoubleBiFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToDoubleFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToIntBiFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToIntFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToLongBiFunctionWithException;
+import com.github.vgalloy.autocatch.function.ToLongFunctionWithException;
 import com.github.vgalloy.autocatch.handler.AutoCatcher;
 import java.io.IOException;
 import java.util.concurrent.Callable;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
@@ -29,18 +75,22 @@ public class TestPerformance {
    * Result
    *
    * <pre>
-   * Benchmark                                                                   Mode  Cnt         Score   Error  Units
-   * TestPerformance.exceptionWithAutoCatch                                     thrpt    2    130095.479          ops/s
-   * TestPerformance.exceptionWithAutoCatchOldGeneration                        thrpt    2    128514.217          ops/s
-   * TestPerformance.exceptionWithNothing                                       thrpt    2    135276.551          ops/s
-   * TestPerformance.exceptionWithTryCatch                                      thrpt    2     65333.093          ops/s
-   * TestPerformance.noExceptionWithAutoCatch                                   thrpt    2  51080177.233          ops/s
-   * TestPerformance.noExceptionWithAutoCatchOldGeneration                      thrpt    2  41779046.415          ops/s
-   * TestPerformance.noExceptionWithAutoCatchWithUnDeclare                      thrpt    2  51476296.390          ops/s
-   * TestPerformance.noExceptionWithNothing                                     thrpt    2  63340512.237          ops/s
-   * TestPerformance.noExceptionWithTryCatch                                    thrpt    2  64143181.047          ops/s
-   * TestPerformance.noExceptionWithDirectForwardExceptionHandlerInvocation     thrpt    2  51414633.712          ops/s
-   * TestPerformance.noExceptionWithDirectUndeclaredExceptionHandlerInvocation  thrpt    2  63800207.537          ops/s
+   * Benchmark                                                                          Mode  Cnt          Score   Error  Units
+   * TestPerformance.exceptionWithAutoCatch                                            thrpt    2     245927.721          ops/s
+   * TestPerformance.exceptionWithAutoCatchOldGeneration                               thrpt    2     246705.995          ops/s
+   * TestPerformance.exceptionWithDirectMeteredExceptionHandlerInvocation              thrpt    2     452929.341          ops/s
+   * TestPerformance.exceptionWithDirectStacklessUndeclaredExceptionHandlerInvocation  thrpt    2     584907.707          ops/s
+   * TestPerformance.exceptionWithDirectUndeclaredExceptionHandlerInvocation           thrpt    2     258855.966          ops/s
+   * TestPerformance.exceptionWithNothing                                              thrpt    2     652142.844          ops/s
+   * TestPerformance.exceptionWithTryCatch                                             thrpt    2     272342.207          ops/s
+   * TestPerformance.noExceptionWithAutoCatch                                          thrpt    2  296522328.767          ops/s
+   * TestPerformance.noExceptionWithAutoCatchOldGeneration                             thrpt    2  253000516.184          ops/s
+   * TestPerformance.noExceptionWithAutoCatchWithUnDeclare                             thrpt    2  239080180.734          ops/s
+   * TestPerformance.noExceptionWithDirectForwardExceptionHandlerInvocation            thrpt    2  289488269.109          ops/s
+   * TestPerformance.noExceptionWithDirectMeteredExceptionHandlerInvocation            thrpt    2   54874819.090          ops/s
+   * TestPerformance.noExceptionWithDirectUndeclaredExceptionHandlerInvocation         thrpt    2  239223929.472          ops/s
+   * TestPerformance.noExceptionWithNothing                                            thrpt    2  258182845.748          ops/s
+   * TestPerformance.noExceptionWithTryCatch                                           thrpt    2  270373217.537          ops/s
    * </pre>
    */
   public static void main(String[] args) throws Exception {
@@ -97,6 +147,17 @@ public class TestPerformance {
     }
   }
 
+  private static final AutoCatcher METERED_HANDLER = AutoCatcher.metered(FORWARD_HANDLER);
+
+  @Benchmark
+  public Integer noExceptionWithDirectMeteredExceptionHandlerInvocation() {
+    try {
+      return METERED_HANDLER.unDeclare(CALLABLE_WITHOUT_EXCEPTION).get();
+    } catch (final Exception ignored) {
+      return null;
+    }
+  }
+
   @Benchmark
   public Integer noExceptionWithAutoCatchOldGeneration() {
     try {
@@ -182,4 +243,1052 @@ public class TestPerformance {
       return null;
     }
   }
+
+  @Benchmark
+  public Integer exceptionWithDirectUndeclaredExceptionHandlerInvocation() {
+    try {
+      return UNDECLARED_HANDLER.unDeclare(CALLABLE_WITH_EXCEPTION).get();
+    } catch (final Exception ignored) {
+      return null;
+    }
+  }
+
+  private static final AutoCatcher STACKLESS_UNDECLARED_HANDLER =
+      AutoCatcher.wrapWithStacklessUndeclaredHandler();
+
+  @Benchmark
+  public Integer exceptionWithDirectStacklessUndeclaredExceptionHandlerInvocation() {
+    try {
+      return STACKLESS_UNDECLARED_HANDLER.unDeclare(CALLABLE_WITH_EXCEPTION).get();
+    } catch (final Exception ignored) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public Integer exceptionWithDirectMeteredExceptionHandlerInvocation() {
+    try {
+      return METERED_HANDLER.unDeclare(CALLABLE_WITH_EXCEPTION).get();
+    } catch (final Exception ignored) {
+      return null;
+    }
+  }
+
+  /**
+   * Every functional type, invoked directly then converted by the exception forwarder. The
+   * functions and their inputs are non final fields of a state, and every result is returned, so
+   * that the JIT can neither fold the calls nor remove them. The consumers add their inputs to
+   * {@link Functions#consumed}, which is returned.
+   *
+   * <pre>
+   * Measured on JDK 17.
+   *
+   * Benchmark                                           Mode  Cnt          Score   Error  Units
+   * TestPerformance.biConsumerWithForwarder            thrpt    2  215942264.791          ops/s
+   * TestPerformance.biConsumerWithNothing              thrpt    2  241024593.643          ops/s
+   * TestPerformance.biFunctionWithForwarder            thrpt    2  329197099.526          ops/s
+   * TestPerformance.biFunctionWithNothing              thrpt    2  282848315.490          ops/s
+   * TestPerformance.biPredicateWithForwarder           thrpt    2  241106435.287          ops/s
+   * TestPerformance.biPredicateWithNothing             thrpt    2  261799595.551          ops/s
+   * TestPerformance.binaryOperatorWithForwarder        thrpt    2  198159282.552          ops/s
+   * TestPerformance.binaryOperatorWithNothing          thrpt    2  255057869.261          ops/s
+   * TestPerformance.booleanSupplierWithForwarder       thrpt    2  265292399.185          ops/s
+   * TestPerformance.booleanSupplierWithNothing         thrpt    2  267723490.676          ops/s
+   * TestPerformance.byteSupplierWithForwarder          thrpt    2  394406815.631          ops/s
+   * TestPerformance.byteSupplierWithNothing            thrpt    2  300840165.280          ops/s
+   * TestPerformance.charSupplierWithForwarder          thrpt    2  343110188.191          ops/s
+   * TestPerformance.charSupplierWithNothing            thrpt    2  337146336.366          ops/s
+   * TestPerformance.consumerWithForwarder              thrpt    2  109044668.699          ops/s
+   * TestPerformance.consumerWithNothing                thrpt    2  209682152.726          ops/s
+   * TestPerformance.doubleBinaryOperatorWithForwarder  thrpt    2  255747513.951          ops/s
+   * TestPerformance.doubleBinaryOperatorWithNothing    thrpt    2  291976492.407          ops/s
+   * TestPerformance.doubleConsumerWithForwarder        thrpt    2  214702480.891          ops/s
+   * TestPerformance.doubleConsumerWithNothing          thrpt    2  219242132.630          ops/s
+   * TestPerformance.doubleFunctionWithForwarder        thrpt    2  222004722.962          ops/s
+   * TestPerformance.doubleFunctionWithNothing          thrpt    2  212649866.388          ops/s
+   * TestPerformance.doublePredicateWithForwarder       thrpt    2  289996462.564          ops/s
+   * TestPerformance.doublePredicateWithNothing         thrpt    2  294543465.647          ops/s
+   * TestPerformance.doubleSupplierWithForwarder        thrpt    2  329497597.792          ops/s
+   * TestPerformance.doubleSupplierWithNothing          thrpt    2  336830317.337          ops/s
+   * TestPerformance.doubleToIntFunctionWithForwarder   thrpt    2  320187422.511          ops/s
+   * TestPerformance.doubleToIntFunctionWithNothing     thrpt    2  282555174.310          ops/s
+   * TestPerformance.doubleToLongFunctionWithForwarder  thrpt    2  297195446.102          ops/s
+   * TestPerformance.doubleToLongFunctionWithNothing    thrpt    2  273089069.677          ops/s
+   * TestPerformance.doubleUnaryOperatorWithForwarder   thrpt    2  326336351.587          ops/s
+   * TestPerformance.doubleUnaryOperatorWithNothing     thrpt    2  271444814.178          ops/s
+   * TestPerformance.functionWithForwarder              thrpt    2  243278245.606          ops/s
+   * TestPerformance.functionWithNothing                thrpt    2  218772231.266          ops/s
+   * TestPerformance.intBinaryOperatorWithForwarder     thrpt    2  325947232.318          ops/s
+   * TestPerformance.intBinaryOperatorWithNothing       thrpt    2  301747347.857          ops/s
+   * TestPerformance.intConsumerWithForwarder           thrpt    2  226660179.814          ops/s
+   * TestPerformance.intConsumerWithNothing             thrpt    2  255292314.779          ops/s
+   * TestPerformance.intFunctionWithForwarder           thrpt    2  255090734.106          ops/s
+   * TestPerformance.intFunctionWithNothing             thrpt    2  293736808.588          ops/s
+   * TestPerformance.intPredicateWithForwarder          thrpt    2  317644187.646          ops/s
+   * TestPerformance.intPredicateWithNothing            thrpt    2  400890582.262          ops/s
+   * TestPerformance.intSupplierWithForwarder           thrpt    2  359464070.560          ops/s
+   * TestPerformance.intSupplierWithNothing             thrpt    2  330066429.478          ops/s
+   * TestPerformance.intToDoubleFunctionWithForwarder   thrpt    2  292596095.307          ops/s
+   * TestPerformance.intToDoubleFunctionWithNothing     thrpt    2  276683187.981          ops/s
+   * TestPerformance.intToLongFunctionWithForwarder     thrpt    2  321000588.356          ops/s
+   * TestPerformance.intToLongFunctionWithNothing       thrpt    2  335709217.951          ops/s
+   * TestPerformance.intUnaryOperatorWithForwarder      thrpt    2  388774556.779          ops/s
+   * TestPerformance.intUnaryOperatorWithNothing        thrpt    2  307417557.853          ops/s
+   * TestPerformance.longBinaryOperatorWithForwarder    thrpt    2  226058266.262          ops/s
+   * TestPerformance.longBinaryOperatorWithNothing      thrpt    2  325157455.251          ops/s
+   * TestPerformance.longConsumerWithForwarder          thrpt    2  269543558.379          ops/s
+   * TestPerformance.longConsumerWithNothing            thrpt    2  267110828.153          ops/s
+   * TestPerformance.longFunctionWithForwarder          thrpt    2  290112545.651          ops/s
+   * TestPerformance.longFunctionWithNothing            thrpt    2  275804663.637          ops/s
+   * TestPerformance.longPredicateWithForwarder         thrpt    2  329505501.412          ops/s
+   * TestPerformance.longPredicateWithNothing           thrpt    2  336914747.243          ops/s
+   * TestPerformance.longSupplierWithForwarder          thrpt    2  258043536.179          ops/s
+   * TestPerformance.longSupplierWithNothing            thrpt    2  324175289.849          ops/s
+   * TestPerformance.longToDoubleFunctionWithForwarder  thrpt    2  302733023.670          ops/s
+   * TestPerformance.longToDoubleFunctionWithNothing    thrpt    2  313538484.251          ops/s
+   * TestPerformance.longToIntFunctionWithForwarder     thrpt    2  373551948.181          ops/s
+   * TestPerformance.longToIntFunctionWithNothing       thrpt    2  294889330.336          ops/s
+   * TestPerformance.longUnaryOperatorWithForwarder     thrpt    2  365515146.934          ops/s
+   * TestPerformance.longUnaryOperatorWithNothing       thrpt    2  302717252.647          ops/s
+   * TestPerformance.objDoubleConsumerWithForwarder     thrpt    2  216653011.668          ops/s
+   * TestPerformance.objDoubleConsumerWithNothing       thrpt    2  174161203.079          ops/s
+   * TestPerformance.objIntConsumerWithForwarder        thrpt    2  255423432.296          ops/s
+   * TestPerformance.objIntConsumerWithNothing          thrpt    2  233761849.855          ops/s
+   * TestPerformance.objLongConsumerWithForwarder       thrpt    2  229375611.361          ops/s
+   * TestPerformance.objLongConsumerWithNothing         thrpt    2  246574807.198          ops/s
+   * TestPerformance.predicateWithForwarder             thrpt    2  273003391.952          ops/s
+   * TestPerformance.predicateWithNothing               thrpt    2  285966370.382          ops/s
+   * TestPerformance.runnableWithForwarder              thrpt    2  283350307.675          ops/s
+   * TestPerformance.runnableWithNothing                thrpt    2  299772963.078          ops/s
+   * TestPerformance.toDoubleBiFunctionWithForwarder    thrpt    2  302984856.049          ops/s
+   * TestPerformance.toDoubleBiFunctionWithNothing      thrpt    2  325833291.778          ops/s
+   * TestPerformance.toDoubleFunctionWithForwarder      thrpt    2  303063616.718          ops/s
+   * TestPerformance.toDoubleFunctionWithNothing        thrpt    2  317340508.909          ops/s
+   * TestPerformance.toIntBiFunctionWithForwarder       thrpt    2  278979947.922          ops/s
+   * TestPerformance.toIntBiFunctionWithNothing         thrpt    2  302477262.320          ops/s
+   * TestPerformance.toIntFunctionWithForwarder         thrpt    2  311418009.767          ops/s
+   * TestPerformance.toIntFunctionWithNothing           thrpt    2  293914411.393          ops/s
+   * TestPerformance.toLongBiFunctionWithForwarder      thrpt    2  344718034.121          ops/s
+   * TestPerformance.toLongBiFunctionWithNothing        thrpt    2  340406178.132          ops/s
+   * TestPerformance.toLongFunctionWithForwarder        thrpt    2  329433965.831          ops/s
+   * TestPerformance.toLongFunctionWithNothing          thrpt    2  316719533.646          ops/s
+   * </pre>
+   */
+  @State(Scope.Benchmark)
+  public static class Functions {
+
+    public boolean booleanValue = true;
+    public int intValue = 1;
+    public long longValue = 1L;
+    public double doubleValue = 1D;
+    public Integer object = 1;
+    public long consumed;
+
+    public BooleanSupplierWithException booleanSupplier = () -> booleanValue;
+    public ByteSupplierWithException byteSupplier = () -> (byte) intValue;
+    public CharSupplierWithException charSupplier = () -> (char) intValue;
+    public DoubleSupplierWithException doubleSupplier = () -> doubleValue;
+    public IntSupplierWithException intSupplier = () -> intValue;
+    public RunnableWithException runnable = () -> consumed++;
+    public ConsumerWithException<Integer> consumer = t -> consumed += t;
+    public PredicateWithError<Integer> predicate = t -> t > 0;
+    public FunctionWithError<Integer, Integer> function = t -> t + 1;
+    public LongSupplierWithException longSupplier = () -> longValue;
+    public IntFunctionWithException<Integer> intFunction = value -> value + 1;
+    public IntToDoubleFunctionWithException intToDoubleFunction = value -> value + 1D;
+    public IntToLongFunctionWithException intToLongFunction = value -> value + 1L;
+    public IntUnaryOperatorWithException intUnaryOperator = value -> value + 1;
+    public IntPredicateWithException intPredicate = value -> value > 0;
+    public IntConsumerWithException intConsumer = value -> consumed += value;
+    public LongFunctionWithException<Integer> longFunction = value -> (int) value + 1;
+    public LongToDoubleFunctionWithException longToDoubleFunction = value -> value + 1D;
+    public LongToIntFunctionWithException longToIntFunction = value -> (int) value + 1;
+    public LongUnaryOperatorWithException longUnaryOperator = value -> value + 1L;
+    public LongPredicateWithException longPredicate = value -> value > 0L;
+    public LongConsumerWithException longConsumer = value -> consumed += value;
+    public DoubleFunctionWithException<Integer> doubleFunction = value -> (int) value + 1;
+    public DoubleToIntFunctionWithException doubleToIntFunction = value -> (int) value + 1;
+    public DoubleToLongFunctionWithException doubleToLongFunction = value -> (long) value + 1L;
+    public DoubleUnaryOperatorWithException doubleUnaryOperator = value -> value + 1D;
+    public DoublePredicateWithException doublePredicate = value -> value > 0D;
+    public DoubleConsumerWithException doubleConsumer = value -> consumed += (long) value;
+    public ToIntFunctionWithException<Integer> toIntFunction = t -> t + 1;
+    public ToLongFunctionWithException<Integer> toLongFunction = t -> t + 1L;
+    public ToDoubleFunctionWithException<Integer> toDoubleFunction = t -> t + 1D;
+    public BiFunctionWithError<Integer, Integer, Integer> biFunction = (t, u) -> t + u;
+    public BinaryOperatorWithException<Integer> binaryOperator = (left, right) -> left + right;
+    public BiPredicateWithError<Integer, Integer> biPredicate = (t, u) -> t >= u;
+    public BiConsumerWithException<Integer, Integer> biConsumer = (t, u) -> consumed += t + u;
+    public IntBinaryOperatorWithException intBinaryOperator = (left, right) -> left + right;
+    public LongBinaryOperatorWithException longBinaryOperator = (left, right) -> left + right;
+    public DoubleBinaryOperatorWithException doubleBinaryOperator = (left, right) -> left + right;
+    public ToIntBiFunctionWithException<Integer, Integer> toIntBiFunction = (t, u) -> t + u;
+    public ToLongBiFunctionWithException<Integer, Integer> toLongBiFunction =
+        (t, u) -> (long) t + u;
+    public ToDoubleBiFunctionWithException<Integer, Integer> toDoubleBiFunction =
+        (t, u) -> (double) t + u;
+    public ObjIntConsumerWithException<Integer> objIntConsumer =
+        (t, value) -> consumed += t + value;
+    public ObjLongConsumerWithException<Integer> objLongConsumer =
+        (t, value) -> consumed += t + value;
+    public ObjDoubleConsumerWithException<Integer> objDoubleConsumer =
+        (t, value) -> consumed += t + (long) value;
+  }
+
+  @Benchmark
+  public boolean booleanSupplierWithNothing(final Functions functions) {
+    try {
+      return functions.booleanSupplier.getAsBooleanWithException();
+    } catch (final Exception ignored) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  public boolean booleanSupplierWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER.unDeclare(functions.booleanSupplier).getAsBoolean();
+    } catch (final Exception ignored) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  public byte byteSupplierWithNothing(final Functions functions) {
+    try {
+      return functions.byteSupplier.getAsByteWithException();
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public byte byteSupplierWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER.unDeclare(functions.byteSupplier).getAsByte();
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public char charSupplierWithNothing(final Functions functions) {
+    try {
+      return functions.charSupplier.getAsCharWithException();
+    } catch (final Exception ignored) {
+      return '\0';
+    }
+  }
+
+  @Benchmark
+  public char charSupplierWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER.unDeclare(functions.charSupplier).getAsChar();
+    } catch (final Exception ignored) {
+      return '\0';
+    }
+  }
+
+  @Benchmark
+  public double doubleSupplierWithNothing(final Functions functions) {
+    try {
+      return functions.doubleSupplier.getAsDoubleWithException();
+    } catch (final Exception ignored) {
+      return 0D;
+    }
+  }
+
+  @Benchmark
+  public double doubleSupplierWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER.unDeclare(functions.doubleSupplier).getAsDouble();
+    } catch (final Exception ignored) {
+      return 0D;
+    }
+  }
+
+  @Benchmark
+  public int intSupplierWithNothing(final Functions functions) {
+    try {
+      return functions.intSupplier.getAsIntWithException();
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public int intSupplierWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER.unDeclare(functions.intSupplier).getAsInt();
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public long runnableWithNothing(final Functions functions) {
+    try {
+      functions.runnable.runWithException();
+      return functions.consumed;
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public long runnableWithForwarder(final Functions functions) {
+    try {
+      FORWARD_HANDLER.unDeclare(functions.runnable).run();
+      return functions.consumed;
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public long consumerWithNothing(final Functions functions) {
+    try {
+      functions.consumer.accept(functions.object);
+      return functions.consumed;
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public long consumerWithForwarder(final Functions functions) {
+    try {
+      FORWARD_HANDLER.unDeclare(functions.consumer).accept(functions.object);
+      return functions.consumed;
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public boolean predicateWithNothing(final Functions functions) {
+    try {
+      return functions.predicate.test(functions.object);
+    } catch (final Exception ignored) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  public boolean predicateWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER.unDeclare(functions.predicate).test(functions.object);
+    } catch (final Exception ignored) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  public Integer functionWithNothing(final Functions functions) {
+    try {
+      return functions.function.apply(functions.object);
+    } catch (final Exception ignored) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public Integer functionWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER.unDeclare(functions.function).apply(functions.object);
+    } catch (final Exception ignored) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public long longSupplierWithNothing(final Functions functions) {
+    try {
+      return functions.longSupplier.getAsLongWithException();
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public long longSupplierWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER.unDeclare(functions.longSupplier).getAsLong();
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public Integer intFunctionWithNothing(final Functions functions) {
+    try {
+      return functions.intFunction.apply(functions.intValue);
+    } catch (final Exception ignored) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public Integer intFunctionWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER.unDeclareInt(functions.intFunction).apply(functions.intValue);
+    } catch (final Exception ignored) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public double intToDoubleFunctionWithNothing(final Functions functions) {
+    try {
+      return functions.intToDoubleFunction.applyAsDouble(functions.intValue);
+    } catch (final Exception ignored) {
+      return 0D;
+    }
+  }
+
+  @Benchmark
+  public double intToDoubleFunctionWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER
+          .unDeclareInt(functions.intToDoubleFunction)
+          .applyAsDouble(functions.intValue);
+    } catch (final Exception ignored) {
+      return 0D;
+    }
+  }
+
+  @Benchmark
+  public long intToLongFunctionWithNothing(final Functions functions) {
+    try {
+      return functions.intToLongFunction.applyAsLong(functions.intValue);
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public long intToLongFunctionWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER
+          .unDeclareInt(functions.intToLongFunction)
+          .applyAsLong(functions.intValue);
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public int intUnaryOperatorWithNothing(final Functions functions) {
+    try {
+      return functions.intUnaryOperator.applyAsInt(functions.intValue);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public int intUnaryOperatorWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER
+          .unDeclareInt(functions.intUnaryOperator)
+          .applyAsInt(functions.intValue);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public boolean intPredicateWithNothing(final Functions functions) {
+    try {
+      return functions.intPredicate.test(functions.intValue);
+    } catch (final Exception ignored) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  public boolean intPredicateWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER.unDeclareInt(functions.intPredicate).test(functions.intValue);
+    } catch (final Exception ignored) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  public long intConsumerWithNothing(final Functions functions) {
+    try {
+      functions.intConsumer.accept(functions.intValue);
+      return functions.consumed;
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public long intConsumerWithForwarder(final Functions functions) {
+    try {
+      FORWARD_HANDLER.unDeclareInt(functions.intConsumer).accept(functions.intValue);
+      return functions.consumed;
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public Integer longFunctionWithNothing(final Functions functions) {
+    try {
+      return functions.longFunction.apply(functions.longValue);
+    } catch (final Exception ignored) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public Integer longFunctionWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER.unDeclareLong(functions.longFunction).apply(functions.longValue);
+    } catch (final Exception ignored) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public double longToDoubleFunctionWithNothing(final Functions functions) {
+    try {
+      return functions.longToDoubleFunction.applyAsDouble(functions.longValue);
+    } catch (final Exception ignored) {
+      return 0D;
+    }
+  }
+
+  @Benchmark
+  public double longToDoubleFunctionWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER
+          .unDeclareLong(functions.longToDoubleFunction)
+          .applyAsDouble(functions.longValue);
+    } catch (final Exception ignored) {
+      return 0D;
+    }
+  }
+
+  @Benchmark
+  public int longToIntFunctionWithNothing(final Functions functions) {
+    try {
+      return functions.longToIntFunction.applyAsInt(functions.longValue);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public int longToIntFunctionWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER
+          .unDeclareLong(functions.longToIntFunction)
+          .applyAsInt(functions.longValue);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public long longUnaryOperatorWithNothing(final Functions functions) {
+    try {
+      return functions.longUnaryOperator.applyAsLong(functions.longValue);
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public long longUnaryOperatorWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER
+          .unDeclareLong(functions.longUnaryOperator)
+          .applyAsLong(functions.longValue);
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public boolean longPredicateWithNothing(final Functions functions) {
+    try {
+      return functions.longPredicate.test(functions.longValue);
+    } catch (final Exception ignored) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  public boolean longPredicateWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER.unDeclareLong(functions.longPredicate).test(functions.longValue);
+    } catch (final Exception ignored) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  public long longConsumerWithNothing(final Functions functions) {
+    try {
+      functions.longConsumer.accept(functions.longValue);
+      return functions.consumed;
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public long longConsumerWithForwarder(final Functions functions) {
+    try {
+      FORWARD_HANDLER.unDeclareLong(functions.longConsumer).accept(functions.longValue);
+      return functions.consumed;
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public Integer doubleFunctionWithNothing(final Functions functions) {
+    try {
+      return functions.doubleFunction.apply(functions.doubleValue);
+    } catch (final Exception ignored) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public Integer doubleFunctionWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER.unDeclareDouble(functions.doubleFunction).apply(functions.doubleValue);
+    } catch (final Exception ignored) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public int doubleToIntFunctionWithNothing(final Functions functions) {
+    try {
+      return functions.doubleToIntFunction.applyAsInt(functions.doubleValue);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public int doubleToIntFunctionWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER
+          .unDeclareDouble(functions.doubleToIntFunction)
+          .applyAsInt(functions.doubleValue);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public long doubleToLongFunctionWithNothing(final Functions functions) {
+    try {
+      return functions.doubleToLongFunction.applyAsLong(functions.doubleValue);
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public long doubleToLongFunctionWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER
+          .unDeclareDouble(functions.doubleToLongFunction)
+          .applyAsLong(functions.doubleValue);
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public double doubleUnaryOperatorWithNothing(final Functions functions) {
+    try {
+      return functions.doubleUnaryOperator.applyAsDouble(functions.doubleValue);
+    } catch (final Exception ignored) {
+      return 0D;
+    }
+  }
+
+  @Benchmark
+  public double doubleUnaryOperatorWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER
+          .unDeclareDouble(functions.doubleUnaryOperator)
+          .applyAsDouble(functions.doubleValue);
+    } catch (final Exception ignored) {
+      return 0D;
+    }
+  }
+
+  @Benchmark
+  public boolean doublePredicateWithNothing(final Functions functions) {
+    try {
+      return functions.doublePredicate.test(functions.doubleValue);
+    } catch (final Exception ignored) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  public boolean doublePredicateWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER.unDeclareDouble(functions.doublePredicate).test(functions.doubleValue);
+    } catch (final Exception ignored) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  public long doubleConsumerWithNothing(final Functions functions) {
+    try {
+      functions.doubleConsumer.accept(functions.doubleValue);
+      return functions.consumed;
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public long doubleConsumerWithForwarder(final Functions functions) {
+    try {
+      FORWARD_HANDLER.unDeclareDouble(functions.doubleConsumer).accept(functions.doubleValue);
+      return functions.consumed;
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public int toIntFunctionWithNothing(final Functions functions) {
+    try {
+      return functions.toIntFunction.applyAsInt(functions.object);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public int toIntFunctionWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER.unDeclareToInt(functions.toIntFunction).applyAsInt(functions.object);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public long toLongFunctionWithNothing(final Functions functions) {
+    try {
+      return functions.toLongFunction.applyAsLong(functions.object);
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public long toLongFunctionWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER
+          .unDeclareToLong(functions.toLongFunction)
+          .applyAsLong(functions.object);
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public double toDoubleFunctionWithNothing(final Functions functions) {
+    try {
+      return functions.toDoubleFunction.applyAsDouble(functions.object);
+    } catch (final Exception ignored) {
+      return 0D;
+    }
+  }
+
+  @Benchmark
+  public double toDoubleFunctionWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER
+          .unDeclareToDouble(functions.toDoubleFunction)
+          .applyAsDouble(functions.object);
+    } catch (final Exception ignored) {
+      return 0D;
+    }
+  }
+
+  @Benchmark
+  public Integer biFunctionWithNothing(final Functions functions) {
+    try {
+      return functions.biFunction.apply(functions.object, functions.object);
+    } catch (final Exception ignored) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public Integer biFunctionWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER
+          .unDeclare(functions.biFunction)
+          .apply(functions.object, functions.object);
+    } catch (final Exception ignored) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public Integer binaryOperatorWithNothing(final Functions functions) {
+    try {
+      return functions.binaryOperator.apply(functions.object, functions.object);
+    } catch (final Exception ignored) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public Integer binaryOperatorWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER
+          .unDeclare(functions.binaryOperator)
+          .apply(functions.object, functions.object);
+    } catch (final Exception ignored) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public boolean biPredicateWithNothing(final Functions functions) {
+    try {
+      return functions.biPredicate.test(functions.object, functions.object);
+    } catch (final Exception ignored) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  public boolean biPredicateWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER
+          .unDeclare(functions.biPredicate)
+          .test(functions.object, functions.object);
+    } catch (final Exception ignored) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  public long biConsumerWithNothing(final Functions functions) {
+    try {
+      functions.biConsumer.accept(functions.object, functions.object);
+      return functions.consumed;
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public long biConsumerWithForwarder(final Functions functions) {
+    try {
+      FORWARD_HANDLER.unDeclare(functions.biConsumer).accept(functions.object, functions.object);
+      return functions.consumed;
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public int intBinaryOperatorWithNothing(final Functions functions) {
+    try {
+      return functions.intBinaryOperator.applyAsInt(functions.intValue, functions.intValue);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public int intBinaryOperatorWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER
+          .unDeclareIntBinary(functions.intBinaryOperator)
+          .applyAsInt(functions.intValue, functions.intValue);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public long longBinaryOperatorWithNothing(final Functions functions) {
+    try {
+      return functions.longBinaryOperator.applyAsLong(functions.longValue, functions.longValue);
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public long longBinaryOperatorWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER
+          .unDeclareLongBinary(functions.longBinaryOperator)
+          .applyAsLong(functions.longValue, functions.longValue);
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public double doubleBinaryOperatorWithNothing(final Functions functions) {
+    try {
+      return functions.doubleBinaryOperator.applyAsDouble(
+          functions.doubleValue, functions.doubleValue);
+    } catch (final Exception ignored) {
+      return 0D;
+    }
+  }
+
+  @Benchmark
+  public double doubleBinaryOperatorWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER
+          .unDeclareDoubleBinary(functions.doubleBinaryOperator)
+          .applyAsDouble(functions.doubleValue, functions.doubleValue);
+    } catch (final Exception ignored) {
+      return 0D;
+    }
+  }
+
+  @Benchmark
+  public int toIntBiFunctionWithNothing(final Functions functions) {
+    try {
+      return functions.toIntBiFunction.applyAsInt(functions.object, functions.object);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public int toIntBiFunctionWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER
+          .unDeclareToIntBi(functions.toIntBiFunction)
+          .applyAsInt(functions.object, functions.object);
+    } catch (final Exception ignored) {
+      return 0;
+    }
+  }
+
+  @Benchmark
+  public long toLongBiFunctionWithNothing(final Functions functions) {
+    try {
+      return functions.toLongBiFunction.applyAsLong(functions.object, functions.object);
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public long toLongBiFunctionWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER
+          .unDeclareToLongBi(functions.toLongBiFunction)
+          .applyAsLong(functions.object, functions.object);
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public double toDoubleBiFunctionWithNothing(final Functions functions) {
+    try {
+      return functions.toDoubleBiFunction.applyAsDouble(functions.object, functions.object);
+    } catch (final Exception ignored) {
+      return 0D;
+    }
+  }
+
+  @Benchmark
+  public double toDoubleBiFunctionWithForwarder(final Functions functions) {
+    try {
+      return FORWARD_HANDLER
+          .unDeclareToDoubleBi(functions.toDoubleBiFunction)
+          .applyAsDouble(functions.object, functions.object);
+    } catch (final Exception ignored) {
+      return 0D;
+    }
+  }
+
+  @Benchmark
+  public long objIntConsumerWithNothing(final Functions functions) {
+    try {
+      functions.objIntConsumer.accept(functions.object, functions.intValue);
+      return functions.consumed;
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public long objIntConsumerWithForwarder(final Functions functions) {
+    try {
+      FORWARD_HANDLER
+          .unDeclareObjInt(functions.objIntConsumer)
+          .accept(functions.object, functions.intValue);
+      return functions.consumed;
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public long objLongConsumerWithNothing(final Functions functions) {
+    try {
+      functions.objLongConsumer.accept(functions.object, functions.longValue);
+      return functions.consumed;
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public long objLongConsumerWithForwarder(final Functions functions) {
+    try {
+      FORWARD_HANDLER
+          .unDeclareObjLong(functions.objLongConsumer)
+          .accept(functions.object, functions.longValue);
+      return functions.consumed;
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public long objDoubleConsumerWithNothing(final Functions functions) {
+    try {
+      functions.objDoubleConsumer.accept(functions.object, functions.doubleValue);
+      return functions.consumed;
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
+
+  @Benchmark
+  public long objDoubleConsumerWithForwarder(final Functions functions) {
+    try {
+      FORWARD_HANDLER
+          .unDeclareObjDouble(functions.objDoubleConsumer)
+          .accept(functions.object, functions.doubleValue);
+      return functions.consumed;
+    } catch (final Exception ignored) {
+      return 0L;
+    }
+  }
 }
@@ -15,8 +15,13 @@
  */
 package com.github.vgalloy.autocatch;
 
+import com.github.vgalloy.autocatch.function.FunctionWithError;
 import com.github.vgalloy.autocatch.function.PredicateWithError;
+import com.github.vgalloy.autocatch.handler.AutoCatcher;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
@@ -27,10 +32,21 @@ public class TestPredicatePerformance {
    * Result
    *
    * <pre>
-   * Benchmark                                           Mode  Cnt         Score   Error  Units
-   * TestPredicatePerformance.base                      thrpt    2  61807272.165          ops/s
-   * TestPredicatePerformance.noExceptionWithAutoCatch  thrpt    2  48215562.216          ops/s
-   * TestPredicatePerformance.noExceptionWithNothing    thrpt    2  62268506.808          ops/s
+   * Benchmark                                                                         Mode  Cnt          Score   Error   Units
+   * TestPredicatePerformance.base                                                    thrpt    2  301153401.139           ops/s
+   * TestPredicatePerformance.base:gc.alloc.rate.norm                                 thrpt    2        ~ 10^-4            B/op
+   * TestPredicatePerformance.noExceptionWithAutoCatch                                thrpt    2  295146542.329           ops/s
+   * TestPredicatePerformance.noExceptionWithAutoCatch:gc.alloc.rate.norm             thrpt    2        ~ 10^-4            B/op
+   * TestPredicatePerformance.noExceptionWithForwardFunction                          thrpt    2  271658365.698           ops/s
+   * TestPredicatePerformance.noExceptionWithForwardFunction:gc.alloc.rate.norm       thrpt    2        ~ 10^-4            B/op
+   * TestPredicatePerformance.noExceptionWithForwardPredicate                         thrpt    2  290733214.049           ops/s
+   * TestPredicatePerformance.noExceptionWithForwardPredicate:gc.alloc.rate.norm      thrpt    2        ~ 10^-4            B/op
+   * TestPredicatePerformance.noExceptionWithNothing                                  thrpt    2  293584518.060           ops/s
+   * TestPredicatePerformance.noExceptionWithNothing:gc.alloc.rate.norm               thrpt    2        ~ 10^-4            B/op
+   * TestPredicatePerformance.noExceptionWithUndeclaredFunction                       thrpt    2  275523026.365           ops/s
+   * TestPredicatePerformance.noExceptionWithUndeclaredFunction:gc.alloc.rate.norm    thrpt    2        ~ 10^-4            B/op
+   * TestPredicatePerformance.noExceptionWithUndeclaredPredicate                      thrpt    2  293515623.912           ops/s
+   * TestPredicatePerformance.noExceptionWithUndeclaredPredicate:gc.alloc.rate.norm   thrpt    2        ~ 10^-4            B/op
    * </pre>
    */
   public static void main(String[] args) throws Exception {
@@ -40,6 +56,7 @@ public class TestPredicatePerformance {
             .warmupIterations(1)
             .measurementIterations(2)
             .forks(1)
+            .addProfiler(GCProfiler.class)
             .build();
 
     new Runner(opt).run();
@@ -69,4 +86,39 @@ public class TestPredicatePerformance {
       return false;
     }
   }
+
+  private static final Predicate<Integer> UNDECLARED_PREDICATE =
+      AutoCatcher.wrapWithUndeclaredHandler().unDeclare(PREDICATE_WITHOUT_EXCEPTION);
+
+  @Benchmark
+  public boolean noExceptionWithUndeclaredPredicate() {
+    return UNDECLARED_PREDICATE.test(1);
+  }
+
+  private static final Predicate<Integer> FORWARD_PREDICATE =
+      AutoCatcher.exceptionForwarder().unDeclare(PREDICATE_WITHOUT_EXCEPTION);
+
+  @Benchmark
+  public boolean noExceptionWithForwardPredicate() {
+    return FORWARD_PREDICATE.test(1);
+  }
+
+  private static final FunctionWithError<Integer, Integer> FUNCTION_WITHOUT_EXCEPTION =
+      integer -> integer;
+
+  private static final Function<Integer, Integer> UNDECLARED_FUNCTION =
+      AutoCatcher.wrapWithUndeclaredHandler().unDeclare(FUNCTION_WITHOUT_EXCEPTION);
+
+  @Benchmark
+  public Integer noExceptionWithUndeclaredFunction() {
+    return UNDECLARED_FUNCTION.apply(1);
+  }
+
+  private static final Function<Integer, Integer> FORWARD_FUNCTION =
+      AutoCatcher.exceptionForwarder().unDeclare(FUNCTION_WITHOUT_EXCEPTION);
+
+  @Benchmark
+  public Integer noExceptionWithForwardFunction() {
+    return FORWARD_FUNCTION.apply(1);
+  }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch;
+
+import com.github.vgalloy.autocatch.function.FunctionWithError;
+import com.github.vgalloy.autocatch.handler.AutoCatcher;
+import com.github.vgalloy.autocatch.handler.CallSiteLatency;
+import com.github.vgalloy.autocatch.handler.LatencySnapshot;
+import com.github.vgalloy.autocatch.handler.TimedAutoCatcher;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TimedAutoCatcherTest {
+
+  @Test
+  void recordSuccess() {
+    // GIVEN
+    final TimedAutoCatcher autoCatcher = AutoCatcher.timed(AutoCatcher.exceptionForwarder());
+    final Callable<Integer> callable =
+        () -> {
+          Thread.sleep(10);
+          return 4;
+        };
+
+    // WHEN
+    final Integer result = autoCatcher.autoCatch(callable);
+
+    // THEN
+    Assertions.assertEquals(Integer.valueOf(4), result);
+    final CallSiteLatency latency = autoCatcher.snapshot().get(TimedAutoCatcher.DEFAULT_CALL_SITE);
+    Assertions.assertEquals(1, latency.getSuccesses().getCount());
+    Assertions.assertEquals(0, latency.getFailures().getCount());
+    Assertions.assertTrue(TimeUnit.MILLISECONDS.toNanos(10) <= latency.getSuccesses().getMax());
+    Assertions.assertEquals(
+        latency.getSuccesses().getMax(), latency.getSuccesses().getValueAtPercentile(50));
+  }
+
+  @Test
+  void recordFailureByCallSite() {
+    // GIVEN
+    final TimedAutoCatcher autoCatcher = AutoCatcher.timed(AutoCatcher.exceptionForwarder());
+    final FunctionWithError<String, Integer> parse =
+        s -> {
+          if (s.isEmpty()) {
+            throw new IOException("FAKE");
+          }
+          return s.length();
+        };
+    final Function<String, Integer> unDeclared = autoCatcher.callSite("parse").unDeclare(parse);
+
+    // WHEN
+    unDeclared.apply("a");
+    unDeclared.apply("ab");
+    Assertions.assertThrows(IOException.class, () -> unDeclared.apply(""));
+
+    // THEN
+    final Map<String, CallSiteLatency> snapshot = autoCatcher.snapshot();
+    Assertions.assertEquals(2, snapshot.get("parse").getSuccesses().getCount());
+    Assertions.assertEquals(1, snapshot.get("parse").getFailures().getCount());
+    Assertions.assertEquals(
+        0, snapshot.get(TimedAutoCatcher.DEFAULT_CALL_SITE).getSuccesses().getCount());
+  }
+
+  @Test
+  void sameCallSite() {
+    // GIVEN
+    final TimedAutoCatcher autoCatcher = AutoCatcher.timed(AutoCatcher.exceptionForwarder());
+
+    // WHEN
+    final AutoCatcher first = autoCatcher.callSite("remote");
+    final AutoCatcher second = autoCatcher.callSite("remote");
+
+    // THEN
+    Assertions.assertSame(first, second);
+    Assertions.assertSame(autoCatcher, autoCatcher.callSite(TimedAutoCatcher.DEFAULT_CALL_SITE));
+  }
+
+  @Test
+  void snapshotAndReset() {
+    // GIVEN
+    final TimedAutoCatcher autoCatcher = AutoCatcher.timed(AutoCatcher.exceptionForwarder());
+    final Callable<Integer> callable = () -> 4;
+    autoCatcher.autoCatch(callable);
+    autoCatcher.autoCatch(callable);
+
+    // WHEN
+    final CallSiteLatency first =
+        autoCatcher.snapshotAndReset().get(TimedAutoCatcher.DEFAULT_CALL_SITE);
+    autoCatcher.autoCatch(callable);
+    final CallSiteLatency second =
+        autoCatcher.snapshotAndReset().get(TimedAutoCatcher.DEFAULT_CALL_SITE);
+
+    // THEN
+    Assertions.assertEquals(2, first.getSuccesses().getCount());
+    Assertions.assertEquals(1, second.getSuccesses().getCount());
+    Assertions.assertEquals(3, first.merge(second).getSuccesses().getCount());
+  }
+
+  @Test
+  void percentile() {
+    // GIVEN
+    final TimedAutoCatcher autoCatcher = AutoCatcher.timed(AutoCatcher.exceptionForwarder());
+    final Callable<Integer> fast = () -> 1;
+    final Callable<Integer> slow =
+        () -> {
+          Thread.sleep(20);
+          return 1;
+        };
+    for (int i = 0; i < 99; i++) {
+      autoCatcher.autoCatch(fast);
+    }
+    autoCatcher.autoCatch(slow);
+
+    // WHEN
+    final LatencySnapshot successes =
+        autoCatcher.snapshot().get(TimedAutoCatcher.DEFAULT_CALL_SITE).getSuccesses();
+
+    // THEN
+    Assertions.assertEquals(100, successes.getCount());
+    Assertions.assertTrue(successes.getValueAtPercentile(99) < TimeUnit.MILLISECONDS.toNanos(20));
+    Assertions.assertTrue(
+        TimeUnit.MILLISECONDS.toNanos(20) <= successes.getValueAtPercentile(99.9));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> successes.getValueAtPercentile(101));
+  }
+
+  @Test
+  void emptySnapshot() {
+    // GIVEN
+    final TimedAutoCatcher autoCatcher = AutoCatcher.timed(AutoCatcher.exceptionForwarder());
+
+    // WHEN
+    final LatencySnapshot failures =
+        autoCatcher.snapshot().get(TimedAutoCatcher.DEFAULT_CALL_SITE).getFailures();
+
+    // THEN
+    Assertions.assertEquals(0, failures.getCount());
+    Assertions.assertEquals(0, failures.getValueAtPercentile(50));
+  }
+}
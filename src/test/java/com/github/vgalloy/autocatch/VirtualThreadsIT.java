@@ -0,0 +1,126 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch;
+
+import com.github.vgalloy.autocatch.concurrent.MultipleFailuresException;
+import com.github.vgalloy.autocatch.concurrent.VirtualThreadExecution;
+import com.github.vgalloy.autocatch.function.RunnableWithException;
+import com.github.vgalloy.autocatch.handler.AutoCatcher;
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Run against the multi-release jar, the Java 21 layer is not visible from the class directory. */
+class VirtualThreadsIT {
+
+  @BeforeEach
+  void virtualThreadsAvailable() {
+    Assumptions.assumeTrue(VirtualThreadExecution.isAvailable());
+  }
+
+  @Test
+  void thousandsOfBlockedTasks() {
+    // GIVEN
+    final int taskCount = 10_000;
+    final CountDownLatch allStarted = new CountDownLatch(taskCount);
+    final List<Callable<Integer>> callables = new ArrayList<>();
+    for (int i = 0; i < taskCount; i++) {
+      final int value = i;
+      callables.add(
+          () -> {
+            allStarted.countDown();
+            // Only succeeds if every task is blocked at the same time
+            if (!allStarted.await(30, TimeUnit.SECONDS)) {
+              throw new IllegalStateException("Not all tasks started");
+            }
+            return value;
+          });
+    }
+
+    // WHEN
+    final List<Integer> results = AutoCatch.autoCatchAllOnVirtualThreads(callables);
+
+    // THEN
+    for (int i = 0; i < taskCount; i++) {
+      Assertions.assertEquals(Integer.valueOf(i), results.get(i));
+    }
+  }
+
+  @Test
+  void failuresConvertedByTheCatcher() {
+    // GIVEN
+    final AtomicInteger executed = new AtomicInteger();
+    final List<Callable<String>> callables =
+        Arrays.asList(
+            () -> {
+              executed.incrementAndGet();
+              throw new IOException("first");
+            },
+            () -> {
+              executed.incrementAndGet();
+              return "ok";
+            },
+            () -> {
+              executed.incrementAndGet();
+              throw new IllegalStateException("second");
+            });
+
+    // WHEN
+    final MultipleFailuresException exception =
+        Assertions.assertThrows(
+            MultipleFailuresException.class,
+            () -> AutoCatch.autoCatchAllOnVirtualThreads(callables));
+
+    // THEN
+    Assertions.assertEquals(3, executed.get());
+    Assertions.assertEquals("2 of 3 tasks failed", exception.getMessage());
+    final Throwable first = exception.getFailures().get(0);
+    Assertions.assertEquals(UndeclaredThrowableException.class, first.getClass());
+    Assertions.assertEquals("first", first.getCause().getMessage());
+    Assertions.assertEquals(IllegalStateException.class, exception.getFailures().get(1).getClass());
+  }
+
+  @Test
+  void forwarderKeepsTheOriginalException() {
+    // GIVEN
+    final AutoCatcher catcher = AutoCatcher.exceptionForwarder();
+    final List<RunnableWithException> runnables =
+        Arrays.asList(
+            () -> {},
+            () -> {
+              throw new IOException("FAKE");
+            });
+
+    // WHEN
+    final MultipleFailuresException exception =
+        Assertions.assertThrows(
+            MultipleFailuresException.class, () -> catcher.runAllOnVirtualThreads(runnables));
+
+    // THEN
+    Assertions.assertEquals("1 of 2 tasks failed", exception.getMessage());
+    Assertions.assertEquals(IOException.class, exception.getFailures().get(0).getClass());
+  }
+}
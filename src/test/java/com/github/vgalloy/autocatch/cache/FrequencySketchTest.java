@@ -0,0 +1,66 @@
+/*
+ * Copyright 2018 Vincent Galloy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.vgalloy.autocatch.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class FrequencySketchTest {
+
+  @Test
+  void frequencySaturates() {
+    // GIVEN
+    final FrequencySketch sketch = new FrequencySketch(64);
+
+    // WHEN
+    for (int i = 0; i < 20; i++) {
+      sketch.increment(1);
+    }
+    sketch.increment(2);
+
+    // THEN
+    Assertions.assertEquals(15, sketch.frequency(1));
+    Assertions.assertEquals(1, sketch.frequency(2));
+    Assertions.assertEquals(0, sketch.frequency(3));
+  }
+
+  @Test
+  void frequencyHalvedAfterTheSample() {
+    // GIVEN
+    final FrequencySketch sketch = new FrequencySketch(8);
+    for (int i = 0; i < 8; i++) {
+      sketch.increment(1);
+    }
+
+    // WHEN : the counters only grow until they are halved
+    int increments = 0;
+    while (sketch.frequency(1) >= 8 && increments < 100 * FrequencySketch.sampleSize(32)) {
+      sketch.increment(1_000 + increments++);
+    }
+
+    // THEN
+    Assertions.assertTrue(sketch.frequency(1) < 8);
+  }
+
+  @Test
+  void sampleSizeOfTheWidestSketch() {
+    // WHEN
+    final int sampleSize = FrequencySketch.sampleSize(FrequencySketch.MAXIMUM_WIDTH);
+
+    // THEN
+    Assertions.assertEquals(Integer.MAX_VALUE, sampleSize);
+  }
+}